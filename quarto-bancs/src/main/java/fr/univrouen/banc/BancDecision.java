@@ -0,0 +1,138 @@
+package fr.univrouen.banc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import fr.univrouen.modele.arbre.*;
+import fr.univrouen.modele.evaluation.CacheEvaluation;
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.jeu.partie.strategie.*;
+import fr.univrouen.modele.joueur.ia.*;
+
+/**
+ * Bancs d'essai de la recherche de chaque IA, à sa profondeur par défaut.
+ * <p>
+ * {@link #construireArbre()} mesure la construction d'un seul arbre, celui du placement de la pièce en main ;
+ * {@link #deciderCoup()} mesure une décision complète, placement puis choix de la pièce à donner,
+ * telle qu'elle est jouée en partie. Les deux niveaux extrêmes de stratégie sont mesurés,
+ * car le nombre de motifs examinés à chaque feuille en dépend.
+ * </p>
+ * <p>
+ * Le {@linkplain CacheEvaluation#getInstance() cache d'évaluations partagé} survit d'une invocation à l'autre :
+ * le paramètre {@code cache} mesure soit ce régime établi ({@link EtatCache#CHAUD}), soit une recherche
+ * qui part d'un cache vide à chaque invocation ({@link EtatCache#FROID}), comme la première décision d'une partie.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ * @see Phase
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BancDecision {
+    /** Phase de la position mesurée. */
+    @Param({"DEBUT", "MILIEU", "FIN"})
+    public Phase phase;
+
+    /** IA mesurée. */
+    @Param({"MINIMAX", "NEGAMAX", "ALPHA_BETA", "NEGA_BETA"})
+    public IA ia;
+
+    /** Niveau de la stratégie, 1 ou 4. */
+    @Param({"1", "4"})
+    public int niveau;
+
+    /** État du cache d'évaluations au début de chaque invocation. */
+    @Param({"CHAUD", "FROID"})
+    public EtatCache cache;
+
+    /** Partie dans la position mesurée, jamais modifiée par la recherche. */
+    private Jeu jeu;
+
+    /** Constructeur d'arbre de l'IA mesurée. */
+    private Arborescence arborescence;
+
+    /** IA mesurée. */
+    private JoueurIA joueur;
+
+    /**
+     * Prépare l'IA et la position mesurées.
+     */
+    @Setup
+    public void preparer() {
+        switch (ia) {
+            case MINIMAX:
+                arborescence = new ArborescenceMinimax();
+                joueur = new JoueurMinimax();
+                break;
+            case NEGAMAX:
+                arborescence = new ArborescenceNegamax();
+                joueur = new JoueurNegamax();
+                break;
+            case ALPHA_BETA:
+                arborescence = new ArborescenceAlphaBeta();
+                joueur = new JoueurAlphaBeta();
+                break;
+            default:
+                arborescence = new ArborescenceNegaBeta();
+                joueur = new JoueurNegaBeta();
+                break;
+        }
+        StrategieGagnante strategie = (niveau == 1) ? new StrategieNiveau1() : new StrategieNiveau4();
+        jeu = phase.partie(strategie, joueur, joueur);
+        CacheEvaluation.getInstance().vider();
+    }
+
+    /**
+     * Vide le cache d'évaluations avant chaque invocation d'une mesure à froid.
+     * <p>
+     * Le vidage n'est pas compté dans le temps mesuré, mais une préparation par invocation ajoute un surcoût
+     * fixe, sensible pour les recherches de quelques microsecondes : une mesure à froid se compare donc
+     * à la même mesure à froid d'une autre version, plutôt qu'à la mesure à chaud.
+     * </p>
+     */
+    @Setup(Level.Invocation)
+    public void refroidir() {
+        if (cache == EtatCache.FROID) {
+            CacheEvaluation.getInstance().vider();
+        }
+    }
+
+    /**
+     * Mesure la construction de l'arbre du placement de la pièce en main.
+     *
+     * @return La racine de l'arbre.
+     */
+    @Benchmark
+    public NoeudArbre construireArbre() {
+        return arborescence.construireArbre(jeu, Joueur.MAX);
+    }
+
+    /**
+     * Mesure une décision complète de l'IA.
+     *
+     * @return Le coup décidé.
+     */
+    @Benchmark
+    public Coup deciderCoup() {
+        return joueur.deciderCoup(jeu);
+    }
+
+    /**
+     * État du cache d'évaluations partagé au début d'une invocation.
+     */
+    public enum EtatCache {
+        /** Le cache garde les évaluations des invocations précédentes. */
+        CHAUD,
+
+        /** Le cache est vidé avant chaque invocation. */
+        FROID
+    }
+}
@@ -0,0 +1,95 @@
+package fr.univrouen.banc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+import fr.univrouen.modele.jeu.partie.plateau.Position;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+import fr.univrouen.modele.jeu.piece.Heuristique;
+import fr.univrouen.modele.jeu.piece.Piece;
+import fr.univrouen.modele.joueur.ia.JoueurNegaBeta;
+
+/**
+ * Bancs d'essai des opérations élémentaires sur la partie et le plateau, appelées à chaque nœud de l'arbre :
+ * copie de la partie, cases libres, alignements et leur évaluation heuristique.
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see Phase
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BancPlateau {
+    /** Phase de la position mesurée. */
+    @Param({"DEBUT", "MILIEU", "FIN"})
+    public Phase phase;
+
+    /** Partie dans la position mesurée. */
+    private Jeu jeu;
+
+    /** Plateau de la partie. */
+    private Plateau plateau;
+
+    /** Alignements du plateau, calculés une fois pour mesurer seule leur évaluation. */
+    private List<List<Piece>> alignements;
+
+    /**
+     * Prépare la position de la phase mesurée.
+     */
+    @Setup
+    public void preparer() {
+        JoueurNegaBeta ia = new JoueurNegaBeta();
+        jeu = phase.partie(new StrategieNiveau1(), ia, ia);
+        plateau = jeu.getPlateau();
+        alignements = plateau.getAlignementsPotentiels();
+    }
+
+    /**
+     * Mesure la copie complète de la partie, faite avant chaque simulation de coup.
+     *
+     * @return La copie.
+     */
+    @Benchmark
+    public Jeu copier() {
+        return jeu.copier();
+    }
+
+    /**
+     * Mesure la liste des cases libres.
+     *
+     * @return Les positions disponibles.
+     */
+    @Benchmark
+    public List<Position> positionsDisponibles() {
+        return plateau.getPositionsDisponibles();
+    }
+
+    /**
+     * Mesure l'extraction des lignes, colonnes et diagonales.
+     *
+     * @return Les alignements.
+     */
+    @Benchmark
+    public List<List<Piece>> alignementsPotentiels() {
+        return plateau.getAlignementsPotentiels();
+    }
+
+    /**
+     * Mesure l'évaluation heuristique des alignements.
+     *
+     * @return Le score heuristique.
+     */
+    @Benchmark
+    public int evaluerAlignements() {
+        return Heuristique.evaluerAlignements(alignements);
+    }
+}
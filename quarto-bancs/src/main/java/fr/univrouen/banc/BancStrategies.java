@@ -0,0 +1,69 @@
+package fr.univrouen.banc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import fr.univrouen.modele.jeu.partie.strategie.*;
+import fr.univrouen.modele.jeu.piece.Piece;
+import fr.univrouen.modele.joueur.ia.JoueurNegaBeta;
+
+/**
+ * Bancs d'essai de la détection de victoire de chaque niveau de stratégie.
+ * <p>
+ * Les positions du corpus ne sont gagnées à aucun niveau : tous les motifs sont examinés,
+ * ce qui correspond au cas le plus fréquent dans l'arbre de recherche.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see Phase
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BancStrategies {
+    /** Phase de la position mesurée. */
+    @Param({"DEBUT", "MILIEU", "FIN"})
+    public Phase phase;
+
+    /** Niveau de la stratégie mesurée, de 1 à 4. */
+    @Param({"1", "2", "3", "4"})
+    public int niveau;
+
+    /** Stratégie du niveau mesuré. */
+    private StrategieGagnante strategie;
+
+    /** Grille de la position mesurée. */
+    private Piece[][] grille;
+
+    /**
+     * Prépare la stratégie et la position mesurées.
+     */
+    @Setup
+    public void preparer() {
+        switch (niveau) {
+            case 1: strategie = new StrategieNiveau1(); break;
+            case 2: strategie = new StrategieNiveau2(); break;
+            case 3: strategie = new StrategieNiveau3(); break;
+            case 4: strategie = new StrategieNiveau4(); break;
+            default: throw new IllegalArgumentException("Niveau de stratégie invalide : " + niveau);
+        }
+        JoueurNegaBeta ia = new JoueurNegaBeta();
+        grille = phase.partie(strategie, ia, ia).getPlateau().getGrille();
+    }
+
+    /**
+     * Mesure la recherche d'un alignement gagnant sur la grille.
+     *
+     * @return Vrai si la position est gagnée (jamais pour le corpus).
+     */
+    @Benchmark
+    public boolean verifierGagnant() {
+        return strategie.verifierGagnant(grille);
+    }
+}
@@ -0,0 +1,61 @@
+package fr.univrouen.banc;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Point d'entrée du jar des bancs d'essai ({@code target/bancs.jar}).
+ * <p>
+ * Les arguments sont ceux de JMH, par exemple {@code BancDecision -p ia=NEGA_BETA -rf json}.
+ * Le profileur d'allocation ({@code -prof gc}) est activé par défaut, pour suivre les octets alloués
+ * par opération en même temps que le temps ; il est remplacé par les profileurs donnés avec {@code -prof}.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ */
+public final class Bancs {
+    /**
+     * Classe utilitaire : pas d'instanciation.
+     */
+    private Bancs() {}
+
+    /**
+     * Lance les bancs d'essai sélectionnés (tous par défaut).
+     *
+     * @param args Les options de JMH.
+     * @throws IOException     si l'aide ne peut pas être affichée.
+     * @throws RunnerException si un banc d'essai échoue.
+     */
+    public static void main(String[] args) throws IOException, RunnerException {
+        CommandLineOptions ligne;
+        try {
+            ligne = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage : java -jar bancs.jar [options JMH], voir -h");
+            System.exit(2);
+            return;
+        }
+
+        if (ligne.shouldHelp()) {
+            ligne.showHelp();
+            return;
+        }
+        if (ligne.shouldList()) {
+            new Runner(ligne).list();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(ligne);
+        if (ligne.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+}
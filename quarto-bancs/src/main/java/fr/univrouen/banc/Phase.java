@@ -0,0 +1,69 @@
+package fr.univrouen.banc;
+
+import fr.univrouen.modele.jeu.partie.EtatJeu;
+import fr.univrouen.modele.jeu.partie.JeuQuarto;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieGagnante;
+import fr.univrouen.modele.joueur.Joueur;
+
+/**
+ * Corpus fixe des positions mesurées par les bancs d'essai : une position par phase de la partie.
+ * <p>
+ * Chaque position est donnée dans la {@link EtatJeu#versNotation() notation compacte}, avec une pièce
+ * à placer. Elle n'est gagnée à aucun niveau de stratégie et la pièce en main n'y gagne sur aucune case :
+ * les mesures portent donc sur le cas où tout le plateau est examiné et où l'IA doit réellement chercher.
+ * Ces positions ne doivent pas changer d'une mesure à l'autre, sans quoi les résultats avant et après
+ * une optimisation ne seraient plus comparables.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ */
+public enum Phase {
+    /** Début de partie : 2 pièces posées. */
+    DEBUT("0....f.......... 9 0"),
+
+    /** Milieu de partie : 7 pièces posées. */
+    MILIEU("0.3.5.a.c..6...9 e 1"),
+
+    /** Fin de partie : 11 pièces posées. */
+    FIN("eb.7c5.2a...1d63 8 0");
+
+    /** Position dans la notation compacte. */
+    private final String notation;
+
+    /**
+     * Associe une position à une phase.
+     *
+     * @param notation La position dans la notation compacte.
+     */
+    Phase(String notation) {
+        this.notation = notation;
+    }
+
+    /**
+     * Retourne la position dans la notation compacte.
+     *
+     * @return La notation.
+     */
+    public String getNotation() {
+        return notation;
+    }
+
+    /**
+     * Construit une partie dans la position de cette phase.
+     *
+     * @param strategie La stratégie gagnante de la partie.
+     * @param joueur1   Le premier joueur.
+     * @param joueur2   Le second joueur.
+     * @return Une nouvelle partie, dans la position de la phase.
+     * @throws IllegalArgumentException si la position est déjà gagnée pour cette stratégie.
+     */
+    public JeuQuarto partie(StrategieGagnante strategie, Joueur joueur1, Joueur joueur2) {
+        EtatJeu etat = EtatJeu.depuisNotation(notation, strategie);
+        if (etat.estTerminee()) {
+            throw new IllegalArgumentException("Position terminée : " + notation);
+        }
+        return JeuQuarto.depuisEtat(etat, joueur1, joueur2);
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Bancs d'essai JMH des chemins critiques du moteur.
+ * <p>
+ * Ils mesurent, sur un {@link fr.univrouen.banc.Phase corpus fixe} de positions de début, milieu et fin de partie,
+ * les opérations élémentaires du plateau, la détection de victoire de chaque stratégie, puis la construction
+ * de l'arbre et la décision de chaque IA. Le temps par opération et les allocations servent de référence
+ * avant et après chaque optimisation.
+ * </p>
+ *
+ * @see fr.univrouen.banc.Bancs
+ * @see fr.univrouen.banc.BancPlateau
+ * @see fr.univrouen.banc.BancStrategies
+ * @see fr.univrouen.banc.BancDecision
+ * @since JDK 17
+ */
+package fr.univrouen.banc;
@@ -17,7 +17,7 @@ import fr.univrouen.vue.jeu.*;
  * Gère la logique de démarrage du jeu et l'accès à l'historique/règles.
  * 
  * @author Matisse SENECHAL
- * @version 1.1
+ * @version 1.2
  * @since JDK 17
  */
 public class AccueilFrameControleur {
@@ -48,12 +48,9 @@ public class AccueilFrameControleur {
         StrategieGagnante strategie = MAP_STRATEGIE.get(strategieChoisie).get();
 
         Jeu jeu = new JeuQuarto(joueurHumain, joueurIA, strategie);
+        // Si l’IA commence, son orchestrateur lance son premier tour
         QuartoFrame frame = new QuartoFrame(jeu);
         frame.setVisible(true);
-
-        if (!jeu.getJoueurActuel().getNom().contains("Humain")) {
-            jeu.getJoueurActuel().choisirPiece(jeu, null);
-        }
     }
 
     /**
@@ -8,29 +8,33 @@ import fr.univrouen.controleur.util.JoueurControleur;
 /**
  * Contrôleur gérant les interactions entre l'utilisateur et une pièce via un {@link PiecePanel}.
  * <p>
- * Il permet notamment de valider une sélection de pièce pour un joueur humain,
- * et d'enregistrer cette pièce dans le modèle du jeu.
+ * Il décide seulement de l'affichage de la sélection : le don de la pièce est joué par
+ * {@link fr.univrouen.controleur.jeu.selection.PieceSelectionControleur} comme un coup de la partie,
+ * afin de passer le tour et d'entrer dans l'historique.
  * </p>
  * 
  * @author Matisse SENECHAL
- * @version 1.0
+ * @version 1.1
  * @since JDK 17
  */
 public class PiecePanelInteractionControleur {
 
     /**
-     * Gère le clic sur une pièce depuis son interface graphique.
+     * Gère le clic sur une pièce depuis son interface graphique, sans modifier la partie.
+     * <p>
+     * La sélection n'est inversée que si un joueur humain doit donner une pièce ;
+     * sinon l'affichage reste inchangé.
+     * </p>
      *
-     * @param jeu   Le modèle du jeu.
+     * @param jeu   Le modèle du jeu, qui n'est pas modifié.
      * @param piece La pièce représentée dans le panel.
      * @param panelSelectionne Indique si la pièce est actuellement sélectionnée.
-     * @return true si l'état de sélection doit changer, false sinon.
+     * @return Le nouvel état de sélection du panel.
      */
     public static boolean gererClic(Jeu jeu, Piece piece, boolean panelSelectionne) {
-        if (!JoueurControleur.estHumain(jeu.getJoueurActuel())) return false;
-
-        boolean nouveauStatut = !panelSelectionne;
-        jeu.setPieceCourante(nouveauStatut ? piece : null);
-        return nouveauStatut;
+        if (!JoueurControleur.estHumain(jeu.getJoueurActuel()) || jeu.getPieceCourante() != null) {
+            return panelSelectionne;
+        }
+        return !panelSelectionne;
     }
 }
\ No newline at end of file
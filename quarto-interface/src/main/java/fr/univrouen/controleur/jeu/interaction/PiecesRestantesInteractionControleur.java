@@ -1,8 +1,5 @@
 package fr.univrouen.controleur.jeu.interaction;
 
-import java.util.*;
-
-import fr.univrouen.modele.jeu.piece.Piece;
 import fr.univrouen.controleur.util.JoueurControleur;
 import fr.univrouen.modele.jeu.partie.Jeu;
 
@@ -10,12 +7,12 @@ import fr.univrouen.modele.jeu.partie.Jeu;
  * Contrôleur gérant les règles d’interaction avec les pièces restantes du jeu.
  * <p>
  * Cette classe regroupe la logique permettant de savoir quand un joueur peut interagir
- * avec les pièces restantes (survol) et quelles pièces doivent être retirées
- * de l’interface graphique en fonction de l’état du modèle.
+ * avec les pièces restantes (survol). Les pièces retirées de l’interface graphique
+ * sont désignées par les événements du modèle.
  * </p>
  *
  * @author Matisse SENECHAL
- * @version 1.0
+ * @version 1.1
  * @since JDK 17
  */
 public class PiecesRestantesInteractionControleur {
@@ -38,27 +35,4 @@ public class PiecesRestantesInteractionControleur {
                jeu.getPieceCourante() == null &&
                JoueurControleur.estHumain(jeu.getJoueurActuel());
     }
-
-    /**
-     * Détermine quelles pièces doivent être supprimées du panneau graphique.
-     * <p>
-     * Cette méthode compare les pièces actuellement affichées à l'écran avec
-     * les pièces restantes dans le modèle du jeu.
-     * </p>
-     *
-     * @param panelsVisibles Liste des pièces actuellement affichées.
-     * @param jeu             L’état du jeu.
-     * @return La liste des pièces à supprimer.
-     */
-    public static List<Piece> calculerPiecesSupprimees(List<Piece> panelsVisibles, Jeu jeu) {
-        Set<Piece> restantes = new HashSet<>(jeu.getPiecesRestantes());
-        List<Piece> aSupprimer = new ArrayList<>();
-
-        for (Piece piece : panelsVisibles) {
-            if (!restantes.contains(piece)) {
-                aSupprimer.add(piece);
-            }
-        }
-        return aSupprimer;
-    }
-}
\ No newline at end of file
+}
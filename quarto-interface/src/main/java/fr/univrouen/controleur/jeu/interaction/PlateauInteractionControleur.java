@@ -35,7 +35,7 @@ public class PlateauInteractionControleur {
                                              PiecesRestantesPanel panneauPiecesRestantes) {
         Joueur joueurActuel = jeu.getJoueurActuel();
         if (JoueurControleur.estHumain(joueurActuel) && !jeu.debutPartie()) {
-            Position positionCliquee = new Position(ligne, colonne);
+            Position positionCliquee = Position.get(ligne, colonne);
             Piece pieceAPlacer = jeu.getPieceCourante();
 
             if (pieceAPlacer != null && plateau.estLibre(positionCliquee)) {
@@ -19,21 +19,22 @@ import fr.univrouen.modele.jeu.piece.Piece;
  * </ul>
  * 
  * @author Matisse SENECHAL
- * @version 1.1
+ * @version 1.2
  * @since JDK 17
  */
 public class PieceSelectionControleur {
 
     /**
-     * Tente de faire choisir une pièce par le joueur actuel.
+     * Tente de faire donner une pièce par le joueur actuel.
+     * <p>Le don n'est possible que pour un joueur humain qui n'a pas de pièce à placer.</p>
      *
      * @param jeu   L’instance du jeu.
      * @param piece La pièce sélectionnée.
-     * @return true si la pièce a été sélectionnée avec succès (par un humain), false sinon.
+     * @return true si la pièce a été donnée (par un humain), false sinon.
      */
     public static boolean traiterSelection(Jeu jeu, Piece piece) {
         Joueur joueur = jeu.getJoueurActuel();
-        if (joueur != null && JoueurControleur.estHumain(joueur)) {
+        if (joueur != null && JoueurControleur.estHumain(joueur) && jeu.getPieceCourante() == null) {
             joueur.choisirPiece(jeu, piece);
             return true;
         }
@@ -5,18 +5,19 @@ import java.awt.*;
 
 import fr.univrouen.controleur.util.JoueurControleur;
 import fr.univrouen.modele.jeu.partie.Jeu;
-import fr.univrouen.modele.jeu.partie.observer.Observer;
+import fr.univrouen.modele.jeu.partie.observer.*;
 
 /**
  * Composant graphique affichant dynamiquement le joueur courant avec halo coloré, icône
  * et animation de transition. Le fond et le texte changent de couleur selon si le joueur est
  * humain ou contrôlé par l'IA.
+ * L'animation n'est relancée que lorsque le tour change ({@link EvenementJeu.Type#TOUR_CHANGE}).
  * 
  * 🟦 Humain : fond bleu clair  
  * 🟥 IA     : fond rouge clair
  * 
  * @author Matisse SENECHAL
- * @version 3.2
+ * @version 3.3
  * @since JDK 17
  */
 public class JoueurCourantLabel extends JPanel implements Observer {
@@ -71,6 +72,9 @@ public class JoueurCourantLabel extends JPanel implements Observer {
      */
     private Timer minuteurAnimationFond, minuteurAnimationTexte;
 
+    /** Indique que le tour a changé depuis la dernière notification. */
+    private boolean tourChange;
+
     /**
      * Initialise le panneau d'affichage du joueur courant avec ses styles et observe le jeu.
      *
@@ -87,11 +91,28 @@ public class JoueurCourantLabel extends JPanel implements Observer {
         etiquetteNomJoueur.setForeground(new Color(0, 0, 0, 0)); // Invisible au départ
         add(etiquetteNomJoueur);
 
-        update(); // Mise à jour initiale
+        afficherJoueurActuel(); // Mise à jour initiale
+    }
+
+    @Override
+    public void recevoir(EvenementJeu evenement) {
+        if (evenement.getType() == EvenementJeu.Type.TOUR_CHANGE) {
+            tourChange = true;
+        }
     }
 
     @Override
     public void update() {
+        if (tourChange) {
+            tourChange = false;
+            afficherJoueurActuel();
+        }
+    }
+
+    /**
+     * Affiche le joueur actuel et lance les animations de transition.
+     */
+    private void afficherJoueurActuel() {
         boolean joueurEstHumain = JoueurControleur.estHumain(jeu.getJoueurActuel());
 
         couleurFondCible = joueurEstHumain ? COULEUR_FOND_HUMAIN : COULEUR_FOND_IA;
@@ -2,9 +2,6 @@ package fr.univrouen.vue.jeu;
 
 import javax.swing.*;
 
-import java.util.*;
-import java.util.List;
-
 import java.awt.*;
 import java.awt.event.*;
 
@@ -13,7 +10,7 @@ import fr.univrouen.controleur.util.JoueurControleur;
 import fr.univrouen.controleur.jeu.interaction.PiecesRestantesInteractionControleur;
 import fr.univrouen.modele.jeu.piece.*;
 import fr.univrouen.modele.jeu.partie.Jeu;
-import fr.univrouen.modele.jeu.partie.observer.Observer;
+import fr.univrouen.modele.jeu.partie.observer.*;
 import fr.univrouen.vue.piece.PiecePanel;
 
 /**
@@ -22,9 +19,13 @@ import fr.univrouen.vue.piece.PiecePanel;
  * Ce composant gère l'affichage dynamique des pièces encore jouables, permet aux joueurs humains
  * de sélectionner une pièce, et synchronise l'affichage avec l'état du modèle {@link Jeu}.
  * </p>
+ * <p>
+ * La synchronisation se fait par les {@link EvenementJeu événements} de la partie : seule la pièce
+ * posée, retirée ou donnée est mise à jour, sans relire la liste des pièces restantes.
+ * </p>
  * 
  * @author Matisse SENECHAL
- * @version 2.0
+ * @version 2.1
  * @since JDK 17
  * @see Piece
  */
@@ -32,8 +33,14 @@ public class PiecesRestantesPanel extends JPanel implements Observer {
     /** Référence vers le modèle du jeu. */
     private Jeu jeu;
 
-    /** Liste des composants visuels associés à chaque pièce encore disponible. */
-    private final List<PiecePanel> listePanels = new ArrayList<>();
+    /** Composants visuels associés à chaque pièce, indexés par identifiant (créés à la demande). */
+    private final PiecePanel[] panels = new PiecePanel[Piece.NOMBRE];
+
+    /** Composant de la pièce à placer, affiché comme sélectionné, ou {@code null}. */
+    private PiecePanel panelEnMain;
+
+    /** Indique si l'affichage a changé depuis la dernière notification. */
+    private boolean modifie;
 
     /** Contrôleur de gestion de la sélection unique d'une pièce. */
     private final PiecePanelSelectionControleur selectionControleur = new PiecePanelSelectionControleur();
@@ -54,20 +61,24 @@ public class PiecesRestantesPanel extends JPanel implements Observer {
         ToolTipManager.sharedInstance().setInitialDelay(0);
 
         for (Piece piece : jeu.getPiecesRestantes()) {
-            ajouterPiecePanel(piece);
+            add(getPanel(piece));
         }
+        selectionner(jeu.getPieceCourante());
     }
 
     /**
-     * Ajoute dynamiquement un panel représentant une pièce dans la grille d'affichage,
-     * tout en y associant les comportements utilisateur (clic, survol...).
+     * Retourne le panel représentant une pièce, en le créant au premier appel
+     * avec ses comportements utilisateur (clic, survol...).
      *
      * @param piece La pièce à représenter dans l'interface.
+     * @return Le panel de la pièce.
      */
-    private void ajouterPiecePanel(Piece piece) {
+    private PiecePanel getPanel(Piece piece) {
+        PiecePanel existant = panels[piece.getId()];
+        if (existant != null) return existant;
+
         PiecePanel panel = new PiecePanel(jeu, piece);
-        listePanels.add(panel);
-        add(panel);
+        panels[piece.getId()] = panel;
 
         // Infobulle contenant les caractéristiques de la pièce
         panel.setToolTipText(piece.toString());
@@ -96,6 +107,7 @@ public class PiecesRestantesPanel extends JPanel implements Observer {
                 }
             }
         });
+        return panel;
     }
 
     /**
@@ -111,7 +123,6 @@ public class PiecesRestantesPanel extends JPanel implements Observer {
 
         Piece piece = panel.getPiece();
         if (PieceSelectionControleur.peutRetirer(jeu, piece)) {
-            listePanels.remove(panel);
             remove(panel);
             selectionControleur.reinitialiser();
             revalidate();
@@ -120,30 +131,65 @@ public class PiecesRestantesPanel extends JPanel implements Observer {
     }
 
     @Override
-    public void update() {
-        List<Piece> aSupprimer = PiecesRestantesInteractionControleur.calculerPiecesSupprimees(
-            listePanels.stream().map(PiecePanel::getPiece).toList(), jeu
-        );
-        List<PiecePanel> panelsASupprimer = new ArrayList<>();
-
-        for (PiecePanel panel : listePanels) {
-            if (aSupprimer.contains(panel.getPiece())) {
-                panelsASupprimer.add(panel);
-            }
+    public void recevoir(EvenementJeu evenement) {
+        switch (evenement.getType()) {
+            case PIECE_PLACEE:
+                PiecePanel panel = panels[evenement.getPiece().getId()];
+                if (panel != null && panel.getParent() == this) {
+                    remove(panel);
+                    modifie = true;
+                }
+                break;
+            case PIECE_RETIREE:
+                remettre(evenement.getPiece());
+                break;
+            case PIECE_DONNEE:
+                selectionner(evenement.getPiece());
+                break;
+            default:
+                break;
         }
+    }
 
-        for (PiecePanel panel : panelsASupprimer) {
-            listePanels.remove(panel);
-            remove(panel);
+    @Override
+    public void update() {
+        if (modifie) {
+            modifie = false;
+            revalidate();
+            repaint();
         }
+    }
+
+    /**
+     * Remet dans la grille le panel d'une pièce revenue dans la réserve,
+     * à sa place dans l'ordre des identifiants.
+     *
+     * @param piece La pièce revenue dans la réserve.
+     */
+    private void remettre(Piece piece) {
+        PiecePanel panel = getPanel(piece);
+        if (panel.getParent() == this) return;
 
-        // Mise à jour de la pièce sélectionnée visuellement
-        Piece pieceCourante = jeu.getPieceCourante();
-        for (PiecePanel panel : listePanels) {
-            panel.setSelectionnee(panel.getPiece().equals(pieceCourante));
+        int rang = 0;
+        for (int id = 0; id < piece.getId(); id++) {
+            if (panels[id] != null && panels[id].getParent() == this) rang++;
         }
+        add(panel, rang);
+        modifie = true;
+    }
 
-        revalidate();
-        repaint();
+    /**
+     * Affiche comme sélectionnée la pièce à placer, et désélectionne la précédente.
+     *
+     * @param piece La pièce à placer, ou {@code null} s'il n'y en a aucune.
+     */
+    private void selectionner(Piece piece) {
+        if (panelEnMain != null) {
+            panelEnMain.setSelectionnee(false);
+        }
+        panelEnMain = (piece == null) ? null : panels[piece.getId()];
+        if (panelEnMain != null) {
+            panelEnMain.setSelectionnee(true);
+        }
     }
-}
\ No newline at end of file
+}
@@ -8,16 +8,17 @@ import fr.univrouen.vue.piece.PiecePanel;
 import fr.univrouen.modele.jeu.piece.*;
 import fr.univrouen.modele.jeu.partie.Jeu;
 import fr.univrouen.modele.jeu.partie.plateau.*;
-import fr.univrouen.modele.jeu.partie.observer.Observer;
+import fr.univrouen.modele.jeu.partie.observer.*;
 import fr.univrouen.controleur.jeu.interaction.*;
 import fr.univrouen.controleur.jeu.selection.PieceSelectionControleur;
 
 /**
  * Panneau graphique représentant le plateau de jeu de Quarto.
  * Gère les clics du joueur humain, le dessin des pièces, des cases et l’effet de survol dynamique.
+ * Seules les cases modifiées par les {@link EvenementJeu événements} de la partie sont redessinées.
  * 
  * @author Matisse SENECHAL
- * @version 1.4
+ * @version 1.5
  * @since JDK 17
  */
 public class PlateauPanel extends JPanel implements Observer {
@@ -33,6 +34,9 @@ public class PlateauPanel extends JPanel implements Observer {
     /** Coordonnée (ligne, colonne) de la case survolée. */
     private Point caseSurvolee = null;
 
+    /** Indique qu’une fin de partie a été reçue et reste à afficher. */
+    private boolean finPartie;
+
     /**
      * Initialise le panneau graphique du plateau.
      *
@@ -83,9 +87,8 @@ public class PlateauPanel extends JPanel implements Observer {
                 int tailleCase = getWidth() / Plateau.TAILLE;
                 int ligne = e.getY() / tailleCase;
                 int colonne = e.getX() / tailleCase;
-                Position position = new Position(ligne, colonne);
-
-                if (plateau.estLibre(position)) {
+                if (ligne >= 0 && ligne < Plateau.TAILLE && colonne >= 0 && colonne < Plateau.TAILLE
+                        && plateau.estLibre(ligne * Plateau.TAILLE + colonne)) {
                     caseSurvolee = new Point(ligne, colonne);
                 } else {
                     caseSurvolee = null;
@@ -117,7 +120,7 @@ public class PlateauPanel extends JPanel implements Observer {
                 g2.setColor(Color.WHITE);
                 g2.drawRect(x, y, tailleCase, tailleCase);
 
-                Piece piece = plateau.getPiece(new Position(i, j));
+                Piece piece = plateau.getPiece(i * Plateau.TAILLE + j);
                 if (piece != null) {
                     PiecePanel.drawPiece(g2, piece, x, y, tailleCase);
                 }
@@ -134,11 +137,42 @@ public class PlateauPanel extends JPanel implements Observer {
         return PieceSelectionControleur.getCouleurSurvolPourJoueur(jeu);
     }
 
+    @Override
+    public void recevoir(EvenementJeu evenement) {
+        switch (evenement.getType()) {
+            case PIECE_PLACEE:
+            case PIECE_RETIREE:
+                redessinerCase(evenement.getCase() / Plateau.TAILLE, evenement.getCase() % Plateau.TAILLE);
+                break;
+            case TOUR_CHANGE:
+                // La couleur de survol dépend du joueur au trait
+                if (caseSurvolee != null) redessinerCase(caseSurvolee.x, caseSurvolee.y);
+                break;
+            case PARTIE_TERMINEE:
+                finPartie = true;
+                break;
+            default:
+                break;
+        }
+    }
+
     @Override
     public void update() {
-        repaint();
-        if (jeu != null && jeu.estTerminee()) {
+        // La fin de partie est traitée une fois l’état cohérent, après tous les événements
+        if (finPartie) {
+            finPartie = false;
             FinPartieControleur.traiterFinPartie(this, jeu);
         }
     }
+
+    /**
+     * Redessine une seule case du plateau.
+     *
+     * @param ligne   La ligne de la case.
+     * @param colonne La colonne de la case.
+     */
+    private void redessinerCase(int ligne, int colonne) {
+        int tailleCase = getWidth() / Plateau.TAILLE;
+        repaint(colonne * tailleCase, ligne * tailleCase, tailleCase + 1, tailleCase + 1);
+    }
 }
\ No newline at end of file
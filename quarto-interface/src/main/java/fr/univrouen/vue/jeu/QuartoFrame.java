@@ -1,6 +1,7 @@
 package fr.univrouen.vue.jeu;
 
 import java.awt.*;
+import java.awt.event.*;
 import javax.swing.*;
 
 import fr.univrouen.modele.jeu.partie.Jeu;
@@ -14,9 +15,13 @@ import fr.univrouen.vue.StyleInterface;
  * <p>
  * Une image de fond personnalisée est utilisée en arrière-plan.
  * </p>
+ * <p>
+ * Les tours de l’IA sont confiés à un {@link Orchestrateur}, lancé à l’ouverture
+ * et arrêté à la fermeture de la fenêtre ; ses coups sont joués sur l’EDT.
+ * </p>
  *  
  * @author Matisse SENECHAL
- * @version 1.1
+ * @version 1.3
  * @since JDK 17
  * @see JFrame
  * @see Observer
@@ -70,7 +75,7 @@ public class QuartoFrame extends JFrame {
         };
 
         // Création des composants du jeu
-        Orchestrateur orchestrateur = new Orchestrateur(jeu);
+        Orchestrateur orchestrateur = new Orchestrateur(jeu, SwingUtilities::invokeLater);
         PiecesRestantesPanel panneauPieces = new PiecesRestantesPanel(jeu);
         PlateauPanel panneauPlateau = new PlateauPanel(jeu, panneauPieces);
         joueurCourantLabel = new JoueurCourantLabel(jeu);
@@ -87,5 +92,16 @@ public class QuartoFrame extends JFrame {
         conteneurPrincipal.add(joueurCourantLabel, BorderLayout.NORTH);
 
         setContentPane(conteneurPrincipal);
+
+        // Les décisions en cours sont abandonnées quand la fenêtre est fermée
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                orchestrateur.arreter();
+            }
+        });
+
+        // Premier tour : l’IA joue d’elle-même si elle commence
+        orchestrateur.update();
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package fr.univrouen.controleur.jeu.interaction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.event.MouseEvent;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.jeu.partie.JeuQuarto;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+import fr.univrouen.modele.jeu.piece.Piece;
+import fr.univrouen.modele.joueur.humain.JoueurHumain;
+import fr.univrouen.vue.jeu.PiecesRestantesPanel;
+import fr.univrouen.vue.piece.PiecePanel;
+
+/**
+ * Classe de test pour la sélection d'une pièce à la souris.
+ */
+public class PiecePanelInteractionControleurTest {
+
+    /**
+     * Un clic d'un joueur humain sur une pièce restante doit la donner : le tour passe à l'adversaire,
+     * la pièce est en main et le don entre dans l'historique.
+     */
+    @Test
+    void testClicDonnePiece() {
+        JeuQuarto jeu = new JeuQuarto(new JoueurHumain(), new JoueurHumain(), new StrategieNiveau1());
+        PiecesRestantesPanel panneau = new PiecesRestantesPanel(jeu);
+        PiecePanel panel = (PiecePanel) panneau.getComponent(5);
+        Piece piece = panel.getPiece();
+
+        cliquer(panel);
+
+        assertEquals(1, jeu.getTrait());
+        assertSame(piece, jeu.getPieceCourante());
+        assertEquals(1, jeu.getTailleHistorique());
+        assertTrue(panel.estSelectionnee());
+
+        // Une fois la pièce en main, un autre clic ne donne rien et ne change pas la sélection
+        PiecePanel autre = (PiecePanel) panneau.getComponent(6);
+        cliquer(autre);
+        assertEquals(1, jeu.getTrait());
+        assertSame(piece, jeu.getPieceCourante());
+        assertEquals(1, jeu.getTailleHistorique());
+        assertFalse(autre.estSelectionnee());
+    }
+
+    /**
+     * Simule un clic de souris sur un composant.
+     *
+     * @param panel Le composant cliqué.
+     */
+    private static void cliquer(PiecePanel panel) {
+        panel.dispatchEvent(new MouseEvent(panel, MouseEvent.MOUSE_CLICKED, System.currentTimeMillis(), 0,
+            1, 1, 1, false, MouseEvent.BUTTON1));
+    }
+}
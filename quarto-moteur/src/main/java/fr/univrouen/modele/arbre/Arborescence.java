@@ -0,0 +1,56 @@
+package fr.univrouen.modele.arbre;
+
+import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.temps.Echeance;
+
+/**
+ * Interface représentant un constructeur d’arbre pour les algorithmes de décision (Minimax, Négamax).
+ */
+public interface Arborescence {
+
+    /**
+     * Construit un arbre de décision à partir d’un état de jeu et d’un joueur donné.
+     *
+     * @param jeu    État courant du jeu.
+     * @param joueur Joueur actif à la racine.
+     * @see NoeudArbre
+     * 
+     * @return Racine de l’arbre construit.
+     */
+    NoeudArbre construireArbre(Jeu jeu, Joueur joueur);
+
+    /**
+     * Construit un arbre de décision à une profondeur donnée, en s’arrêtant à la limite dure d’une échéance.
+     * <p>Sert à l’approfondissement itératif : un arbre inachevé est abandonné.</p>
+     *
+     * @param jeu        État courant du jeu.
+     * @param joueur     Joueur actif à la racine.
+     * @param profondeur Profondeur de l’arbre, en demi-coups (placement ou choix de pièce).
+     * @param echeance   Échéance dont la limite dure interrompt la construction.
+     * @return Racine de l’arbre construit, ou {@code null} si l’échéance a été atteinte avant la fin.
+     */
+    NoeudArbre construireArbre(Jeu jeu, Joueur joueur, int profondeur, Echeance echeance);
+
+    /**
+     * Retourne le nombre de nœuds visités par la dernière construction à profondeur choisie,
+     * y compris si elle a été interrompue, ou, sans construction à profondeur choisie,
+     * depuis la création du constructeur.
+     *
+     * @return Le nombre de nœuds visités.
+     */
+    long getNoeudsVisites();
+
+    /**
+     * Indique si la valeur d’un fils de la racine est donnée du point de vue du joueur de la racine.
+     * <p>
+     * C’est le cas des algorithmes Néga et Alpha-Bêta : le meilleur fils est alors celui de plus grande valeur.
+     * Sinon, les valeurs sont du point de vue de {@link Joueur#MAX}, et le meilleur fils d’une racine
+     * {@link Joueur#MIN} est celui de plus petite valeur.
+     * </p>
+     *
+     * @return {@code true} si les valeurs sont relatives au joueur de la racine.
+     */
+    default boolean valeursRelativesALaRacine() {
+        return true;
+    }
+}
\ No newline at end of file
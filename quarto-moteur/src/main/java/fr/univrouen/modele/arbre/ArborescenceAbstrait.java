@@ -0,0 +1,310 @@
+package fr.univrouen.modele.arbre;
+
+import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.evaluation.*;
+import fr.univrouen.modele.jeu.partie.plateau.*;
+import fr.univrouen.modele.jeu.piece.Heuristique;
+import fr.univrouen.modele.jeu.piece.Piece;
+import fr.univrouen.modele.temps.Echeance;
+
+/**
+ * Classe abstraite définissant les éléments communs aux algorithmes d'exploration
+ * d’arborescence comme Minimax ou Négamax dans le cadre du jeu Quarto.
+ * 
+ * <p>Elle encapsule les utilitaires partagés : simulation d’actions (placement, choix),
+ * inversion de joueur, gestion de la structure de l’arbre via des liens de type
+ * fils aîné / frère droit.</p>
+ *
+ * <p>
+ * L’arbre est construit pour le joueur au trait à la racine : son trait ({@link Jeu#getTrait()})
+ * et l’étiquette de la racine sont retenus par {@link #initialiserRacine(Jeu, Joueur)}. Comme un
+ * placement ne change pas le trait, le gagnant d’un état gagné est le joueur au trait, et
+ * l’évaluation d’une victoire se réduit à une comparaison de traits : deux IA quelconques
+ * peuvent donc s’affronter, sans distinguer les joueurs par leur nom.
+ * </p>
+ *
+ * <p>
+ * La profondeur est de {@value #PROFONDEUR_MAX} demi-coups par défaut ; {@link #construireArbre(Jeu, Joueur, int, Echeance)}
+ * permet de la choisir et d’interrompre la construction à la limite dure d’une {@link Echeance},
+ * vérifiée par {@link #doitInterrompre()} tous les {@value #NOEUDS_ENTRE_VERIFICATIONS} nœuds,
+ * ou lorsque l’arbre dépasse le quota de nœuds de l’échéance.
+ * </p>
+ * 
+ * @see NoeudArbre
+ * @see Heuristique
+ * @see Arborescence
+ * @author Matisse SENECHAL
+ * @version 1.6
+ * @since JDK 17
+ */
+public abstract class ArborescenceAbstrait implements Arborescence {
+    /** Profondeur maximale d'exploration de l'arbre, par défaut. */
+    protected static final int PROFONDEUR_MAX = 2;
+
+    /** Nombre de nœuds visités entre deux lectures de l’horloge. */
+    private static final int NOEUDS_ENTRE_VERIFICATIONS = 256;
+
+    /** Valeur maximale de gain (victoire assurée pour Minimax). */
+    protected static final double GAIN_MAX = Double.POSITIVE_INFINITY;
+
+    /** Valeur minimale de gain (défaite assurée pour Minimax). */
+    protected static final double GAIN_MIN = Double.NEGATIVE_INFINITY;
+
+    /** Trait (0 ou 1) du joueur pour lequel l’arbre est construit. */
+    protected int traitRacine;
+
+    /** Étiquette (MAX ou MIN) de la racine de l’arbre. */
+    protected Joueur etiquetteRacine = Joueur.MAX;
+
+    /** Profondeur de l’arbre en cours de construction. */
+    protected int profondeurMax = PROFONDEUR_MAX;
+
+    /** Échéance de la construction en cours. */
+    private Echeance echeance = Echeance.AUCUNE;
+
+    /** Nombre de nœuds visités depuis le début de la construction. */
+    private long noeudsVisites;
+
+    /** Indique si la construction en cours a atteint la limite dure de son échéance. */
+    private boolean interrompue;
+
+    @Override
+    public NoeudArbre construireArbre(Jeu jeu, Joueur joueur, int profondeur, Echeance echeance) {
+        if (profondeur < 1) {
+            throw new IllegalArgumentException("Profondeur invalide : " + profondeur);
+        }
+
+        this.profondeurMax = profondeur;
+        this.echeance = echeance;
+        this.noeudsVisites = 0;
+        this.interrompue = false;
+        try {
+            NoeudArbre racine = construireArbre(jeu, joueur);
+            return interrompue ? null : racine;
+        } finally {
+            this.profondeurMax = PROFONDEUR_MAX;
+            this.echeance = Echeance.AUCUNE;
+        }
+    }
+
+    @Override
+    public long getNoeudsVisites() {
+        return noeudsVisites;
+    }
+
+    /**
+     * Indique si la construction doit s’arrêter, la limite dure ou le quota de nœuds de l’échéance étant atteint.
+     * <p>
+     * Appelée à chaque nœud, elle ne lit l’horloge que périodiquement. Une fois interrompue,
+     * la construction évalue les nœuds restants comme des feuilles, et l’arbre est abandonné.
+     * </p>
+     *
+     * @return {@code true} si la construction doit s’arrêter.
+     */
+    protected boolean doitInterrompre() {
+        if (interrompue) return true;
+
+        long noeuds = ++noeudsVisites;
+        if (noeuds > echeance.getNoeudsMax() || noeuds % NOEUDS_ENTRE_VERIFICATIONS == 0 && echeance.estDepassee()) {
+            interrompue = true;
+        }
+        return interrompue;
+    }
+
+    /**
+     * Retient le joueur de la racine avant la construction de l’arbre.
+     *
+     * @param jeu    L’état du jeu à la racine.
+     * @param joueur L’étiquette de la racine.
+     */
+    protected void initialiserRacine(Jeu jeu, Joueur joueur) {
+        this.traitRacine = jeu.getTrait();
+        this.etiquetteRacine = joueur;
+    }
+
+    /**
+     * Ajoute un nœud enfant à un nœud parent selon la structure 
+     * de fils aîné et frère droit (liste chaînée horizontale).
+     *
+     * @param parent     Le nœud parent dans l’arbre.
+     * @param precedent  Le nœud frère précédemment ajouté (ou {@code null} si c’est le premier).
+     * @param fils       Le nœud fils à ajouter.
+     * @return Le nœud fils, pour permettre le chaînage dans les appels successifs.
+     */
+    protected NoeudArbre ajouterFils(NoeudArbre parent, NoeudArbre precedent, NoeudArbre fils) {
+        if (precedent == null) {
+            parent.setFilsaine(fils);
+        } else {
+            precedent.setFreredroit(fils);
+        }
+        return fils;
+    }
+
+    /**
+     * Simule le placement d’une pièce sur le plateau en créant une copie du jeu,
+     * utilisée dans l’arborescence pour prédire les coups futurs.
+     * <p>Le trait ne change pas : le joueur qui a posé doit encore donner une pièce.</p>
+     *
+     * @param jeu    L’état courant du jeu à copier.
+     * @param piece  La pièce à placer.
+     * @param pos    La position de placement.
+     * @return Un nouvel état du jeu après le placement simulé.
+     */
+    protected Jeu simulerPlacement(Jeu jeu, Piece piece, Position pos) {
+        Jeu copie = jeu.copier();
+        copie.getPlateau().placerPiece(piece, pos);         // Placement simulé
+        copie.retirerPieceChoisit(piece);                   // Retrait de la pièce de la réserve
+        copie.setPieceCourante(null);
+        return copie;
+    }
+
+    /**
+     * Simule un choix de pièce dans une copie du jeu.
+     * Utile pour la phase où un joueur choisit la pièce à donner à l’adversaire.
+     *
+     * @param jeu    L’état courant du jeu à copier.
+     * @param piece  La pièce que l’on souhaite tester comme choix.
+     * @return Une nouvelle configuration du jeu après le choix simulé.
+     */
+    protected Jeu simulerChoix(Jeu jeu, Piece piece) {
+        Jeu copie = jeu.copier();
+        copie.setPieceCourante(piece);
+        copie.tourSuivant();
+        return copie;
+    }
+
+    /**
+     * Inverse le rôle du joueur courant.
+     * Si le joueur est MAX, retourne MIN ; sinon retourne MAX.
+     *
+     * @param joueur Le joueur courant.
+     * @return Le joueur opposé.
+     */
+    protected Joueur inverse(Joueur joueur) {
+        return joueur == Joueur.MAX ? Joueur.MIN : Joueur.MAX;
+    }
+
+    /**
+     * Évalue la valeur heuristique d’un état terminal du jeu (fin de partie ou profondeur maximale atteinte).
+     * <p>
+     * Cette méthode est utilisée lorsque :
+     * <ul>
+     *   <li>Le jeu est terminé (victoire/défaite).</li>
+     *   <li>La profondeur maximale de l’arbre a été atteinte (feuille dans l’arbre Minimax).</li>
+     * </ul>
+     * Elle retourne une heuristique correspondant à une victoire, défaite ou évaluation pondérée si la partie continue.
+     *
+     * @param jeu     L’état actuel du jeu.
+     * @param joueur  Le joueur du point de vue duquel la victoire est évaluée (MAX ou MIN).
+     * @return Une valeur heuristique : {@code GAIN_MAX}, {@code GAIN_MIN}, ou une évaluation intermédiaire.
+     */
+    protected double evaluerEtatTerminal(Jeu jeu, Joueur joueur) {
+        // Une seule passe sur les motifs de la stratégie : évaluation et détection de victoire
+        double evaluation = evaluerHeuristique(jeu);
+
+        // Cas 1 : la partie est terminée (quelqu’un a gagné)
+        if (evaluation == Heuristique.VICTOIRE) {
+            return evaluerVictoire(jeu, joueur);
+        }
+
+        // Cas 2 : la partie n’est pas finie mais on a atteint la profondeur limite → on retourne une évaluation pondérée
+        return evaluation;
+    }
+
+    /**
+     * Évalue un état gagné du point de vue d’un joueur de l’arbre.
+     * <p>
+     * Le gagnant est le joueur au trait ; l’étiquette de la racine représente le joueur de la racine,
+     * l’autre étiquette son adversaire.
+     * </p>
+     *
+     * @param jeu    Un état gagné.
+     * @param joueur Le joueur du point de vue duquel la victoire est évaluée (MAX ou MIN).
+     * @return {@code GAIN_MAX} si ce joueur a gagné, {@code GAIN_MIN} sinon.
+     */
+    protected double evaluerVictoire(Jeu jeu, Joueur joueur) {
+        boolean racineGagne = jeu.getTrait() == traitRacine;
+        return (racineGagne == (joueur == etiquetteRacine)) ? GAIN_MAX : GAIN_MIN;
+    }
+
+    /**
+     * Calcule l’heuristique du plateau en passant par le cache d’évaluations.
+     * <p>
+     * L’évaluation parcourt les motifs gagnants de la stratégie de la partie
+     * (carrés compris pour les niveaux 2 à 4), ceux-là mêmes qui servent à détecter la victoire.
+     * Elle ne dépend que des pièces posées : les feuilles qui ne diffèrent
+     * que par la pièce en main réutilisent donc la valeur déjà calculée.
+     * En cas d’échec, le calcul se fait sur la représentation compacte du plateau.
+     * </p>
+     * <p>
+     * Si un {@linkplain ReseauEvaluation#getActif() réseau d’évaluation} est chargé, il remplace
+     * l’heuristique des motifs pour les positions non gagnées où une pièce est en main ; la pièce en main
+     * entre alors dans la clé du cache. Sans pièce en main, l’heuristique des motifs est conservée.
+     * Le score du réseau, donné pour le joueur au trait, est ramené au point de vue de {@link Joueur#MAX}
+     * comme le reste de l’arbre, et à l’échelle des motifs (voir {@link #versPointDeVueMax(Jeu, int)}).
+     * </p>
+     *
+     * @param jeu L’état du jeu à évaluer.
+     * @return La valeur heuristique du plateau, ou {@link Heuristique#VICTOIRE} si un motif gagnant est complet.
+     * @see CacheEvaluation
+     * @see EvaluateurLot
+     */
+    protected double evaluerHeuristique(Jeu jeu) {
+        Plateau plateau = jeu.getPlateau();
+        int[][] motifs = jeu.getStrategie().getMotifs();
+        EvaluateurLot evaluateur = EvaluateurLot.pour(motifs);
+        ReseauEvaluation reseau = ReseauEvaluation.getActif();
+
+        // L'empreinte des motifs distingue les stratégies, celle des poids les réglages
+        long cle = plateau.getEmpreinte() ^ evaluateur.getEmpreinte();
+
+        Piece enMain = jeu.getPieceCourante();
+        if (reseau == null || enMain == null) {
+            return CacheEvaluation.getInstance().evaluer(cle ^ Heuristique.getPoids().getEmpreinte(),
+                () -> evaluateur.evaluer(plateau.getPlans(), plateau.getMasqueOccupation()));
+        }
+
+        int main = enMain.getId();
+        cle ^= reseau.getEmpreinte() ^ ((main + 2) * 0xC2B2AE3D27D4EB4FL);
+        // Le cache garde le score brut du joueur au trait, indépendant de la racine de l’arbre
+        int score = CacheEvaluation.getInstance().evaluer(cle, () -> {
+            long plans = plateau.getPlans();
+            int occupation = plateau.getMasqueOccupation();
+            return evaluateur.estGagnant(plans, occupation)
+                ? Heuristique.VICTOIRE
+                : reseau.evaluer(plans, occupation, main);
+        });
+        return (score == Heuristique.VICTOIRE) ? score : versPointDeVueMax(jeu, score);
+    }
+
+    /**
+     * Ramène un score du réseau d’évaluation au point de vue de {@link Joueur#MAX}.
+     * <p>
+     * Le réseau note la position pour le joueur au trait ; le signe est inversé si ce joueur n’est pas celui
+     * que représente l’étiquette MAX (le joueur de la racine pour un placement, son adversaire pour un don).
+     * Un logit de 1 vaut un motif de 4 caractéristiques communes dans les {@linkplain Heuristique#getPoids() poids}
+     * en vigueur, ce qui garde le score à l’échelle de l’heuristique des motifs.
+     * </p>
+     *
+     * @param jeu   L’état évalué.
+     * @param score Le score du réseau, en millièmes de logit.
+     * @return Le score du point de vue de MAX, à l’échelle de l’heuristique des motifs.
+     */
+    private double versPointDeVueMax(Jeu jeu, int score) {
+        double valeur = (double) score * Heuristique.getPoids().get(4) / ReseauEvaluation.ECHELLE_SCORE;
+        boolean traitMax = (jeu.getTrait() == traitRacine) == (etiquetteRacine == Joueur.MAX);
+        return traitMax ? valeur : -valeur;
+    }
+
+    /**
+     * Construit les enfants correspondant aux différentes positions où la pièce courante
+     * peut être placée sur le plateau.
+     *
+     * @param parent         Le nœud parent à enrichir.
+     * @param jeu            L'état du jeu actuel.
+     * @param joueur         Le joueur qui joue ce tour.
+     * @param profondeur     La profondeur actuelle dans l’arbre.
+     * @param pieceAPlacer   La pièce à placer.
+     */
+    protected abstract void construireFilsPlacement(NoeudArbre parent, Jeu jeu, Joueur joueur, int profondeur, Piece pieceAPlacer);
+}
\ No newline at end of file
@@ -10,15 +10,16 @@ import fr.univrouen.modele.jeu.partie.plateau.Position;
  * lorsque l’on sait qu’elles ne peuvent pas influencer le résultat final.
  * 
  * @author Matisse SENECHAL
- * @version 1.0
+ * @version 1.2
  * @since JDK 17
  */
 public class ArborescenceAlphaBeta extends ArborescenceAbstrait {
 
     @Override
     public NoeudArbre construireArbre(Jeu jeu, Joueur joueur) {
+        initialiserRacine(jeu, joueur);
         NoeudArbre racine = new NoeudArbre(joueur, jeu);
-        double heuristique = alphaBeta(racine, PROFONDEUR_MAX, GAIN_MIN, GAIN_MAX, joueur);
+        double heuristique = alphaBeta(racine, profondeurMax, GAIN_MIN, GAIN_MAX, joueur);
         racine.setHeuristique(heuristique);
         return racine;
     }
@@ -39,7 +40,7 @@ public class ArborescenceAlphaBeta extends ArborescenceAbstrait {
         Jeu jeu = noeud.getEtatJeu();
 
         // Cas terminal : on retourne la valeur d’évaluation
-        if (profondeur == 0 || jeu.estTerminee()) {
+        if (profondeur == 0 || jeu.estTerminee() || doitInterrompre()) {
             return evaluerEtatTerminal(jeu, joueur);
         }
 
@@ -50,7 +51,8 @@ public class ArborescenceAlphaBeta extends ArborescenceAbstrait {
 
         // Phase de placement : on teste toutes les positions disponibles
         if (pieceAPlacer != null) {
-            for (Position position : jeu.getPlateau().getPositionsDisponibles()) {
+            for (int libres = jeu.getPlateau().getMasqueLibres(); libres != 0; libres &= libres - 1) {
+                Position position = Position.get(Integer.numberOfTrailingZeros(libres));
                 Jeu copie = simulerPlacement(jeu, pieceAPlacer, position);
 
                 NoeudArbre enfant = new NoeudArbre(inverse(joueur), copie);
@@ -71,7 +73,8 @@ public class ArborescenceAlphaBeta extends ArborescenceAbstrait {
         }
 
         // Phase de choix de pièce : on teste toutes les pièces restantes
-        for (Piece piece : jeu.getPiecesRestantes()) {
+        for (int restantes = jeu.getMasquePiecesRestantes(); restantes != 0; restantes &= restantes - 1) {
+            Piece piece = Piece.get(Integer.numberOfTrailingZeros(restantes));
             Jeu copie = simulerChoix(jeu, piece);
 
             NoeudArbre enfant = new NoeudArbre(inverse(joueur), copie);
@@ -20,7 +20,7 @@ import fr.univrouen.modele.jeu.partie.plateau.Position;
  * @see Heuristique
  * @see ArborescenceAbstrait
  * @author Matisse SENECHAL
- * @version 1.2
+ * @version 1.6
  * @since JDK 17
  */
 public class ArborescenceMinimax extends ArborescenceAbstrait {
@@ -30,8 +30,19 @@ public class ArborescenceMinimax extends ArborescenceAbstrait {
      */
     public ArborescenceMinimax() {}
 
+    /**
+     * Les valeurs de l’arbre Minimax sont toutes du point de vue de {@link Joueur#MAX}.
+     *
+     * @return {@code false}.
+     */
+    @Override
+    public boolean valeursRelativesALaRacine() {
+        return false;
+    }
+
     @Override
     public NoeudArbre construireArbre(Jeu jeu, Joueur joueur) {
+        initialiserRacine(jeu, joueur);
         return construireRecursivement(jeu, joueur, 0);
     }
 
@@ -46,8 +57,9 @@ public class ArborescenceMinimax extends ArborescenceAbstrait {
     private NoeudArbre construireRecursivement(Jeu jeu, Joueur joueur, int profondeur) {
         NoeudArbre noeud = new NoeudArbre(joueur, jeu);
 
-        if (profondeur == PROFONDEUR_MAX || jeu.estTerminee()) {
-            noeud.setHeuristique(evaluerEtatTerminal(jeu, joueur));
+        if (profondeur >= profondeurMax || jeu.estTerminee() || doitInterrompre()) {
+            // Les valeurs de l’arbre Minimax sont toutes du point de vue de MAX
+            noeud.setHeuristique(evaluerEtatTerminal(jeu, Joueur.MAX));
             return noeud;
         }
 
@@ -67,7 +79,8 @@ public class ArborescenceMinimax extends ArborescenceAbstrait {
         NoeudArbre precedent = null;
 
         // Parcours de toutes les positions libres sur le plateau
-        for (Position pos : jeu.getPlateau().getPositionsDisponibles()) {    
+        for (int libres = jeu.getPlateau().getMasqueLibres(); libres != 0; libres &= libres - 1) {
+            Position pos = Position.get(Integer.numberOfTrailingZeros(libres));
             Jeu copie = simulerPlacement(jeu, pieceAPlacer, pos);
 
             // Création d’un nœud pour représenter cet état simulé
@@ -76,17 +89,12 @@ public class ArborescenceMinimax extends ArborescenceAbstrait {
 
             // Si ce placement entraîne une victoire, on évalue immédiatement ce nœud comme terminal
             if (copie.aGagne()) {
-                fr.univrouen.modele.joueur.Joueur gagnant = copie.getJoueurGagnant();
-
-                // Heuristique maximale si la victoire est pour l’IA, minimale sinon
-                if (gagnant != null && gagnant.getNom().contains("Minimax")) {
-                    fils.setHeuristique(GAIN_MAX);
-                } else {
-                    fils.setHeuristique(GAIN_MIN);
-                }
+                // Heuristique maximale si la victoire est pour MAX, minimale sinon
+                fils.setHeuristique(evaluerVictoire(copie, Joueur.MAX));
             } else {
                 // Sinon, on continue l’exploration récursive en descendant dans l’arbre
                 fils = construireRecursivement(copie, inverse(joueur), profondeur + 1);
+                fils.setPositionJouee(pos); // Réaffecter car la récursion retourne un nouveau noeud
             }
 
             // Ajout du nœud fils à la liste des enfants du parent, tout en chaînant les frères
@@ -111,7 +119,8 @@ public class ArborescenceMinimax extends ArborescenceAbstrait {
         NoeudArbre precedent = null; // Sert à chaîner les frères droits
 
         // On teste chaque pièce restante que le joueur pourrait donner à son adversaire
-        for (Piece piece : jeu.getPiecesRestantes()) {
+        for (int restantes = jeu.getMasquePiecesRestantes(); restantes != 0; restantes &= restantes - 1) {
+            Piece piece = Piece.get(Integer.numberOfTrailingZeros(restantes));
             Jeu copie = simulerChoix(jeu, piece);
 
             // Création d’un nœud représentant ce choix de pièce
@@ -10,22 +10,23 @@ import fr.univrouen.modele.jeu.partie.plateau.Position;
  * <p>
  * Cette classe hérite de {@link ArborescenceAbstrait} et applique une variante de l'algorithme Negamax,
  * combinée avec l'élagage alpha-bêta, pour évaluer les coups à jouer. Elle construit récursivement 
- * l'arbre de jeu à une profondeur fixe et attribue des scores heuristiques aux noeuds pour guider l'IA.
+ * l'arbre de jeu à une profondeur donnée et attribue des scores heuristiques aux noeuds pour guider l'IA.
  * </p>
  *
  * @see NoeudArbre
  * @see Heuristique
  * @see ArborescenceAbstrait
  * @author Matisse SENECHAL
- * @version 1.0
+ * @version 1.2
  * @since JDK 17
  */
 public class ArborescenceNegaBeta extends ArborescenceAbstrait {
 
     @Override
     public NoeudArbre construireArbre(Jeu jeu, Joueur joueur) {
+        initialiserRacine(jeu, joueur);
         NoeudArbre racine = new NoeudArbre(joueur, jeu);
-        double valeur = alphaBetaNegamax(racine, PROFONDEUR_MAX, joueur, GAIN_MIN, GAIN_MAX);
+        double valeur = alphaBetaNegamax(racine, profondeurMax, joueur, GAIN_MIN, GAIN_MAX);
         racine.setHeuristique(valeur);
         return racine;
     }
@@ -33,7 +34,7 @@ public class ArborescenceNegaBeta extends ArborescenceAbstrait {
     private double alphaBetaNegamax(NoeudArbre noeud, int profondeur, Joueur joueur, double alpha, double beta) {
         Jeu jeu = noeud.getEtatJeu();
 
-        if (profondeur == 0 || jeu.estTerminee()) {
+        if (profondeur == 0 || jeu.estTerminee() || doitInterrompre()) {
             return evaluerNegamax(jeu, joueur);
         }
 
@@ -42,7 +43,8 @@ public class ArborescenceNegaBeta extends ArborescenceAbstrait {
 
         Piece pieceAPlacer = jeu.getPieceCourante();
         if (pieceAPlacer != null) {
-            for (Position pos : jeu.getPlateau().getPositionsDisponibles()) {
+            for (int libres = jeu.getPlateau().getMasqueLibres(); libres != 0; libres &= libres - 1) {
+                Position pos = Position.get(Integer.numberOfTrailingZeros(libres));
                 Jeu copie = simulerPlacement(jeu, pieceAPlacer, pos);
                 NoeudArbre enfant = new NoeudArbre(inverse(joueur), copie);
                 enfant.setPositionJouee(pos);
@@ -56,7 +58,8 @@ public class ArborescenceNegaBeta extends ArborescenceAbstrait {
                 if (alpha >= beta) break; // Élagage
             }
         } else {
-            for (Piece piece : jeu.getPiecesRestantes()) {
+            for (int restantes = jeu.getMasquePiecesRestantes(); restantes != 0; restantes &= restantes - 1) {
+                Piece piece = Piece.get(Integer.numberOfTrailingZeros(restantes));
                 Jeu copie = simulerChoix(jeu, piece);
                 NoeudArbre enfant = new NoeudArbre(inverse(joueur), copie);
                 enfant.setPieceDonnee(piece);
@@ -75,13 +78,12 @@ public class ArborescenceNegaBeta extends ArborescenceAbstrait {
     }
 
     private double evaluerNegamax(Jeu jeu, Joueur joueur) {
-        if (jeu.aGagne()) {
-            boolean estMinimax = jeu.getJoueurGagnant() != null && jeu.getJoueurGagnant().getNom().contains("Minimax");
-            boolean estJoueurCourant = (joueur == Joueur.MAX);
-            return (estMinimax == estJoueurCourant) ? GAIN_MAX : GAIN_MIN;
+        double h = evaluerHeuristique(jeu);
+
+        if (h == Heuristique.VICTOIRE) {
+            return evaluerVictoire(jeu, joueur);
         }
 
-        double h = Heuristique.evaluerAlignements(jeu.getPlateau().getAlignementsPotentiels());
         return (joueur == Joueur.MAX) ? h : -h;
     }
 
@@ -13,15 +13,16 @@ import fr.univrouen.modele.jeu.partie.plateau.Position;
  * @see Heuristique
  * @see ArborescenceAbstrait
  * @author Matisse SENECHAL
- * @version 1.1
+ * @version 1.3
  * @since JDK 17
  */
 public class ArborescenceNegamax extends ArborescenceAbstrait {
 
     @Override
     public NoeudArbre construireArbre(Jeu jeu, Joueur joueur) {
+        initialiserRacine(jeu, joueur);
         NoeudArbre racine = new NoeudArbre(joueur, jeu);
-        double valeur = negamax(racine, PROFONDEUR_MAX, joueur);
+        double valeur = negamax(racine, profondeurMax, joueur);
         racine.setHeuristique(valeur);
         return racine;
     }
@@ -29,9 +30,9 @@ public class ArborescenceNegamax extends ArborescenceAbstrait {
     @Override
     protected void construireFilsPlacement(NoeudArbre parent, Jeu jeu, Joueur joueur, int profondeur, Piece pieceAPlacer) {
         NoeudArbre precedent = null;
-        double valeurMax = Double.NEGATIVE_INFINITY;
 
-        for (Position pos : jeu.getPlateau().getPositionsDisponibles()) {
+        for (int libres = jeu.getPlateau().getMasqueLibres(); libres != 0; libres &= libres - 1) {
+            Position pos = Position.get(Integer.numberOfTrailingZeros(libres));
             // Simulation du placement de la pièce sur une position donnée
             Jeu copie = simulerPlacement(jeu, pieceAPlacer, pos);
 
@@ -42,7 +43,6 @@ public class ArborescenceNegamax extends ArborescenceAbstrait {
             // Appel récursif : on inverse le joueur et on explore le sous-arbre
             double val = -negamax(fils, profondeur - 1, inverse(joueur));
             fils.setHeuristique(val);            // On stocke l'évaluation du nœud
-            valeurMax = Math.max(valeurMax, val);  // Mise à jour de la meilleure valeur trouvée
 
             // Chaînage dans l’arbre : on ajoute ce nœud enfant au parent
             precedent = ajouterFils(parent, precedent, fils);
@@ -63,7 +63,7 @@ public class ArborescenceNegamax extends ArborescenceAbstrait {
         Jeu jeu = noeud.getEtatJeu();
 
         // Cas de base : si profondeur atteinte ou partie terminée, on évalue directement le nœud
-        if (profondeur == 0 || jeu.estTerminee()) {
+        if (profondeur == 0 || jeu.estTerminee() || doitInterrompre()) {
             return evaluerNegamax(jeu, joueur);  // Heuristique du point de vue du joueur courant
         }
 
@@ -75,9 +75,15 @@ public class ArborescenceNegamax extends ArborescenceAbstrait {
         Piece pieceAPlacer = jeu.getPieceCourante();
         if (pieceAPlacer != null) {
             construireFilsPlacement(noeud, jeu, joueur, profondeur, pieceAPlacer);
+
+            // La valeur du nœud est la meilleure des valeurs stockées dans ses fils
+            for (NoeudArbre fils = noeud.getFilsaine(); fils != null; fils = fils.getFreredroit()) {
+                valeurMax = Math.max(valeurMax, fils.getHeuristique());
+            }
         } else {
             // Cas 2 : phase de choix de pièce (on doit donner une pièce à l’adversaire)
-            for (Piece piece : jeu.getPiecesRestantes()) {
+            for (int restantes = jeu.getMasquePiecesRestantes(); restantes != 0; restantes &= restantes - 1) {
+                Piece piece = Piece.get(Integer.numberOfTrailingZeros(restantes));
                 // Simulation du choix de cette pièce
                 Jeu copie = simulerChoix(jeu, piece);
 
@@ -107,15 +113,12 @@ public class ArborescenceNegamax extends ArborescenceAbstrait {
      * @return Une valeur réelle représentant l’évaluation de l’état.
      */
     private double evaluerNegamax(Jeu jeu, Joueur joueur) {
-        if (jeu.aGagne()) {
-            boolean estMinimax = jeu.getJoueurGagnant() != null && 
-                                 jeu.getJoueurGagnant().getNom().contains("Minimax");
-            boolean estJoueurCourant = (joueur == Joueur.MAX);
-            return (estMinimax == estJoueurCourant) ? GAIN_MAX : GAIN_MIN;
-        }
+        // Une seule passe sur les motifs de la stratégie : évaluation et détection de victoire
+        double h = evaluerHeuristique(jeu);
 
-        // Heuristique basée sur les alignements potentiels
-        double h = Heuristique.evaluerAlignements(jeu.getPlateau().getAlignementsPotentiels());
+        if (h == Heuristique.VICTOIRE) {
+            return evaluerVictoire(jeu, joueur); // Victoire ou défaite pour le joueur courant
+        }
 
         // Négamax : retourne h si joueur MAX, -h si joueur MIN
         return (joueur == Joueur.MAX) ? h : -h;
@@ -0,0 +1,86 @@
+package fr.univrouen.modele.evaluation;
+
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+
+/**
+ * {@link Evaluateur} fondé sur un {@link ReseauEvaluation}, avec accumulateur incrémental.
+ * <p>
+ * L'accumulateur contient la couche cachée avant activation, sur 16 bits. Un coup ne modifie
+ * que deux entrées du réseau (la pièce quitte la main pour une case, ou quitte les pièces restantes
+ * pour la main) : chaque mise à jour coûte donc deux additions de colonnes de poids, et l'évaluation
+ * se limite à la couche de sortie. Les annulations appliquent exactement les opérations inverses.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see ReseauEvaluation#nouvelAccumulateur()
+ */
+public final class AccumulateurReseau implements Evaluateur {
+    /** Réseau dont les poids sont accumulés. */
+    private final ReseauEvaluation reseau;
+
+    /** Couche cachée avant activation. */
+    private final short[] accumulateur;
+
+    /**
+     * Crée un accumulateur pour un réseau.
+     *
+     * @param reseau Le réseau évalué.
+     */
+    AccumulateurReseau(ReseauEvaluation reseau) {
+        this.reseau = reseau;
+        this.accumulateur = new short[reseau.getCachees()];
+    }
+
+    @Override
+    public void reinitialiser(long plans, int occupation, int pieceEnMain) {
+        reseau.initialiser(accumulateur);
+
+        int restantes = 0xFFFF;
+        for (int cases = occupation; cases != 0; cases &= cases - 1) {
+            int index = Integer.numberOfTrailingZeros(cases);
+            int piece = Plateau.pieceDansPlans(plans, index);
+            reseau.ajouter(accumulateur, ReseauEvaluation.entreePosee(index, piece));
+            restantes &= ~(1 << piece);
+        }
+
+        if (pieceEnMain != AUCUNE_PIECE) {
+            reseau.ajouter(accumulateur, ReseauEvaluation.ENTREE_EN_MAIN + pieceEnMain);
+            restantes &= ~(1 << pieceEnMain);
+        }
+
+        for (int pieces = restantes; pieces != 0; pieces &= pieces - 1) {
+            reseau.ajouter(accumulateur, ReseauEvaluation.ENTREE_RESTANTE + Integer.numberOfTrailingZeros(pieces));
+        }
+    }
+
+    @Override
+    public void placer(int index, int piece) {
+        reseau.retirer(accumulateur, ReseauEvaluation.ENTREE_EN_MAIN + piece);
+        reseau.ajouter(accumulateur, ReseauEvaluation.entreePosee(index, piece));
+    }
+
+    @Override
+    public void retirer(int index, int piece) {
+        reseau.retirer(accumulateur, ReseauEvaluation.entreePosee(index, piece));
+        reseau.ajouter(accumulateur, ReseauEvaluation.ENTREE_EN_MAIN + piece);
+    }
+
+    @Override
+    public void donner(int piece) {
+        reseau.retirer(accumulateur, ReseauEvaluation.ENTREE_RESTANTE + piece);
+        reseau.ajouter(accumulateur, ReseauEvaluation.ENTREE_EN_MAIN + piece);
+    }
+
+    @Override
+    public void reprendre(int piece) {
+        reseau.retirer(accumulateur, ReseauEvaluation.ENTREE_EN_MAIN + piece);
+        reseau.ajouter(accumulateur, ReseauEvaluation.ENTREE_RESTANTE + piece);
+    }
+
+    @Override
+    public int evaluer() {
+        return reseau.sortie(accumulateur);
+    }
+}
@@ -0,0 +1,257 @@
+package fr.univrouen.modele.evaluation;
+
+import java.util.concurrent.atomic.*;
+import java.util.function.IntSupplier;
+
+/**
+ * Cache d'évaluations heuristiques de taille fixe, indexé par une empreinte 64 bits du plateau.
+ * <p>
+ * De nombreuses feuilles de l'arbre de recherche partagent le même plateau (seule la pièce en main
+ * diffère) : plutôt que de recalculer l'heuristique à chaque fois, on mémorise la valeur associée
+ * à l'empreinte du plateau.
+ * </p>
+ *
+ * <p>Caractéristiques :</p>
+ * <ul>
+ *   <li>Table associative par ensembles de {@value #VOIES} entrées, allouée une fois pour toutes.</li>
+ *   <li>Sans verrou : chaque entrée stocke {@code cle ^ donnee}, ce qui permet de détecter
+ *       une écriture concurrente incomplète (elle est alors simplement vue comme un échec).</li>
+ *   <li>Éviction par horloge (seconde chance) : une entrée relue récemment est épargnée une fois.</li>
+ *   <li>Compteurs de succès, d'échecs et d'évictions pour mesurer le taux de réussite.</li>
+ *   <li>Désactivable (propriété système {@code quarto.cache.evaluation=false} ou {@link #setActif(boolean)})
+ *       pour les mesures de performance.</li>
+ * </ul>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ */
+public final class CacheEvaluation {
+    /** Nombre d'entrées par défaut (puissance de deux). */
+    public static final int CAPACITE_PAR_DEFAUT = 1 << 16;
+
+    /** Nombre d'entrées par ensemble (associativité). */
+    public static final int VOIES = 4;
+
+    /** Bit marquant une entrée occupée dans la donnée stockée. */
+    private static final long OCCUPEE = 1L << 32;
+
+    /** Instance partagée par tous les algorithmes de recherche. */
+    private static final CacheEvaluation INSTANCE = new CacheEvaluation(CAPACITE_PAR_DEFAUT);
+
+    /** Clés stockées sous la forme {@code cle ^ donnee}. */
+    private final AtomicLongArray cles;
+
+    /** Données : bit {@link #OCCUPEE} et valeur sur les 32 bits de poids faible. */
+    private final AtomicLongArray donnees;
+
+    /** Bits de référence utilisés par l'horloge (seconde chance). */
+    private final AtomicIntegerArray references;
+
+    /** Position de l'aiguille de l'horloge pour chaque ensemble. */
+    private final AtomicIntegerArray aiguilles;
+
+    /** Masque permettant de retrouver l'ensemble associé à une clé. */
+    private final int masqueEnsembles;
+
+    /** Compteurs statistiques. */
+    private final LongAdder succes = new LongAdder(), echecs = new LongAdder(), evictions = new LongAdder();
+
+    /** Indique si le cache est utilisé ou court-circuité. */
+    private volatile boolean actif = !"false".equalsIgnoreCase(System.getProperty("quarto.cache.evaluation"));
+
+    /**
+     * Crée un cache pouvant contenir {@code capacite} évaluations.
+     *
+     * @param capacite Nombre d'entrées, arrondi à la puissance de deux supérieure (minimum {@value #VOIES}).
+     * @throws IllegalArgumentException si la capacité n'est pas strictement positive.
+     */
+    public CacheEvaluation(int capacite) {
+        if (capacite <= 0) {
+            throw new IllegalArgumentException("La capacité du cache doit être strictement positive.");
+        }
+
+        int taille = Math.max(VOIES, Integer.highestOneBit(capacite - 1) << 1);
+        this.cles = new AtomicLongArray(taille);
+        this.donnees = new AtomicLongArray(taille);
+        this.references = new AtomicIntegerArray(taille);
+        this.aiguilles = new AtomicIntegerArray(taille / VOIES);
+        this.masqueEnsembles = taille / VOIES - 1;
+    }
+
+    /**
+     * Retourne le cache partagé par les algorithmes de recherche.
+     *
+     * @return L'instance globale du cache.
+     */
+    public static CacheEvaluation getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Retourne l'évaluation associée à la clé, en la calculant et en la mémorisant si nécessaire.
+     *
+     * @param cle    Empreinte 64 bits de la position évaluée.
+     * @param calcul Calcul de l'évaluation, appelé uniquement en cas d'échec.
+     * @return La valeur heuristique de la position.
+     */
+    public int evaluer(long cle, IntSupplier calcul) {
+        if (!actif) {
+            return calcul.getAsInt();
+        }
+
+        int debut = ensemble(cle) * VOIES;
+        for (int i = debut; i < debut + VOIES; i++) {
+            long donnee = donnees.get(i);
+            if (donnee != 0 && (cles.get(i) ^ donnee) == cle) {
+                references.lazySet(i, 1);
+                succes.increment();
+                return (int) donnee;
+            }
+        }
+
+        echecs.increment();
+        int valeur = calcul.getAsInt();
+        stocker(cle, valeur, debut);
+        return valeur;
+    }
+
+    /**
+     * Mémorise une valeur dans l'ensemble commençant à l'indice donné,
+     * en choisissant une entrée libre ou une victime selon l'algorithme de l'horloge.
+     *
+     * @param cle    Empreinte de la position.
+     * @param valeur Valeur à mémoriser.
+     * @param debut  Premier indice de l'ensemble.
+     */
+    private void stocker(long cle, int valeur, int debut) {
+        int cible = -1;
+
+        // Entrée libre dans l'ensemble ?
+        for (int i = debut; i < debut + VOIES && cible < 0; i++) {
+            if (donnees.get(i) == 0) {
+                cible = i;
+            }
+        }
+
+        // Sinon : l'aiguille avance en retirant leur seconde chance aux entrées référencées
+        if (cible < 0) {
+            int numero = debut / VOIES;
+            int aiguille = aiguilles.get(numero);
+            for (int tour = 0; tour < 2 * VOIES && cible < 0; tour++) {
+                int i = debut + aiguille;
+                aiguille = (aiguille + 1) % VOIES;
+                if (references.getAndSet(i, 0) == 0) {
+                    cible = i;
+                }
+            }
+            if (cible < 0) {
+                cible = debut + aiguille;
+            }
+            aiguilles.lazySet(numero, aiguille);
+            evictions.increment();
+        }
+
+        long donnee = OCCUPEE | (valeur & 0xFFFFFFFFL);
+        donnees.set(cible, donnee);
+        cles.set(cible, cle ^ donnee);
+        references.lazySet(cible, 0);
+    }
+
+    /**
+     * Calcule l'ensemble associé à une clé en mélangeant ses bits.
+     *
+     * @param cle Empreinte de la position.
+     * @return Le numéro de l'ensemble.
+     */
+    private int ensemble(long cle) {
+        long melange = cle * 0x9E3779B97F4A7C15L;
+        return (int) (melange >>> 32) & masqueEnsembles;
+    }
+
+    /**
+     * Vide le cache et remet les compteurs à zéro.
+     * <p>Ne doit pas être appelé pendant une recherche.</p>
+     */
+    public void vider() {
+        for (int i = 0; i < donnees.length(); i++) {
+            donnees.set(i, 0);
+            cles.set(i, 0);
+            references.set(i, 0);
+        }
+        succes.reset();
+        echecs.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Active ou désactive le cache (utile pour comparer les performances).
+     *
+     * @param actif {@code true} pour utiliser le cache, {@code false} pour toujours recalculer.
+     */
+    public void setActif(boolean actif) {
+        this.actif = actif;
+    }
+
+    /**
+     * Indique si le cache est actuellement utilisé.
+     *
+     * @return {@code true} si le cache est actif.
+     */
+    public boolean estActif() {
+        return actif;
+    }
+
+    /**
+     * Retourne le nombre d'entrées du cache.
+     *
+     * @return La capacité effective.
+     */
+    public int getCapacite() {
+        return donnees.length();
+    }
+
+    /**
+     * Retourne le nombre d'évaluations trouvées dans le cache.
+     *
+     * @return Le nombre de succès.
+     */
+    public long getSucces() {
+        return succes.sum();
+    }
+
+    /**
+     * Retourne le nombre d'évaluations absentes du cache.
+     *
+     * @return Le nombre d'échecs.
+     */
+    public long getEchecs() {
+        return echecs.sum();
+    }
+
+    /**
+     * Retourne le nombre d'entrées remplacées faute de place.
+     *
+     * @return Le nombre d'évictions.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Retourne la proportion de consultations servies par le cache.
+     *
+     * @return Le taux de succès entre 0.0 et 1.0 (0.0 si le cache n'a jamais été consulté).
+     */
+    public double getTauxSucces() {
+        long s = getSucces();
+        long total = s + getEchecs();
+        return total == 0 ? 0.0 : (double) s / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheEvaluation{capacite=%d, succes=%d, echecs=%d, evictions=%d, taux=%.1f%%}",
+            getCapacite(), getSucces(), getEchecs(), getEvictions(), 100 * getTauxSucces());
+    }
+}
@@ -0,0 +1,70 @@
+package fr.univrouen.modele.evaluation;
+
+/**
+ * Évaluation incrémentale d'une position, utilisée aux feuilles d'une recherche.
+ * <p>
+ * La position est décrite sous forme compacte : plans de caractéristiques, masque d'occupation
+ * (voir {@code Plateau#getPlans()}) et pièce en main, que le joueur au trait doit placer.
+ * Une recherche qui joue et déjoue les coups tient l'évaluateur à jour par
+ * {@link #placer(int, int)} / {@link #retirer(int, int)} et {@link #donner(int)} / {@link #reprendre(int)},
+ * ce qui évite de recalculer l'évaluation depuis zéro à chaque feuille.
+ * </p>
+ *
+ * <p>Une instance porte l'état d'une seule recherche : elle ne doit pas être partagée entre fils d'exécution.</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see EvaluateurMotifs
+ * @see AccumulateurReseau
+ */
+public interface Evaluateur {
+    /** Valeur de {@code pieceEnMain} lorsqu'aucune pièce n'est en main. */
+    int AUCUNE_PIECE = -1;
+
+    /**
+     * Recalcule entièrement l'état de l'évaluateur pour une position.
+     *
+     * @param plans       Les plans de caractéristiques.
+     * @param occupation  Le masque des cases occupées.
+     * @param pieceEnMain La pièce à placer, ou {@link #AUCUNE_PIECE}.
+     */
+    void reinitialiser(long plans, int occupation, int pieceEnMain);
+
+    /**
+     * Place la pièce en main sur une case ; plus aucune pièce n'est en main ensuite.
+     *
+     * @param index L'indice de la case (libre).
+     * @param piece La pièce en main (0 à 15).
+     */
+    void placer(int index, int piece);
+
+    /**
+     * Annule {@link #placer(int, int)} : la pièce revient en main.
+     *
+     * @param index L'indice de la case.
+     * @param piece La pièce retirée.
+     */
+    void retirer(int index, int piece);
+
+    /**
+     * Prend une pièce parmi les pièces restantes et la met en main (elle est donnée à l'adversaire).
+     *
+     * @param piece La pièce donnée (0 à 15).
+     */
+    void donner(int piece);
+
+    /**
+     * Annule {@link #donner(int)} : la pièce retourne parmi les pièces restantes.
+     *
+     * @param piece La pièce reprise.
+     */
+    void reprendre(int piece);
+
+    /**
+     * Évalue la position courante, supposée non gagnée.
+     *
+     * @return Un score, d'autant plus grand que la position est favorable au joueur qui doit placer la pièce en main.
+     */
+    int evaluer();
+}
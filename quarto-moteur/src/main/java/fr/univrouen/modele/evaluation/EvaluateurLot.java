@@ -0,0 +1,212 @@
+package fr.univrouen.modele.evaluation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+import fr.univrouen.modele.jeu.piece.*;
+
+/**
+ * Évaluation d'un plateau compact, sans allocation.
+ * <p>
+ * Un plateau compact est décrit par deux entiers (voir {@link Plateau#getPlans()} et
+ * {@link Plateau#getMasqueOccupation()}) :
+ * </p>
+ * <ul>
+ *   <li>{@code plans} : 4 plans de 16 bits, un par caractéristique, rangés dans un {@code long} ;</li>
+ *   <li>{@code occupation} : le masque 16 bits des cases occupées.</li>
+ * </ul>
+ *
+ * <p>
+ * Les 4 plans d'un même plateau forment 4 voies de 16 bits traitées ensemble dans un seul registre 64 bits (SWAR) :
+ * pour chaque motif, une poignée d'opérations logiques indique d'un coup quelles caractéristiques
+ * sont partagées par toutes les pièces du motif. Les plateaux sont évalués un par un. Le résultat est identique à
+ * {@link Heuristique#evaluerMotifs(fr.univrouen.modele.jeu.piece.Piece[][], int[][])}, y compris
+ * la valeur {@link Heuristique#VICTOIRE} pour un plateau gagné, mais sans parcourir d'objets {@code Piece}.
+ * </p>
+ *
+ * <p>Une instance est immuable et peut être partagée entre plusieurs fils d'exécution.</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.2
+ * @since JDK 17
+ * @see Heuristique
+ */
+public final class EvaluateurLot {
+    /** Bit de poids fort de chacune des 4 voies de 16 bits. */
+    private static final long HAUTS = 0x8000_8000_8000_8000L;
+
+    /** Les 15 bits de poids faible de chacune des 4 voies. */
+    private static final long BAS = 0x7FFF_7FFF_7FFF_7FFFL;
+
+    /** Multiplicateur recopiant un masque de 16 bits dans les 4 voies. */
+    private static final long REPLICATION = 0x0001_0001_0001_0001L;
+
+    /** Évaluateurs déjà construits, indexés par l'identité de leur tableau de motifs. */
+    private static final Map<int[][], EvaluateurLot> PARTAGES = new ConcurrentHashMap<>();
+
+    /** Masques 16 bits des cases de chaque motif. */
+    private final int[] masques;
+
+    /** Masques des motifs recopiés dans les 4 voies. */
+    private final long[] masquesVoies;
+
+    /** Empreinte des motifs, calculée sur leurs cases. */
+    private final long empreinte;
+
+    /**
+     * Crée un évaluateur pour un ensemble de motifs gagnants.
+     *
+     * @param motifs Les motifs (indices de cases), voir {@code StrategieGagnante#getMotifs()}.
+     * @throws IllegalArgumentException si un indice de case est hors du plateau.
+     */
+    public EvaluateurLot(int[][] motifs) {
+        this.masques = new int[motifs.length];
+        this.masquesVoies = new long[motifs.length];
+
+        for (int i = 0; i < motifs.length; i++) {
+            int masque = 0;
+            for (int index : motifs[i]) {
+                if (index < 0 || index >= Plateau.TAILLE * Plateau.TAILLE) {
+                    throw new IllegalArgumentException("Case hors du plateau : " + index);
+                }
+                masque |= 1 << index;
+            }
+            masques[i] = masque;
+            masquesVoies[i] = masque * REPLICATION;
+        }
+
+        long h = motifs.length;
+        for (int masque : masques) {
+            h = (h + masque) * 0x9E3779B97F4A7C15L;
+        }
+        this.empreinte = h ^ (h >>> 29);
+    }
+
+    /**
+     * Retourne l'empreinte des motifs évalués.
+     * <p>
+     * Elle ne dépend que des cases des motifs, dans leur ordre : deux stratégies de même nombre de motifs
+     * ont des empreintes différentes, et deux tableaux de mêmes motifs la même.
+     * </p>
+     *
+     * @return Une valeur 64 bits différente (en pratique) pour chaque ensemble de motifs.
+     */
+    public long getEmpreinte() {
+        return empreinte;
+    }
+
+    /**
+     * Retourne l'évaluateur partagé associé à un ensemble de motifs.
+     * <p>
+     * Les motifs des stratégies étant des constantes, un seul évaluateur est construit par stratégie.
+     * </p>
+     *
+     * @param motifs Les motifs gagnants, voir {@code StrategieGagnante#getMotifs()}.
+     * @return L'évaluateur correspondant.
+     */
+    public static EvaluateurLot pour(int[][] motifs) {
+        return PARTAGES.computeIfAbsent(motifs, EvaluateurLot::new);
+    }
+
+    /**
+     * Évalue un plateau compact avec les {@linkplain Heuristique#getPoids() poids en vigueur}.
+     *
+     * @param plans      Les 4 plans de caractéristiques.
+     * @param occupation Le masque des cases occupées.
+     * @return Le score heuristique, ou {@link Heuristique#VICTOIRE} si un motif gagnant est complet.
+     */
+    public int evaluer(long plans, int occupation) {
+        PoidsHeuristique poids = Heuristique.getPoids();
+        int total = 0;
+
+        for (int i = 0; i < masques.length; i++) {
+            int presents = occupation & masques[i];
+            int nbPieces = Integer.bitCount(presents);
+            if (nbPieces < 2) continue;
+
+            int communs = compterCommuns(plans & masquesVoies[i], presents);
+            if (presents == masques[i] && communs > 0) {
+                return Heuristique.VICTOIRE;
+            }
+            total += poids.get(communs);
+        }
+
+        return total;
+    }
+
+    /**
+     * Compte les motifs d'un plateau compact selon leur nombre de caractéristiques communes.
+     * <p>
+     * Seuls les motifs contenant au moins 2 pièces sont comptés, comme dans {@link #evaluer(long, int)} :
+     * le score est donc la somme des {@code compteurs[c] * poids(c)}. Ces compteurs servent
+     * de variables explicatives au réglage des poids.
+     * </p>
+     *
+     * @param plans      Les 4 plans de caractéristiques.
+     * @param occupation Le masque des cases occupées.
+     * @param compteurs  Tableau d'au moins {@value PoidsHeuristique#NOMBRE} cases, remis à zéro puis rempli.
+     * @return {@code true} si un motif gagnant est complet (les compteurs sont alors partiels).
+     */
+    public boolean compterMotifs(long plans, int occupation, int[] compteurs) {
+        Arrays.fill(compteurs, 0, PoidsHeuristique.NOMBRE, 0);
+
+        for (int i = 0; i < masques.length; i++) {
+            int presents = occupation & masques[i];
+            if (Integer.bitCount(presents) < 2) continue;
+
+            int communs = compterCommuns(plans & masquesVoies[i], presents);
+            if (presents == masques[i] && communs > 0) {
+                return true;
+            }
+            compteurs[communs]++;
+        }
+
+        return false;
+    }
+
+    /**
+     * Indique si un plateau compact est gagné, sans calculer le score.
+     *
+     * @param plans      Les 4 plans de caractéristiques.
+     * @param occupation Le masque des cases occupées.
+     * @return {@code true} si un motif complet partage au moins une caractéristique.
+     */
+    public boolean estGagnant(long plans, int occupation) {
+        for (int i = 0; i < masques.length; i++) {
+            int masque = masques[i];
+            if ((occupation & masque) == masque && compterCommuns(plans & masquesVoies[i], masque) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compte les caractéristiques partagées par toutes les pièces d'un motif.
+     * <p>
+     * Dans chaque voie, la caractéristique est commune si son plan, restreint au motif,
+     * est soit vide (toutes les pièces ont le bit à 0), soit égal aux cases occupées
+     * (toutes les pièces ont le bit à 1).
+     * </p>
+     *
+     * @param plansMotif Les plans restreints aux cases du motif.
+     * @param presents   Le masque des cases occupées du motif.
+     * @return Le nombre de caractéristiques communes (0 à 4).
+     */
+    private static int compterCommuns(long plansMotif, int presents) {
+        long communs = voiesNulles(plansMotif) | voiesNulles(plansMotif ^ (presents * REPLICATION));
+        return Long.bitCount(communs);
+    }
+
+    /**
+     * Marque les voies nulles d'un mot de 4 voies de 16 bits.
+     *
+     * @param x Le mot à tester.
+     * @return Un mot dont le bit de poids fort de chaque voie vaut 1 si et seulement si la voie est nulle.
+     */
+    private static long voiesNulles(long x) {
+        return ~(((x & BAS) + BAS) | x) & HAUTS;
+    }
+}
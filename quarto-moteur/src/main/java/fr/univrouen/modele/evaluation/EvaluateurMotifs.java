@@ -0,0 +1,68 @@
+package fr.univrouen.modele.evaluation;
+
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+
+/**
+ * {@link Evaluateur} fondé sur l'heuristique des motifs ({@link EvaluateurLot}).
+ * <p>
+ * L'heuristique ne dépend que des pièces posées : les mises à jour se limitent
+ * aux plans et au masque d'occupation, et la pièce en main est ignorée.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see fr.univrouen.modele.jeu.piece.Heuristique
+ */
+public final class EvaluateurMotifs implements Evaluateur {
+    /** Évaluateur des motifs de la stratégie. */
+    private final EvaluateurLot motifs;
+
+    /** Plans de caractéristiques de la position courante. */
+    private long plans;
+
+    /** Masque d'occupation de la position courante. */
+    private int occupation;
+
+    /**
+     * Crée un évaluateur pour un ensemble de motifs gagnants.
+     *
+     * @param motifs Les motifs (indices de cases), voir {@code StrategieGagnante#getMotifs()}.
+     */
+    public EvaluateurMotifs(int[][] motifs) {
+        this.motifs = EvaluateurLot.pour(motifs);
+    }
+
+    @Override
+    public void reinitialiser(long plans, int occupation, int pieceEnMain) {
+        this.plans = plans;
+        this.occupation = occupation;
+    }
+
+    @Override
+    public void placer(int index, int piece) {
+        plans = Plateau.poserDansPlans(plans, index, piece);
+        occupation |= 1 << index;
+    }
+
+    @Override
+    public void retirer(int index, int piece) {
+        plans &= ~(0x0001_0001_0001_0001L << index);
+        occupation &= ~(1 << index);
+    }
+
+    @Override
+    public void donner(int piece) {
+        // La pièce en main n'intervient pas dans l'heuristique des motifs
+    }
+
+    @Override
+    public void reprendre(int piece) {
+        // La pièce en main n'intervient pas dans l'heuristique des motifs
+    }
+
+    @Override
+    public int evaluer() {
+        return motifs.evaluer(plans, occupation);
+    }
+}
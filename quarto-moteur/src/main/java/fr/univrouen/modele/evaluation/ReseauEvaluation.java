@@ -0,0 +1,341 @@
+package fr.univrouen.modele.evaluation;
+
+import java.io.*;
+import java.nio.file.*;
+
+/**
+ * Petit réseau de neurones quantifié d'évaluation des positions, dans l'esprit des réseaux « NNUE ».
+ * <p>
+ * Architecture : {@value #ENTREES} entrées binaires, une couche cachée de largeur variable
+ * à activation bornée (ReLU écrêtée à {@value #ACTIVATION_MAX}), puis une sortie linéaire.
+ * </p>
+ * <ul>
+ *   <li>entrées 0 à 255 : couple (case, pièce) pour chaque pièce posée ({@code case * 16 + piece}) ;</li>
+ *   <li>entrées 256 à 271 : pièce en main ;</li>
+ *   <li>entrées 272 à 287 : pièces restantes (ni posées, ni en main).</li>
+ * </ul>
+ * <p>
+ * Les poids de la première couche sont des entiers 16 bits : la couche cachée est un accumulateur
+ * mis à jour par simple addition ou soustraction d'une colonne de poids à chaque coup
+ * (voir {@link AccumulateurReseau}). Les poids de sortie sont des entiers 8 bits.
+ * </p>
+ *
+ * <p>
+ * Le réseau est optionnel : il est chargé au démarrage depuis le fichier désigné par la propriété
+ * système {@value #PROPRIETE}, produit par l'outil {@code fr.univrouen.outil.EntrainementReseau}.
+ * Une instance est immuable.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see AccumulateurReseau
+ */
+public final class ReseauEvaluation {
+    /** Propriété système désignant le fichier du réseau à charger au démarrage. */
+    public static final String PROPRIETE = "quarto.reseau";
+
+    /** Nombre de pièces (et de cases). */
+    public static final int PIECES = 16;
+
+    /** Première entrée « pièce en main ». */
+    public static final int ENTREE_EN_MAIN = PIECES * PIECES;
+
+    /** Première entrée « pièce restante ». */
+    public static final int ENTREE_RESTANTE = ENTREE_EN_MAIN + PIECES;
+
+    /** Nombre total d'entrées. */
+    public static final int ENTREES = ENTREE_RESTANTE + PIECES;
+
+    /** Valeur quantifiée d'une activation égale à 1. */
+    public static final int ACTIVATION_MAX = 127;
+
+    /** Facteur appliqué au logit de sortie pour obtenir le score entier. */
+    public static final int ECHELLE_SCORE = 1000;
+
+    /** Signature des fichiers de réseau (« QNN1 »). */
+    private static final int SIGNATURE = 0x514E4E31;
+
+    /** Réseau chargé au démarrage, ou {@code null}. */
+    private static final ReseauEvaluation ACTIF = chargerAuDemarrage();
+
+    /** Poids de la première couche, rangés entrée par entrée ({@code ENTREES * cachees}). */
+    private final short[] poidsEntree;
+
+    /** Biais de la couche cachée. */
+    private final short[] biaisCaches;
+
+    /** Poids de sortie. */
+    private final byte[] poidsSortie;
+
+    /** Biais de sortie, à l'échelle {@code ACTIVATION_MAX * echelleSortie}. */
+    private final int biaisSortie;
+
+    /** Valeur quantifiée d'un poids de sortie égal à 1. */
+    private final int echelleSortie;
+
+    /** Empreinte des poids, utilisée pour distinguer les évaluations mises en cache. */
+    private final long empreinte;
+
+    /**
+     * Crée un réseau à partir de poids quantifiés.
+     *
+     * @param poidsEntree   Les poids de la première couche ({@code ENTREES * cachees}, entrée par entrée).
+     * @param biaisCaches   Les biais de la couche cachée.
+     * @param poidsSortie   Les poids de sortie (un par neurone caché).
+     * @param biaisSortie   Le biais de sortie.
+     * @param echelleSortie La valeur quantifiée d'un poids de sortie égal à 1.
+     * @throws IllegalArgumentException si les tailles sont incohérentes.
+     */
+    public ReseauEvaluation(short[] poidsEntree, short[] biaisCaches, byte[] poidsSortie, int biaisSortie, int echelleSortie) {
+        int cachees = biaisCaches.length;
+        if (cachees == 0 || poidsSortie.length != cachees || poidsEntree.length != ENTREES * cachees || echelleSortie <= 0) {
+            throw new IllegalArgumentException("Dimensions du réseau incohérentes.");
+        }
+
+        this.poidsEntree = poidsEntree.clone();
+        this.biaisCaches = biaisCaches.clone();
+        this.poidsSortie = poidsSortie.clone();
+        this.biaisSortie = biaisSortie;
+        this.echelleSortie = echelleSortie;
+
+        long h = biaisSortie * 31L + echelleSortie;
+        for (short w : this.poidsEntree) h = h * 0x9E3779B97F4A7C15L + w;
+        for (short b : this.biaisCaches) h = h * 0x9E3779B97F4A7C15L + b;
+        for (byte w : this.poidsSortie) h = h * 0x9E3779B97F4A7C15L + w;
+        this.empreinte = h ^ (h >>> 31);
+    }
+
+    /**
+     * Quantifie un réseau entraîné en nombres réels.
+     * <p>
+     * Les poids cachés sont multipliés par {@value #ACTIVATION_MAX} et arrondis sur 16 bits ;
+     * l'échelle des poids de sortie est choisie (au plus 64) pour que le plus grand tienne sur 8 bits.
+     * </p>
+     *
+     * @param poidsEntree Les poids de la première couche ({@code [ENTREES][cachees]}).
+     * @param biaisCaches Les biais de la couche cachée.
+     * @param poidsSortie Les poids de sortie.
+     * @param biaisSortie Le biais de sortie.
+     * @return Le réseau quantifié.
+     */
+    public static ReseauEvaluation quantifier(double[][] poidsEntree, double[] biaisCaches, double[] poidsSortie, double biaisSortie) {
+        int cachees = biaisCaches.length;
+
+        short[] w1 = new short[ENTREES * cachees];
+        for (int f = 0; f < ENTREES; f++) {
+            for (int j = 0; j < cachees; j++) {
+                w1[f * cachees + j] = versShort(poidsEntree[f][j] * ACTIVATION_MAX);
+            }
+        }
+        short[] b1 = new short[cachees];
+        for (int j = 0; j < cachees; j++) {
+            b1[j] = versShort(biaisCaches[j] * ACTIVATION_MAX);
+        }
+
+        double max = 0;
+        for (double w : poidsSortie) {
+            max = Math.max(max, Math.abs(w));
+        }
+        int echelle = max == 0 ? 64 : (int) Math.max(1, Math.min(64, Math.floor(Byte.MAX_VALUE / max)));
+        byte[] w2 = new byte[cachees];
+        for (int j = 0; j < cachees; j++) {
+            w2[j] = (byte) Math.max(-Byte.MAX_VALUE, Math.min(Byte.MAX_VALUE, Math.round(poidsSortie[j] * echelle)));
+        }
+        int b2 = (int) Math.round(biaisSortie * ACTIVATION_MAX * echelle);
+
+        return new ReseauEvaluation(w1, b1, w2, b2, echelle);
+    }
+
+    /**
+     * Arrondit et borne une valeur sur 16 bits signés.
+     *
+     * @param valeur La valeur réelle.
+     * @return La valeur quantifiée.
+     */
+    private static short versShort(double valeur) {
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(valeur)));
+    }
+
+    /**
+     * Retourne le réseau chargé au démarrage.
+     *
+     * @return Le réseau, ou {@code null} si la propriété {@value #PROPRIETE} n'est pas définie.
+     */
+    public static ReseauEvaluation getActif() {
+        return ACTIF;
+    }
+
+    /**
+     * Calcule l'indice de l'entrée « pièce posée sur une case ».
+     *
+     * @param index L'indice de la case.
+     * @param piece La pièce posée.
+     * @return L'indice de l'entrée.
+     */
+    public static int entreePosee(int index, int piece) {
+        return index * PIECES + piece;
+    }
+
+    /**
+     * Crée un accumulateur, à initialiser par {@link AccumulateurReseau#reinitialiser(long, int, int)}.
+     *
+     * @return Un nouvel accumulateur pour ce réseau.
+     */
+    public AccumulateurReseau nouvelAccumulateur() {
+        return new AccumulateurReseau(this);
+    }
+
+    /**
+     * Évalue une position en calculant l'accumulateur depuis zéro.
+     *
+     * @param plans       Les plans de caractéristiques.
+     * @param occupation  Le masque des cases occupées.
+     * @param pieceEnMain La pièce à placer, ou {@link Evaluateur#AUCUNE_PIECE}.
+     * @return Le score pour le joueur qui doit placer la pièce en main.
+     */
+    public int evaluer(long plans, int occupation, int pieceEnMain) {
+        AccumulateurReseau accumulateur = nouvelAccumulateur();
+        accumulateur.reinitialiser(plans, occupation, pieceEnMain);
+        return accumulateur.evaluer();
+    }
+
+    /**
+     * Ajoute la colonne de poids d'une entrée à un accumulateur (l'entrée devient active).
+     *
+     * @param accumulateur L'accumulateur à modifier.
+     * @param entree       L'indice de l'entrée.
+     */
+    void ajouter(short[] accumulateur, int entree) {
+        int cachees = accumulateur.length;
+        int debut = entree * cachees;
+        for (int j = 0; j < cachees; j++) {
+            accumulateur[j] += poidsEntree[debut + j];
+        }
+    }
+
+    /**
+     * Retire la colonne de poids d'une entrée d'un accumulateur (l'entrée devient inactive).
+     *
+     * @param accumulateur L'accumulateur à modifier.
+     * @param entree       L'indice de l'entrée.
+     */
+    void retirer(short[] accumulateur, int entree) {
+        int cachees = accumulateur.length;
+        int debut = entree * cachees;
+        for (int j = 0; j < cachees; j++) {
+            accumulateur[j] -= poidsEntree[debut + j];
+        }
+    }
+
+    /**
+     * Remet un accumulateur aux biais de la couche cachée.
+     *
+     * @param accumulateur L'accumulateur à réinitialiser.
+     */
+    void initialiser(short[] accumulateur) {
+        System.arraycopy(biaisCaches, 0, accumulateur, 0, biaisCaches.length);
+    }
+
+    /**
+     * Calcule la sortie du réseau à partir de l'accumulateur.
+     *
+     * @param accumulateur La couche cachée avant activation.
+     * @return Le logit de sortie multiplié par {@value #ECHELLE_SCORE}.
+     */
+    int sortie(short[] accumulateur) {
+        int somme = biaisSortie;
+        for (int j = 0; j < accumulateur.length; j++) {
+            int activation = Math.max(0, Math.min(ACTIVATION_MAX, accumulateur[j]));
+            somme += activation * poidsSortie[j];
+        }
+        return (int) ((long) somme * ECHELLE_SCORE / (ACTIVATION_MAX * echelleSortie));
+    }
+
+    /**
+     * Retourne la largeur de la couche cachée.
+     *
+     * @return Le nombre de neurones cachés.
+     */
+    public int getCachees() {
+        return biaisCaches.length;
+    }
+
+    /**
+     * Retourne l'empreinte des poids.
+     *
+     * @return Une valeur 64 bits différente (en pratique) pour chaque réseau.
+     */
+    public long getEmpreinte() {
+        return empreinte;
+    }
+
+    /**
+     * Écrit le réseau dans un fichier binaire, lisible par {@link #charger(Path)}.
+     *
+     * @param fichier Le fichier à écrire.
+     * @throws IOException en cas d'erreur d'écriture.
+     */
+    public void sauvegarder(Path fichier) throws IOException {
+        try (DataOutputStream sortie = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(fichier)))) {
+            sortie.writeInt(SIGNATURE);
+            sortie.writeInt(ENTREES);
+            sortie.writeInt(getCachees());
+            sortie.writeInt(echelleSortie);
+            for (short w : poidsEntree) sortie.writeShort(w);
+            for (short b : biaisCaches) sortie.writeShort(b);
+            sortie.write(poidsSortie);
+            sortie.writeInt(biaisSortie);
+        }
+    }
+
+    /**
+     * Lit un réseau depuis un fichier binaire.
+     *
+     * @param fichier Le fichier à lire.
+     * @return Le réseau lu.
+     * @throws IOException              en cas d'erreur de lecture.
+     * @throws IllegalArgumentException si le fichier n'est pas un réseau compatible.
+     */
+    public static ReseauEvaluation charger(Path fichier) throws IOException {
+        try (DataInputStream entree = new DataInputStream(new BufferedInputStream(Files.newInputStream(fichier)))) {
+            if (entree.readInt() != SIGNATURE || entree.readInt() != ENTREES) {
+                throw new IllegalArgumentException("Fichier de réseau incompatible : " + fichier);
+            }
+            int cachees = entree.readInt();
+            int echelle = entree.readInt();
+            if (cachees <= 0 || cachees > 4096) {
+                throw new IllegalArgumentException("Largeur de couche cachée invalide : " + cachees);
+            }
+
+            short[] w1 = new short[ENTREES * cachees];
+            for (int i = 0; i < w1.length; i++) w1[i] = entree.readShort();
+            short[] b1 = new short[cachees];
+            for (int i = 0; i < b1.length; i++) b1[i] = entree.readShort();
+            byte[] w2 = new byte[cachees];
+            entree.readFully(w2);
+            int b2 = entree.readInt();
+
+            return new ReseauEvaluation(w1, b1, w2, b2, echelle);
+        }
+    }
+
+    /**
+     * Charge le réseau désigné par la propriété système {@value #PROPRIETE}.
+     * <p>Un fichier illisible est signalé et ignoré : l'heuristique des motifs reste alors utilisée.</p>
+     *
+     * @return Le réseau, ou {@code null}.
+     */
+    private static ReseauEvaluation chargerAuDemarrage() {
+        String fichier = System.getProperty(PROPRIETE);
+        if (fichier == null) {
+            return null;
+        }
+        try {
+            return charger(Paths.get(fichier));
+        } catch (IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * Outils d'évaluation des positions utilisés par les algorithmes de recherche.
+ * <p>
+ * Ce package regroupe les composants qui accélèrent ou remplacent le calcul
+ * de l'heuristique aux feuilles de l'arbre, comme le cache d'évaluations
+ * indexé par l'empreinte du plateau, l'évaluation des plateaux compacts sur leurs plans de caractéristiques
+ * ou le réseau de neurones quantifié à accumulateur incrémental.
+ * </p>
+ *
+ * @see fr.univrouen.modele.evaluation.CacheEvaluation
+ * @see fr.univrouen.modele.evaluation.EvaluateurLot
+ * @see fr.univrouen.modele.evaluation.Evaluateur
+ * @see fr.univrouen.modele.evaluation.ReseauEvaluation
+ * @see fr.univrouen.modele.jeu.piece.Heuristique
+ * @since JDK 17
+ */
+package fr.univrouen.modele.evaluation;
@@ -0,0 +1,242 @@
+package fr.univrouen.modele.jeu.partie;
+
+import fr.univrouen.modele.jeu.partie.plateau.Position;
+import fr.univrouen.modele.jeu.piece.Piece;
+
+/**
+ * Représente un coup complet d'un joueur : la case où il pose la pièce reçue,
+ * puis la pièce qu'il donne à son adversaire.
+ * <p>
+ * L'une des deux parties peut manquer : au premier tour, le joueur ne fait que donner une pièce ;
+ * un placement gagnant, ou le dernier placement de la partie, n'est suivi d'aucun don.
+ * </p>
+ *
+ * <p>
+ * Un coup tient sur un {@code short} ({@link #getCode()}) : bits 0 à 4 pour la case + 1,
+ * bits 5 à 9 pour la pièce + 1 (0 signifiant « aucune »). Les 288 coups possibles sont
+ * des instances canoniques et immuables, obtenues par {@link #get(int, int)} ou {@link #depuisCode(short)}.
+ * </p>
+ *
+ * <p>
+ * En notation texte ({@link #versNotation()}), un coup s'écrit en deux caractères : la case puis la pièce
+ * donnée, en hexadécimal, {@code '-'} marquant une partie absente. Par exemple {@code "3a"} pose la pièce
+ * reçue en case 3 et donne la pièce 10, {@code "-5"} donne la pièce 5 au premier tour.
+ * </p>
+ *
+ * @see Jeu#jouerCoup(Coup)
+ * @see EtatJeu#appliquer(Coup)
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ */
+public final class Coup {
+    /** Valeur de {@link #getCase()} ou de {@link #getPiece()} quand la partie correspondante est absente. */
+    public static final int AUCUN = -1;
+
+    /** Tous les coups, indexés par code. */
+    private static final Coup[] COUPS = new Coup[1 << 10];
+
+    static {
+        for (int index = AUCUN; index < Piece.NOMBRE; index++) {
+            for (int piece = AUCUN; piece < Piece.NOMBRE; piece++) {
+                if (index != AUCUN || piece != AUCUN) {
+                    Coup coup = new Coup(index, piece);
+                    COUPS[coup.code] = coup;
+                }
+            }
+        }
+    }
+
+    /** Case où la pièce reçue est posée, ou {@link #AUCUN}. */
+    private final int caseJouee;
+
+    /** Pièce donnée à l'adversaire, ou {@link #AUCUN}. */
+    private final int pieceDonnee;
+
+    /** Code compact du coup. */
+    private final short code;
+
+    /**
+     * Crée le coup canonique (utilisé uniquement pour remplir la table des coups).
+     *
+     * @param caseJouee   La case jouée, ou {@link #AUCUN}.
+     * @param pieceDonnee La pièce donnée, ou {@link #AUCUN}.
+     */
+    private Coup(int caseJouee, int pieceDonnee) {
+        this.caseJouee = caseJouee;
+        this.pieceDonnee = pieceDonnee;
+        this.code = (short) ((caseJouee + 1) | (pieceDonnee + 1) << 5);
+    }
+
+    /**
+     * Retourne le coup posant la pièce reçue sur une case puis donnant une pièce.
+     *
+     * @param index L'indice de la case ({@code ligne * 4 + colonne}), ou {@link #AUCUN}.
+     * @param piece L'identifiant de la pièce donnée, ou {@link #AUCUN}.
+     * @return L'instance canonique du coup.
+     * @throws IllegalArgumentException si une valeur est hors limites ou si les deux sont absentes.
+     */
+    public static Coup get(int index, int piece) {
+        if (index < AUCUN || index >= Piece.NOMBRE || piece < AUCUN || piece >= Piece.NOMBRE
+                || (index == AUCUN && piece == AUCUN)) {
+            throw new IllegalArgumentException("Coup invalide : case " + index + ", pièce " + piece);
+        }
+        return COUPS[(index + 1) | (piece + 1) << 5];
+    }
+
+    /**
+     * Retourne le coup correspondant à une position et une pièce.
+     *
+     * @param position La case jouée, ou {@code null}.
+     * @param piece    La pièce donnée, ou {@code null}.
+     * @return L'instance canonique du coup.
+     * @throws IllegalArgumentException si les deux sont {@code null}.
+     */
+    public static Coup get(Position position, Piece piece) {
+        return get(position == null ? AUCUN : position.getIndex(), piece == null ? AUCUN : piece.getId());
+    }
+
+    /**
+     * Retourne le coup correspondant à un code compact.
+     *
+     * @param code Le code, tel que renvoyé par {@link #getCode()}.
+     * @return L'instance canonique du coup.
+     * @throws IllegalArgumentException si le code ne correspond à aucun coup.
+     */
+    public static Coup depuisCode(short code) {
+        Coup coup = (code >= 0 && code < COUPS.length) ? COUPS[code] : null;
+        if (coup == null) {
+            throw new IllegalArgumentException("Code de coup invalide : " + code);
+        }
+        return coup;
+    }
+
+    /**
+     * Retourne le coup écrit en notation texte (voir la description de la classe).
+     *
+     * @param notation La notation, par exemple {@code "3a"} ou {@code "-5"}.
+     * @return L'instance canonique du coup.
+     * @throws IllegalArgumentException si la notation est mal formée.
+     */
+    public static Coup depuisNotation(String notation) {
+        if (notation == null || notation.length() != 2) {
+            throw new IllegalArgumentException("Notation de coup invalide : " + notation);
+        }
+        int index = lireChiffre(notation.charAt(0), notation);
+        int piece = lireChiffre(notation.charAt(1), notation);
+        return get(index, piece);
+    }
+
+    /**
+     * Lit un chiffre hexadécimal de la notation, ou {@code '-'}.
+     *
+     * @param caractere Le caractère.
+     * @param notation  La notation lue, pour le message d'erreur.
+     * @return La valeur du chiffre, ou {@link #AUCUN}.
+     * @throws IllegalArgumentException si le caractère n'est ni un chiffre hexadécimal ni {@code '-'}.
+     */
+    private static int lireChiffre(char caractere, String notation) {
+        if (caractere == '-') {
+            return AUCUN;
+        }
+        int valeur = Character.digit(caractere, 16);
+        if (valeur < 0) {
+            throw new IllegalArgumentException("Notation de coup invalide : " + notation);
+        }
+        return valeur;
+    }
+
+    /**
+     * Écrit le coup en notation texte (voir la description de la classe).
+     *
+     * @return La notation, par exemple {@code "3a"}.
+     */
+    public String versNotation() {
+        return new String(new char[] {
+            aPlacement() ? Character.forDigit(caseJouee, 16) : '-',
+            aDon() ? Character.forDigit(pieceDonnee, 16) : '-'
+        });
+    }
+
+    /**
+     * Retourne le code compact du coup.
+     *
+     * @return Un entier sur 10 bits, unique pour chaque coup.
+     */
+    public short getCode() {
+        return code;
+    }
+
+    /**
+     * Retourne la case où la pièce reçue est posée.
+     *
+     * @return L'indice de la case, ou {@link #AUCUN}.
+     */
+    public int getCase() {
+        return caseJouee;
+    }
+
+    /**
+     * Retourne la pièce donnée à l'adversaire.
+     *
+     * @return L'identifiant de la pièce, ou {@link #AUCUN}.
+     */
+    public int getPiece() {
+        return pieceDonnee;
+    }
+
+    /**
+     * Indique si le coup comporte un placement.
+     *
+     * @return {@code true} si une pièce est posée.
+     */
+    public boolean aPlacement() {
+        return caseJouee != AUCUN;
+    }
+
+    /**
+     * Indique si le coup comporte un don de pièce.
+     *
+     * @return {@code true} si une pièce est donnée.
+     */
+    public boolean aDon() {
+        return pieceDonnee != AUCUN;
+    }
+
+    /**
+     * Retourne la position jouée.
+     *
+     * @return La position, ou {@code null} si le coup ne comporte pas de placement.
+     */
+    public Position getPosition() {
+        return aPlacement() ? Position.get(caseJouee) : null;
+    }
+
+    /**
+     * Retourne la pièce donnée.
+     *
+     * @return La pièce, ou {@code null} si le coup ne comporte pas de don.
+     */
+    public Piece getPieceDonnee() {
+        return aDon() ? Piece.get(pieceDonnee) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "Coup(" + (aPlacement() ? getPosition().toString() : "-") + ", "
+            + (aDon() ? getPieceDonnee().toString() : "-") + ")";
+    }
+
+    /**
+     * Les coups étant canoniques, l'égalité se réduit à l'identité.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+        return code;
+    }
+}
@@ -0,0 +1,371 @@
+package fr.univrouen.modele.jeu.partie;
+
+import fr.univrouen.modele.evaluation.EvaluateurLot;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieGagnante;
+import fr.univrouen.modele.jeu.piece.Piece;
+
+/**
+ * État immuable d'une partie de Quarto, sous forme compacte.
+ * <p>
+ * Un état regroupe le plateau compact (plans de caractéristiques et masque d'occupation,
+ * voir {@link Plateau#getPlans()}), le masque des pièces encore à donner, la pièce en main,
+ * le joueur au trait et l'indicateur de victoire. Les coups ({@link #appliquer(Coup)}, ou les
+ * demi-coups {@link #placer(int)} et {@link #donner(int)}) renvoient un nouvel état : la stratégie
+ * et son évaluateur de motifs sont partagés par tous les états dérivés, le reste tient dans quelques entiers.
+ * </p>
+ *
+ * <p>
+ * Un état peut donc être partagé entre plusieurs threads (réflexion pendant le tour adverse,
+ * recherche parallèle, analyse) sans aucune copie défensive. Les conversions avec la partie
+ * modifiable se font par {@link JeuQuarto#versEtat()} et
+ * {@link JeuQuarto#depuisEtat(EtatJeu, fr.univrouen.modele.joueur.Joueur, fr.univrouen.modele.joueur.Joueur)}.
+ * </p>
+ *
+ * <p>
+ * Comme dans {@link JeuQuarto}, un tour se déroule ainsi : le joueur au trait pose la pièce reçue,
+ * puis donne une pièce à son adversaire, qui prend alors le trait. La victoire revient
+ * au joueur qui complète un motif gagnant.
+ * </p>
+ *
+ * <p>
+ * Un état s'écrit aussi en une ligne de texte ({@link #versNotation()}, {@link #depuisNotation(String, StrategieGagnante)}),
+ * pour l'échanger avec d'autres outils : les 16 cases ligne par ligne ({@code .} pour une case vide,
+ * l'identifiant hexadécimal de la pièce sinon), la pièce en main ({@code -} s'il n'y en a pas) et le trait,
+ * séparés par des espaces. Par exemple, {@code "0..a............ 5 1"} : les pièces 0 et 10 sont posées,
+ * le second joueur doit placer la pièce 5. Les pièces restantes sont toutes les autres.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.2
+ * @since JDK 17
+ */
+public final class EtatJeu {
+    /** Valeur de {@link #getPieceEnMain()} quand aucune pièce n'est à placer. */
+    public static final int AUCUNE_PIECE = -1;
+
+    /** Masque de toutes les cases (ou de toutes les pièces). */
+    private static final int COMPLET = 0xFFFF;
+
+    /** Stratégie de victoire, partagée par tous les états d'une partie. */
+    private final StrategieGagnante strategie;
+
+    /** Évaluateur des motifs de la stratégie, utilisé pour détecter les victoires. */
+    private final EvaluateurLot motifs;
+
+    /** Plans de caractéristiques des pièces posées. */
+    private final long plans;
+
+    /** Masque des cases occupées. */
+    private final int occupation;
+
+    /** Masque des pièces ni posées, ni en main. */
+    private final int restantes;
+
+    /** Pièce à placer par le joueur au trait, ou {@link #AUCUNE_PIECE}. */
+    private final int pieceEnMain;
+
+    /** Joueur au trait : 0 pour le premier joueur, 1 pour le second. */
+    private final int trait;
+
+    /** Indique si le joueur au trait vient de compléter un motif gagnant. */
+    private final boolean gagne;
+
+    /**
+     * Crée un état à partir de ses composantes.
+     *
+     * @param strategie   La stratégie de victoire.
+     * @param motifs      L'évaluateur des motifs de la stratégie.
+     * @param plans       Les plans de caractéristiques.
+     * @param occupation  Le masque des cases occupées.
+     * @param restantes   Le masque des pièces encore à donner.
+     * @param pieceEnMain La pièce à placer, ou {@link #AUCUNE_PIECE}.
+     * @param trait       Le joueur au trait (0 ou 1).
+     * @param gagne       {@code true} si le joueur au trait a gagné.
+     */
+    private EtatJeu(StrategieGagnante strategie, EvaluateurLot motifs, long plans, int occupation,
+                    int restantes, int pieceEnMain, int trait, boolean gagne) {
+        this.strategie = strategie;
+        this.motifs = motifs;
+        this.plans = plans;
+        this.occupation = occupation;
+        this.restantes = restantes;
+        this.pieceEnMain = pieceEnMain;
+        this.trait = trait;
+        this.gagne = gagne;
+    }
+
+    /**
+     * Retourne l'état de début de partie : plateau vide, le premier joueur doit donner une pièce.
+     *
+     * @param strategie La stratégie de victoire.
+     * @return L'état initial.
+     * @throws IllegalArgumentException si la stratégie est {@code null}.
+     */
+    public static EtatJeu initial(StrategieGagnante strategie) {
+        return creer(strategie, 0L, 0, COMPLET, AUCUNE_PIECE, 0);
+    }
+
+    /**
+     * Crée un état quelconque ; l'indicateur de victoire est recalculé à partir du plateau.
+     *
+     * @param strategie   La stratégie de victoire.
+     * @param plans       Les plans de caractéristiques.
+     * @param occupation  Le masque des cases occupées.
+     * @param restantes   Le masque des pièces encore à donner (sans la pièce en main).
+     * @param pieceEnMain La pièce à placer, ou {@link #AUCUNE_PIECE}.
+     * @param trait       Le joueur au trait (0 ou 1).
+     * @return L'état correspondant.
+     * @throws IllegalArgumentException si la stratégie est {@code null} ou si les composantes sont incohérentes.
+     */
+    public static EtatJeu creer(StrategieGagnante strategie, long plans, int occupation,
+                                int restantes, int pieceEnMain, int trait) {
+        if (strategie == null) {
+            throw new IllegalArgumentException("La stratégie ne peut pas être null.");
+        }
+        if ((occupation & ~COMPLET) != 0 || (restantes & ~COMPLET) != 0 || (trait & ~1) != 0
+                || pieceEnMain < AUCUNE_PIECE || pieceEnMain >= Piece.NOMBRE
+                || (pieceEnMain != AUCUNE_PIECE && (restantes & (1 << pieceEnMain)) != 0)) {
+            throw new IllegalArgumentException("État de jeu incohérent.");
+        }
+
+        EvaluateurLot motifs = EvaluateurLot.pour(strategie.getMotifs());
+        return new EtatJeu(strategie, motifs, plans, occupation, restantes, pieceEnMain, trait,
+            motifs.estGagnant(plans, occupation));
+    }
+
+    /**
+     * Lit un état écrit en notation compacte (voir la description de la classe).
+     *
+     * @param notation  La notation, par exemple {@code "0..a............ 5 1"}.
+     * @param strategie La stratégie de victoire.
+     * @return L'état correspondant.
+     * @throws IllegalArgumentException si la notation est mal formée, si une pièce apparaît deux fois,
+     *                                  ou si la stratégie est {@code null}.
+     */
+    public static EtatJeu depuisNotation(String notation, StrategieGagnante strategie) {
+        String[] champs = (notation == null) ? new String[0] : notation.trim().split("\\s+");
+        if (champs.length != 3 || champs[0].length() != Piece.NOMBRE || champs[1].length() != 1
+                || !champs[2].matches("[01]")) {
+            throw new IllegalArgumentException("Notation invalide : " + notation);
+        }
+
+        long plans = 0L;
+        int occupation = 0;
+        int utilisees = 0;
+        for (int index = 0; index < Piece.NOMBRE; index++) {
+            char caractere = champs[0].charAt(index);
+            if (caractere == '.') continue;
+
+            int piece = lirePiece(caractere, notation);
+            if ((utilisees & (1 << piece)) != 0) {
+                throw new IllegalArgumentException("La pièce " + piece + " apparaît deux fois : " + notation);
+            }
+            utilisees |= 1 << piece;
+            plans = Plateau.poserDansPlans(plans, index, piece);
+            occupation |= 1 << index;
+        }
+
+        int pieceEnMain = AUCUNE_PIECE;
+        if (champs[1].charAt(0) != '-') {
+            pieceEnMain = lirePiece(champs[1].charAt(0), notation);
+            if ((utilisees & (1 << pieceEnMain)) != 0) {
+                throw new IllegalArgumentException("La pièce en main est déjà posée : " + notation);
+            }
+            utilisees |= 1 << pieceEnMain;
+        }
+        return creer(strategie, plans, occupation, COMPLET & ~utilisees, pieceEnMain, champs[2].charAt(0) - '0');
+    }
+
+    /**
+     * Lit l'identifiant hexadécimal d'une pièce.
+     *
+     * @param caractere Le chiffre hexadécimal.
+     * @param notation  La notation lue, pour le message d'erreur.
+     * @return L'identifiant de la pièce.
+     * @throws IllegalArgumentException si le caractère n'est pas un chiffre hexadécimal.
+     */
+    private static int lirePiece(char caractere, String notation) {
+        int piece = Character.digit(caractere, 16);
+        if (piece < 0) {
+            throw new IllegalArgumentException("Pièce invalide '" + caractere + "' : " + notation);
+        }
+        return piece;
+    }
+
+    /**
+     * Écrit l'état en notation compacte (voir la description de la classe).
+     *
+     * @return La notation, par exemple {@code "0..a............ 5 1"}.
+     */
+    public String versNotation() {
+        StringBuilder notation = new StringBuilder(Piece.NOMBRE + 4);
+        for (int index = 0; index < Piece.NOMBRE; index++) {
+            notation.append((occupation & (1 << index)) == 0
+                ? '.' : Character.forDigit(Plateau.pieceDansPlans(plans, index), 16));
+        }
+        notation.append(' ').append(pieceEnMain == AUCUNE_PIECE ? '-' : Character.forDigit(pieceEnMain, 16));
+        return notation.append(' ').append(trait).toString();
+    }
+
+    /**
+     * Pose la pièce en main sur une case libre.
+     * <p>Le joueur au trait le conserve : il doit ensuite {@linkplain #donner(int) donner} une pièce.</p>
+     *
+     * @param index L'indice de la case ({@code ligne * 4 + colonne}).
+     * @return Le nouvel état.
+     * @throws IllegalArgumentException si la partie est terminée, si aucune pièce n'est en main
+     *                                  ou si la case n'est pas libre.
+     */
+    public EtatJeu placer(int index) {
+        if (estTerminee() || pieceEnMain == AUCUNE_PIECE) {
+            throw new IllegalArgumentException("Aucune pièce à placer.");
+        }
+        if (index < 0 || index >= Piece.NOMBRE || (occupation & (1 << index)) != 0) {
+            throw new IllegalArgumentException("La case " + index + " n'est pas libre.");
+        }
+
+        long nouveauxPlans = Plateau.poserDansPlans(plans, index, pieceEnMain);
+        int nouvelleOccupation = occupation | (1 << index);
+        return new EtatJeu(strategie, motifs, nouveauxPlans, nouvelleOccupation, restantes, AUCUNE_PIECE, trait,
+            motifs.estGagnant(nouveauxPlans, nouvelleOccupation));
+    }
+
+    /**
+     * Donne une pièce à l'adversaire, qui prend le trait.
+     *
+     * @param piece L'identifiant de la pièce donnée.
+     * @return Le nouvel état.
+     * @throws IllegalArgumentException si la partie est terminée, si une pièce est encore à placer
+     *                                  ou si la pièce n'est plus disponible.
+     */
+    public EtatJeu donner(int piece) {
+        if (estTerminee() || pieceEnMain != AUCUNE_PIECE) {
+            throw new IllegalArgumentException("Une pièce doit d'abord être placée.");
+        }
+        if (piece < 0 || piece >= Piece.NOMBRE || (restantes & (1 << piece)) == 0) {
+            throw new IllegalArgumentException("La pièce " + piece + " n'est pas disponible.");
+        }
+
+        return new EtatJeu(strategie, motifs, plans, occupation, restantes & ~(1 << piece), piece, trait ^ 1, false);
+    }
+
+    /**
+     * Joue un coup complet : placement de la pièce en main, puis don d'une pièce si la partie continue.
+     *
+     * @param coup Le coup à jouer.
+     * @return Le nouvel état.
+     * @throws IllegalArgumentException si le coup n'est pas jouable dans cet état.
+     */
+    public EtatJeu appliquer(Coup coup) {
+        if (coup.aPlacement() != (pieceEnMain != AUCUNE_PIECE)) {
+            throw new IllegalArgumentException("Coup incompatible avec la pièce en main : " + coup);
+        }
+
+        EtatJeu etat = coup.aPlacement() ? placer(coup.getCase()) : this;
+        return (coup.aDon() && !etat.estTerminee()) ? etat.donner(coup.getPiece()) : etat;
+    }
+
+    /**
+     * Retourne la stratégie de victoire.
+     *
+     * @return La stratégie partagée par les états de la partie.
+     */
+    public StrategieGagnante getStrategie() {
+        return strategie;
+    }
+
+    /**
+     * Retourne les plans de caractéristiques des pièces posées.
+     *
+     * @return Les 4 plans de 16 bits (voir {@link Plateau#getPlans()}).
+     */
+    public long getPlans() {
+        return plans;
+    }
+
+    /**
+     * Retourne le masque des cases occupées.
+     *
+     * @return Un entier dont le bit {@code ligne * 4 + colonne} vaut 1 si la case est occupée.
+     */
+    public int getOccupation() {
+        return occupation;
+    }
+
+    /**
+     * Retourne le masque des pièces encore à donner (ni posées, ni en main).
+     *
+     * @return Un entier dont le bit {@code id} vaut 1 si la pièce est disponible.
+     */
+    public int getRestantes() {
+        return restantes;
+    }
+
+    /**
+     * Retourne la pièce à placer par le joueur au trait.
+     *
+     * @return L'identifiant de la pièce, ou {@link #AUCUNE_PIECE}.
+     */
+    public int getPieceEnMain() {
+        return pieceEnMain;
+    }
+
+    /**
+     * Retourne le joueur au trait.
+     *
+     * @return 0 pour le premier joueur, 1 pour le second.
+     */
+    public int getTrait() {
+        return trait;
+    }
+
+    /**
+     * Indique si le joueur au trait vient de gagner.
+     *
+     * @return {@code true} si un motif gagnant est complet.
+     */
+    public boolean estGagne() {
+        return gagne;
+    }
+
+    /**
+     * Indique si la partie est terminée (victoire ou plateau plein).
+     *
+     * @return {@code true} si plus aucun coup n'est possible.
+     */
+    public boolean estTerminee() {
+        return gagne || occupation == COMPLET;
+    }
+
+    /**
+     * Retourne le gagnant de la partie.
+     *
+     * @return 0 ou 1 si un joueur a gagné, -1 sinon (partie en cours ou nulle).
+     */
+    public int getGagnant() {
+        return gagne ? trait : -1;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof EtatJeu)) return false;
+        EtatJeu etat = (EtatJeu) obj;
+        return plans == etat.plans && occupation == etat.occupation && restantes == etat.restantes
+            && pieceEnMain == etat.pieceEnMain && trait == etat.trait && motifs == etat.motifs;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = plans * 0x9E3779B97F4A7C15L + ((long) occupation << 32 | restantes);
+        h = h * 31 + (pieceEnMain + 1) * 2 + trait;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EtatJeu(occupation=%04x, restantes=%04x, main=%d, trait=%d%s)",
+            occupation, restantes, pieceEnMain, trait, gagne ? ", gagné" : "");
+    }
+}
@@ -6,6 +6,7 @@ import fr.univrouen.modele.joueur.Joueur;
 import fr.univrouen.modele.jeu.piece.Piece;
 import fr.univrouen.modele.jeu.partie.plateau.*;
 import fr.univrouen.modele.jeu.partie.observer.Observable;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieGagnante;
 
 /**
  * Interface représentant le contrat général pour une partie du jeu Quarto.
@@ -15,7 +16,7 @@ import fr.univrouen.modele.jeu.partie.observer.Observable;
  * </p>
  *
  * @author Matisse SENECHAL
- * @version 2.1
+ * @version 2.8
  * @since JDK 17
  * @see Observable
  */
@@ -33,13 +34,28 @@ public interface Jeu extends Observable {
      */
     Plateau getPlateau();
 
+    /**
+     * Retourne la stratégie gagnante utilisée pour cette partie.
+     *
+     * @return La stratégie qui détermine les motifs gagnants.
+     */
+    StrategieGagnante getStrategie();
+
     /**
      * Retourne la liste des pièces encore disponibles à jouer.
      *
-     * @return Liste des pièces restantes.
+     * @return Vue non modifiable des pièces restantes, dans l'ordre de leurs identifiants.
      */
     List<Piece> getPiecesRestantes();
 
+    /**
+     * Retourne les pièces encore disponibles sous forme de masque.
+     * <p>Les parcours fréquents (recherche de l'IA) itèrent sur ce masque plutôt que sur la liste.</p>
+     *
+     * @return Un entier dont le bit {@code piece.getId()} vaut 1 si la pièce reste à jouer.
+     */
+    int getMasquePiecesRestantes();
+
     /**
      * Retourne le joueur dont c'est actuellement le tour.
      *
@@ -47,6 +63,18 @@ public interface Jeu extends Observable {
      */
     Joueur getJoueurActuel();
 
+    /**
+     * Retourne le joueur au trait sous forme d'indice.
+     * <p>
+     * Le trait ne change qu'au don d'une pièce ({@link #tourSuivant()}) : après un placement,
+     * c'est encore le joueur qui vient de poser, donc le gagnant si la partie est gagnée.
+     * Deux joueurs de même type restent ainsi distincts.
+     * </p>
+     *
+     * @return 0 pour le premier joueur, 1 pour le second.
+     */
+    int getTrait();
+
     /**
      * Retourne la pièce sélectionnée en cours de partie.
      *
@@ -75,6 +103,41 @@ public interface Jeu extends Observable {
      */
     void retirerPieceChoisit(Piece pieceChoisit);
 
+    /**
+     * Joue un coup complet pour le joueur actuel : pose la pièce courante sur la case du coup,
+     * puis, si la partie continue, donne la pièce du coup à l'adversaire et passe au tour suivant.
+     *
+     * @param coup Le coup à jouer.
+     * @throws IllegalStateException    si la partie est terminée.
+     * @throws IllegalArgumentException si le coup n'est pas jouable dans l'état actuel.
+     */
+    void jouerCoup(Coup coup);
+
+    /**
+     * Annule le dernier coup joué par {@link #jouerCoup(Coup)}, avec une seule notification des observateurs.
+     *
+     * @return {@code true} si un coup a été annulé, {@code false} si l'historique est vide.
+     */
+    boolean annulerCoup();
+
+    /**
+     * Rejoue le dernier coup annulé, avec une seule notification des observateurs.
+     * <p>Jouer un nouveau coup après une annulation efface les coups qui pouvaient être rétablis.</p>
+     *
+     * @return {@code true} si un coup a été rétabli, {@code false} s'il n'y en a aucun.
+     */
+    boolean retablirCoup();
+
+    /**
+     * Applique plusieurs modifications de la partie comme une seule :
+     * les notifications déclenchées pendant la modification sont différées,
+     * et les observateurs ne sont notifiés qu'une fois, à la fin, si l'état a changé.
+     * <p>Les lots peuvent être imbriqués : seule la fin du lot le plus externe notifie.</p>
+     *
+     * @param modification Les modifications à appliquer.
+     */
+    void modifierEnLot(Runnable modification);
+
     /**
      * Indique si la partie est terminée (victoire ou plus de pièces disponibles).
      *
@@ -91,6 +154,7 @@ public interface Jeu extends Observable {
 
     /**
      * Crée une copie indépendante de l’état actuel du jeu.
+     * <p>Destinée aux simulations : la copie ne reprend pas les observateurs de l'original.</p>
      *
      * @return Une nouvelle instance représentant une copie exacte du jeu.
      */
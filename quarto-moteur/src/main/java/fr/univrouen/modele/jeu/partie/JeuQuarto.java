@@ -0,0 +1,619 @@
+package fr.univrouen.modele.jeu.partie;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import fr.univrouen.modele.evaluation.EvaluateurLot;
+import fr.univrouen.modele.joueur.Joueur;
+import fr.univrouen.modele.jeu.piece.Piece;
+import fr.univrouen.modele.jeu.partie.plateau.*;
+import fr.univrouen.modele.jeu.partie.observer.EvenementJeu;
+import fr.univrouen.modele.jeu.partie.observer.Observer;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieGagnante;
+
+/**
+ * Classe représentant le jeu Quarto.
+ * Elle gère la logique du jeu, la gestion des joueurs, des pièces, ainsi que la vérification des conditions de victoire.
+ * Elle implémente l'interface {@link Jeu} pour définir les actions possibles dans le jeu.
+ * 
+ * <p>Le jeu se joue avec deux joueurs qui s'affrontent en plaçant des pièces sur un plateau de 4x4. Chaque pièce a
+ * des caractéristiques uniques et l'objectif est de réaliser une combinaison gagnante de 4 pièces alignées selon
+ * certaines caractéristiques communes.</p>
+ *
+ * <p>
+ * Les coups joués par {@link #jouerCoup(Coup)} sont conservés dans un historique compact (un entier par coup :
+ * le code du {@link Coup} et la pièce posée), ce qui permet de les {@linkplain #annulerCoup() annuler} et de les
+ * {@linkplain #retablirCoup() rétablir} en temps constant, et d'obtenir l'{@link EtatJeu} de n'importe quel
+ * point de l'historique ({@link #versEtat(int)}) sans rejouer la partie depuis le début.
+ * Les modifications directes ({@link #setPieceCourante(Piece)}, {@link #tourSuivant()},
+ * {@link #retirerPieceChoisit(Piece)}) effacent l'historique.
+ * </p>
+ *
+ * <p>
+ * Chaque coup, annulation ou rétablissement ne notifie les observateurs qu'une fois, l'état étant cohérent.
+ * Plusieurs modifications directes peuvent être regroupées de même par {@link #modifierEnLot(Runnable)}.
+ * Chaque notification est précédée des {@link EvenementJeu événements} qui décrivent les modifications,
+ * seulement produits lorsque la partie est observée.
+ * </p>
+ *
+ * <p>
+ * Concurrence : une partie n'a qu'un seul écrivain, le thread qui la modifie (l'EDT pour l'interface),
+ * mais peut être lue par d'autres threads (recherche, réflexion en tâche de fond) sans verrou :
+ * <ul>
+ *   <li>chaque notification publie d'abord un {@link EtatJeu} immuable par une écriture volatile ;
+ *       {@link #getInstantane()} le relit, et tout ce que l'écrivain a fait avant la publication
+ *       est visible du lecteur (relation <i>happens-before</i>) ;</li>
+ *   <li>les observateurs sont enregistrés dans une liste copiée à l'écriture : ils peuvent s'abonner
+ *       ou se désabonner depuis n'importe quel thread, y compris pendant une notification.</li>
+ * </ul>
+ * Les autres accesseurs ne doivent être appelés que par l'écrivain. Les copies de simulation
+ * ({@link #copier()}) appartiennent au thread qui les a créées et ne publient rien.
+ * </p>
+ * 
+ * @see Jeu
+ * @author Matisse SENECHAL
+ * @version 5.1
+ * @since JDK 17
+ */
+public class JeuQuarto implements Jeu {
+    /**
+     * Observateurs enregistrés pour mise à jour de l'interface, dans une liste copiée à l'écriture.
+     * Les copies de simulation n'en ont pas tant que personne ne s'y abonne.
+     */
+    private List<Observer> observers;
+
+    /** Événements en attente de la prochaine notification (créée avec {@link #observers}). */
+    private List<EvenementJeu> evenements;
+
+    /** Dernier état publié pour les lecteurs concurrents, {@code null} pour une copie de simulation. */
+    private volatile EtatJeu instantane;
+
+    /** Stratégie gagnante utilisée pour déterminer la victoire. */
+    private StrategieGagnante strategie;
+
+    /** Motifs gagnants de la stratégie, vérifiés directement sur les plans du plateau. */
+    private EvaluateurLot motifs;
+
+    /** Nombre de lots de modifications en cours (voir {@link #modifierEnLot(Runnable)}). */
+    private int lotsOuverts;
+
+    /** Indique si une notification a été différée pendant le lot en cours. */
+    private boolean notificationDifferee;
+
+    /** Plateau de jeu 4x4. */
+    private Plateau plateau;
+
+    /** Pièce actuellement sélectionnée pour être placée. */
+    private Piece pieceCourante;
+
+    /** Masque 16 bits des pièces restantes à jouer (bit {@code id} de chaque pièce). */
+    private int masqueRestantes;
+
+    /** Vue non modifiable des pièces restantes, lue directement dans {@link #masqueRestantes} (créée à la demande). */
+    private List<Piece> piecesRestantes;
+
+    /** Joueurs de la partie. */
+    private Joueur joueur1, joueur2;
+
+    /** Joueur au trait : 0 pour {@link #joueur1}, 1 pour {@link #joueur2}. */
+    private int trait;
+
+    /**
+     * Historique des coups joués : bits 0 à 9 pour le code du coup effectivement joué,
+     * bits 10 à 13 pour la pièce posée. Créé au premier coup : les copies de simulation n'en ont pas.
+     */
+    private int[] historique;
+
+    /** Nombre de coups joués dans l'historique (les suivants ont été annulés). */
+    private int coupsJoues;
+
+    /** Nombre de coups de l'historique, y compris ceux annulés qui peuvent être rétablis. */
+    private int coupsEnregistres;
+
+    /**
+     * Construit une partie de Quarto avec deux joueurs et une stratégie gagnante.
+     *
+     * @param joueur1   Premier joueur.
+     * @param joueur2   Deuxième joueur.
+     * @param strategie Stratégie de victoire à utiliser.
+     */
+    public JeuQuarto(Joueur joueur1, Joueur joueur2, StrategieGagnante strategie) {
+        this.joueur1 = joueur1;
+        this.joueur2 = joueur2;
+        this.strategie = strategie;
+        this.motifs = EvaluateurLot.pour(strategie.getMotifs());
+        this.observers = new CopyOnWriteArrayList<>();
+        this.evenements = new ArrayList<>();
+        this.commencerJeu();
+        this.instantane = versEtat();
+    }
+
+    /**
+     * Construit une copie de simulation d'une partie.
+     * <p>
+     * Seul l'état modifiable est copié (plateau, pièces restantes, pièce courante, trait) ;
+     * les joueurs et la stratégie sont partagés, et la copie n'a ni observateur, ni historique.
+     * </p>
+     *
+     * @param source La partie à copier.
+     */
+    private JeuQuarto(JeuQuarto source) {
+        this.joueur1 = source.joueur1;
+        this.joueur2 = source.joueur2;
+        this.strategie = source.strategie;
+        this.motifs = source.motifs;
+        this.plateau = source.plateau.copier();
+        this.masqueRestantes = source.masqueRestantes;
+        this.pieceCourante = source.pieceCourante;
+        this.trait = source.trait;
+    }
+
+    @Override
+    public Joueur getJoueurActuel() {
+        return (trait == 0) ? joueur1 : joueur2;
+    }
+
+    @Override
+    public int getTrait() {
+        return trait;
+    }
+
+    @Override
+    public Plateau getPlateau() {
+        return this.plateau;
+    }
+
+    @Override
+    public StrategieGagnante getStrategie() {
+        return this.strategie;
+    }
+
+    @Override
+    public Piece getPieceCourante() {
+        return pieceCourante;
+    }
+
+    @Override
+    public void setPieceCourante(Piece nouvellePieceCourante) {
+        this.pieceCourante = nouvellePieceCourante;
+        oublierHistorique();
+        if (observers != null) {
+            evenements.add(EvenementJeu.pieceDonnee(nouvellePieceCourante));
+        }
+        notifyObservers();
+    }
+
+    @Override
+    public List<Piece> getPiecesRestantes() {
+        if (piecesRestantes == null) {
+            piecesRestantes = new VuePiecesRestantes();
+        }
+        return piecesRestantes;
+    }
+
+    @Override
+    public int getMasquePiecesRestantes() {
+        return masqueRestantes;
+    }
+
+    /**
+     * Initialise le plateau, les pièces et les états de jeu.
+     */
+    private void commencerJeu() {
+        this.plateau = new Plateau();
+        this.masqueRestantes = (1 << Piece.NOMBRE) - 1;
+        this.trait = 0;
+        this.pieceCourante = null;
+    }
+
+    @Override
+    public void tourSuivant() {
+        trait ^= 1;
+        oublierHistorique();
+        if (observers != null) {
+            evenements.add(EvenementJeu.tourChange(getJoueurActuel()));
+        }
+        notifyObservers();
+    }
+
+    @Override
+    public boolean estTerminee() {
+        return aGagne() || masqueRestantes == 0;
+    }
+
+    @Override
+    public Joueur estGagnant() {
+        return getJoueurGagnant();
+    }
+
+    @Override
+    public void retirerPieceChoisit(Piece pieceChoisit) {
+        masqueRestantes &= ~(1 << pieceChoisit.getId());
+        oublierHistorique();
+    }
+
+    @Override
+    public void jouerCoup(Coup coup) {
+        if (estTerminee()) {
+            throw new IllegalStateException("La partie est terminée : " + coup);
+        }
+        if (coup.aPlacement() != (pieceCourante != null)) {
+            throw new IllegalArgumentException("Coup incompatible avec la pièce courante : " + coup);
+        }
+        int disponibles = (pieceCourante == null) ? masqueRestantes : masqueRestantes & ~(1 << pieceCourante.getId());
+        if (coup.aDon() && (disponibles & (1 << coup.getPiece())) == 0) {
+            throw new IllegalArgumentException("La pièce donnée n'est plus disponible : " + coup);
+        }
+
+        Piece posee = pieceCourante;
+        if (coup.aPlacement()) {
+            poser(coup.getCase());
+            if (coup.aDon() && estTerminee()) {
+                coup = Coup.get(coup.getCase(), Coup.AUCUN); // Aucun don après le dernier placement
+            }
+        }
+        if (coup.aDon()) {
+            donner(coup.getPieceDonnee());
+        }
+
+        if (historique == null) {
+            historique = new int[2 * Piece.NOMBRE];
+        }
+        historique[coupsJoues++] = coup.getCode() | (posee == null ? 0 : posee.getId()) << 10;
+        coupsEnregistres = coupsJoues;
+        emettreFinPartie();
+        notifyObservers();
+    }
+
+    @Override
+    public boolean annulerCoup() {
+        if (coupsJoues == 0) {
+            return false;
+        }
+
+        int enregistrement = historique[--coupsJoues];
+        Coup coup = Coup.depuisCode((short) (enregistrement & 0x3FF));
+        if (coup.aDon()) {
+            pieceCourante = null;
+            trait ^= 1;
+            if (observers != null) {
+                evenements.add(EvenementJeu.pieceDonnee(null));
+                evenements.add(EvenementJeu.tourChange(getJoueurActuel()));
+            }
+        }
+        if (coup.aPlacement()) {
+            Piece posee = Piece.get(enregistrement >>> 10);
+            plateau.retirerPiece(coup.getCase());
+            masqueRestantes |= 1 << posee.getId();
+            pieceCourante = posee;
+            if (observers != null) {
+                evenements.add(EvenementJeu.pieceRetiree(coup.getCase(), posee));
+                evenements.add(EvenementJeu.pieceDonnee(posee));
+            }
+        }
+
+        notifyObservers();
+        return true;
+    }
+
+    @Override
+    public boolean retablirCoup() {
+        if (coupsJoues == coupsEnregistres) {
+            return false;
+        }
+
+        Coup coup = Coup.depuisCode((short) (historique[coupsJoues++] & 0x3FF));
+        if (coup.aPlacement()) {
+            poser(coup.getCase());
+        }
+        if (coup.aDon()) {
+            donner(coup.getPieceDonnee());
+        }
+
+        emettreFinPartie();
+        notifyObservers();
+        return true;
+    }
+
+    /**
+     * Retourne le nombre de coups joués, c'est-à-dire la position courante dans l'historique.
+     *
+     * @return Le nombre de coups pouvant être annulés.
+     */
+    public int getCoupsJoues() {
+        return coupsJoues;
+    }
+
+    /**
+     * Retourne le nombre de coups de l'historique, y compris ceux annulés qui peuvent être rétablis.
+     *
+     * @return La taille de l'historique.
+     */
+    public int getTailleHistorique() {
+        return coupsEnregistres;
+    }
+
+    /**
+     * Pose la pièce courante sur une case, sans notification.
+     *
+     * @param index L'indice de la case.
+     */
+    private void poser(int index) {
+        plateau.placerPiece(pieceCourante, index);
+        masqueRestantes &= ~(1 << pieceCourante.getId());
+        if (observers != null) {
+            evenements.add(EvenementJeu.piecePlacee(index, pieceCourante));
+        }
+        pieceCourante = null;
+    }
+
+    /**
+     * Donne une pièce à l'adversaire, qui prend le trait, sans notification.
+     *
+     * @param piece La pièce donnée.
+     */
+    private void donner(Piece piece) {
+        pieceCourante = piece;
+        trait ^= 1;
+        if (observers != null) {
+            evenements.add(EvenementJeu.pieceDonnee(piece));
+            evenements.add(EvenementJeu.tourChange(getJoueurActuel()));
+        }
+    }
+
+    /**
+     * Émet l'événement de fin de partie si le dernier coup a terminé la partie.
+     * <p>Comme les autres, les événements ne sont créés que si la partie est observée : les copies de simulation n'en produisent pas.</p>
+     */
+    private void emettreFinPartie() {
+        if (observers != null && estTerminee()) {
+            evenements.add(EvenementJeu.partieTerminee(getJoueurGagnant()));
+        }
+    }
+
+    /**
+     * Efface l'historique après une modification directe de la partie, qu'il ne décrit plus.
+     */
+    private void oublierHistorique() {
+        coupsJoues = 0;
+        coupsEnregistres = 0;
+    }
+
+    @Override
+    public boolean debutPartie() {
+        return masqueRestantes == (1 << Piece.NOMBRE) - 1 && pieceCourante == null && plateau.estVide();
+    }
+
+    @Override
+    public void addObserver(Observer observer) {
+        if (observers == null) {
+            observers = new CopyOnWriteArrayList<>();
+            evenements = new ArrayList<>();
+        }
+        observers.add(observer);
+    }
+
+    @Override
+    public void removeObserver(Observer observer) {
+        if (observers != null) {
+            observers.remove(observer);
+        }
+    }
+
+    @Override
+    public void modifierEnLot(Runnable modification) {
+        lotsOuverts++;
+        try {
+            modification.run();
+        } finally {
+            lotsOuverts--;
+        }
+        if (lotsOuverts == 0 && notificationDifferee) {
+            notificationDifferee = false;
+            notifyObservers();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Pendant un {@linkplain #modifierEnLot(Runnable) lot}, la notification est différée à la fin du lot.</p>
+     */
+    @Override
+    public void notifyObservers() {
+        if (lotsOuverts > 0) {
+            notificationDifferee = true;
+            return;
+        }
+        if (observers == null) {
+            return;
+        }
+        if (instantane != null) {
+            instantane = versEtat(); // Publication pour les lecteurs concurrents, avant les observateurs
+        }
+
+        // Copie : un observateur peut modifier la partie et produire de nouveaux événements
+        List<EvenementJeu> aRemettre = evenements.isEmpty() ? Collections.<EvenementJeu>emptyList() : new ArrayList<>(evenements);
+        evenements.clear();
+        for (Observer observer : observers) {
+            for (EvenementJeu evenement : aRemettre) {
+                observer.recevoir(evenement);
+            }
+            observer.update();
+        }
+    }
+
+    /**
+     * Vérifie si une condition de victoire est remplie.
+     *
+     * @return {@code true} si un joueur a gagné, {@code false} sinon.
+     */
+    public boolean aGagne() {
+        return motifs.estGagnant(plateau.getPlans(), plateau.getMasqueOccupation());
+    }
+
+    /**
+     * Détermine le joueur ayant gagné la partie.
+     *
+     * @return Le joueur gagnant ou {@code null} si la partie continue.
+     */
+    public Joueur getJoueurGagnant() {
+        return aGagne() ? getJoueurActuel() : null;
+    }
+
+    @Override
+    public Jeu copier() {
+        return new JeuQuarto(this);
+    }
+
+    /**
+     * Convertit la partie en {@link EtatJeu} immuable, partageable entre threads.
+     *
+     * @return L'état compact de la partie.
+     */
+    public EtatJeu versEtat() {
+        int main = (pieceCourante == null) ? EtatJeu.AUCUNE_PIECE : pieceCourante.getId();
+        int restantes = (main == EtatJeu.AUCUNE_PIECE) ? masqueRestantes : masqueRestantes & ~(1 << main);
+        return EtatJeu.creer(strategie, plateau.getPlans(), plateau.getMasqueOccupation(), restantes, main, trait);
+    }
+
+    /**
+     * Retourne le dernier état cohérent de la partie, publié à chaque notification.
+     * <p>
+     * Cette méthode peut être appelée depuis n'importe quel thread, sans verrou : l'état retourné est immuable
+     * et reflète la partie telle qu'elle était à la dernière notification (fin d'un coup ou d'un lot).
+     * Pour une copie de simulation, qui ne publie rien, l'état est calculé à la demande par {@link #versEtat()}.
+     * </p>
+     *
+     * @return L'état de la partie à la dernière notification.
+     */
+    public EtatJeu getInstantane() {
+        EtatJeu etat = instantane;
+        return (etat != null) ? etat : versEtat();
+    }
+
+    /**
+     * Retourne l'{@link EtatJeu} d'un point de l'historique, par exemple pour lancer une analyse
+     * à partir d'une position passée.
+     * <p>
+     * L'état est reconstitué depuis la position courante, en défaisant (ou refaisant) uniquement
+     * les coups qui l'en séparent ; la partie n'est pas modifiée.
+     * </p>
+     *
+     * @param rang Le nombre de coups joués au point voulu, de 0 à {@link #getTailleHistorique()}.
+     * @return L'état compact de la partie à ce point.
+     * @throws IllegalArgumentException si le rang est hors de l'historique.
+     */
+    public EtatJeu versEtat(int rang) {
+        if (rang < 0 || rang > coupsEnregistres) {
+            throw new IllegalArgumentException("Rang hors de l'historique : " + rang);
+        }
+
+        EtatJeu etat = versEtat();
+        if (rang >= coupsJoues) {
+            for (int i = coupsJoues; i < rang; i++) {
+                etat = etat.appliquer(Coup.depuisCode((short) (historique[i] & 0x3FF)));
+            }
+            return etat;
+        }
+
+        long plans = etat.getPlans();
+        int occupation = etat.getOccupation();
+        int restantes = etat.getRestantes();
+        int main = etat.getPieceEnMain();
+        int traitRang = etat.getTrait();
+
+        for (int i = coupsJoues - 1; i >= rang; i--) {
+            Coup coup = Coup.depuisCode((short) (historique[i] & 0x3FF));
+            if (coup.aDon()) {
+                restantes |= 1 << main;
+                main = EtatJeu.AUCUNE_PIECE;
+                traitRang ^= 1;
+            }
+            if (coup.aPlacement()) {
+                plans &= ~(0x0001_0001_0001_0001L << coup.getCase());
+                occupation &= ~(1 << coup.getCase());
+                main = historique[i] >>> 10;
+            }
+        }
+
+        return EtatJeu.creer(strategie, plans, occupation, restantes, main, traitRang);
+    }
+
+    /**
+     * Construit une partie à partir d'un {@link EtatJeu}, par exemple pour reprendre une analyse.
+     *
+     * @param etat    L'état de la partie.
+     * @param joueur1 Le premier joueur (trait 0).
+     * @param joueur2 Le second joueur (trait 1).
+     * @return Une nouvelle partie, sans observateur, dans l'état donné.
+     */
+    public static JeuQuarto depuisEtat(EtatJeu etat, Joueur joueur1, Joueur joueur2) {
+        JeuQuarto jeu = new JeuQuarto(joueur1, joueur2, etat.getStrategie());
+
+        for (int cases = etat.getOccupation(); cases != 0; cases &= cases - 1) {
+            int index = Integer.numberOfTrailingZeros(cases);
+            jeu.plateau.placerPiece(Piece.get(Plateau.pieceDansPlans(etat.getPlans(), index)), index);
+        }
+
+        int main = etat.getPieceEnMain();
+        jeu.pieceCourante = (main == EtatJeu.AUCUNE_PIECE) ? null : Piece.get(main);
+        jeu.masqueRestantes = (main == EtatJeu.AUCUNE_PIECE) ? etat.getRestantes() : etat.getRestantes() | (1 << main);
+        jeu.trait = etat.getTrait();
+        jeu.instantane = etat;
+        return jeu;
+    }
+
+    /**
+     * Vue non modifiable des pièces restantes, dans l'ordre des identifiants.
+     * <p>
+     * La vue reflète l'état courant de la partie : elle ne copie rien, et un parcours
+     * ne coûte qu'un décalage de bits par pièce.
+     * </p>
+     */
+    private final class VuePiecesRestantes extends AbstractList<Piece> {
+
+        @Override
+        public Piece get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index : " + index + ", taille : " + size());
+            }
+            int masque = masqueRestantes;
+            for (int i = 0; i < index; i++) {
+                masque &= masque - 1;
+            }
+            return Piece.get(Integer.numberOfTrailingZeros(masque));
+        }
+
+        @Override
+        public int size() {
+            return Integer.bitCount(masqueRestantes);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Piece && (masqueRestantes & (1 << ((Piece) o).getId())) != 0;
+        }
+
+        @Override
+        public Iterator<Piece> iterator() {
+            return new Iterator<Piece>() {
+                private int masque = masqueRestantes;
+
+                @Override
+                public boolean hasNext() {
+                    return masque != 0;
+                }
+
+                @Override
+                public Piece next() {
+                    if (masque == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    Piece piece = Piece.get(Integer.numberOfTrailingZeros(masque));
+                    masque &= masque - 1;
+                    return piece;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package fr.univrouen.modele.jeu.partie.observer;
+
+import fr.univrouen.modele.jeu.piece.Piece;
+import fr.univrouen.modele.joueur.Joueur;
+
+/**
+ * Événement typé décrivant une modification élémentaire d'une partie.
+ * <p>
+ * Les événements sont remis aux observateurs par {@link Observer#recevoir(EvenementJeu)}, dans l'ordre
+ * où les modifications ont eu lieu, juste avant {@link Observer#update()} : une vue peut ainsi appliquer
+ * chaque modification en temps constant au lieu de relire tout l'état de la partie.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link Type#PIECE_PLACEE} : une pièce est posée sur une case ({@link #getCase()}, {@link #getPiece()}) ;</li>
+ *   <li>{@link Type#PIECE_RETIREE} : une pièce est retirée d'une case (annulation) et revient dans la réserve ;</li>
+ *   <li>{@link Type#PIECE_DONNEE} : la pièce à placer change ({@link #getPiece()}, {@code null} si aucune) ;</li>
+ *   <li>{@link Type#TOUR_CHANGE} : le trait passe à un autre joueur ({@link #getJoueur()}) ;</li>
+ *   <li>{@link Type#PARTIE_TERMINEE} : la partie est finie ({@link #getJoueur()} est le gagnant, {@code null} en cas de match nul).</li>
+ * </ul>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see Observer
+ */
+public final class EvenementJeu {
+    /** Valeur de {@link #getCase()} pour un événement qui ne concerne aucune case. */
+    public static final int AUCUNE_CASE = -1;
+
+    /**
+     * Types d'événements d'une partie.
+     */
+    public enum Type {
+        /** Une pièce est posée sur le plateau. */
+        PIECE_PLACEE,
+        /** Une pièce est retirée du plateau. */
+        PIECE_RETIREE,
+        /** La pièce à placer change. */
+        PIECE_DONNEE,
+        /** Le joueur au trait change. */
+        TOUR_CHANGE,
+        /** La partie est terminée. */
+        PARTIE_TERMINEE
+    }
+
+    /** Type de l'événement. */
+    private final Type type;
+
+    /** Indice de la case concernée, ou {@link #AUCUNE_CASE}. */
+    private final int index;
+
+    /** Pièce concernée, ou {@code null}. */
+    private final Piece piece;
+
+    /** Joueur au trait ou gagnant, selon le type, ou {@code null}. */
+    private final Joueur joueur;
+
+    /**
+     * Construit un événement.
+     *
+     * @param type   Le type de l'événement.
+     * @param index  L'indice de la case concernée, ou {@link #AUCUNE_CASE}.
+     * @param piece  La pièce concernée, ou {@code null}.
+     * @param joueur Le joueur concerné, ou {@code null}.
+     */
+    private EvenementJeu(Type type, int index, Piece piece, Joueur joueur) {
+        this.type = type;
+        this.index = index;
+        this.piece = piece;
+        this.joueur = joueur;
+    }
+
+    /**
+     * Crée l'événement d'une pièce posée sur une case.
+     *
+     * @param index L'indice de la case ({@code ligne * 4 + colonne}).
+     * @param piece La pièce posée.
+     * @return L'événement.
+     */
+    public static EvenementJeu piecePlacee(int index, Piece piece) {
+        return new EvenementJeu(Type.PIECE_PLACEE, index, piece, null);
+    }
+
+    /**
+     * Crée l'événement d'une pièce retirée d'une case.
+     *
+     * @param index L'indice de la case.
+     * @param piece La pièce retirée.
+     * @return L'événement.
+     */
+    public static EvenementJeu pieceRetiree(int index, Piece piece) {
+        return new EvenementJeu(Type.PIECE_RETIREE, index, piece, null);
+    }
+
+    /**
+     * Crée l'événement d'un changement de la pièce à placer.
+     *
+     * @param piece La nouvelle pièce à placer, ou {@code null} s'il n'y en a plus.
+     * @return L'événement.
+     */
+    public static EvenementJeu pieceDonnee(Piece piece) {
+        return new EvenementJeu(Type.PIECE_DONNEE, AUCUNE_CASE, piece, null);
+    }
+
+    /**
+     * Crée l'événement d'un changement de trait.
+     *
+     * @param joueur Le joueur désormais au trait.
+     * @return L'événement.
+     */
+    public static EvenementJeu tourChange(Joueur joueur) {
+        return new EvenementJeu(Type.TOUR_CHANGE, AUCUNE_CASE, null, joueur);
+    }
+
+    /**
+     * Crée l'événement de fin de partie.
+     *
+     * @param gagnant Le gagnant, ou {@code null} en cas de match nul.
+     * @return L'événement.
+     */
+    public static EvenementJeu partieTerminee(Joueur gagnant) {
+        return new EvenementJeu(Type.PARTIE_TERMINEE, AUCUNE_CASE, null, gagnant);
+    }
+
+    /**
+     * Retourne le type de l'événement.
+     *
+     * @return Le type.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Retourne l'indice de la case concernée.
+     *
+     * @return L'indice de la case, ou {@link #AUCUNE_CASE}.
+     */
+    public int getCase() {
+        return index;
+    }
+
+    /**
+     * Retourne la pièce concernée.
+     *
+     * @return La pièce, ou {@code null}.
+     */
+    public Piece getPiece() {
+        return piece;
+    }
+
+    /**
+     * Retourne le joueur concerné : le joueur au trait pour {@link Type#TOUR_CHANGE},
+     * le gagnant pour {@link Type#PARTIE_TERMINEE}.
+     *
+     * @return Le joueur, ou {@code null}.
+     */
+    public Joueur getJoueur() {
+        return joueur;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case PIECE_PLACEE:
+            case PIECE_RETIREE:
+                return type + "(" + index + ", " + piece + ")";
+            case PIECE_DONNEE:
+                return type + "(" + piece + ")";
+            default:
+                return type + "(" + joueur + ")";
+        }
+    }
+}
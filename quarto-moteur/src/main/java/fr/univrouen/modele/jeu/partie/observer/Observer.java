@@ -6,9 +6,14 @@ package fr.univrouen.modele.jeu.partie.observer;
  * Elle définit la méthode {@code update()} qui est appelée automatiquement lorsqu’un objet {@link Observable}
  * auquel l’observateur est abonné émet une notification de changement d’état.
  * </p>
+ * <p>
+ * Avant chaque {@code update()}, les modifications survenues depuis la notification précédente sont
+ * remises une à une, dans l'ordre, par {@link #recevoir(EvenementJeu)} : un observateur peut s'en servir
+ * pour ne mettre à jour que ce qui a changé, et ignorer {@code update()}.
+ * </p>
  *
  * @author Matisse SENECHAL
- * @version 1.0
+ * @version 1.1
  * @since JDK 17
  * @see Observable
  */
@@ -21,4 +26,13 @@ public interface Observer {
      * </p>
      */
     void update();
+
+    /**
+     * Méthode appelée pour chaque modification élémentaire de l'objet observé, avant {@link #update()}.
+     * <p>Par défaut, les événements sont ignorés.</p>
+     *
+     * @param evenement L'événement décrivant la modification.
+     */
+    default void recevoir(EvenementJeu evenement) {
+    }
 }
\ No newline at end of file
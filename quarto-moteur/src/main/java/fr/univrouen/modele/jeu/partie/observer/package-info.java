@@ -0,0 +1,17 @@
+/**
+ * Fournit une implémentation simple du patron Observer.
+ * <p>
+ * Permet de notifier des composants (ex: l’orchestrateur ou la vue)
+ * des changements dans l’état d’une partie.
+ * </p>
+ * <p>
+ * Chaque notification est précédée des {@link fr.univrouen.modele.jeu.partie.observer.EvenementJeu événements}
+ * typés (pièce posée, pièce donnée, changement de tour, fin de partie) qui l’ont provoquée.
+ * </p>
+ *
+ * @see fr.univrouen.modele.jeu.partie.observer.Observer
+ * @see fr.univrouen.modele.jeu.partie.observer.Observable
+ * @see fr.univrouen.modele.jeu.partie.observer.EvenementJeu
+ * @since JDK 17
+ */
+package fr.univrouen.modele.jeu.partie.observer;
\ No newline at end of file
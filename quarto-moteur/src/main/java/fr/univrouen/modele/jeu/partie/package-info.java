@@ -2,11 +2,15 @@
  * Contient les classes principales définissant une partie de Quarto.
  * <p>
  * Ce package inclut l'interface générique {@code Jeu}, son implémentation {@code JeuQuarto},
+ * l'état compact et immuable {@code EtatJeu}, partageable entre threads,
+ * le coup complet {@code Coup} (placement puis don d'une pièce, codé sur un {@code short}),
  * ainsi que les composants liés à l'observation, au plateau et à la stratégie de jeu.
  * </p>
  *
  * @see fr.univrouen.modele.jeu.partie.Jeu
  * @see fr.univrouen.modele.jeu.partie.JeuQuarto
+ * @see fr.univrouen.modele.jeu.partie.EtatJeu
+ * @see fr.univrouen.modele.jeu.partie.Coup
  * @since JDK 17
  */
 package fr.univrouen.modele.jeu.partie;
\ No newline at end of file
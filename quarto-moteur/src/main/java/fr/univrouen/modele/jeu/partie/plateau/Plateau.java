@@ -0,0 +1,339 @@
+package fr.univrouen.modele.jeu.partie.plateau;
+
+import java.util.*;
+
+import fr.univrouen.modele.jeu.piece.Piece;
+
+/**
+ * Représente un plateau de jeu Quarto de taille 4x4.
+ * Chaque case du plateau peut contenir une pièce ou être vide.
+ * Fournit des méthodes pour placer des pièces, vérifier les cases disponibles,
+ * copier l’état du plateau ou extraire les alignements utiles à l’évaluation.
+ * <p>
+ * Les cases sont aussi adressables par leur indice ({@code ligne * 4 + colonne}) : les parcours
+ * fréquents itèrent sur le {@linkplain #getMasqueLibres() masque des cases libres} plutôt que
+ * de construire une liste de positions.
+ * </p>
+ * 
+ * @author Matisse SENECHAL
+ * @version 2.4
+ * @since JDK 17
+ */
+public class Plateau {
+    /** Taille standard du plateau (4x4). */
+    public static final int TAILLE = 4;
+
+    /**
+     * Valeurs aléatoires de Zobrist, une par couple (case, pièce).
+     * La graine est fixe afin que les empreintes soient reproductibles d'une exécution à l'autre.
+     */
+    private static final long[][] ZOBRIST = new long[TAILLE * TAILLE][16];
+
+    static {
+        SplittableRandom aleatoire = new SplittableRandom(0x5155_4152_544FL);
+        for (long[] valeursCase : ZOBRIST) {
+            for (int piece = 0; piece < valeursCase.length; piece++) {
+                valeursCase[piece] = aleatoire.nextLong();
+            }
+        }
+    }
+
+    /** Grille interne représentant les cases du plateau. */
+    private Piece[][] grille;
+
+    /** Empreinte de Zobrist du plateau, mise à jour à chaque placement. */
+    private long empreinte;
+
+    /** Masque 16 bits des cases occupées (bit {@code ligne * 4 + colonne}). */
+    private int occupation;
+
+    /**
+     * Plans de caractéristiques : 4 plans de 16 bits, le plan {@code k} (bits {@code 16k} à {@code 16k + 15})
+     * indiquant les cases dont la pièce a le bit de caractéristique {@code k} à 1.
+     */
+    private long plans;
+
+    /**
+     * Initialise un nouveau plateau vide (4x4), sans pièces placées.
+     */
+    public Plateau() {
+        this.grille = new Piece[TAILLE][TAILLE];
+    }
+
+    /**
+     * Récupère une copie de la grille actuelle du plateau.
+     * <p>
+     * La copie peut être modifiée sans effet sur le plateau, dont l’empreinte et les plans
+     * ne sont tenus à jour que par {@link #placerPiece(Piece, int)} et {@link #retirerPiece(int)}.
+     * Les recherches lisent le plateau par {@link #getPlans()} et {@link #getMasqueOccupation()}, sans copie.
+     * </p>
+     *
+     * @return un nouveau tableau 2D de pièces représentant l’état du plateau.
+     */
+    public Piece[][] getGrille() {
+        Piece[][] copie = new Piece[TAILLE][];
+        for (int ligne = 0; ligne < TAILLE; ligne++) {
+            copie[ligne] = this.grille[ligne].clone();
+        }
+        return copie;
+    }
+
+    /**
+     * Place une pièce à une position donnée si la case est libre.
+     *
+     * @param piece    La pièce à placer.
+     * @param position La position où placer la pièce.
+     * @throws IllegalArgumentException si la case est déjà occupée.
+     */
+    public void placerPiece(Piece piece, Position position) {
+        placerPiece(piece, position.getIndex());
+    }
+
+    /**
+     * Place une pièce sur une case désignée par son indice, si elle est libre.
+     *
+     * @param piece La pièce à placer.
+     * @param index L'indice de la case ({@code ligne * 4 + colonne}).
+     * @throws IllegalArgumentException si la case est déjà occupée.
+     */
+    public void placerPiece(Piece piece, int index) {
+        int ligne = index / TAILLE;
+        int colonne = index % TAILLE;
+
+        if ((occupation & (1 << index)) != 0) {
+            throw new IllegalArgumentException("La case (" + ligne + "," + colonne + ") est déjà occupée.");
+        }
+
+        int bits = piece.getId();
+
+        grille[ligne][colonne] = piece;
+        empreinte ^= ZOBRIST[index][bits];
+        occupation |= 1 << index;
+        plans = poserDansPlans(plans, index, bits);
+    }
+
+    /**
+     * Retire la pièce d'une case occupée, par exemple pour annuler un coup.
+     *
+     * @param index L'indice de la case ({@code ligne * 4 + colonne}).
+     * @throws IllegalArgumentException si la case est libre.
+     */
+    public void retirerPiece(int index) {
+        if ((occupation & (1 << index)) == 0) {
+            throw new IllegalArgumentException("La case " + index + " est libre.");
+        }
+
+        int ligne = index / TAILLE;
+        int colonne = index % TAILLE;
+
+        empreinte ^= ZOBRIST[index][grille[ligne][colonne].getId()];
+        grille[ligne][colonne] = null;
+        occupation &= ~(1 << index);
+        plans &= ~(0x0001_0001_0001_0001L << index);
+    }
+
+    /**
+     * Ajoute une pièce aux plans de caractéristiques d'un plateau compact (voir {@link #getPlans()}).
+     *
+     * @param plans Les plans de caractéristiques.
+     * @param index L'indice de la case ({@code ligne * 4 + colonne}).
+     * @param bits  Les 4 bits de caractéristiques de la pièce.
+     * @return Les plans complétés par la pièce.
+     */
+    public static long poserDansPlans(long plans, int index, int bits) {
+        for (int k = 0; k < 4; k++) {
+            plans |= (long) ((bits >> k) & 1) << (16 * k + index);
+        }
+        return plans;
+    }
+
+    /**
+     * Reconstitue la pièce posée sur une case à partir des plans de caractéristiques.
+     *
+     * @param plans Les plans de caractéristiques (voir {@link #getPlans()}).
+     * @param index L'indice de la case, supposée occupée.
+     * @return Les 4 bits de caractéristiques de la pièce.
+     */
+    public static int pieceDansPlans(long plans, int index) {
+        int bits = 0;
+        for (int k = 0; k < 4; k++) {
+            bits |= (int) ((plans >>> (16 * k + index)) & 1) << k;
+        }
+        return bits;
+    }
+
+    /**
+     * Retourne le masque des cases occupées.
+     *
+     * @return Un entier dont le bit {@code ligne * 4 + colonne} vaut 1 si la case est occupée.
+     */
+    public int getMasqueOccupation() {
+        return occupation;
+    }
+
+    /**
+     * Retourne le masque des cases libres.
+     * <p>
+     * Parcours type : {@code for (int m = getMasqueLibres(); m != 0; m &= m - 1)},
+     * la case courante étant {@code Integer.numberOfTrailingZeros(m)}.
+     * </p>
+     *
+     * @return Un entier dont le bit {@code ligne * 4 + colonne} vaut 1 si la case est libre.
+     */
+    public int getMasqueLibres() {
+        return ~occupation & 0xFFFF;
+    }
+
+    /**
+     * Retourne la représentation compacte des caractéristiques des pièces posées.
+     * <p>
+     * Le plan {@code k} occupe les bits {@code 16k} à {@code 16k + 15} : le bit d'une case y vaut 1
+     * si la pièce posée a le bit de caractéristique {@code k} à 1 (bit 3 : hauteur, 2 : forme,
+     * 1 : remplissage, 0 : couleur). Associée au {@linkplain #getMasqueOccupation() masque d'occupation},
+     * elle décrit entièrement le plateau.
+     * </p>
+     *
+     * @return Les 4 plans de caractéristiques regroupés dans un {@code long}.
+     */
+    public long getPlans() {
+        return plans;
+    }
+
+    /**
+     * Retourne l'empreinte 64 bits du plateau (hachage de Zobrist des pièces placées).
+     * <p>
+     * Deux plateaux portant les mêmes pièces aux mêmes cases ont la même empreinte,
+     * quel que soit l'ordre des placements. Elle sert de clé au cache d'évaluations.
+     * </p>
+     *
+     * @return L'empreinte du plateau ({@code 0} pour un plateau vide).
+     */
+    public long getEmpreinte() {
+        return empreinte;
+    }
+
+    /**
+     * Vérifie si une case spécifique du plateau est libre.
+     *
+     * @param position La position à vérifier.
+     * @return {@code true} si la case est vide, {@code false} sinon.
+     */
+    public boolean estLibre(Position position) {
+        return estLibre(position.getIndex());
+    }
+
+    /**
+     * Vérifie si une case, désignée par son indice, est libre.
+     *
+     * @param index L'indice de la case ({@code ligne * 4 + colonne}).
+     * @return {@code true} si la case est vide, {@code false} sinon.
+     */
+    public boolean estLibre(int index) {
+        return (occupation & (1 << index)) == 0;
+    }
+
+    /**
+     * Récupère la pièce présente à une position donnée.
+     *
+     * @param position La position à consulter.
+     * @return La pièce à cette position, ou {@code null} si la case est vide.
+     */
+    public Piece getPiece(Position position) {
+        return grille[position.getX()][position.getY()];
+    }
+
+    /**
+     * Récupère la pièce présente sur une case désignée par son indice.
+     *
+     * @param index L'indice de la case ({@code ligne * 4 + colonne}).
+     * @return La pièce sur cette case, ou {@code null} si la case est vide.
+     */
+    public Piece getPiece(int index) {
+        return grille[index / TAILLE][index % TAILLE];
+    }
+
+    /**
+     * Vérifie si le plateau est entièrement vide (aucune pièce placée).
+     *
+     * @return {@code true} si aucune case n’est occupée, sinon {@code false}.
+     */
+    public boolean estVide() {
+        return occupation == 0;
+    }
+
+    /**
+     * Crée une copie profonde du plateau.
+     * Utile pour les simulations (notamment IA).
+     *
+     * @return Un nouveau plateau avec les mêmes pièces aux mêmes positions.
+     */
+    public Plateau copier() {
+        Plateau clone = new Plateau();
+
+        for (int ligne = 0; ligne < TAILLE; ligne++) {
+            System.arraycopy(this.grille[ligne], 0, clone.grille[ligne], 0, TAILLE);
+        }
+        clone.empreinte = this.empreinte;
+        clone.occupation = this.occupation;
+        clone.plans = this.plans;
+
+        return clone;
+    }
+
+    /**
+     * Récupère toutes les positions disponibles (cases vides) sur le plateau.
+     *
+     * @return Une liste des positions libres.
+     */
+    public List<Position> getPositionsDisponibles() {
+        int libres = getMasqueLibres();
+        List<Position> casesLibres = new ArrayList<>(Integer.bitCount(libres));
+
+        for (; libres != 0; libres &= libres - 1) {
+            casesLibres.add(Position.get(Integer.numberOfTrailingZeros(libres)));
+        }
+
+        return casesLibres;
+    }
+
+    /**
+     * Récupère tous les alignements potentiels sur le plateau (lignes, colonnes, diagonales).
+     * <p>
+     * Ces alignements sont utilisés pour évaluer s'il existe une combinaison gagnante.
+     * Chaque alignement est représenté par une liste de 4 pièces (éventuellement avec des cases vides).
+     * </p>
+     *
+     * @return Une liste de toutes les lignes, colonnes et diagonales du plateau.
+     */
+    public List<List<Piece>> getAlignementsPotentiels() {
+        List<List<Piece>> alignements = new ArrayList<>(10); // 4 lignes + 4 colonnes + 2 diagonales
+
+        // Lignes et colonnes
+        for (int i = 0; i < TAILLE; i++) {
+            List<Piece> ligne = new ArrayList<>(TAILLE);
+            List<Piece> colonne = new ArrayList<>(TAILLE);
+
+            for (int j = 0; j < TAILLE; j++) {
+                ligne.add(grille[i][j]); // Ligne i
+                colonne.add(grille[j][i]); // Colonne i
+            }
+
+            alignements.add(ligne);
+            alignements.add(colonne);
+        }
+
+        // Diagonales
+        List<Piece> diagonalePrincipale = new ArrayList<>(TAILLE);
+        List<Piece> diagonaleSecondaire = new ArrayList<>(TAILLE);
+
+        for (int i = 0; i < TAILLE; i++) {
+            diagonalePrincipale.add(grille[i][i]);
+            diagonaleSecondaire.add(grille[i][TAILLE - 1 - i]);
+        }
+
+        alignements.add(diagonalePrincipale);
+        alignements.add(diagonaleSecondaire);
+
+        return alignements;
+    }
+}
\ No newline at end of file
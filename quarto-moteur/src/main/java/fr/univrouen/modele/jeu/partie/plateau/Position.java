@@ -0,0 +1,120 @@
+package fr.univrouen.modele.jeu.partie.plateau;
+
+/**
+ * Représente une position sur un plateau 4x4 dans le jeu Quarto.
+ * <p>
+ * Chaque position est définie par deux coordonnées entières : ligne ({@code x}) et colonne ({@code y}),
+ * comprises entre 0 et 3 inclus, ou de façon équivalente par l'indice de sa case
+ * ({@code x * 4 + y}, de 0 à 15), qui est aussi son bit dans les masques du {@link Plateau}.
+ * </p>
+ *
+ * <p>
+ * Les 16 positions sont des instances canoniques et immuables, obtenues par {@link #get(int, int)}
+ * ou {@link #get(int)} : aucune position n'est allouée pendant le jeu, et deux positions
+ * égales sont toujours le même objet.
+ * </p>
+ *
+ * <p>Cette classe est utilisée pour placer ou interroger les pièces sur le plateau.</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 2.0
+ * @since JDK 17
+ */
+public final class Position {
+    /** Les 16 positions, indexées par case. */
+    private static final Position[] POSITIONS = new Position[Plateau.TAILLE * Plateau.TAILLE];
+
+    static {
+        for (int index = 0; index < POSITIONS.length; index++) {
+            POSITIONS[index] = new Position(index / Plateau.TAILLE, index % Plateau.TAILLE);
+        }
+    }
+
+    /** Les coordonnées de la position. */
+    private final int x, y;
+
+    /**
+     * Crée la position canonique d'une case (utilisé uniquement pour remplir la table des positions).
+     *
+     * @param x La ligne (valeur entre 0 et 3).
+     * @param y La colonne (valeur entre 0 et 3).
+     */
+    private Position(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Retourne la position correspondant aux coordonnées données.
+     *
+     * @param x La ligne (valeur entre 0 et 3).
+     * @param y La colonne (valeur entre 0 et 3).
+     * @return L'instance canonique de la position.
+     * @throws IllegalArgumentException si les coordonnées sont hors limites (hors de 0 à 3).
+     */
+    public static Position get(int x, int y) {
+        if (x < 0 || x >= Plateau.TAILLE || y < 0 || y >= Plateau.TAILLE) {
+            throw new IllegalArgumentException("Les coordonnées doivent être entre 0 et 3.");
+        }
+        return POSITIONS[x * Plateau.TAILLE + y];
+    }
+
+    /**
+     * Retourne la position d'une case à partir de son indice.
+     *
+     * @param index L'indice de la case ({@code x * 4 + y}, entre 0 et 15).
+     * @return L'instance canonique de la position.
+     * @throws IllegalArgumentException si l'indice est hors limites.
+     */
+    public static Position get(int index) {
+        if (index < 0 || index >= POSITIONS.length) {
+            throw new IllegalArgumentException("L'indice de case doit être entre 0 et 15.");
+        }
+        return POSITIONS[index];
+    }
+
+    /**
+     * Renvoie la coordonnée en ligne.
+     *
+     * @return La valeur de {@code x}.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Renvoie la coordonnée en colonne.
+     *
+     * @return La valeur de {@code y}.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Renvoie l'indice de la case.
+     *
+     * @return {@code x * 4 + y}, entre 0 et 15.
+     */
+    public int getIndex() {
+        return x * Plateau.TAILLE + y;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + x + ", " + y + ")";
+    }
+
+    /**
+     * Les positions étant canoniques, l'égalité se réduit à l'identité.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+        return getIndex();
+    }
+}
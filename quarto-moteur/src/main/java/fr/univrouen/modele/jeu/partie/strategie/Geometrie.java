@@ -0,0 +1,162 @@
+package fr.univrouen.modele.jeu.partie.strategie;
+
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+
+/**
+ * Géométrie précalculée des motifs gagnants du plateau 4x4.
+ * <p>
+ * Un motif est un tableau de 4 indices de cases ({@code ligne * 4 + colonne}).
+ * Les motifs sont calculés une seule fois et partagés par toutes les stratégies :
+ * la même géométrie sert à la détection de victoire ({@link StrategieGagnante#verifierGagnant(fr.univrouen.modele.jeu.piece.Piece[][])})
+ * et à l'évaluation heuristique des positions.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link #ALIGNEMENTS} : 4 lignes, 4 colonnes et 2 diagonales (niveau 1).</li>
+ *   <li>{@link #PETITS_CARRES} : les 9 carrés 2x2 (niveau 2).</li>
+ *   <li>{@link #GRANDS_CARRES} : les 4 coins des carrés 3x3 (niveau 3).</li>
+ *   <li>{@link #CARRES_TOURNANTS} : les 4 carrés en rotation, ex. a2, b1, c2, b3 (niveau 4).</li>
+ * </ul>
+ *
+ * <p>Les tableaux retournés sont partagés : ils ne doivent pas être modifiés.</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see StrategieAbstraite
+ */
+public final class Geometrie {
+    /** Nombre de cases d'un motif. */
+    public static final int TAILLE_MOTIF = 4;
+
+    /** Lignes, colonnes et diagonales. */
+    public static final int[][] ALIGNEMENTS = genererAlignements();
+
+    /** Carrés 2x2 formés de cases adjacentes. */
+    public static final int[][] PETITS_CARRES = genererCarres(1);
+
+    /** Coins des carrés 3x3. */
+    public static final int[][] GRANDS_CARRES = genererCarres(2);
+
+    /** Carrés tournants (losanges) : haut, droite, gauche, bas. */
+    public static final int[][] CARRES_TOURNANTS = genererCarresTournants();
+
+    /**
+     * Classe utilitaire : pas d'instanciation.
+     */
+    private Geometrie() {}
+
+    /**
+     * Calcule l'indice d'une case à partir de ses coordonnées.
+     *
+     * @param ligne   La ligne (0 à 3).
+     * @param colonne La colonne (0 à 3).
+     * @return L'indice de la case (0 à 15).
+     */
+    public static int indexCase(int ligne, int colonne) {
+        return ligne * Plateau.TAILLE + colonne;
+    }
+
+    /**
+     * Concatène plusieurs ensembles de motifs en un seul.
+     *
+     * @param ensembles Les ensembles de motifs à réunir.
+     * @return Un nouveau tableau contenant tous les motifs, dans l'ordre.
+     */
+    public static int[][] concatener(int[][]... ensembles) {
+        int total = 0;
+        for (int[][] ensemble : ensembles) {
+            total += ensemble.length;
+        }
+
+        int[][] resultat = new int[total][];
+        int i = 0;
+        for (int[][] ensemble : ensembles) {
+            for (int[] motif : ensemble) {
+                resultat[i++] = motif;
+            }
+        }
+        return resultat;
+    }
+
+    /**
+     * Génère les 10 alignements classiques.
+     *
+     * @return Les lignes, colonnes et diagonales.
+     */
+    private static int[][] genererAlignements() {
+        int[][] motifs = new int[2 * Plateau.TAILLE + 2][];
+        int n = 0;
+
+        for (int i = 0; i < Plateau.TAILLE; i++) {
+            int[] ligne = new int[TAILLE_MOTIF];
+            int[] colonne = new int[TAILLE_MOTIF];
+            for (int j = 0; j < Plateau.TAILLE; j++) {
+                ligne[j] = indexCase(i, j);
+                colonne[j] = indexCase(j, i);
+            }
+            motifs[n++] = ligne;
+            motifs[n++] = colonne;
+        }
+
+        int[] diagonalePrincipale = new int[TAILLE_MOTIF];
+        int[] diagonaleSecondaire = new int[TAILLE_MOTIF];
+        for (int i = 0; i < Plateau.TAILLE; i++) {
+            diagonalePrincipale[i] = indexCase(i, i);
+            diagonaleSecondaire[i] = indexCase(i, Plateau.TAILLE - 1 - i);
+        }
+        motifs[n++] = diagonalePrincipale;
+        motifs[n] = diagonaleSecondaire;
+
+        return motifs;
+    }
+
+    /**
+     * Génère les carrés dont les coins sont séparés d'un écart donné.
+     *
+     * @param ecart 1 pour les petits carrés (2x2), 2 pour les coins des grands carrés (3x3).
+     * @return Les motifs correspondants.
+     */
+    private static int[][] genererCarres(int ecart) {
+        int cote = Plateau.TAILLE - ecart;
+        int[][] motifs = new int[cote * cote][];
+        int n = 0;
+
+        for (int ligne = 0; ligne < cote; ligne++) {
+            for (int colonne = 0; colonne < cote; colonne++) {
+                motifs[n++] = new int[] {
+                    indexCase(ligne, colonne),
+                    indexCase(ligne, colonne + ecart),
+                    indexCase(ligne + ecart, colonne),
+                    indexCase(ligne + ecart, colonne + ecart)
+                };
+            }
+        }
+
+        return motifs;
+    }
+
+    /**
+     * Génère les carrés tournants : la case du haut, puis ses voisines diagonales
+     * à droite et à gauche sur la ligne suivante, puis la case du bas.
+     *
+     * @return Les motifs des carrés tournants.
+     */
+    private static int[][] genererCarresTournants() {
+        int[][] motifs = new int[4][];
+        int n = 0;
+
+        for (int ligne = 0; ligne + 2 < Plateau.TAILLE; ligne++) {
+            for (int colonne = 1; colonne + 1 < Plateau.TAILLE; colonne++) {
+                motifs[n++] = new int[] {
+                    indexCase(ligne, colonne),
+                    indexCase(ligne + 1, colonne + 1),
+                    indexCase(ligne + 1, colonne - 1),
+                    indexCase(ligne + 2, colonne)
+                };
+            }
+        }
+
+        return motifs;
+    }
+}
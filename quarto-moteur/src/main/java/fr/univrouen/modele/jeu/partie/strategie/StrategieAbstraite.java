@@ -1,6 +1,6 @@
 package fr.univrouen.modele.jeu.partie.strategie;
 
-import java.util.List;
+import java.util.*;
 
 import fr.univrouen.modele.jeu.partie.strategie.verificateur.*;
 import fr.univrouen.modele.jeu.piece.Piece;
@@ -13,6 +13,10 @@ import fr.univrouen.modele.jeu.piece.Piece;
  * qu'elles soient basées sur des alignements de pièces dans différentes configurations
  * (par exemple, les petits carrés, grands carrés, etc.).
  * 
+ * Chaque stratégie est décrite par un ensemble de motifs précalculés (voir {@link Geometrie}) :
+ * la vérification de victoire parcourt ces motifs, et l'heuristique de l'IA réutilise
+ * exactement la même géométrie.
+ * 
  * Elle utilise un mécanisme de vérification de caractéristiques des pièces pour 
  * déterminer si deux pièces partagent une caractéristique en commun, ce qui est nécessaire
  * pour qu'un alignement soit considéré comme gagnant. La chaîne de responsabilité
@@ -21,31 +25,76 @@ import fr.univrouen.modele.jeu.piece.Piece;
  * @author Matisse SENECHAL
  * @see StrategieGagnante
  * @see VerificateurCaracteristique
- * @version 1.0
+ * @see Geometrie
+ * @version 1.1
  * @since JDK 17
  */
 public abstract class StrategieAbstraite implements StrategieGagnante {
     /** Le vérificateur de caractéristiques qui permet de comparer deux pièces. */
     private VerificateurCaracteristique verificateur;
 
+    /** Motifs gagnants de la stratégie (indices de cases). */
+    private final int[][] motifs;
+
     /**
-     * Constructeur par défaut qui initialise le vérificateur de caractéristiques.
+     * Constructeur qui enregistre les motifs gagnants et initialise le vérificateur de caractéristiques.
      * Le vérificateur est configuré comme une chaîne de responsabilité qui vérifie
      * les caractéristiques dans l'ordre suivant : hauteur, couleur, remplissage, forme.
      * 
+     * @param motifs Les motifs gagnants de la stratégie.
      * @see VerificateurHauteur
      * @see VerificateurCouleur
      * @see VerificateurRemplissage
      * @see VerificateurForme
      * @see VerificateurCaracteristique#setSuivant(VerificateurCaracteristique) 
      */
-    public StrategieAbstraite() {
+    protected StrategieAbstraite(int[][] motifs) {
+        this.motifs = motifs;
         verificateur = new VerificateurHauteur();
         verificateur.setSuivant(new VerificateurCouleur())
                     .setSuivant(new VerificateurRemplissage())
                     .setSuivant(new VerificateurForme());
     }
 
+    @Override
+    public int[][] getMotifs() {
+        return motifs;
+    }
+
+    @Override
+    public boolean verifierGagnant(Piece[][] plateau) {
+        for (int[] motif : motifs) {
+            if (verifierMotif(plateau, motif)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Vérifie si les 4 cases d'un motif sont occupées par des pièces partageant une caractéristique.
+     *
+     * @param plateau Le plateau de jeu (une matrice 4x4 de pièces).
+     * @param motif   Les indices des 4 cases du motif.
+     * @return vrai si le motif est complet et gagnant, sinon faux.
+     */
+    private boolean verifierMotif(Piece[][] plateau, int[] motif) {
+        Piece[] pieces = new Piece[motif.length];
+
+        for (int i = 0; i < motif.length; i++) {
+            int index = motif[i];
+            pieces[i] = plateau[index / plateau.length][index % plateau.length];
+
+            // Une case vide rend le motif non gagnant
+            if (pieces[i] == null) {
+                return false;
+            }
+        }
+
+        return verifierCaracteristiques(Arrays.asList(pieces));
+    }
+
     /**
      * Vérifie si deux pièces ont la même caractéristique en utilisant la chaîne de responsabilité.
      * Le vérificateur vérifie successivement si les pièces partagent une caractéristique commune,
@@ -60,4 +109,4 @@ public abstract class StrategieAbstraite implements StrategieGagnante {
     protected boolean verifierCaracteristiques(List<Piece> pieces) {
         return verificateur.verifier(pieces);
     }
-}
\ No newline at end of file
+}
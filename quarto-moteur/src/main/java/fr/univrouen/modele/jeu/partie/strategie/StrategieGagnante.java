@@ -15,7 +15,7 @@ import fr.univrouen.modele.jeu.piece.Piece;
  * de différentes tailles (petits, grands, tournants, etc.), en fonction des règles du jeu.
  * 
  * @author Matisse SENECHAL
- * @version 1.0
+ * @version 1.1
  * @since JDK 17
  */
 public interface StrategieGagnante {
@@ -32,4 +32,17 @@ public interface StrategieGagnante {
      * @see Piece
      */
     boolean verifierGagnant(Piece[][] plateau);
+
+    /**
+     * Retourne l'ensemble des motifs gagnants de la stratégie.
+     * <p>
+     * Chaque motif est un tableau de 4 indices de cases ({@code ligne * 4 + colonne}).
+     * Cette géométrie est partagée entre la détection de victoire et l'évaluation
+     * heuristique, qui doivent considérer exactement les mêmes configurations.
+     * </p>
+     *
+     * @return Les motifs gagnants (tableau partagé, à ne pas modifier).
+     * @see Geometrie
+     */
+    int[][] getMotifs();
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package fr.univrouen.modele.jeu.partie.strategie;
+
+import fr.univrouen.modele.jeu.piece.Piece;
+
+/**
+ * Classe représentant une stratégie gagnante basée sur l'alignement de 4 pièces ayant un caractère en commun
+ * dans le jeu Quarto!.
+ * Cette stratégie vérifie si un alignement de quatre pièces, disposées horizontalement, verticalement ou diagonalement,
+ * contient des pièces ayant une caractéristique en commun (par exemple la même hauteur, couleur, etc.).
+ * 
+ * <p>Pour un alignement de 4 pièces d'une caractéristique commune, la méthode {@link #verifierGagnant(Piece[][])} 
+ * renverra vrai, indiquant qu'il y a une condition gagnante sur le plateau.</p>
+ * 
+ * @see StrategieAbstraite
+ * @see Geometrie#ALIGNEMENTS
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ */
+public class StrategieNiveau1 extends StrategieAbstraite {
+    /** Motifs gagnants du niveau 1 : lignes, colonnes et diagonales. */
+    static final int[][] MOTIFS = Geometrie.ALIGNEMENTS;
+
+    /**
+     * Constructeur par défaut qui enregistre les alignements classiques comme motifs gagnants.
+     */
+    public StrategieNiveau1() {
+        super(MOTIFS);
+    }
+}
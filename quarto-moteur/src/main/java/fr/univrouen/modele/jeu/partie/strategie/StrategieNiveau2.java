@@ -0,0 +1,31 @@
+package fr.univrouen.modele.jeu.partie.strategie;
+
+/**
+ * Classe représentant une stratégie gagnante basée sur l'alignement de 4 pièces ayant un caractère en commun
+ * dans un petit carré du jeu Quarto!.
+ * Cette stratégie vérifie si un petit carré formé par 4 pièces disposées dans une configuration spécifique
+ * (par exemple a1, a2, b1, b2) contient des pièces ayant une caractéristique en commun (par exemple la même hauteur, couleur, ...).
+ * 
+ * <p>Les configurations gagnantes pour ce niveau sont celles du niveau 1, mais les pièces sont placées dans un petit carré 
+ * de la forme a1, a2, b1, b2 ou b2, b3, c2, c3.</p>
+ * <p>Elle vérifie également les configurations gagnantes du niveau 1.</p>
+ * 
+ * @see StrategieAbstraite
+ * @see StrategieNiveau1
+ * @see Geometrie#PETITS_CARRES
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ */
+public class StrategieNiveau2 extends StrategieAbstraite {
+    /** Motifs gagnants du niveau 2 : petits carrés et configurations du niveau 1. */
+    static final int[][] MOTIFS = Geometrie.concatener(Geometrie.PETITS_CARRES, StrategieNiveau1.MOTIFS);
+
+    /**
+     * Constructeur par défaut qui enregistre les petits carrés (2x2) ainsi que
+     * les configurations gagnantes classiques du niveau 1.
+     */
+    public StrategieNiveau2() {
+        super(MOTIFS);
+    }
+}
@@ -0,0 +1,32 @@
+package fr.univrouen.modele.jeu.partie.strategie;
+
+/**
+ * Classe représentant une stratégie gagnante basée sur l'alignement de pièces
+ * dans un grand carré pour le niveau 3 du jeu Quarto.
+ * Cette stratégie vérifie si un grand carré formé par 4 pièces, disposées
+ * dans une configuration spécifique, contient des pièces ayant la même
+ * caractéristique. Un grand carré est défini par 4 pièces aux coins d'un carré
+ * 3x3, tel que les positions a1, a3, c1, c3 par exemple.
+ * 
+ * La méthode de vérification de la victoire considère également la stratégie du
+ * niveau 2, dans laquelle les pièces forment un petit carré (2x2).
+ * 
+ * @see StrategieAbstraite
+ * @see StrategieNiveau2
+ * @see Geometrie#GRANDS_CARRES
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ */
+public class StrategieNiveau3 extends StrategieAbstraite {
+    /** Motifs gagnants du niveau 3 : grands carrés et configurations du niveau 2. */
+    static final int[][] MOTIFS = Geometrie.concatener(Geometrie.GRANDS_CARRES, StrategieNiveau2.MOTIFS);
+
+    /**
+     * Constructeur par défaut qui enregistre les grands carrés (coins 3x3) ainsi que
+     * les configurations gagnantes du niveau 2, incluant les petits carrés (2x2).
+     */
+    public StrategieNiveau3() {
+        super(MOTIFS);
+    }
+}
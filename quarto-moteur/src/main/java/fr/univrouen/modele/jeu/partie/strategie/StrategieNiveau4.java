@@ -0,0 +1,33 @@
+package fr.univrouen.modele.jeu.partie.strategie;
+
+/**
+ * Classe représentant une stratégie gagnante basée sur l'alignement de pièces
+ * dans un carré tournant pour le niveau 4 du jeu Quarto.
+ * Cette stratégie vérifie si un carré tournant formé par 4 pièces, disposées
+ * dans une configuration spécifique, contient des pièces ayant la même
+ * caractéristique. Un carré tournant est défini par 4 pièces placées dans des
+ * positions formant un carré en rotation, par exemple les positions a2, b1, c2, b3.
+ * 
+ * La méthode de vérification de la victoire considère également la stratégie du
+ * niveau 3, dans laquelle les pièces forment un grand carré (3x3).
+ * 
+ * @see StrategieAbstraite
+ * @see StrategieNiveau3
+ * @see Geometrie#CARRES_TOURNANTS
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ */
+public class StrategieNiveau4 extends StrategieAbstraite {
+    /** Motifs gagnants du niveau 4 : carrés tournants et configurations du niveau 3. */
+    static final int[][] MOTIFS = Geometrie.concatener(Geometrie.CARRES_TOURNANTS, StrategieNiveau3.MOTIFS);
+
+    /**
+     * Constructeur de la stratégie du niveau 4.
+     * Ce constructeur enregistre les carrés tournants ainsi que les configurations
+     * gagnantes du niveau 3 (grands carrés) et des niveaux inférieurs.
+     */
+    public StrategieNiveau4() {
+        super(MOTIFS);
+    }
+}
@@ -0,0 +1,175 @@
+package fr.univrouen.modele.jeu.piece;
+
+import java.util.List;
+
+/**
+ * Classe utilitaire permettant de calculer une heuristique sur l'état du plateau
+ * dans le jeu Quarto. Cette heuristique est utilisée notamment dans les stratégies
+ * d'IA (comme Minimax) pour évaluer les positions favorables.
+ * 
+ * <p>
+ * Elle attribue des scores aux alignements de pièces en fonction du nombre
+ * de caractéristiques communes entre les pièces alignées (forme, hauteur,
+ * couleur, remplissage).
+ * </p>
+ * 
+ * @author Matisse SENECHAL
+ * @version 1.2
+ * @since JDK 17
+ */
+public class Heuristique {
+    /**
+     * Valeur renvoyée par {@link #evaluerMotifs(Piece[][], int[][])} lorsqu'un motif
+     * complet partage une caractéristique : la position est gagnée.
+     */
+    public static final int VICTOIRE = Integer.MAX_VALUE;
+
+    /** Poids en vigueur, chargés au démarrage (voir {@link PoidsHeuristique}). */
+    private static volatile PoidsHeuristique poids = PoidsHeuristique.chargerAuDemarrage();
+
+    /**
+     * Calcule un score heuristique global pour une liste d’alignements.
+     * <p>
+     * Chaque alignement est analysé, et un score est attribué en fonction
+     * du nombre de caractéristiques communes entre les pièces (poids par défaut) :
+     * <ul>
+     *     <li>4 caractéristiques communes : +1000 points</li>
+     *     <li>3 caractéristiques communes : +100 points</li>
+     *     <li>2 caractéristiques communes : +10 points</li>
+     *     <li>1 caractéristique commune : +1 point</li>
+     *     <li>0 ou moins : 0 point</li>
+     * </ul>
+     * Ces poids peuvent être remplacés, voir {@link PoidsHeuristique}.
+     *
+     * @param alignements Liste des alignements (lignes, colonnes, diagonales).
+     * @return Un score heuristique global pour le plateau.
+     */
+    public static int evaluerAlignements(List<List<Piece>> alignements) {
+        int total = 0;
+    
+        for (List<Piece> ligne : alignements) {
+            total += points(compterAttributsCommuns(ligne));
+        }
+    
+        return total;
+    }   
+
+    /**
+     * Évalue le plateau en une seule passe sur les motifs gagnants de la stratégie active.
+     * <p>
+     * Chaque motif est noté comme dans {@link #evaluerAlignements(List)}. Si un motif est complet
+     * et que ses 4 pièces partagent une caractéristique, la position est gagnée : le parcours
+     * s'arrête et {@link #VICTOIRE} est renvoyé. Une seule passe sert donc à la fois
+     * à la détection de victoire et à l'évaluation.
+     * </p>
+     *
+     * @param grille La grille 4x4 du plateau.
+     * @param motifs Les motifs gagnants (indices de cases), voir {@code StrategieGagnante#getMotifs()}.
+     * @return Le score heuristique, ou {@link #VICTOIRE} si un motif gagnant est complet.
+     */
+    public static int evaluerMotifs(Piece[][] grille, int[][] motifs) {
+        int total = 0;
+
+        for (int[] motif : motifs) {
+            int communsUn = 0xF;   // Caractéristiques à 1 partagées par toutes les pièces
+            int communsZero = 0xF; // Caractéristiques à 0 partagées par toutes les pièces
+            int nbPieces = 0;
+
+            for (int index : motif) {
+                Piece piece = grille[index >> 2][index & 3];
+                if (piece != null) {
+                    int bits = piece.getId();
+                    communsUn &= bits;
+                    communsZero &= ~bits;
+                    nbPieces++;
+                }
+            }
+
+            if (nbPieces < 2) continue;
+
+            int communs = Integer.bitCount((communsUn | communsZero) & 0xF);
+            if (nbPieces == motif.length && communs > 0) {
+                return VICTOIRE;
+            }
+            total += points(communs);
+        }
+
+        return total;
+    }
+
+    /**
+     * Convertit un nombre de caractéristiques communes en points, selon les poids en vigueur.
+     *
+     * @param communs Le nombre de caractéristiques communes (0 à 4).
+     * @return Les points attribués à l'alignement.
+     */
+    public static int points(int communs) {
+        return communs <= 0 ? poids.get(0) : poids.get(Math.min(communs, PoidsHeuristique.NOMBRE - 1));
+    }
+
+    /**
+     * Retourne les poids en vigueur.
+     *
+     * @return Les poids utilisés par l'heuristique.
+     */
+    public static PoidsHeuristique getPoids() {
+        return poids;
+    }
+
+    /**
+     * Remplace les poids en vigueur.
+     * <p>
+     * Les évaluations déjà mises en cache restent valables : la clé du cache tient compte
+     * de l'{@linkplain PoidsHeuristique#getEmpreinte() empreinte} des poids.
+     * </p>
+     *
+     * @param nouveauxPoids Les nouveaux poids.
+     * @throws IllegalArgumentException si {@code nouveauxPoids} est {@code null}.
+     */
+    public static void setPoids(PoidsHeuristique nouveauxPoids) {
+        if (nouveauxPoids == null) {
+            throw new IllegalArgumentException("Les poids ne peuvent pas être null.");
+        }
+        poids = nouveauxPoids;
+    }
+
+    /**
+     * Compte combien d’attributs (forme, hauteur, couleur, remplissage)
+     * sont communs entre les pièces d’un alignement.
+     * 
+     * <p>Les pièces nulles sont ignorées. Si moins de deux pièces
+     * sont présentes, aucun attribut ne peut être comparé.</p>
+     *
+     * @param ligne Un alignement (généralement de 4 cases) contenant des pièces ou des cases vides.
+     * @return Le nombre d’attributs identiques parmi les pièces de l’alignement (entre 0 et 4).
+     */
+    public static int compterAttributsCommuns(List<Piece> ligne) {
+        int communs = 0;
+
+        List<Piece> pieces = ligne.stream().filter(p -> p != null).toList();
+        if (pieces.size() < 2) return 0;
+
+        if (tousEgaux(pieces.stream().map(Piece::getHauteur).toList())) communs++;
+        if (tousEgaux(pieces.stream().map(Piece::getForme).toList())) communs++;
+        if (tousEgaux(pieces.stream().map(Piece::getRemplissage).toList())) communs++;
+        if (tousEgaux(pieces.stream().map(Piece::getCouleur).toList())) communs++;
+
+        return communs;
+    }
+
+    /**
+     * Vérifie si tous les éléments d'une liste sont identiques.
+     *
+     * @param valeurs Liste d'éléments de même type.
+     * @param <T> Type des éléments (ex. : Hauteur, Couleur, etc.).
+     * @return {@code true} si tous les éléments sont égaux entre eux, sinon {@code false}.
+     */
+    private static <T> boolean tousEgaux(List<T> valeurs) {
+        if (valeurs.isEmpty()) return false;
+        T premier = valeurs.get(0);
+        for (T val : valeurs) {
+            if (!val.equals(premier)) return false;
+        }
+        return true;
+    }
+}
\ No newline at end of file
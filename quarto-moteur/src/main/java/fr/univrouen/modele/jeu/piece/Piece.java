@@ -0,0 +1,232 @@
+package fr.univrouen.modele.jeu.piece;
+
+import java.util.*;
+
+import fr.univrouen.modele.jeu.piece.caracteristique.*;
+
+/**
+ * Représente une pièce du jeu Quarto, caractérisée par quatre attributs : hauteur, forme, remplissage et couleur.
+ * Cette classe encapsule les caractéristiques d'une pièce de jeu
+ * et fournit des méthodes pour les récupérer et comparer des pièces.
+ *
+ * <p>Une pièce est définie par les attributs suivants :</p>
+ * <ul>
+ *     <li>Hauteur : soit haute, soit basse.</li>
+ *     <li>Forme : soit ronde, soit carrée.</li>
+ *     <li>Remplissage : soit plein, soit creux.</li>
+ *     <li>Couleur : soit claire, soit foncée.</li>
+ * </ul>
+ *
+ * <p>
+ * Les 16 pièces sont des instances canoniques et immuables, créées une fois pour toutes :
+ * elles s'obtiennent par {@link #get(Hauteur, Forme, Remplissage, Couleur)} ou {@link #get(int)},
+ * et deux pièces égales sont toujours le même objet. Chaque pièce porte un identifiant
+ * sur 4 bits ({@code hauteur << 3 | forme << 2 | remplissage << 1 | couleur}, selon les ordinaux),
+ * qui est aussi son code dans les plans de caractéristiques du plateau.
+ * </p>
+ *
+ * @see Hauteur
+ * @see Forme
+ * @see Remplissage
+ * @see Couleur
+ * @author Matisse SENECHAL
+ * @version 2.0
+ * @since JDK 17
+ */
+public final class Piece {
+    /** Nombre de pièces du jeu. */
+    public static final int NOMBRE = 16;
+
+    /** Rang du bit de couleur dans l'identifiant. */
+    public static final int BIT_COULEUR = 0;
+
+    /** Rang du bit de remplissage dans l'identifiant. */
+    public static final int BIT_REMPLISSAGE = 1;
+
+    /** Rang du bit de forme dans l'identifiant. */
+    public static final int BIT_FORME = 2;
+
+    /** Rang du bit de hauteur dans l'identifiant. */
+    public static final int BIT_HAUTEUR = 3;
+
+    /** Les 16 pièces, indexées par identifiant. */
+    private static final Piece[] PIECES = new Piece[NOMBRE];
+
+    /** Vue non modifiable des 16 pièces, dans l'ordre des identifiants. */
+    private static final List<Piece> VALEURS;
+
+    static {
+        for (int id = 0; id < NOMBRE; id++) {
+            PIECES[id] = new Piece(id);
+        }
+        VALEURS = Collections.unmodifiableList(Arrays.asList(PIECES.clone()));
+    }
+
+    /** L'identifiant de la pièce, de 0 à 15. */
+    private final int ID;
+
+    /** La hauteur de la pièce : {@code HAUTE} ou {@code BASSE}. */
+    private final Hauteur HAUTEUR;
+
+    /** La forme de la pièce : {@code RONDE} ou {@code CARREE}. */
+    private final Forme FORME;
+
+    /** Le remplissage de la pièce : {@code PLEIN} ou {@code CREUX}. */
+    private final Remplissage REMPLISSAGE;
+
+    /** La couleur de la pièce : {@code CLAIRE} ou {@code FONCEE}. */
+    private final Couleur COULEUR;
+
+    /**
+     * Crée la pièce canonique d'un identifiant (utilisé uniquement pour remplir la table des pièces).
+     *
+     * @param id L'identifiant sur 4 bits.
+     */
+    private Piece(int id) {
+        this.ID = id;
+        this.HAUTEUR = Hauteur.values()[(id >> BIT_HAUTEUR) & 1];
+        this.FORME = Forme.values()[(id >> BIT_FORME) & 1];
+        this.REMPLISSAGE = Remplissage.values()[(id >> BIT_REMPLISSAGE) & 1];
+        this.COULEUR = Couleur.values()[(id >> BIT_COULEUR) & 1];
+    }
+
+    /**
+     * Retourne la pièce ayant les caractéristiques spécifiées.
+     *
+     * @param hauteur La hauteur de la pièce (Hauteur.HAUTE ou Hauteur.BASSE).
+     * @param forme La forme de la pièce (Forme.RONDE ou Forme.CARREE).
+     * @param remplissage Le remplissage de la pièce (Remplissage.PLEIN ou Remplissage.CREUX).
+     * @param couleur La couleur de la pièce (Couleur.CLAIRE ou Couleur.FONCEE).
+     * @return L'instance canonique de la pièce.
+     * @throws IllegalArgumentException Si l'un des paramètres est nul.
+     */
+    public static Piece get(Hauteur hauteur, Forme forme, Remplissage remplissage, Couleur couleur) {
+        if (hauteur == null || forme == null || remplissage == null || couleur == null) {
+            throw new IllegalArgumentException("Tous les attributs doivent être non nuls.");
+        }
+
+        return PIECES[hauteur.ordinal() << BIT_HAUTEUR
+                    | forme.ordinal() << BIT_FORME
+                    | remplissage.ordinal() << BIT_REMPLISSAGE
+                    | couleur.ordinal() << BIT_COULEUR];
+    }
+
+    /**
+     * Retourne la pièce d'un identifiant donné.
+     *
+     * @param id L'identifiant, de 0 à 15.
+     * @return L'instance canonique de la pièce.
+     * @throws IllegalArgumentException si l'identifiant est hors de l'intervalle.
+     */
+    public static Piece get(int id) {
+        if (id < 0 || id >= NOMBRE) {
+            throw new IllegalArgumentException("Identifiant de pièce invalide : " + id);
+        }
+        return PIECES[id];
+    }
+
+    /**
+     * Retourne les 16 pièces du jeu, dans l'ordre de leurs identifiants.
+     *
+     * @return Une liste non modifiable, partagée, des pièces.
+     */
+    public static List<Piece> valeurs() {
+        return VALEURS;
+    }
+
+    /**
+     * Retourne l'identifiant de la pièce.
+     *
+     * @return Un entier sur 4 bits, entre 0 et 15.
+     */
+    public int getId() {
+        return ID;
+    }
+
+    /**
+     * Retourne un bit de caractéristique de la pièce.
+     *
+     * @param rang Le rang du bit ({@link #BIT_HAUTEUR}, {@link #BIT_FORME},
+     *             {@link #BIT_REMPLISSAGE} ou {@link #BIT_COULEUR}).
+     * @return {@code 0} ou {@code 1}, l'ordinal de la caractéristique correspondante.
+     */
+    public int getBit(int rang) {
+        return (ID >> rang) & 1;
+    }
+
+    /**
+     * Retourne la hauteur de la pièce.
+     *
+     * @return La hauteur de la pièce.
+     * @see Hauteur
+     */
+    public Hauteur getHauteur() {
+        return HAUTEUR;
+    }
+
+    /**
+     * Retourne la forme de la pièce.
+     *
+     * @return La forme de la pièce.
+     * @see Forme
+     */
+    public Forme getForme() {
+        return FORME;
+    }
+
+    /**
+     * Retourne le remplissage de la pièce.
+     *
+     * @return Le remplissage de la pièce.
+     * @see Remplissage
+     */
+    public Remplissage getRemplissage() {
+        return REMPLISSAGE;
+    }
+
+    /**
+     * Retourne la couleur de la pièce.
+     *
+     * @return La couleur de la pièce.
+     * @see Couleur
+     */
+    public Couleur getCouleur() {
+        return COULEUR;
+    }
+
+    /**
+     * Convertit les caractéristiques d'une pièce en tableau de booléens.
+     * <p>Utilisé pour des comparaisons simples dans les algorithmes comme Minimax.</p>
+     *
+     * @param p La pièce à convertir.
+     * @return Un tableau de 4 booléens représentant les attributs (ordre : hauteur, forme, remplissage, couleur).
+     * @deprecated Alloue un tableau à chaque appel : utiliser {@link #getId()} ou {@link #getBit(int)}.
+     */
+    @Deprecated
+    public static boolean[] getAttributs(Piece p) {
+        return new boolean[] {
+            p.getHauteur() == Hauteur.HAUTE,
+            p.getForme() == Forme.CARREE,
+            p.getRemplissage() == Remplissage.PLEIN,
+            p.getCouleur() == Couleur.FONCEE
+        };
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Piece(%s, %s, %s, %s)", HAUTEUR, FORME, REMPLISSAGE, COULEUR);
+    }
+
+    /**
+     * Les pièces étant canoniques, l'égalité se réduit à l'identité.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+        return ID;
+    }
+}
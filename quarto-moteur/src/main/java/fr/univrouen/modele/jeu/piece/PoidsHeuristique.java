@@ -0,0 +1,213 @@
+package fr.univrouen.modele.jeu.piece;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Poids de l'heuristique : points attribués à un motif selon son nombre de caractéristiques communes.
+ * <p>
+ * Les poids par défaut (0, 1, 10, 100, 1000) peuvent être remplacés par un fichier produit
+ * par l'outil de réglage {@code fr.univrouen.outil.ReglagePoids}. Au démarrage, les poids sont lus :
+ * </p>
+ * <ol>
+ *   <li>dans le fichier désigné par la propriété système {@value #PROPRIETE}, si elle est définie ;</li>
+ *   <li>sinon dans la ressource {@value #RESSOURCE} du classpath, si elle existe ;</li>
+ *   <li>sinon les poids par défaut sont utilisés.</li>
+ * </ol>
+ *
+ * <p>Le fichier est au format {@link Properties} : une clé {@code communs.N} par nombre
+ * de caractéristiques communes {@code N} (0 à 4).</p>
+ *
+ * <p>Une instance est immuable.</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see Heuristique
+ */
+public final class PoidsHeuristique {
+    /** Propriété système désignant le fichier de poids à charger. */
+    public static final String PROPRIETE = "quarto.poids";
+
+    /** Ressource du classpath lue en l'absence de propriété système. */
+    public static final String RESSOURCE = "/quarto-poids.properties";
+
+    /** Nombre de poids : un par nombre de caractéristiques communes (0 à 4). */
+    public static final int NOMBRE = 5;
+
+    /** Préfixe des clés du fichier de poids. */
+    private static final String PREFIXE = "communs.";
+
+    /** Poids historiques de l'heuristique. */
+    private static final PoidsHeuristique DEFAUT = new PoidsHeuristique(0, 1, 10, 100, 1000);
+
+    /** Points par nombre de caractéristiques communes. */
+    private final int[] poids;
+
+    /** Empreinte des poids, utilisée pour distinguer les évaluations mises en cache. */
+    private final long empreinte;
+
+    /**
+     * Crée un jeu de poids.
+     *
+     * @param poids Les points pour 0, 1, 2, 3 et 4 caractéristiques communes.
+     * @throws IllegalArgumentException si le nombre de poids n'est pas {@value #NOMBRE}.
+     */
+    public PoidsHeuristique(int... poids) {
+        if (poids == null || poids.length != NOMBRE) {
+            throw new IllegalArgumentException("Il faut exactement " + NOMBRE + " poids.");
+        }
+
+        this.poids = poids.clone();
+        long h = 0;
+        for (int p : this.poids) {
+            h = (h + p) * 0x9E3779B97F4A7C15L;
+        }
+        this.empreinte = h ^ (h >>> 29);
+    }
+
+    /**
+     * Retourne les poids historiques (0, 1, 10, 100, 1000).
+     *
+     * @return Les poids par défaut.
+     */
+    public static PoidsHeuristique parDefaut() {
+        return DEFAUT;
+    }
+
+    /**
+     * Retourne les points attribués à un motif.
+     *
+     * @param communs Le nombre de caractéristiques communes (0 à 4).
+     * @return Les points correspondants.
+     */
+    public int get(int communs) {
+        return poids[communs];
+    }
+
+    /**
+     * Retourne une copie des poids.
+     *
+     * @return Les points pour 0 à 4 caractéristiques communes.
+     */
+    public int[] toArray() {
+        return poids.clone();
+    }
+
+    /**
+     * Retourne l'empreinte des poids.
+     *
+     * @return Une valeur 64 bits différente (en pratique) pour chaque jeu de poids.
+     */
+    public long getEmpreinte() {
+        return empreinte;
+    }
+
+    /**
+     * Lit des poids au format {@link Properties}.
+     *
+     * @param entree Le flux à lire.
+     * @return Les poids lus.
+     * @throws IOException              en cas d'erreur de lecture.
+     * @throws IllegalArgumentException si une clé manque ou n'est pas un entier.
+     */
+    public static PoidsHeuristique charger(InputStream entree) throws IOException {
+        Properties proprietes = new Properties();
+        proprietes.load(new InputStreamReader(entree, StandardCharsets.UTF_8));
+
+        int[] poids = new int[NOMBRE];
+        for (int communs = 0; communs < NOMBRE; communs++) {
+            String valeur = proprietes.getProperty(PREFIXE + communs);
+            if (valeur == null) {
+                throw new IllegalArgumentException("Poids manquant : " + PREFIXE + communs);
+            }
+            try {
+                poids[communs] = Integer.parseInt(valeur.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Poids invalide pour " + PREFIXE + communs + " : " + valeur, e);
+            }
+        }
+        return new PoidsHeuristique(poids);
+    }
+
+    /**
+     * Lit des poids depuis un fichier.
+     *
+     * @param fichier Le fichier à lire.
+     * @return Les poids lus.
+     * @throws IOException              en cas d'erreur de lecture.
+     * @throws IllegalArgumentException si le fichier est incomplet ou invalide.
+     */
+    public static PoidsHeuristique charger(Path fichier) throws IOException {
+        try (InputStream entree = Files.newInputStream(fichier)) {
+            return charger(entree);
+        }
+    }
+
+    /**
+     * Écrit les poids dans un fichier, lisible par {@link #charger(Path)}.
+     *
+     * @param fichier     Le fichier à écrire.
+     * @param commentaire Le commentaire placé en tête du fichier (peut être {@code null}).
+     * @throws IOException en cas d'erreur d'écriture.
+     */
+    public void sauvegarder(Path fichier, String commentaire) throws IOException {
+        StringBuilder contenu = new StringBuilder();
+        if (commentaire != null) {
+            for (String ligne : commentaire.split("\n")) {
+                contenu.append("# ").append(ligne).append('\n');
+            }
+        }
+        for (int communs = 0; communs < NOMBRE; communs++) {
+            contenu.append(PREFIXE).append(communs).append('=').append(poids[communs]).append('\n');
+        }
+        Files.write(fichier, contenu.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Charge les poids utilisés au démarrage (propriété système, puis ressource, puis valeurs par défaut).
+     * <p>
+     * Un fichier illisible ou invalide est signalé et remplacé par les poids par défaut,
+     * afin de ne jamais empêcher le lancement du jeu.
+     * </p>
+     *
+     * @return Les poids à utiliser.
+     */
+    static PoidsHeuristique chargerAuDemarrage() {
+        try {
+            String fichier = System.getProperty(PROPRIETE);
+            if (fichier != null) {
+                return charger(Paths.get(fichier));
+            }
+
+            try (InputStream ressource = PoidsHeuristique.class.getResourceAsStream(RESSOURCE)) {
+                if (ressource != null) {
+                    return charger(ressource);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+        }
+        return DEFAUT;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof PoidsHeuristique)) return false;
+        return Arrays.equals(poids, ((PoidsHeuristique) obj).poids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(poids);
+    }
+
+    @Override
+    public String toString() {
+        return "PoidsHeuristique" + Arrays.toString(poids);
+    }
+}
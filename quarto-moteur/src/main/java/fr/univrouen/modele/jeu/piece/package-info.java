@@ -3,7 +3,7 @@
  * <p>
  * Ce package comprend :
  * <ul>
- *   <li>La classe {@code Piece} représentant une pièce unique.</li>
+ *   <li>La classe {@code Piece} représentant une pièce unique (16 instances canoniques, identifiées sur 4 bits).</li>
  *   <li>Les énumérations décrivant ses caractéristiques : hauteur, forme, couleur, remplissage.</li>
  *   <li>Des utilitaires comme {@code Heuristique} pour l’évaluation du plateau.</li>
  * </ul>
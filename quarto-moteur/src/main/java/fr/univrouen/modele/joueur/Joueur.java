@@ -1,5 +1,6 @@
 package fr.univrouen.modele.joueur;
 
+import fr.univrouen.modele.jeu.partie.Coup;
 import fr.univrouen.modele.jeu.partie.Jeu;
 import fr.univrouen.modele.jeu.piece.Piece;
 import fr.univrouen.modele.jeu.partie.plateau.Position;
@@ -11,9 +12,14 @@ import fr.univrouen.modele.jeu.partie.plateau.Position;
  * Il doit être capable de placer une pièce sur le plateau et de choisir une pièce
  * à donner à l'adversaire.
  * </p>
+ *
+ * <p>
+ * Un joueur capable de décider seul (une IA) expose aussi {@link #deciderCoup(Jeu)}, qui renvoie
+ * son coup sans modifier la partie ; celui-ci est ensuite joué par {@link Jeu#jouerCoup(Coup)}.
+ * </p>
  * 
  * @author Matisse SENECHAL
- * @version 1.1
+ * @version 1.2
  * @since JDK 17
  */
 public interface Joueur {
@@ -45,4 +51,15 @@ public interface Joueur {
      * @param pieceChoisit La pièce sélectionnée à remettre à l’adversaire.
      */
     void choisirPiece(Jeu jeu, Piece pieceChoisit);
-}
\ No newline at end of file
+
+    /**
+     * Calcule le coup du joueur pour l'état donné, sans modifier la partie.
+     *
+     * @param jeu L’état actuel du jeu.
+     * @return Le coup choisi, ou {@code null} si les coups du joueur viennent de l'interface
+     *         (joueur humain).
+     */
+    default Coup deciderCoup(Jeu jeu) {
+        return null;
+    }
+}
@@ -1,6 +1,6 @@
 package fr.univrouen.modele.joueur.humain;
 
-import fr.univrouen.modele.jeu.partie.plateau.*;
+import fr.univrouen.modele.jeu.partie.plateau.Position;
 import fr.univrouen.modele.jeu.piece.Piece;
 import fr.univrouen.modele.joueur.Joueur;
 import fr.univrouen.modele.jeu.partie.*;
@@ -16,9 +16,11 @@ import fr.univrouen.modele.jeu.partie.*;
  *   <li>Lors du placement, elle place la pièce sélectionnée sur le plateau.</li>
  *   <li>Lors du choix de pièce, elle définit la prochaine pièce que devra jouer l’adversaire.</li>
  * </ul>
+ *
+ * <p>Chaque action est jouée comme un demi-{@link Coup}, et entre donc dans l'historique de la partie.</p>
  * 
  * @author Matisse SENECHAL
- * @version 1.1
+ * @version 1.2
  * @since JDK 17
  */
 public class JoueurHumain implements Joueur {
@@ -35,18 +37,15 @@ public class JoueurHumain implements Joueur {
 
     @Override
     public void placerPiece(Jeu jeu, Piece piece, Position position) {
-        Plateau plateauDeJeu = jeu.getPlateau();
-
-        plateauDeJeu.placerPiece(piece, position);
-        jeu.retirerPieceChoisit(piece);
-        jeu.setPieceCourante(null);
+        // La pièce posée est la pièce courante de la partie
+        jeu.jouerCoup(Coup.get(position, null));
     }
 
     @Override
     public void choisirPiece(Jeu jeu, Piece pieceChoisit) {
-        if(pieceChoisit != null) {
-            jeu.setPieceCourante(pieceChoisit);
-            jeu.tourSuivant();
+        // Une pièce ne peut être donnée qu'une fois la pièce reçue posée
+        if (pieceChoisit != null && jeu.getPieceCourante() == null) {
+            jeu.jouerCoup(Coup.get(null, pieceChoisit));
         }
     }
 
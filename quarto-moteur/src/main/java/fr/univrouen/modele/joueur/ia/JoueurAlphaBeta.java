@@ -1,11 +1,8 @@
 package fr.univrouen.modele.joueur.ia;
 
 import fr.univrouen.modele.arbre.*;
-import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.jeu.partie.*;
 import fr.univrouen.modele.jeu.piece.Piece;
-import fr.univrouen.modele.jeu.partie.plateau.Position;
-
-import java.util.List;
 
 /**
  * Représente un joueur IA utilisant l'algorithme Alpha-Bêta.
@@ -19,7 +16,7 @@ import java.util.List;
  * @see JoueurIA
  * @see ArborescenceAlphaBeta
  * @author Matisse SENECHAL
- * @version 1.0
+ * @version 2.1
  * @since JDK 17
  */
 public class JoueurAlphaBeta extends JoueurIA {
@@ -38,13 +35,13 @@ public class JoueurAlphaBeta extends JoueurIA {
      * Phase de **choix de pièce** : l'IA cherche à donner la pièce
      * la moins favorable à l'adversaire.
      *
-     * @param jeu     Le jeu actuel.
-     * @param ignoree Ignoré dans ce contexte (ancienne pièce éventuellement donnée).
+     * @param jeu Le jeu actuel.
+     * @return La pièce à donner.
      */
     @Override
-    public void choisirPiece(Jeu jeu, Piece ignoree) {
+    protected Piece deciderPiece(Jeu jeu) {
         Arborescence constructeur = new ArborescenceAlphaBeta();
-        NoeudArbre racine = constructeur.construireArbre(jeu, Joueur.MIN);
+        NoeudArbre racine = construireArbre(constructeur, jeu, Joueur.MIN);
 
         NoeudArbre meilleurChoix = null;
         double meilleureHeuristique = Double.NEGATIVE_INFINITY;
@@ -66,51 +63,34 @@ public class JoueurAlphaBeta extends JoueurIA {
         }
 
         // Si aucun bon choix n'a été trouvé, on en prend une par défaut
-        Piece pieceFinale = (meilleurChoix != null)
+        return (meilleurChoix != null && meilleurChoix.getPieceDonnee() != null)
             ? meilleurChoix.getPieceDonnee()
             : choisirPieceParDefaut(jeu);
-
-        if (pieceFinale != null) {
-            jeu.setPieceCourante(pieceFinale);
-        }
-
-        jeu.tourSuivant();
     }
 
     /**
      * Phase de **placement de pièce** : l'IA choisit la meilleure position où placer la pièce.
      *
-     * @param jeu      Le jeu actuel.
-     * @param piece    La pièce à placer.
-     * @param ignoree  Non utilisé ici (position suggérée).
+     * @param jeu   Le jeu actuel.
+     * @param piece La pièce à placer.
+     * @return L'indice de la case choisie.
      */
     @Override
-    public void placerPiece(Jeu jeu, Piece piece, Position ignoree) {
-        List<Position> positionsDisponibles = jeu.getPlateau().getPositionsDisponibles();
-
+    protected int deciderPlacement(Jeu jeu, Piece piece) {
         // 1. Vérifie s'il existe une position menant à une victoire immédiate
-        for (Position position : positionsDisponibles) {
-            Jeu simulation = jeu.copier();
-            simulation.getPlateau().placerPiece(piece, position);
-            simulation.retirerPieceChoisit(piece);
-            simulation.setPieceCourante(null);
-
-            if (simulation.aGagne() && !simulation.getJoueurGagnant().getNom().contains("Humain")) {
-                appliquerPlacement(jeu, piece, position);
-                return;
-            }
+        int caseGagnante = rechercherVictoireImmediate(jeu, piece);
+        if (caseGagnante != Coup.AUCUN) {
+            return caseGagnante;
         }
 
         // 2. Sinon, utilise l’arborescence Alpha-Bêta pour choisir la meilleure position
         Arborescence constructeur = new ArborescenceAlphaBeta();
-        NoeudArbre racine = constructeur.construireArbre(jeu, Joueur.MAX);
+        NoeudArbre racine = construireArbre(constructeur, jeu, Joueur.MAX);
 
         NoeudArbre meilleur = trouverMeilleurFils(racine);
-        Position positionChoisie = (meilleur != null)
-                ? meilleur.getPositionJouee()
-                : positionsDisponibles.get(0);
-
-        appliquerPlacement(jeu, piece, positionChoisie);
+        return (meilleur != null && meilleur.getPositionJouee() != null)
+                ? meilleur.getPositionJouee().getIndex()
+                : choisirCaseParDefaut(jeu);
     }
 
     /**
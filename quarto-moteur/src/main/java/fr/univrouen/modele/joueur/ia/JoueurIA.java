@@ -0,0 +1,373 @@
+package fr.univrouen.modele.joueur.ia;
+
+import fr.univrouen.modele.arbre.Arborescence;
+import fr.univrouen.modele.arbre.NoeudArbre;
+import fr.univrouen.modele.jeu.partie.*;
+import fr.univrouen.modele.jeu.partie.plateau.Position;
+import fr.univrouen.modele.jeu.piece.Piece;
+import fr.univrouen.modele.joueur.Joueur;
+import fr.univrouen.modele.temps.*;
+
+/**
+ * Classe abstraite représentant un joueur de type Intelligence Artificielle (IA).
+ * Cette classe implémente l'interface Joueur et fournit une structure pour les algorithmes de l'IA (par exemple, Minimax, Alpha-Beta).
+ * <p>
+ * La décision est séparée de son application : {@link #deciderCoup(Jeu)} calcule un {@link Coup}
+ * sans modifier la partie (les algorithmes ne travaillent que sur des copies), à partir des deux
+ * décisions propres à chaque algorithme, {@link #deciderPlacement(Jeu, Piece)} et {@link #deciderPiece(Jeu)}.
+ * Le coup est ensuite joué par {@link Jeu#jouerCoup(Coup)}. Une décision peut donc être mesurée,
+ * mise en cache ou calculée sur un autre thread sans toucher à la partie en cours.
+ * </p>
+ *
+ * <p>
+ * Sans {@linkplain #setPendule(Pendule) pendule}, chaque arbre est construit à la profondeur fixe des algorithmes,
+ * ou à celle {@linkplain #setProfondeur(int) imposée} à l’IA.
+ * Avec une pendule, l'IA gère son temps : le {@link GestionnaireTemps} fixe l'échéance de chaque coup,
+ * partagée entre le placement et le choix de la pièce, et {@link #construireArbre(Arborescence, Jeu, fr.univrouen.modele.arbre.Joueur)}
+ * approfondit l'arbre itérativement tant que le budget le permet, sans jamais dépasser la limite dure.
+ * Un {@linkplain #setQuotaNoeuds(long) quota de nœuds} borne en outre la mémoire de chaque arbre approfondi.
+ * Une IA ne prend qu'une décision à la fois, et compte les {@linkplain #getNoeudsVisites() nœuds} de ses arbres.
+ * </p>
+ *
+ * @see Joueur
+ * @see Jeu
+ * @author Matisse SENECHAL
+ * @version 2.5
+ * @since JDK 17
+ */
+public abstract class JoueurIA implements Joueur {
+    /** Part du budget d'un coup accordée au placement, le reste allant au choix de la pièce. */
+    private static final double PART_PLACEMENT = 0.5;
+
+    /** Gestionnaire du temps de réflexion, ou {@code null} pour une profondeur fixe. */
+    private GestionnaireTemps gestionnaireTemps;
+
+    /** Échéance de la décision en cours, ou {@code null} hors gestion du temps. */
+    private Echeance echeance;
+
+    /** Nombre maximal de nœuds d'un arbre approfondi, ou 0 sans quota. */
+    private long quotaNoeuds;
+
+    /** Profondeur des arbres hors gestion du temps, en demi-coups, ou 0 pour celle de l'algorithme. */
+    private int profondeur;
+
+    /** Nombre de nœuds visités par les arbres de l'IA depuis sa création. */
+    private long noeudsVisites;
+
+    /**
+     * Constructeur d'une IA.
+     */
+    public JoueurIA() {}
+
+    /**
+     * Calcule le coup complet du joueur actuel, sans modifier la partie.
+     * <p>
+     * Si une pièce est à placer, l'IA choisit sa case, puis, si la partie continue après ce placement,
+     * la pièce à donner (décidée sur une copie où le placement a été joué). Sinon (premier tour),
+     * le coup se limite au choix de la pièce à donner.
+     * </p>
+     *
+     * @param jeu L’état du jeu courant, qui n'est pas modifié.
+     * @return Le coup choisi.
+     */
+    @Override
+    public Coup deciderCoup(Jeu jeu) {
+        Echeance echeanceCoup = (gestionnaireTemps == null) ? null : gestionnaireTemps.demarrerCoup(jeu);
+        if (echeanceCoup != null && quotaNoeuds > 0) {
+            echeanceCoup = echeanceCoup.limiterNoeuds(quotaNoeuds);
+        }
+        try {
+            Piece pieceAPlacer = jeu.getPieceCourante();
+            if (pieceAPlacer == null) {
+                echeance = echeanceCoup;
+                return Coup.get(Coup.AUCUN, idOuAucun(deciderPiece(jeu)));
+            }
+
+            echeance = (echeanceCoup == null) ? null : echeanceCoup.partager(PART_PLACEMENT);
+            int index = deciderPlacement(jeu, pieceAPlacer);
+
+            Jeu apres = jeu.copier();
+            apres.getPlateau().placerPiece(pieceAPlacer, index);
+            apres.retirerPieceChoisit(pieceAPlacer);
+            apres.setPieceCourante(null);
+
+            echeance = echeanceCoup;
+            return Coup.get(index, apres.estTerminee() ? Coup.AUCUN : idOuAucun(deciderPiece(apres)));
+        } finally {
+            echeance = null;
+            if (gestionnaireTemps != null) {
+                gestionnaireTemps.terminerCoup();
+            }
+        }
+    }
+
+    /**
+     * Construit l'arbre de décision d'un algorithme pour la décision en cours.
+     * <p>
+     * Hors gestion du temps, l'arbre est construit à la profondeur imposée à l'IA ou, à défaut, à celle de l'algorithme.
+     * Sinon, il est approfondi itérativement à partir d'un demi-coup : une nouvelle itération n'est lancée
+     * que si le budget souple (allongé quand le meilleur coup ou son score changent) n'est pas épuisé
+     * et qu'elle devrait finir avant la limite dure ; une itération interrompue par la limite dure est abandonnée.
+     * L'approfondissement s'arrête aussi quand l'arbre couvre toute la fin de partie ou qu'un gain
+     * ou une perte est prouvé.
+     * </p>
+     *
+     * @param constructeur Le constructeur d'arbre de l'algorithme.
+     * @param jeu          L'état du jeu à la racine.
+     * @param joueur       L'étiquette de la racine.
+     * @return La racine de l'arbre le plus profond construit en entier.
+     */
+    protected NoeudArbre construireArbre(Arborescence constructeur, Jeu jeu, fr.univrouen.modele.arbre.Joueur joueur) {
+        Echeance echeanceDecision = this.echeance;
+        if (echeanceDecision == null) {
+            NoeudArbre racine = (profondeur == 0)
+                ? constructeur.construireArbre(jeu, joueur)
+                : constructeur.construireArbre(jeu, joueur, profondeur, Echeance.AUCUNE);
+            noeudsVisites += constructeur.getNoeudsVisites();
+            return racine;
+        }
+
+        // Le premier demi-coup est toujours exploré en entier : il garantit une décision
+        long debut = System.nanoTime();
+        NoeudArbre meilleur = constructeur.construireArbre(jeu, joueur, 1, Echeance.AUCUNE);
+        noeudsVisites += constructeur.getNoeudsVisites();
+        long duree = System.nanoTime() - debut;
+        long dureePrecedente = 0;
+        double instabilite = 1.0;
+        int profondeurFinale = 2 * Integer.bitCount(jeu.getPlateau().getMasqueLibres());
+
+        for (int profondeur = 2; profondeur <= profondeurFinale && !Double.isInfinite(meilleur.getHeuristique()); profondeur++) {
+            long branchement = (dureePrecedente == 0) ? 4 : Math.max(2, Math.min(16, duree / Math.max(1, dureePrecedente)));
+            if (!echeanceDecision.peutApprofondir(duree * branchement, instabilite)) break;
+
+            debut = System.nanoTime();
+            NoeudArbre racine = constructeur.construireArbre(jeu, joueur, profondeur, echeanceDecision);
+            noeudsVisites += constructeur.getNoeudsVisites();
+            if (racine == null) break; // Limite dure atteinte : l'itération précédente fait foi
+
+            dureePrecedente = duree;
+            duree = System.nanoTime() - debut;
+            boolean coupChange = codeFilsPrincipal(racine) != codeFilsPrincipal(meilleur);
+            instabilite = GestionnaireTemps.facteurInstabilite(coupChange, meilleur.getHeuristique(), racine.getHeuristique());
+            meilleur = racine;
+        }
+        return meilleur;
+    }
+
+    /**
+     * Retourne le coup du premier fils dont la valeur est celle de la racine, c'est-à-dire le meilleur coup de l'arbre.
+     *
+     * @param racine La racine de l'arbre.
+     * @return La case jouée ou, pour un choix de pièce, 16 plus la pièce donnée ; {@link Coup#AUCUN} sans fils.
+     */
+    private static int codeFilsPrincipal(NoeudArbre racine) {
+        for (NoeudArbre fils = racine.getFilsaine(); fils != null; fils = fils.getFreredroit()) {
+            if (fils.getHeuristique() == racine.getHeuristique()) {
+                if (fils.getPositionJouee() != null) return fils.getPositionJouee().getIndex();
+                if (fils.getPieceDonnee() != null) return Piece.NOMBRE + fils.getPieceDonnee().getId();
+            }
+        }
+        return Coup.AUCUN;
+    }
+
+    /**
+     * Donne une pendule à l'IA, qui gère alors son temps de réflexion ; {@code null} revient à la profondeur fixe.
+     *
+     * @param pendule La pendule de l'IA, ou {@code null}.
+     */
+    public void setPendule(Pendule pendule) {
+        this.gestionnaireTemps = (pendule == null) ? null : new GestionnaireTemps(pendule);
+    }
+
+    /**
+     * Retourne la pendule de l'IA.
+     *
+     * @return La pendule, ou {@code null} si l'IA joue à profondeur fixe.
+     */
+    public Pendule getPendule() {
+        return (gestionnaireTemps == null) ? null : gestionnaireTemps.getPendule();
+    }
+
+    /**
+     * Limite le nombre de nœuds de chaque arbre approfondi avec une pendule, donc la mémoire d'une décision :
+     * une itération qui dépasse ce quota est abandonnée comme à la limite dure. Le premier demi-coup,
+     * qui garantit une décision, et les arbres à profondeur fixe, déjà bornés, n'y sont pas soumis.
+     *
+     * @param quotaNoeuds Le nombre maximal de nœuds, ou 0 pour ne pas en fixer.
+     * @throws IllegalArgumentException si le quota est négatif.
+     */
+    public void setQuotaNoeuds(long quotaNoeuds) {
+        if (quotaNoeuds < 0) {
+            throw new IllegalArgumentException("Le quota de nœuds ne peut pas être négatif.");
+        }
+        this.quotaNoeuds = quotaNoeuds;
+    }
+
+    /**
+     * Retourne le nombre maximal de nœuds d'un arbre approfondi.
+     *
+     * @return Le quota de nœuds, ou 0 sans quota.
+     */
+    public long getQuotaNoeuds() {
+        return quotaNoeuds;
+    }
+
+    /**
+     * Impose la profondeur des arbres construits sans pendule ; avec une pendule, elle est sans effet.
+     *
+     * @param profondeur La profondeur, en demi-coups (placement ou choix de pièce), ou 0 pour celle de l'algorithme.
+     * @throws IllegalArgumentException si la profondeur est négative.
+     */
+    public void setProfondeur(int profondeur) {
+        if (profondeur < 0) {
+            throw new IllegalArgumentException("La profondeur ne peut pas être négative.");
+        }
+        this.profondeur = profondeur;
+    }
+
+    /**
+     * Retourne la profondeur imposée aux arbres construits sans pendule.
+     *
+     * @return La profondeur, en demi-coups, ou 0 pour celle de l'algorithme.
+     */
+    public int getProfondeur() {
+        return profondeur;
+    }
+
+    /**
+     * Retourne le nombre de nœuds visités par les arbres de l'IA depuis sa création,
+     * itérations abandonnées comprises : rapporté au temps de réflexion, il mesure son débit.
+     *
+     * @return Le nombre de nœuds visités.
+     */
+    public long getNoeudsVisites() {
+        return noeudsVisites;
+    }
+
+    /**
+     * Choisit la case où poser la pièce reçue.
+     *
+     * @param jeu   L’état du jeu courant (à ne pas modifier).
+     * @param piece La pièce à placer.
+     * @return L'indice d'une case libre.
+     */
+    protected abstract int deciderPlacement(Jeu jeu, Piece piece);
+
+    /**
+     * Choisit la pièce à donner à l'adversaire.
+     *
+     * @param jeu L’état du jeu courant, sans pièce à placer (à ne pas modifier).
+     * @return La pièce à donner, ou {@code null} s'il n'en reste aucune.
+     */
+    protected abstract Piece deciderPiece(Jeu jeu);
+
+    /**
+     * Joue le coup décidé par l'IA : placement de la pièce courante, puis don d'une pièce.
+     *
+     * @param jeu      L’état du jeu courant.
+     * @param piece    Ignoré : la pièce placée est la pièce courante de la partie.
+     * @param position Ignoré : la case est choisie par l'IA.
+     */
+    @Override
+    public void placerPiece(Jeu jeu, Piece piece, Position position) {
+        jeu.jouerCoup(deciderCoup(jeu));
+    }
+
+    /**
+     * Joue le coup décidé par l'IA ; au premier tour, il se limite au don d'une pièce.
+     *
+     * @param jeu          L’état du jeu courant.
+     * @param pieceChoisit Ignoré : la pièce est choisie par l'IA.
+     */
+    @Override
+    public void choisirPiece(Jeu jeu, Piece pieceChoisit) {
+        jeu.jouerCoup(deciderCoup(jeu));
+    }
+
+    /**
+     * Vérifie si la pièce permet à l’adversaire de gagner immédiatement.
+     * <p>Tout placement gagnant de la pièce donnée est joué par l’adversaire, qui la reçoit.</p>
+     *
+     * @param jeu   Le jeu courant.
+     * @param piece La pièce testée.
+     * @return true si la pièce peut mener à une victoire adverse.
+     */
+    protected boolean piecePermetVictoireAdversaire(Jeu jeu, Piece piece) {
+        for (int libres = jeu.getPlateau().getMasqueLibres(); libres != 0; libres &= libres - 1) {
+            Jeu simulation = jeu.copier();
+            simulation.getPlateau().placerPiece(piece, Integer.numberOfTrailingZeros(libres));
+            simulation.retirerPieceChoisit(piece);
+            simulation.setPieceCourante(null);
+
+            if (simulation.aGagne()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Recherche une case où la pièce donne immédiatement la victoire à l'IA.
+     * <p>Le placement est joué par l’IA au trait : tout alignement complété est sa victoire.</p>
+     *
+     * @param jeu   Le jeu courant.
+     * @param piece La pièce à placer.
+     * @return L'indice de la case gagnante, ou {@link Coup#AUCUN} si aucune.
+     */
+    protected int rechercherVictoireImmediate(Jeu jeu, Piece piece) {
+        for (int libres = jeu.getPlateau().getMasqueLibres(); libres != 0; libres &= libres - 1) {
+            int index = Integer.numberOfTrailingZeros(libres);
+            Jeu simulation = jeu.copier();
+            simulation.getPlateau().placerPiece(piece, index);
+            simulation.retirerPieceChoisit(piece);
+            simulation.setPieceCourante(null);
+
+            if (simulation.aGagne()) {
+                return index;
+            }
+        }
+
+        return Coup.AUCUN;
+    }
+
+    /**
+     * Retourne la première case libre, utilisée quand aucun bon coup n’a été trouvé.
+     *
+     * @param jeu L’état du jeu courant.
+     * @return L'indice de la première case libre.
+     */
+    protected int choisirCaseParDefaut(Jeu jeu) {
+        return Integer.numberOfTrailingZeros(jeu.getPlateau().getMasqueLibres());
+    }
+
+    /**
+     * Retourne une pièce par défaut si aucun bon coup n’a été trouvé.
+     *
+     * @param jeu L’état du jeu courant.
+     * @return Une pièce disponible, ou null si aucune.
+     */
+    protected Piece choisirPieceParDefaut(Jeu jeu) {
+        return jeu.getPiecesRestantes().isEmpty()
+                ? null
+                : jeu.getPiecesRestantes().get(0);
+    }
+
+    /**
+     * Convertit une pièce éventuelle en identifiant.
+     *
+     * @param piece La pièce, ou {@code null}.
+     * @return Son identifiant, ou {@link Coup#AUCUN}.
+     */
+    private static int idOuAucun(Piece piece) {
+        return (piece == null) ? Coup.AUCUN : piece.getId();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Joueur autre = (Joueur) obj;
+        return this.getNom().equals(autre.getNom());
+    }
+}
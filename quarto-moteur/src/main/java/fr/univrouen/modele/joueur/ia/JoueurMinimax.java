@@ -1,11 +1,9 @@
 package fr.univrouen.modele.joueur.ia;
 
-import java.util.*;
-
 import fr.univrouen.modele.arbre.*;
-import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.jeu.partie.*;
 import fr.univrouen.modele.jeu.piece.Piece;
-import fr.univrouen.modele.jeu.partie.plateau.*;
+import fr.univrouen.modele.jeu.partie.plateau.Position;
 
 /**
  * Implémentation d'un joueur IA utilisant l'algorithme Minimax.
@@ -15,7 +13,7 @@ import fr.univrouen.modele.jeu.partie.plateau.*;
  * @see JoueurIA
  * @see ArborescenceMinimax
  * @author Matisse SENECHAL
- * @version 1.2
+ * @version 2.1
  * @since JDK 17
  */
 public class JoueurMinimax extends JoueurIA {
@@ -31,12 +29,12 @@ public class JoueurMinimax extends JoueurIA {
     }
 
     @Override
-    public void choisirPiece(Jeu jeu, Piece ignoree) {
+    protected Piece deciderPiece(Jeu jeu) {
         // Étape 1 : Construction de l'arbre des possibilités
         // L'IA Minimax agit ici en tant que "donneur de pièce" (Joueur.MIN),
         // elle cherche donc à donner la "pire" pièce possible à l'adversaire.
         Arborescence constructeur = new ArborescenceMinimax();
-        NoeudArbre racine = constructeur.construireArbre(jeu, Joueur.MIN);
+        NoeudArbre racine = construireArbre(constructeur, jeu, Joueur.MIN);
 
         // Étape 2 : Analyse de l’arbre et choix du meilleur nœud selon heuristique
         // L’IA choisit le fils avec la plus faible heuristique (plus avantageux pour elle).
@@ -44,52 +42,38 @@ public class JoueurMinimax extends JoueurIA {
 
         // Étape 3 : Récupération de la pièce à donner à l’adversaire
         // Si aucune pièce n’est spécifiée, on utilise une pièce par défaut (la première disponible).
-        Piece pieceChoisie = (choix != null) ? recupererPieceOuDefaut(choix, jeu) : null;
-
-        // Étape 4 : Mise à jour du jeu avec la pièce sélectionnée
-        if (pieceChoisie != null) {
-            jeu.setPieceCourante(pieceChoisie);
-        }
-
-        jeu.tourSuivant();
+        return (choix != null) ? recupererPieceOuDefaut(choix, jeu) : choisirPieceParDefaut(jeu);
     }
 
     @Override
-    public void placerPiece(Jeu jeu, Piece piece, Position ignoree) {
-        List<Position> positions = jeu.getPlateau().getPositionsDisponibles();
-
+    protected int deciderPlacement(Jeu jeu, Piece piece) {
         // Priorité 1 : gagner si possible
-        Position positionGagnante = verifierVictoirePossible(jeu, piece, positions);
-        if (positionGagnante != null) {
-            appliquerPlacement(jeu, piece, positionGagnante);
-            return;
+        int caseGagnante = rechercherVictoireImmediate(jeu, piece);
+        if (caseGagnante != Coup.AUCUN) {
+            return caseGagnante;
         }
 
         // Priorité 2 : placer de manière stratégique via Minimax
-        Position positionOptimale = rechercherMeilleurePositionViaMax(jeu, piece);
+        Position positionOptimale = rechercherMeilleurePositionViaMax(jeu);
         if (positionOptimale != null) {
-            appliquerPlacement(jeu, piece, positionOptimale);
-            return;
+            return positionOptimale.getIndex();
         }
 
         // Fallback : n'importe quelle position libre
-        if (!positions.isEmpty()) {
-            appliquerPlacement(jeu, piece, positions.get(0));
-        }
+        return choisirCaseParDefaut(jeu);
     }
 
     /**
      * Recherche la meilleure position où placer la pièce selon l'algorithme Minimax (côté MAX).
      * L’IA explore toutes les positions possibles et choisit celle qui maximise son heuristique.
      *
-     * @param jeu   L’état actuel du jeu.
-     * @param piece La pièce à placer.
+     * @param jeu L’état actuel du jeu, avec la pièce à placer en pièce courante.
      * @return La position jugée optimale, ou null si aucune n’est trouvée.
      */
-    private Position rechercherMeilleurePositionViaMax(Jeu jeu, Piece piece) {
+    private Position rechercherMeilleurePositionViaMax(Jeu jeu) {
         // Étape 1 : Construire l’arbre des coups possibles pour le joueur MAX (l'IA joue)
         ArborescenceMinimax constructeur = new ArborescenceMinimax();
-        NoeudArbre racine = constructeur.construireArbre(jeu, Joueur.MAX);
+        NoeudArbre racine = construireArbre(constructeur, jeu, Joueur.MAX);
 
         // Étape 2 : Parcours des fils de la racine pour trouver le meilleur coup
         NoeudArbre meilleurChoix = null;
@@ -107,39 +91,8 @@ public class JoueurMinimax extends JoueurIA {
             }
         }
 
-        // Étape 3 : Si un meilleur coup est trouvé, identifier la position modifiée
-        if (meilleurChoix != null) {
-            return detecterPositionChangee(jeu, meilleurChoix);
-        }
-
-        return null;
-    }
-
-    /**
-     * Vérifie s’il existe une position menant à une victoire immédiate.
-     *
-     * @param jeu       Le jeu à simuler.
-     * @param piece     La pièce à tester.
-     * @param positions Liste des positions possibles.
-     * @return La position gagnante si trouvée, sinon null.
-     */
-    private Position verifierVictoirePossible(Jeu jeu, Piece piece, List<Position> positions) {
-        for (Position position : positions) {
-            // On crée une copie du jeu pour faire une simulation de placement
-            Jeu simulation = jeu.copier();
-
-            // On tente de placer la pièce sur cette position dans la simulation
-            simulation.getPlateau().placerPiece(piece, position);
-            simulation.retirerPieceChoisit(piece);
-            simulation.setPieceCourante(null); // Réinitialise la pièce courante pour éviter les conflits
-
-            // Vérifie si cette simulation mène à une victoire pour l'IA
-            if (simulation.aGagne() && !simulation.getJoueurGagnant().getNom().contains("Humain")) {
-                return position; // Retourne immédiatement la position gagnante
-            }
-        }
-
-        return null; // Aucune position ne mène à une victoire directe
+        // Étape 3 : Si un meilleur coup est trouvé, retourner la position qu'il a jouée
+        return (meilleurChoix != null) ? meilleurChoix.getPositionJouee() : null;
     }
 
     /**
@@ -199,36 +152,6 @@ public class JoueurMinimax extends JoueurIA {
         return pieceProposee;
     }
 
-    /**
-     * Détecte la position sur le plateau qui a été modifiée entre deux états du jeu.
-     * <p>
-     * Cette méthode compare la grille actuelle avec celle issue d’un nœud de l’arbre
-     * pour identifier l’endroit où une pièce a été placée. Elle est utilisée pour
-     * retrouver la position d’un coup simulé dans l’arbre de recherche.
-     * </p>
-     *
-     * @param jeu          Le jeu actuel (avant l’opération).
-     * @param noeud        Le nœud de l’arbre contenant l’état du jeu modifié (après le coup).
-     * @return La position (ligne, colonne) où une pièce a été placée, ou {@code null} si aucune différence n'est trouvée.
-     */
-    private Position detecterPositionChangee(Jeu jeu, NoeudArbre noeud) {
-        // Grille avant le coup simulé
-        Piece[][] grilleAvant = jeu.getPlateau().getGrille();
-        // Grille après le coup simulé (provenant du nœud de l’arbre)
-        Piece[][] grilleApres = noeud.getEtatJeu().getPlateau().getGrille();
-
-        // Parcours des cellules pour trouver celle qui a changé (vide → occupée)
-        for (int ligne = 0; ligne < Plateau.TAILLE; ligne++) {
-            for (int colonne = 0; colonne < Plateau.TAILLE; colonne++) {
-                if (grilleAvant[ligne][colonne] == null && grilleApres[ligne][colonne] != null) {
-                    return new Position(ligne, colonne); // Changement détecté
-                 }
-            }
-        }
-
-        return null;
-    }
-
     @Override
     public String toString() {
         return "C'est le tour du joueur Minimax";
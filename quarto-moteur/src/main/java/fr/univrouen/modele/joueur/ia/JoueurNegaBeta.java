@@ -1,10 +1,7 @@
 package fr.univrouen.modele.joueur.ia;
 
-import java.util.List;
-
 import fr.univrouen.modele.arbre.*;
 import fr.univrouen.modele.jeu.partie.*;
-import fr.univrouen.modele.jeu.partie.plateau.Position;
 import fr.univrouen.modele.jeu.piece.Piece;
 
 /**
@@ -18,7 +15,7 @@ import fr.univrouen.modele.jeu.piece.Piece;
  * @see JoueurIA
  * @see ArborescenceNegaBeta
  * @author Matisse SENECHAL
- * @version 1.0
+ * @version 2.1
  * @since JDK 17
  */
 public class JoueurNegaBeta extends JoueurIA {
@@ -34,10 +31,10 @@ public class JoueurNegaBeta extends JoueurIA {
     }
 
     @Override
-    public void choisirPiece(Jeu jeu, Piece ignored) {
+    protected Piece deciderPiece(Jeu jeu) {
         // Création de l'arbre de décision selon l'algorithme NegaBeta, en simulant le choix MIN
         Arborescence constructeur = new ArborescenceNegaBeta();
-        NoeudArbre racine = constructeur.construireArbre(jeu, Joueur.MIN);
+        NoeudArbre racine = construireArbre(constructeur, jeu, Joueur.MIN);
 
         NoeudArbre meilleur = null;
         double max = Double.NEGATIVE_INFINITY;
@@ -55,73 +52,32 @@ public class JoueurNegaBeta extends JoueurIA {
         }
 
         // Si aucun bon choix n'a été trouvé, on en prend une par défaut
-        Piece pieceFinale = (meilleur != null)
+        return (meilleur != null)
             ? meilleur.getPieceDonnee()
             : choisirPieceParDefaut(jeu);
-
-        // Attribution de la pièce choisie au jeu
-        if (pieceFinale != null) {
-            jeu.setPieceCourante(pieceFinale);
-        }
-
-        jeu.tourSuivant();
     }
 
     @Override
-    public void placerPiece(Jeu jeu, Piece piece, Position ignored) {
-        List<Position> positionsDisponibles = jeu.getPlateau().getPositionsDisponibles();
-
+    protected int deciderPlacement(Jeu jeu, Piece piece) {
         // 1. Vérification d'une victoire immédiate possible
-        Position positionGagnante = chercherPlacementGagnantImmediat(jeu, piece, positionsDisponibles);
-        if (positionGagnante != null) {
-            appliquerPlacement(jeu, piece, positionGagnante);
-            return;
+        int caseGagnante = rechercherVictoireImmediate(jeu, piece);
+        if (caseGagnante != Coup.AUCUN) {
+            return caseGagnante;
         }
 
         // 2. Recherche d'un placement optimal via l'algorithme NegaBeta
-        Position meilleurePosition = chercherMeilleurPlacementOptimal(jeu, positionsDisponibles);
-        appliquerPlacement(jeu, piece, meilleurePosition);
-    }
-
-    /**
-     * Recherche une position qui permet à l'IA de gagner immédiatement.
-     *
-     * @param jeu Le jeu à simuler.
-     * @param piece La pièce à tester.
-     * @param positionsDisponibles Toutes les cases libres du plateau.
-     * @return La position menant à une victoire immédiate, ou null si aucune trouvée.
-     */
-    private Position chercherPlacementGagnantImmediat(Jeu jeu, Piece piece, List<Position> positionsDisponibles) {
-        for (Position position : positionsDisponibles) {
-            Jeu simulation = jeu.copier();
-            simulation.getPlateau().placerPiece(piece, position);
-            simulation.retirerPieceChoisit(piece);
-            simulation.setPieceCourante(null);
-
-            // On vérifie si cette simulation entraîne une victoire pour l’IA
-            boolean victoireIA = simulation.aGagne() &&
-                                 !simulation.getJoueurGagnant().getNom().contains("Humain");
-
-            // Si oui, on retourne la position gagnante immédiatement
-            if (victoireIA) {
-                return position;
-            }
-        }
-
-        // Sinon, on retourne null
-        return null;
+        return chercherMeilleurPlacementOptimal(jeu);
     }
 
     /**
      * Applique l'algorithme NegaBeta pour rechercher le meilleur placement stratégique.
      *
      * @param jeu L'état du jeu actuel.
-     * @param positionsDisponibles Toutes les cases libres du plateau.
-     * @return La meilleure position trouvée, ou une position par défaut si aucune optimale trouvée.
+     * @return L'indice de la meilleure case trouvée, ou d'une case par défaut si aucune optimale trouvée.
      */
-    private Position chercherMeilleurPlacementOptimal(Jeu jeu, List<Position> positionsDisponibles) {
+    private int chercherMeilleurPlacementOptimal(Jeu jeu) {
         Arborescence constructeur = new ArborescenceNegaBeta();
-        NoeudArbre racine = constructeur.construireArbre(jeu, Joueur.MAX);
+        NoeudArbre racine = construireArbre(constructeur, jeu, Joueur.MAX);
 
         NoeudArbre meilleurNoeud = null;
         double meilleureHeuristique = Double.NEGATIVE_INFINITY;
@@ -137,9 +93,9 @@ public class JoueurNegaBeta extends JoueurIA {
             }
         }
 
-        return (meilleurNoeud != null)
-            ? meilleurNoeud.getPositionJouee()  // Si un bon coup a été trouvé, on retourne sa position.
-            : positionsDisponibles.get(0);      // Sinon, on joue la première position disponible.
+        return (meilleurNoeud != null && meilleurNoeud.getPositionJouee() != null)
+            ? meilleurNoeud.getPositionJouee().getIndex() // Si un bon coup a été trouvé, on retourne sa case.
+            : choisirCaseParDefaut(jeu);                  // Sinon, on joue la première case disponible.
     }    
 
     @Override
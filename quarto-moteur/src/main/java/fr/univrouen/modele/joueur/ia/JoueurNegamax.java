@@ -1,11 +1,8 @@
 package fr.univrouen.modele.joueur.ia;
 
-import java.util.List;
-
 import fr.univrouen.modele.arbre.*;
-import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.jeu.partie.*;
 import fr.univrouen.modele.jeu.piece.Piece;
-import fr.univrouen.modele.jeu.partie.plateau.Position;
 
 /**
  * Implémente un joueur contrôlé par l’IA utilisant l’algorithme Négamax.
@@ -17,7 +14,7 @@ import fr.univrouen.modele.jeu.partie.plateau.Position;
  * @see JoueurIA
  * @see ArborescenceNegamax
  * @author Matisse SENECHAL
- * @version 1.1
+ * @version 2.1
  * @since JDK 17
  */
 public class JoueurNegamax extends JoueurIA {
@@ -33,10 +30,10 @@ public class JoueurNegamax extends JoueurIA {
     }
 
     @Override
-    public void choisirPiece(Jeu jeu, Piece ignoree) {
+    protected Piece deciderPiece(Jeu jeu) {
         // Construction de l'arbre de recherche depuis la situation actuelle (Joueur MIN = celui qui donne une pièce)
         Arborescence constructeur = new ArborescenceNegamax();
-        NoeudArbre racine = constructeur.construireArbre(jeu, Joueur.MIN);
+        NoeudArbre racine = construireArbre(constructeur, jeu, Joueur.MIN);
 
         NoeudArbre meilleurNoeud = null;                   // Meilleur nœud trouvé (meilleure pièce à donner)
         double meilleureValeur = Double.NEGATIVE_INFINITY; // Valeur d’heuristique maximale rencontrée
@@ -59,69 +56,35 @@ public class JoueurNegamax extends JoueurIA {
         }
 
         // Si aucun meilleur nœud n’a été trouvé, on prend une pièce par défaut
-        Piece pieceChoisie = (meilleurNoeud != null) 
-            ? meilleurNoeud.getPieceDonnee() 
+        return (meilleurNoeud != null && meilleurNoeud.getPieceDonnee() != null)
+            ? meilleurNoeud.getPieceDonnee()
             : choisirPieceParDefaut(jeu);
-
-        // Met à jour le jeu avec la pièce choisie, si elle existe
-        if (pieceChoisie != null) {
-            jeu.setPieceCourante(pieceChoisie); // On la donne à l’adversaire
-        }
-
-        jeu.tourSuivant();
     }
 
     /**
-     * Place la pièce courante sur le plateau en recherchant d’abord une victoire immédiate,
+     * Choisit la case de la pièce courante en recherchant d’abord une victoire immédiate,
      * puis en appliquant l’algorithme Négamax pour une décision stratégique.
      *
-     * @param jeu       Le jeu en cours.
-     * @param piece     La pièce à placer.
-     * @param ignoree   (non utilisé ici)
+     * @param jeu   Le jeu en cours.
+     * @param piece La pièce à placer.
+     * @return L'indice de la case choisie.
      */
     @Override
-    public void placerPiece(Jeu jeu, Piece piece, Position ignoree) {
-        List<Position> positionsDisponibles = jeu.getPlateau().getPositionsDisponibles();
-
+    protected int deciderPlacement(Jeu jeu, Piece piece) {
         // Étape 1 : vérifier s'il existe une position menant à une victoire immédiate
-        Position positionGagnante = rechercherVictoireImmediate(jeu, piece, positionsDisponibles);
-        if (positionGagnante != null) {
-            appliquerPlacement(jeu, piece, positionGagnante);
-            return;
+        int caseGagnante = rechercherVictoireImmediate(jeu, piece);
+        if (caseGagnante != Coup.AUCUN) {
+            return caseGagnante;
         }
 
         // Étape 2 : sinon, explorer l’arbre Négamax pour trouver la meilleure position
         ArborescenceNegamax constructeur = new ArborescenceNegamax();
-        NoeudArbre racine = constructeur.construireArbre(jeu, Joueur.MAX);
+        NoeudArbre racine = construireArbre(constructeur, jeu, Joueur.MAX);
 
         NoeudArbre meilleurFils = trouverFilsAvecMeilleureHeuristique(racine);
-        Position positionChoisie = (meilleurFils != null && meilleurFils.getPositionJouee() != null)
-            ? meilleurFils.getPositionJouee()
-            : positionsDisponibles.get(0); // fallback si rien trouvé
-
-            appliquerPlacement(jeu, piece, positionChoisie);
-    }
-
-    /**
-     * Détecte s’il est possible de gagner immédiatement en plaçant la pièce.
-     *
-     * @param jeu         Le jeu courant.
-     * @param piece       La pièce à tester.
-     * @param positions   Toutes les positions disponibles sur le plateau.
-     * @return La position gagnante si existante, sinon {@code null}.
-     */
-    private Position rechercherVictoireImmediate(Jeu jeu, Piece piece, List<Position> positions) {
-        for (Position pos : positions) {
-            Jeu copie = jeu.copier();
-            copie.getPlateau().placerPiece(piece, pos);
-            copie.retirerPieceChoisit(piece);
-            copie.setPieceCourante(null);
-
-            if (copie.aGagne() && !copie.getJoueurGagnant().getNom().contains("Humain")) {
-                return pos;
-            }
-        }
-        return null;
+        return (meilleurFils != null && meilleurFils.getPositionJouee() != null)
+            ? meilleurFils.getPositionJouee().getIndex()
+            : choisirCaseParDefaut(jeu); // fallback si rien trouvé
     }
 
     /**
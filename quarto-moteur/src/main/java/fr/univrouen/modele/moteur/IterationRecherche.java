@@ -0,0 +1,110 @@
+package fr.univrouen.modele.moteur;
+
+import java.util.Collections;
+import java.util.List;
+
+import fr.univrouen.modele.jeu.partie.Coup;
+
+/**
+ * Compte rendu d'une itération terminée d'une {@link RechercheIterative} : profondeur, score,
+ * nœuds visités depuis le début de la recherche et variante principale.
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see RechercheIterative
+ */
+public final class IterationRecherche {
+    /** La profondeur de l'arbre, en demi-coups. */
+    private final int profondeur;
+
+    /** Le score du meilleur coup, du point de vue du joueur au trait. */
+    private final double score;
+
+    /** Le nombre de nœuds visités depuis le début de la recherche. */
+    private final long noeuds;
+
+    /** Le temps écoulé depuis le début de la recherche, en nanosecondes. */
+    private final long dureeNanos;
+
+    /** La variante principale. */
+    private final List<Coup> variante;
+
+    /**
+     * Construit le compte rendu d'une itération.
+     *
+     * @param profondeur La profondeur de l'arbre.
+     * @param score      Le score du meilleur coup.
+     * @param noeuds     Le nombre de nœuds visités depuis le début de la recherche.
+     * @param dureeNanos Le temps écoulé, en nanosecondes.
+     * @param variante   La variante principale.
+     */
+    IterationRecherche(int profondeur, double score, long noeuds, long dureeNanos, List<Coup> variante) {
+        this.profondeur = profondeur;
+        this.score = score;
+        this.noeuds = noeuds;
+        this.dureeNanos = dureeNanos;
+        this.variante = Collections.unmodifiableList(variante);
+    }
+
+    /**
+     * Retourne la profondeur de l'arbre.
+     *
+     * @return La profondeur, en demi-coups (placement ou choix de pièce).
+     */
+    public int getProfondeur() {
+        return profondeur;
+    }
+
+    /**
+     * Retourne le score du meilleur coup, du point de vue du joueur au trait.
+     *
+     * @return Le score, infini pour un gain ou une perte prouvés.
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Retourne le nombre de nœuds visités depuis le début de la recherche.
+     *
+     * @return Le nombre de nœuds.
+     */
+    public long getNoeuds() {
+        return noeuds;
+    }
+
+    /**
+     * Retourne le temps écoulé depuis le début de la recherche.
+     *
+     * @return La durée, en millisecondes.
+     */
+    public long getDuree() {
+        return dureeNanos / 1_000_000;
+    }
+
+    /**
+     * Retourne le débit de la recherche.
+     *
+     * @return Le nombre de nœuds par seconde.
+     */
+    public long getNoeudsParSeconde() {
+        return (dureeNanos <= 0) ? 0 : (long) (noeuds * 1e9 / dureeNanos);
+    }
+
+    /**
+     * Retourne la variante principale : le meilleur coup, puis les réponses attendues.
+     * <p>Le dernier coup peut être incomplet si l'arbre s'arrête entre un placement et un don.</p>
+     *
+     * @return Les coups de la variante, non modifiables.
+     */
+    public List<Coup> getVariante() {
+        return variante;
+    }
+
+    @Override
+    public String toString() {
+        return "IterationRecherche[profondeur=" + profondeur + ", score=" + score + ", noeuds=" + noeuds
+            + ", duree=" + getDuree() + " ms, variante=" + variante + "]";
+    }
+}
@@ -0,0 +1,149 @@
+package fr.univrouen.modele.moteur;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.jeu.partie.JeuQuarto;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieGagnante;
+import fr.univrouen.modele.joueur.Joueur;
+
+/**
+ * Moteur de partie sans interface graphique.
+ * <p>
+ * Le moteur crée une partie entre deux joueurs et une stratégie de victoire, puis la fait avancer
+ * coup par coup ({@link #avancer()}) ou jusqu'à son terme ({@link #jouerJusquAuBout()}).
+ * Chaque coup est décidé par {@link Joueur#deciderCoup(Jeu)} sur le thread appelant,
+ * puis joué par {@link Jeu#jouerCoup(Coup)} : les deux joueurs doivent donc décider seuls
+ * (des IA), un joueur humain attendant ses coups de l'interface. Un coup peut aussi être
+ * imposé par {@link #jouer(Coup)}, par exemple pour une ouverture.
+ * </p>
+ * <p>
+ * Le moteur ne dépend ni d'AWT ni de Swing. Il n'est pas synchronisé : une partie est jouée
+ * par un seul thread, mais plusieurs moteurs peuvent jouer en parallèle.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.2
+ * @since JDK 17
+ * @see ResultatPartie
+ */
+public final class MoteurPartie {
+    /** La partie jouée. */
+    private final JeuQuarto jeu;
+
+    /** Les coups joués, dans l'ordre. */
+    private final List<Coup> coups = new ArrayList<>();
+
+    /** Instant de début de la partie, selon {@link System#nanoTime()}. */
+    private final long debut;
+
+    /** Le résultat, calculé à la fin de la partie. */
+    private ResultatPartie resultat;
+
+    /**
+     * Crée une partie entre deux joueurs.
+     *
+     * @param joueur1   Le premier joueur, qui donne la première pièce.
+     * @param joueur2   Le second joueur.
+     * @param strategie La stratégie de victoire.
+     * @throws IllegalArgumentException si un joueur ou la stratégie est {@code null}.
+     */
+    public MoteurPartie(Joueur joueur1, Joueur joueur2, StrategieGagnante strategie) {
+        if (joueur1 == null || joueur2 == null) {
+            throw new IllegalArgumentException("Les joueurs ne peuvent pas être nuls.");
+        }
+        if (strategie == null) {
+            throw new IllegalArgumentException("La stratégie ne peut pas être nulle.");
+        }
+        this.jeu = new JeuQuarto(joueur1, joueur2, strategie);
+        this.debut = System.nanoTime();
+    }
+
+    /**
+     * Fait jouer un coup au joueur actuel.
+     *
+     * @return Le coup joué.
+     * @throws IllegalStateException    si la partie est terminée.
+     * @throws IllegalArgumentException si le joueur actuel ne décide pas seul de ses coups, ou si son coup est illégal.
+     */
+    public Coup avancer() {
+        if (jeu.estTerminee()) {
+            throw new IllegalStateException("La partie est terminée.");
+        }
+
+        Joueur joueur = jeu.getJoueurActuel();
+        Coup coup = joueur.deciderCoup(jeu);
+        if (coup == null) {
+            throw new IllegalArgumentException("Le joueur " + joueur.getNom() + " ne décide pas seul de ses coups.");
+        }
+
+        jouer(coup);
+        return coup;
+    }
+
+    /**
+     * Joue un coup imposé pour le joueur actuel, sans le lui faire décider.
+     *
+     * @param coup Le coup à jouer.
+     * @throws IllegalStateException    si la partie est terminée.
+     * @throws IllegalArgumentException si le coup est illégal.
+     */
+    public void jouer(Coup coup) {
+        if (jeu.estTerminee()) {
+            throw new IllegalStateException("La partie est terminée.");
+        }
+        jeu.jouerCoup(coup);
+        coups.add(coup);
+    }
+
+    /**
+     * Joue la partie jusqu'à son terme.
+     *
+     * @return Le résultat de la partie.
+     * @throws IllegalArgumentException si un joueur ne décide pas seul de ses coups, ou joue un coup illégal.
+     */
+    public ResultatPartie jouerJusquAuBout() {
+        while (!jeu.estTerminee()) {
+            avancer();
+        }
+        return getResultat();
+    }
+
+    /**
+     * Indique si la partie est terminée.
+     *
+     * @return {@code true} si la partie est gagnée ou nulle.
+     */
+    public boolean estTerminee() {
+        return jeu.estTerminee();
+    }
+
+    /**
+     * Retourne le résultat de la partie.
+     *
+     * @return Le résultat, ou {@code null} si la partie n'est pas terminée.
+     */
+    public ResultatPartie getResultat() {
+        if (resultat == null && jeu.estTerminee()) {
+            // Le trait ne change pas après un placement : le gagnant est le joueur actuel
+            Joueur gagnant = jeu.getJoueurGagnant();
+            int indice = (gagnant == null) ? ResultatPartie.NULLE : jeu.getTrait();
+            long duree = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut);
+            resultat = new ResultatPartie(gagnant, indice, new ArrayList<>(coups), jeu.versEtat(), duree);
+        }
+        return resultat;
+    }
+
+    /**
+     * Retourne la partie jouée, par exemple pour l'observer ou lire son historique.
+     * <p>Elle ne doit pas être modifiée directement.</p>
+     *
+     * @return La partie.
+     */
+    public JeuQuarto getJeu() {
+        return jeu;
+    }
+}
@@ -0,0 +1,253 @@
+package fr.univrouen.modele.moteur;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import fr.univrouen.modele.arbre.Arborescence;
+import fr.univrouen.modele.arbre.Joueur;
+import fr.univrouen.modele.arbre.NoeudArbre;
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.jeu.piece.Piece;
+import fr.univrouen.modele.temps.Echeance;
+
+/**
+ * Recherche à approfondissement itératif sur n'importe quelle {@link Arborescence}, pilotable de l'extérieur :
+ * profondeur, temps et nombre de nœuds maximaux, arrêt à tout moment, et compte rendu de chaque itération.
+ * <p>
+ * Comme pour une {@link fr.univrouen.modele.joueur.ia.JoueurIA IA}, un coup se décide en deux arbres :
+ * le placement de la pièce en main (racine {@link Joueur#MAX}), puis le choix de la pièce à donner
+ * sur la position obtenue (racine {@link Joueur#MIN}), chacun disposant de la moitié du temps et des nœuds
+ * qui restent. À chaque racine, le meilleur fils pour le joueur de la racine est retenu : le plus grand
+ * si les valeurs lui sont {@linkplain Arborescence#valeursRelativesALaRacine() relatives}, le plus petit pour
+ * une racine {@link Joueur#MIN} de Minimax ; le score annoncé est lui aussi du point de vue du joueur au trait.
+ * La première itération
+ * (un demi-coup) n'est jamais interrompue : la recherche rend toujours un coup.
+ * </p>
+ * <p>
+ * Une recherche ne peut être lancée que depuis un thread à la fois ; {@link #arreter()} peut être appelée
+ * depuis n'importe quel thread.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ * @see IterationRecherche
+ */
+public final class RechercheIterative {
+    /** Part du temps et des nœuds d'un coup accordée au placement, le reste allant au choix de la pièce. */
+    private static final double PART_PLACEMENT = 0.5;
+
+    /** Constructeur d'arbre de l'algorithme. */
+    private final Arborescence constructeur;
+
+    /** Drapeau d'arrêt de la recherche en cours. */
+    private final AtomicBoolean arret = new AtomicBoolean();
+
+    /** Instant de début de la recherche en cours, selon {@link System#nanoTime()}. */
+    private long debut;
+
+    /** Nombre de nœuds visités depuis le début de la recherche en cours. */
+    private long noeuds;
+
+    /**
+     * Crée une recherche.
+     *
+     * @param constructeur Le constructeur d'arbre de l'algorithme.
+     * @throws IllegalArgumentException si le constructeur est {@code null}.
+     */
+    public RechercheIterative(Arborescence constructeur) {
+        if (constructeur == null) {
+            throw new IllegalArgumentException("Le constructeur d'arbre ne peut pas être nul.");
+        }
+        this.constructeur = constructeur;
+    }
+
+    /**
+     * Cherche le coup du joueur au trait, sans modifier la partie.
+     *
+     * @param jeu           La partie, non terminée.
+     * @param profondeurMax La profondeur maximale de chaque arbre, en demi-coups, ou 0 sans limite.
+     * @param tempsMs       Le temps de réflexion, en millisecondes, ou 0 sans limite.
+     * @param noeudsMax     Le nombre maximal de nœuds, ou 0 sans limite.
+     * @param suivi         Reçoit le compte rendu de chaque itération terminée.
+     * @return Le coup choisi.
+     * @throws IllegalArgumentException si la partie est terminée ou si une limite est négative.
+     */
+    public Coup chercher(Jeu jeu, int profondeurMax, long tempsMs, long noeudsMax, Consumer<IterationRecherche> suivi) {
+        if (jeu.estTerminee()) {
+            throw new IllegalArgumentException("La partie est terminée.");
+        }
+        if (profondeurMax < 0 || tempsMs < 0 || noeudsMax < 0) {
+            throw new IllegalArgumentException("Les limites de la recherche ne peuvent pas être négatives.");
+        }
+        arret.set(false);
+        debut = System.nanoTime();
+        noeuds = 0;
+
+        Piece pieceAPlacer = jeu.getPieceCourante();
+        if (pieceAPlacer == null) {
+            NoeudArbre choix = approfondir(jeu, Joueur.MIN, null, profondeurMax, tempsMs, noeudsMax, suivi);
+            return Coup.get(Coup.AUCUN, choix.getPieceDonnee().getId());
+        }
+
+        NoeudArbre placement = approfondir(jeu, Joueur.MAX, null, profondeurMax,
+            (long) (tempsMs * PART_PLACEMENT), (long) (noeudsMax * PART_PLACEMENT), suivi);
+        int index = placement.getPositionJouee().getIndex();
+
+        Jeu apres = jeu.copier();
+        apres.getPlateau().placerPiece(pieceAPlacer, index);
+        apres.retirerPieceChoisit(pieceAPlacer);
+        apres.setPieceCourante(null);
+        if (apres.estTerminee()) {
+            return Coup.get(index, Coup.AUCUN);
+        }
+
+        long tempsRestant = (tempsMs == 0) ? 0 : Math.max(1, tempsMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut));
+        long noeudsRestants = (noeudsMax == 0) ? 0 : Math.max(1, noeudsMax - noeuds);
+        NoeudArbre choix = approfondir(apres, Joueur.MIN, index, profondeurMax, tempsRestant, noeudsRestants, suivi);
+        return Coup.get(index, choix.getPieceDonnee().getId());
+    }
+
+    /**
+     * Demande l'arrêt de la recherche en cours : l'itération en cours est abandonnée
+     * et le meilleur coup de la précédente est rendu. Une demande antérieure au début
+     * de la recherche est sans effet.
+     */
+    public void arreter() {
+        arret.set(true);
+    }
+
+    /**
+     * Retourne le nombre de nœuds visités par la dernière recherche.
+     *
+     * @return Le nombre de nœuds.
+     */
+    public long getNoeuds() {
+        return noeuds;
+    }
+
+    /**
+     * Approfondit itérativement l'arbre d'une décision, et retourne le meilleur fils de la racine.
+     *
+     * @param jeu           L'état à la racine.
+     * @param etiquette     L'étiquette de la racine.
+     * @param caseJouee     La case déjà choisie pour ce coup, ou {@code null} pour la décision du placement.
+     * @param profondeurMax La profondeur maximale, ou 0 sans limite.
+     * @param tempsMs       Le temps de la décision, en millisecondes, ou 0 sans limite.
+     * @param noeudsMax     Le nombre maximal de nœuds de la décision, ou 0 sans limite.
+     * @param suivi         Reçoit le compte rendu de chaque itération terminée.
+     * @return Le meilleur fils de l'arbre le plus profond construit en entier.
+     */
+    private NoeudArbre approfondir(Jeu jeu, Joueur etiquette, Integer caseJouee, int profondeurMax,
+                                   long tempsMs, long noeudsMax, Consumer<IterationRecherche> suivi) {
+        Echeance echeance = Echeance.depuisMaintenant(tempsMs == 0 ? Long.MAX_VALUE : tempsMs,
+            tempsMs == 0 ? Long.MAX_VALUE : tempsMs).arretable(arret);
+        int profondeurFinale = 2 * Integer.bitCount(jeu.getPlateau().getMasqueLibres());
+        if (profondeurMax > 0) {
+            profondeurFinale = Math.min(profondeurFinale, profondeurMax);
+        }
+
+        NoeudArbre meilleur = null;
+        long noeudsDecision = 0;
+        for (int profondeur = 1; profondeur <= Math.max(1, profondeurFinale); profondeur++) {
+            // Le premier demi-coup est toujours exploré en entier : il garantit une décision
+            Echeance echeanceIteration = Echeance.AUCUNE;
+            if (profondeur > 1) {
+                if (echeance.estDepassee() || noeudsMax > 0 && noeudsDecision >= noeudsMax) break;
+                echeanceIteration = (noeudsMax > 0) ? echeance.limiterNoeuds(noeudsMax - noeudsDecision) : echeance;
+            }
+
+            NoeudArbre racine = constructeur.construireArbre(jeu, etiquette, profondeur, echeanceIteration);
+            noeudsDecision += constructeur.getNoeudsVisites();
+            noeuds += constructeur.getNoeudsVisites();
+            if (racine == null) break; // Limite atteinte : l'itération précédente fait foi
+
+            double signe = (etiquette == Joueur.MIN && !constructeur.valeursRelativesALaRacine()) ? -1 : 1;
+            NoeudArbre fils = meilleurFils(racine, signe);
+            if (fils == null) break;
+            meilleur = fils;
+            double score = signe * fils.getHeuristique();
+            if (suivi != null) {
+                suivi.accept(new IterationRecherche(profondeur, score, noeuds,
+                    System.nanoTime() - debut, variante(fils, caseJouee)));
+            }
+            if (Double.isInfinite(score)) break; // Gain ou perte prouvé
+        }
+        if (meilleur == null) {
+            throw new IllegalArgumentException("Aucun coup possible.");
+        }
+        return meilleur;
+    }
+
+    /**
+     * Retourne le meilleur fils de la racine pour le joueur de la racine.
+     *
+     * @param racine La racine de l'arbre.
+     * @param signe  1 si les valeurs sont du point de vue du joueur de la racine, -1 si elles sont de celui de son adversaire.
+     * @return Le fils de plus grande valeur, au signe près, ou {@code null} si la racine n'en a pas.
+     */
+    private static NoeudArbre meilleurFils(NoeudArbre racine, double signe) {
+        NoeudArbre meilleur = null;
+        for (NoeudArbre fils = racine.getFilsaine(); fils != null; fils = fils.getFreredroit()) {
+            if (meilleur == null || signe * fils.getHeuristique() > signe * meilleur.getHeuristique()) {
+                meilleur = fils;
+            }
+        }
+        return meilleur;
+    }
+
+    /**
+     * Reconstitue la variante principale à partir du meilleur fils de la racine.
+     * <p>
+     * Sous ce fils, on suit à chaque niveau le premier fils de même valeur que son père,
+     * au signe près (les algorithmes Néga inversent la valeur à chaque niveau).
+     * Les demi-coups sont ensuite regroupés en coups : un placement et le don qui le suit.
+     * </p>
+     *
+     * @param fils      Le meilleur fils de la racine.
+     * @param caseJouee La case déjà choisie pour ce coup, ou {@code null}.
+     * @return Les coups de la variante.
+     */
+    private static List<Coup> variante(NoeudArbre fils, Integer caseJouee) {
+        List<Coup> coups = new ArrayList<>();
+        int index = (caseJouee == null) ? Coup.AUCUN : caseJouee;
+        boolean enAttente = caseJouee != null;
+
+        for (NoeudArbre noeud = fils; noeud != null; noeud = suivant(noeud)) {
+            if (noeud.getPositionJouee() != null) {
+                if (enAttente) {
+                    coups.add(Coup.get(index, Coup.AUCUN));
+                }
+                index = noeud.getPositionJouee().getIndex();
+                enAttente = true;
+            } else if (noeud.getPieceDonnee() != null) {
+                coups.add(Coup.get(index, noeud.getPieceDonnee().getId()));
+                index = Coup.AUCUN;
+                enAttente = false;
+            }
+        }
+        if (enAttente) {
+            coups.add(Coup.get(index, Coup.AUCUN));
+        }
+        return coups;
+    }
+
+    /**
+     * Retourne le fils qui prolonge la variante principale.
+     *
+     * @param noeud Le nœud courant de la variante.
+     * @return Le premier fils de même valeur au signe près, ou {@code null}.
+     */
+    private static NoeudArbre suivant(NoeudArbre noeud) {
+        NoeudArbre oppose = null;
+        for (NoeudArbre fils = noeud.getFilsaine(); fils != null; fils = fils.getFreredroit()) {
+            if (fils.getHeuristique() == noeud.getHeuristique()) return fils;
+            if (oppose == null && fils.getHeuristique() == -noeud.getHeuristique()) oppose = fils;
+        }
+        return oppose;
+    }
+}
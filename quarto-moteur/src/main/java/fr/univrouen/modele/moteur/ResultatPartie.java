@@ -0,0 +1,126 @@
+package fr.univrouen.modele.moteur;
+
+import java.util.Collections;
+import java.util.List;
+
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.EtatJeu;
+import fr.univrouen.modele.joueur.Joueur;
+
+/**
+ * Résultat d'une partie jouée par un {@link MoteurPartie} : le gagnant (ou la partie nulle),
+ * les coups joués, la position finale et la durée de la partie.
+ * <p>
+ * Un résultat est immuable et peut être partagé entre threads.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see MoteurPartie
+ */
+public final class ResultatPartie {
+    /** Indice renvoyé par {@link #getIndiceGagnant()} pour une partie nulle. */
+    public static final int NULLE = -1;
+
+    /** Le joueur gagnant, ou {@code null} pour une partie nulle. */
+    private final Joueur gagnant;
+
+    /** L'indice du gagnant (0 pour le premier joueur, 1 pour le second), ou {@link #NULLE}. */
+    private final int indiceGagnant;
+
+    /** Les coups joués, dans l'ordre. */
+    private final List<Coup> coups;
+
+    /** La position finale. */
+    private final EtatJeu etatFinal;
+
+    /** La durée de la partie, en millisecondes. */
+    private final long duree;
+
+    /**
+     * Construit le résultat d'une partie.
+     *
+     * @param gagnant       Le joueur gagnant, ou {@code null} pour une partie nulle.
+     * @param indiceGagnant L'indice du gagnant, ou {@link #NULLE}.
+     * @param coups         Les coups joués, dans l'ordre.
+     * @param etatFinal     La position finale.
+     * @param duree         La durée de la partie, en millisecondes.
+     */
+    ResultatPartie(Joueur gagnant, int indiceGagnant, List<Coup> coups, EtatJeu etatFinal, long duree) {
+        this.gagnant = gagnant;
+        this.indiceGagnant = indiceGagnant;
+        this.coups = Collections.unmodifiableList(coups);
+        this.etatFinal = etatFinal;
+        this.duree = duree;
+    }
+
+    /**
+     * Retourne le joueur gagnant.
+     *
+     * @return Le gagnant, ou {@code null} pour une partie nulle.
+     */
+    public Joueur getGagnant() {
+        return gagnant;
+    }
+
+    /**
+     * Retourne l'indice du gagnant, utile lorsque les deux joueurs sont la même instance.
+     *
+     * @return 0 si le premier joueur a gagné, 1 si c'est le second, {@link #NULLE} pour une partie nulle.
+     */
+    public int getIndiceGagnant() {
+        return indiceGagnant;
+    }
+
+    /**
+     * Indique si la partie est nulle : le plateau est rempli sans alignement gagnant.
+     *
+     * @return {@code true} pour une partie nulle.
+     */
+    public boolean estNulle() {
+        return indiceGagnant == NULLE;
+    }
+
+    /**
+     * Retourne les coups joués, dans l'ordre.
+     *
+     * @return La liste non modifiable des coups.
+     */
+    public List<Coup> getCoups() {
+        return coups;
+    }
+
+    /**
+     * Retourne le nombre de coups joués, don de la première pièce compris.
+     *
+     * @return Le nombre de coups.
+     */
+    public int getNombreCoups() {
+        return coups.size();
+    }
+
+    /**
+     * Retourne la position finale.
+     *
+     * @return L'état final de la partie.
+     */
+    public EtatJeu getEtatFinal() {
+        return etatFinal;
+    }
+
+    /**
+     * Retourne la durée de la partie.
+     *
+     * @return La durée, en millisecondes.
+     */
+    public long getDuree() {
+        return duree;
+    }
+
+    @Override
+    public String toString() {
+        String issue = estNulle() ? "nulle" : "gagnée par le joueur " + (indiceGagnant + 1) + " (" + gagnant.getNom() + ")";
+        return "Partie " + issue + " en " + coups.size() + " coups, " + duree + " ms";
+    }
+}
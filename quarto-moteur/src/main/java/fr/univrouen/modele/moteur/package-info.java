@@ -0,0 +1,19 @@
+/**
+ * Moteur de partie sans interface graphique.
+ * <p>
+ * Ce package permet de jouer une partie entre deux joueurs qui décident seuls de leurs coups
+ * (les IA), coup par coup ou jusqu'à son terme, puis d'en lire le résultat.
+ * Il ne dépend ni d'AWT ni de Swing : les traitements par lots (réglage, tournois, bancs d'essai)
+ * démarrent vite et tournent sur des serveurs sans affichage.
+ * </p>
+ * <p>
+ * {@link fr.univrouen.modele.moteur.RechercheIterative} cherche un coup sur n'importe quelle arborescence
+ * en se laissant piloter de l'extérieur (limites, arrêt, compte rendu de chaque itération).
+ * </p>
+ *
+ * @see fr.univrouen.modele.moteur.MoteurPartie
+ * @see fr.univrouen.modele.moteur.ResultatPartie
+ * @see fr.univrouen.modele.moteur.RechercheIterative
+ * @since JDK 17
+ */
+package fr.univrouen.modele.moteur;
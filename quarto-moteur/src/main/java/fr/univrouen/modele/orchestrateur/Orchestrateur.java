@@ -0,0 +1,215 @@
+package fr.univrouen.modele.orchestrateur;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import fr.univrouen.modele.joueur.Joueur;
+import fr.univrouen.modele.joueur.humain.JoueurHumain;
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.jeu.partie.observer.Observer;
+
+/**
+ * L’orchestrateur du jeu Quarto.
+ * <p>
+ * Cette classe agit comme un gestionnaire automatique de tours pour les joueurs non humains (IA).
+ * Lorsqu’un changement d’état est détecté via {@link #update()}, l’orchestrateur déclenche automatiquement
+ * le tour de l’IA après un léger délai, simulant un comportement réaliste.
+ * </p>
+ *
+ * <p>
+ * La recherche ne se fait pas sur le thread qui modifie la partie (l’EDT pour l’interface) : la décision
+ * ({@link Joueur#deciderCoup(Jeu)}) est calculée sur une copie de la partie par un exécuteur partagé,
+ * avec un thread virtuel par décision lorsque la JVM en dispose (un pool de threads démons sinon),
+ * puis le coup est confié à l’exécuteur d’application fourni à la construction, qui le joue sur
+ * ce thread. L’orchestrateur ne dépend ainsi d’aucune bibliothèque graphique : l’interface Swing
+ * lui fournit {@code SwingUtilities::invokeLater}. Plusieurs parties ouvertes dans la même JVM
+ * réfléchissent en parallèle sans bloquer l’interface. Le délai minimal est planifié sur un thread
+ * dédié plutôt qu’attendu par le thread de la décision, et une décision qui échoue est journalisée
+ * sans qu’aucun coup soit joué.
+ * </p>
+ *
+ * <p>
+ * Chaque notification, ainsi que l’{@linkplain #arreter() arrêt} de l’orchestrateur (fermeture
+ * de la fenêtre), incrémente une génération : une décision calculée pour une génération antérieure
+ * (coup annulé, partie fermée) est ignorée.
+ * </p>
+ *
+ * <p>Elle permet également de déléguer l’exécution logique d’un tour à l’IA via {@link #jouerTour()}.</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 2.2
+ * @since JDK 17
+ */
+public class Orchestrateur implements Observer {
+    /** Délai minimal par défaut, en millisecondes, entre une notification et le coup de l’IA. */
+    public static final long DELAI_PAR_DEFAUT = 300;
+
+    /** Exécuteur partagé des décisions de l’IA. */
+    private static final ExecutorService EXECUTEUR = creerExecuteur();
+
+    /** Planificateur partagé des coups retardés jusqu’à la fin du délai minimal. */
+    private static final ScheduledExecutorService PLANIFICATEUR = Executors.newSingleThreadScheduledExecutor(tache -> {
+        Thread thread = new Thread(tache, "quarto-delai");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Journal des décisions de l’IA qui échouent. */
+    private static final Logger JOURNAL = Logger.getLogger(Orchestrateur.class.getName());
+
+    /** Instance du jeu à superviser. */
+    private final Jeu jeu;
+
+    /** Délai minimal, en millisecondes, avant que le coup de l’IA soit joué. */
+    private final long delaiMinimal;
+
+    /** Exécuteur du thread qui modifie la partie, sur lequel les coups décidés sont joués. */
+    private final Executor application;
+
+    /** Génération de l’état suivi, incrémentée à chaque notification et à l’arrêt. */
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /** Indique si l’orchestrateur a été arrêté. */
+    private volatile boolean arrete;
+
+    /**
+     * Crée un orchestrateur supervisant une instance du jeu.
+     *
+     * @param jeu         L’instance du jeu à suivre.
+     * @param application L’exécuteur du thread qui modifie la partie (par exemple {@code SwingUtilities::invokeLater}).
+     */
+    public Orchestrateur(Jeu jeu, Executor application) {
+        this(jeu, DELAI_PAR_DEFAUT, application);
+    }
+
+    /**
+     * Crée un orchestrateur supervisant une instance du jeu, avec un délai minimal donné.
+     *
+     * @param jeu          L’instance du jeu à suivre.
+     * @param delaiMinimal Délai minimal, en millisecondes, avant chaque coup de l’IA (0 pour jouer dès que possible).
+     * @param application  L’exécuteur du thread qui modifie la partie.
+     * @throws IllegalArgumentException si le délai est négatif ou si l’exécuteur est {@code null}.
+     */
+    public Orchestrateur(Jeu jeu, long delaiMinimal, Executor application) {
+        if (delaiMinimal < 0) {
+            throw new IllegalArgumentException("Le délai ne peut pas être négatif.");
+        }
+        if (application == null) {
+            throw new IllegalArgumentException("L’exécuteur d’application ne peut pas être nul.");
+        }
+        this.jeu = jeu;
+        this.delaiMinimal = delaiMinimal;
+        this.application = application;
+    }
+
+    /**
+     * Lance la réflexion de l’IA si c’est à elle de jouer.
+     * <p>Doit être appelée sur le thread qui modifie la partie (l’EDT pour l’interface).</p>
+     */
+    @Override
+    public void update() {
+        int attendue = generation.incrementAndGet();
+        if (arrete || jeu.estTerminee()) return;
+
+        Joueur joueurActuel = jeu.getJoueurActuel();
+        boolean estIA = joueurActuel != null && !(joueurActuel instanceof JoueurHumain);
+        if (!estIA) return;
+
+        // La recherche travaille sur une copie : la partie n’est jamais lue hors du thread d’application
+        Jeu copie = jeu.copier();
+        EXECUTEUR.execute(() -> {
+            long debut = System.nanoTime();
+            Coup coup;
+            try {
+                coup = joueurActuel.deciderCoup(copie);
+            } catch (RuntimeException e) {
+                JOURNAL.log(Level.SEVERE, "La décision de " + joueurActuel.getNom() + " a échoué.", e);
+                return;
+            }
+            planifier(() -> application.execute(() -> appliquer(coup, attendue)), debut);
+        });
+    }
+
+    /**
+     * Arrête l’orchestrateur, par exemple à la fermeture de la fenêtre :
+     * les décisions en cours sont abandonnées et aucune nouvelle n’est lancée.
+     */
+    public void arreter() {
+        arrete = true;
+        generation.incrementAndGet();
+        jeu.removeObserver(this);
+    }
+
+    /**
+     * Joue le coup décidé par l’IA, s’il correspond encore à l’état de la partie.
+     *
+     * @param coup      Le coup décidé.
+     * @param attendue  La génération pour laquelle il a été décidé.
+     */
+    private void appliquer(Coup coup, int attendue) {
+        // Résultat périmé : la partie a changé ou a été fermée pendant la réflexion
+        if (coup == null || arrete || generation.get() != attendue || jeu.estTerminee()) return;
+
+        jeu.jouerCoup(coup);
+    }
+
+    /**
+     * Exécute une tâche à la fin du délai minimal compté depuis le début de la réflexion,
+     * sans bloquer le thread appelant.
+     *
+     * @param tache La tâche à exécuter.
+     * @param debut L’instant de début de la réflexion ({@link System#nanoTime()}).
+     */
+    private void planifier(Runnable tache, long debut) {
+        long restant = delaiMinimal - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut);
+        if (restant > 0) {
+            PLANIFICATEUR.schedule(tache, restant, TimeUnit.MILLISECONDS);
+        } else {
+            tache.run();
+        }
+    }
+
+    /**
+     * Crée l’exécuteur des décisions : un thread virtuel par tâche si la JVM le permet
+     * (recherché par réflexion, le projet restant compilable pour Java 8),
+     * sinon un pool de threads démons de la taille du nombre de processeurs.
+     *
+     * @return L’exécuteur partagé.
+     */
+    private static ExecutorService creerExecuteur() {
+        try {
+            Method fabrique = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) fabrique.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger numero = new AtomicInteger();
+            return Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), tache -> {
+                Thread thread = new Thread(tache, "quarto-ia-" + numero.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Joue immédiatement, sur le thread appelant, le tour du joueur actuel si c’est une IA.
+     * <p>
+     * Le coup complet (placement de la pièce en attente, puis choix de la pièce à donner)
+     * est décidé par {@link Joueur#deciderCoup(Jeu)} et joué par {@link Jeu#jouerCoup(Coup)}.
+     * </p>
+     */
+    public void jouerTour() {
+        if (jeu.estTerminee()) return;
+
+        Joueur joueurActuel = jeu.getJoueurActuel();
+        if (joueurActuel instanceof JoueurHumain) return;
+
+        Coup coup = joueurActuel.deciderCoup(jeu);
+        if (coup != null) {
+            jeu.jouerCoup(coup);
+        }
+    }
+}
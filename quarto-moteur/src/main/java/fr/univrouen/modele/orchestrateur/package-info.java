@@ -4,6 +4,7 @@
  * Le package gère le déroulement du jeu en fonction des événements, 
  * en particulier lorsqu’un joueur IA doit agir automatiquement à son tour.
  * Il implémente le pattern Observer pour être notifié des changements d’état.
+ * Les décisions de l’IA sont calculées hors du thread de l’interface, puis jouées sur celui-ci.
  * </p>
  *
  * @see fr.univrouen.modele.orchestrateur.Orchestrateur
@@ -2,8 +2,10 @@
  * Contient le cœur logique (modèle) de l'application Quarto.
  * <p>
  * Ce package regroupe l’ensemble des entités métier : les pièces, les joueurs,
- * le plateau, les stratégies, les arbres de recherche, et les orchestrateurs de partie.
- * Il respecte le principe MVC en étant totalement indépendant de la vue.
+ * le plateau, les stratégies, les arbres de recherche, la gestion du temps des IA, les orchestrateurs de partie
+ * le moteur de partie sans interface graphique et l'hôte de sessions simultanées.
+ * Il respecte le principe MVC en étant totalement indépendant de la vue : il forme le module {@code quarto-moteur},
+ * qui ne dépend ni d'AWT ni de Swing.
  * </p>
  *
  * @see fr.univrouen.modele.jeu.piece.Piece
@@ -11,6 +13,9 @@
  * @see fr.univrouen.modele.arbre.Arborescence
  * @see fr.univrouen.modele.orchestrateur.Orchestrateur
  * @see fr.univrouen.modele.jeu.partie.Jeu
+ * @see fr.univrouen.modele.temps.GestionnaireTemps
+ * @see fr.univrouen.modele.moteur.MoteurPartie
+ * @see fr.univrouen.modele.session.HoteSessions
  * @since JDK 17
  */
 package fr.univrouen.modele;
\ No newline at end of file
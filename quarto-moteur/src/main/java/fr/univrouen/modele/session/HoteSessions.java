@@ -0,0 +1,251 @@
+package fr.univrouen.modele.session;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import fr.univrouen.modele.jeu.partie.strategie.StrategieGagnante;
+import fr.univrouen.modele.joueur.Joueur;
+import fr.univrouen.modele.joueur.ia.JoueurIA;
+
+/**
+ * Hôte de sessions : héberge dans un même processus des milliers de parties simultanées.
+ * <p>
+ * Les décisions des IA de toutes les sessions sont exécutées par un pool de threads borné, partagé.
+ * L'équité entre sessions est assurée par construction : une session n'a jamais plus d'une décision
+ * planifiée, et après chaque coup elle repasse en fin de file (tourniquet). Une session qui réfléchit
+ * longtemps n'occupe donc qu'un thread, et la file contient au plus une décision par session.
+ * </p>
+ * <p>
+ * Chaque session reçoit les {@link QuotasSession quotas} de l'hôte : une pendule par IA (qui perd
+ * la partie si elle dépasse son temps), un quota de nœuds par arbre de recherche (la mémoire d'une
+ * décision), et une durée d'inactivité au-delà de laquelle un thread de nettoyage l'évince.
+ * {@link #getStatistiques()} expose le nombre de sessions, la profondeur de la file et les centiles
+ * de la latence des coups.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see Session
+ */
+public final class HoteSessions {
+    /** Nombre de latences conservées pour le calcul des centiles. */
+    private static final int FENETRE_LATENCES = 4096;
+
+    /** Quotas imposés à chaque session. */
+    private final QuotasSession quotas;
+
+    /** Nombre maximal de sessions hébergées. */
+    private final int sessionsMax;
+
+    /** Sessions hébergées, par identifiant. */
+    private final Map<Long, Session> sessions = new ConcurrentHashMap<>();
+
+    /** Nombre de places réservées, au plus {@link #sessionsMax}. */
+    private final AtomicInteger places = new AtomicInteger();
+
+    /** Pool borné des décisions des IA. */
+    private final ThreadPoolExecutor executeur;
+
+    /** Thread de nettoyage des sessions inactives. */
+    private final ScheduledExecutorService nettoyage;
+
+    /** Prochain identifiant de session. */
+    private final AtomicLong prochainId = new AtomicLong(1);
+
+    /** Nombre de sessions créées. */
+    private final AtomicLong creees = new AtomicLong();
+
+    /** Nombre de parties terminées. */
+    private final AtomicLong terminees = new AtomicLong();
+
+    /** Nombre de sessions évincées. */
+    private final AtomicLong evincees = new AtomicLong();
+
+    /** Latences des derniers coups. */
+    private final Latences latences = new Latences(FENETRE_LATENCES);
+
+    /**
+     * Crée un hôte de sessions.
+     *
+     * @param travailleurs Le nombre de threads qui exécutent les décisions des IA.
+     * @param sessionsMax  Le nombre maximal de sessions hébergées.
+     * @param quotas       Les quotas imposés à chaque session.
+     * @throws IllegalArgumentException si un nombre n'est pas positif ou si les quotas sont {@code null}.
+     */
+    public HoteSessions(int travailleurs, int sessionsMax, QuotasSession quotas) {
+        if (travailleurs <= 0 || sessionsMax <= 0) {
+            throw new IllegalArgumentException("Le nombre de threads et de sessions doit être positif.");
+        }
+        if (quotas == null) {
+            throw new IllegalArgumentException("Les quotas ne peuvent pas être nuls.");
+        }
+        this.quotas = quotas;
+        this.sessionsMax = sessionsMax;
+        this.executeur = new ThreadPoolExecutor(travailleurs, travailleurs, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), fabrique("quarto-hote-"));
+        this.nettoyage = Executors.newSingleThreadScheduledExecutor(fabrique("quarto-hote-nettoyage-"));
+
+        long periode = Math.max(1, quotas.getInactiviteMax() / 2);
+        nettoyage.scheduleWithFixedDelay(this::evincerInactives, periode, periode, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Crée une session et lance la partie : si le premier joueur est une IA, sa décision est planifiée.
+     *
+     * @param joueur1   Le premier joueur, qui donne la première pièce.
+     * @param joueur2   Le second joueur.
+     * @param strategie La stratégie de victoire.
+     * @return La session créée.
+     * @throws IllegalArgumentException si un paramètre est {@code null}, si une même IA joue les deux côtés,
+     *                                  si l'hôte est arrêté ou s'il héberge déjà le nombre maximal de sessions.
+     */
+    public Session creerSession(Joueur joueur1, Joueur joueur2, StrategieGagnante strategie) {
+        if (joueur1 == null || joueur2 == null || strategie == null) {
+            throw new IllegalArgumentException("Les joueurs et la stratégie ne peuvent pas être nuls.");
+        }
+        if (joueur1 == joueur2 && joueur1 instanceof JoueurIA) {
+            throw new IllegalArgumentException("Chaque IA d'une session a sa propre pendule : deux instances sont nécessaires.");
+        }
+        if (executeur.isShutdown()) {
+            throw new IllegalArgumentException("L'hôte est arrêté.");
+        }
+        if (places.incrementAndGet() > sessionsMax) {
+            places.decrementAndGet();
+            throw new IllegalArgumentException("L'hôte héberge déjà " + sessionsMax + " sessions.");
+        }
+
+        Session session = new Session(prochainId.getAndIncrement(), this, joueur1, joueur2, strategie, quotas);
+        sessions.put(session.getId(), session);
+        creees.incrementAndGet();
+        synchronized (session) {
+            session.planifier();
+        }
+        return session;
+    }
+
+    /**
+     * Retourne une session hébergée.
+     *
+     * @param id L'identifiant de la session.
+     * @return La session, ou {@code null} si elle n'existe pas ou a été fermée.
+     */
+    public Session getSession(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Ferme une session : sa décision en cours est ignorée et elle n'est plus hébergée.
+     *
+     * @param id L'identifiant de la session.
+     * @return {@code true} si la session existait.
+     */
+    public boolean fermerSession(long id) {
+        Session session = sessions.get(id);
+        return session != null && retirer(session);
+    }
+
+    /**
+     * Retire une session de l'hôte, libère sa place et la ferme.
+     *
+     * @param session La session.
+     * @return {@code true} si la session était encore hébergée (un seul appelant la retire).
+     */
+    private boolean retirer(Session session) {
+        if (!sessions.remove(session.getId(), session)) return false;
+
+        places.decrementAndGet();
+        session.fermer();
+        return true;
+    }
+
+    /**
+     * Évince les sessions inactives depuis la durée d'inactivité des quotas.
+     * Appelée périodiquement par le thread de nettoyage.
+     *
+     * @return Le nombre de sessions évincées.
+     */
+    public int evincerInactives() {
+        long maintenant = System.nanoTime();
+        long duree = TimeUnit.MILLISECONDS.toNanos(quotas.getInactiviteMax());
+        int nombre = 0;
+        for (Session session : sessions.values()) {
+            if (session.estInactive(maintenant, duree) && retirer(session)) {
+                nombre++;
+            }
+        }
+        evincees.addAndGet(nombre);
+        return nombre;
+    }
+
+    /**
+     * Retourne les statistiques actuelles de l'hôte.
+     *
+     * @return Un relevé des statistiques.
+     */
+    public StatistiquesHote getStatistiques() {
+        int enCours = 0;
+        for (Session session : sessions.values()) {
+            if (session.getEtat() == Session.Etat.EN_COURS) enCours++;
+        }
+        return new StatistiquesHote(sessions.size(), enCours, creees.get(), terminees.get(), evincees.get(),
+                executeur.getQueue().size(), executeur.getActiveCount(), latences.getTotal(), latences.trier());
+    }
+
+    /**
+     * Arrête l'hôte : les décisions en attente sont abandonnées et toutes les sessions sont fermées.
+     */
+    public void arreter() {
+        nettoyage.shutdownNow();
+        executeur.shutdownNow();
+        for (Session session : sessions.values()) {
+            retirer(session);
+        }
+    }
+
+    /**
+     * Soumet la décision d'une session au pool. Ignorée si l'hôte est arrêté.
+     *
+     * @param session La session dont l'IA est au trait.
+     */
+    void soumettre(Session session) {
+        try {
+            executeur.execute(session::reflechir);
+        } catch (RejectedExecutionException e) {
+            // Hôte arrêté : la session est fermée par arreter()
+        }
+    }
+
+    /**
+     * Enregistre la latence d'un coup d'IA.
+     *
+     * @param latence La latence, en nanosecondes.
+     */
+    void enregistrerLatence(long latence) {
+        latences.enregistrer(latence);
+    }
+
+    /**
+     * Compte une partie terminée.
+     */
+    void compterFin() {
+        terminees.incrementAndGet();
+    }
+
+    /**
+     * Crée une fabrique de threads démons nommés.
+     *
+     * @param prefixe Le préfixe du nom des threads.
+     * @return La fabrique.
+     */
+    private static ThreadFactory fabrique(String prefixe) {
+        AtomicInteger numero = new AtomicInteger();
+        return tache -> {
+            Thread thread = new Thread(tache, prefixe + numero.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
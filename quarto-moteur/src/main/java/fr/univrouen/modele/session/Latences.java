@@ -0,0 +1,74 @@
+package fr.univrouen.modele.session;
+
+import java.util.Arrays;
+
+/**
+ * Fenêtre glissante des dernières latences de coups d'un {@link HoteSessions}.
+ * <p>
+ * Les mesures sont conservées dans un tampon circulaire de taille fixe : la mémoire ne croît pas
+ * avec le nombre de coups, et les centiles décrivent le comportement récent de l'hôte.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ */
+final class Latences {
+    /** Tampon circulaire des latences, en nanosecondes. */
+    private final long[] mesures;
+
+    /** Nombre total de mesures enregistrées. */
+    private long total;
+
+    /**
+     * Crée une fenêtre de latences.
+     *
+     * @param capacite Le nombre de mesures conservées.
+     */
+    Latences(int capacite) {
+        this.mesures = new long[capacite];
+    }
+
+    /**
+     * Enregistre une latence.
+     *
+     * @param latence La latence, en nanosecondes.
+     */
+    synchronized void enregistrer(long latence) {
+        mesures[(int) (total++ % mesures.length)] = latence;
+    }
+
+    /**
+     * Retourne le nombre total de mesures enregistrées.
+     *
+     * @return Le nombre de mesures.
+     */
+    synchronized long getTotal() {
+        return total;
+    }
+
+    /**
+     * Retourne les mesures de la fenêtre, triées.
+     *
+     * @return Les latences conservées, en nanosecondes, par ordre croissant.
+     */
+    synchronized long[] trier() {
+        long[] copie = Arrays.copyOf(mesures, (int) Math.min(total, mesures.length));
+        Arrays.sort(copie);
+        return copie;
+    }
+
+    /**
+     * Retourne un centile d'une série triée (méthode du rang le plus proche).
+     *
+     * @param triees  Les mesures triées.
+     * @param centile Le centile, entre 0 et 100.
+     * @return La mesure au centile, ou 0 si la série est vide.
+     */
+    static long centile(long[] triees, double centile) {
+        if (triees.length == 0) return 0;
+
+        int rang = (int) Math.ceil(centile / 100.0 * triees.length);
+        return triees[Math.max(0, Math.min(triees.length - 1, rang - 1))];
+    }
+}
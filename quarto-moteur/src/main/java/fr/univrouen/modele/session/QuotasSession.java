@@ -0,0 +1,102 @@
+package fr.univrouen.modele.session;
+
+/**
+ * Quotas imposés à chaque session d'un {@link HoteSessions}.
+ * <ul>
+ *   <li>le temps : chaque IA de la session reçoit une pendule (temps de base et incrément) ;
+ *       une IA qui dépasse son temps perd la partie ;</li>
+ *   <li>la mémoire : chaque arbre de recherche est limité à un nombre de nœuds ;</li>
+ *   <li>l'inactivité : une session sans coup joué pendant cette durée est évincée.</li>
+ * </ul>
+ * <p>
+ * Un quota est immuable et peut être partagé entre les sessions.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see HoteSessions
+ */
+public final class QuotasSession {
+    /** Quotas par défaut : 1 minute + 1 seconde par coup, 100 000 nœuds par arbre, 10 minutes d'inactivité. */
+    public static final QuotasSession PAR_DEFAUT = new QuotasSession(60_000, 1_000, 100_000, 600_000);
+
+    /** Temps de base de chaque IA, en millisecondes. */
+    private final long tempsBase;
+
+    /** Incrément par coup de chaque IA, en millisecondes. */
+    private final long increment;
+
+    /** Nombre maximal de nœuds d'un arbre de recherche. */
+    private final long noeudsMax;
+
+    /** Durée d'inactivité au-delà de laquelle la session est évincée, en millisecondes. */
+    private final long inactiviteMax;
+
+    /**
+     * Crée des quotas de session.
+     *
+     * @param tempsBase     Temps de base de chaque IA, en millisecondes.
+     * @param increment     Incrément par coup de chaque IA, en millisecondes.
+     * @param noeudsMax     Nombre maximal de nœuds d'un arbre de recherche.
+     * @param inactiviteMax Durée d'inactivité avant éviction, en millisecondes.
+     * @throws IllegalArgumentException si une valeur est hors de son domaine.
+     */
+    public QuotasSession(long tempsBase, long increment, long noeudsMax, long inactiviteMax) {
+        if (tempsBase <= 0 || increment < 0) {
+            throw new IllegalArgumentException("Cadence invalide : " + tempsBase + " + " + increment);
+        }
+        if (noeudsMax <= 0) {
+            throw new IllegalArgumentException("Le quota de nœuds doit être positif.");
+        }
+        if (inactiviteMax <= 0) {
+            throw new IllegalArgumentException("La durée d'inactivité doit être positive.");
+        }
+        this.tempsBase = tempsBase;
+        this.increment = increment;
+        this.noeudsMax = noeudsMax;
+        this.inactiviteMax = inactiviteMax;
+    }
+
+    /**
+     * Retourne le temps de base de chaque IA.
+     *
+     * @return Le temps de base, en millisecondes.
+     */
+    public long getTempsBase() {
+        return tempsBase;
+    }
+
+    /**
+     * Retourne l'incrément par coup de chaque IA.
+     *
+     * @return L'incrément, en millisecondes.
+     */
+    public long getIncrement() {
+        return increment;
+    }
+
+    /**
+     * Retourne le nombre maximal de nœuds d'un arbre de recherche.
+     *
+     * @return Le quota de nœuds.
+     */
+    public long getNoeudsMax() {
+        return noeudsMax;
+    }
+
+    /**
+     * Retourne la durée d'inactivité au-delà de laquelle une session est évincée.
+     *
+     * @return La durée, en millisecondes.
+     */
+    public long getInactiviteMax() {
+        return inactiviteMax;
+    }
+
+    @Override
+    public String toString() {
+        return "QuotasSession[temps=" + tempsBase + "+" + increment + " ms, noeuds=" + noeudsMax
+                + ", inactivite=" + inactiviteMax + " ms]";
+    }
+}
@@ -0,0 +1,283 @@
+package fr.univrouen.modele.session;
+
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.EtatJeu;
+import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.jeu.partie.JeuQuarto;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieGagnante;
+import fr.univrouen.modele.joueur.Joueur;
+import fr.univrouen.modele.joueur.ia.JoueurIA;
+import fr.univrouen.modele.moteur.ResultatPartie;
+import fr.univrouen.modele.temps.Pendule;
+
+/**
+ * Session d'un {@link HoteSessions} : une partie hébergée, jouée par deux joueurs.
+ * <p>
+ * Les coups des IA ({@link JoueurIA}) sont décidés sur les threads de l'hôte, une décision à la fois
+ * par session ; ceux des autres joueurs sont soumis par {@link #jouer(Coup)}. La partie n'est modifiée
+ * que sous le verrou de la session, mais sa position peut être lue sans verrou depuis n'importe
+ * quel thread par {@link #getInstantane()}.
+ * </p>
+ * <p>
+ * Chaque IA reçoit les quotas de l'hôte (pendule et quota de nœuds) : une même instance
+ * ne doit donc pas jouer dans deux sessions, ni des deux côtés d'une même partie.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see HoteSessions
+ */
+public final class Session {
+
+    /**
+     * État d'une session.
+     */
+    public enum Etat {
+        /** La partie se joue. */
+        EN_COURS,
+        /** La partie est gagnée ou nulle. */
+        TERMINEE,
+        /** Une IA a dépassé son temps et perdu la partie. */
+        TEMPS_DEPASSE,
+        /** Une décision d'IA a échoué. */
+        ERREUR,
+        /** La session a été fermée ou évincée par l'hôte. */
+        FERMEE
+    }
+
+    /** Identifiant de la session dans son hôte. */
+    private final long id;
+
+    /** Hôte de la session. */
+    private final HoteSessions hote;
+
+    /** La partie hébergée. */
+    private final JeuQuarto jeu;
+
+    /** État de la session. */
+    private volatile Etat etat = Etat.EN_COURS;
+
+    /** Indice du gagnant, ou {@link ResultatPartie#NULLE}. */
+    private volatile int indiceGagnant = ResultatPartie.NULLE;
+
+    /** Instant de la dernière activité, selon {@link System#nanoTime()}. */
+    private volatile long derniereActivite;
+
+    /** Indique si une décision d'IA est planifiée ou en cours. */
+    private boolean reflexionPlanifiee;
+
+    /** Instant où la décision en cours a été planifiée, selon {@link System#nanoTime()}. */
+    private long planification;
+
+    /** Génération de la partie, incrémentée à chaque coup et à la fermeture. */
+    private int generation;
+
+    /**
+     * Crée une session et configure les quotas de ses IA.
+     *
+     * @param id        L'identifiant de la session.
+     * @param hote      L'hôte de la session.
+     * @param joueur1   Le premier joueur.
+     * @param joueur2   Le second joueur.
+     * @param strategie La stratégie de victoire.
+     * @param quotas    Les quotas de la session.
+     */
+    Session(long id, HoteSessions hote, Joueur joueur1, Joueur joueur2, StrategieGagnante strategie, QuotasSession quotas) {
+        configurer(joueur1, quotas);
+        configurer(joueur2, quotas);
+        this.id = id;
+        this.hote = hote;
+        this.jeu = new JeuQuarto(joueur1, joueur2, strategie);
+        this.derniereActivite = System.nanoTime();
+    }
+
+    /**
+     * Donne une pendule et un quota de nœuds à un joueur, s'il s'agit d'une IA.
+     *
+     * @param joueur Le joueur.
+     * @param quotas Les quotas de la session.
+     */
+    private static void configurer(Joueur joueur, QuotasSession quotas) {
+        if (joueur instanceof JoueurIA) {
+            JoueurIA ia = (JoueurIA) joueur;
+            ia.setPendule(new Pendule(quotas.getTempsBase(), quotas.getIncrement()));
+            ia.setQuotaNoeuds(quotas.getNoeudsMax());
+        }
+    }
+
+    /**
+     * Joue le coup d'un joueur qui ne décide pas seul (un humain, un client distant).
+     *
+     * @param coup Le coup à jouer.
+     * @throws IllegalArgumentException si la session n'est pas en cours, si c'est à une IA de jouer,
+     *                                  ou si le coup est illégal.
+     */
+    public synchronized void jouer(Coup coup) {
+        if (etat != Etat.EN_COURS) {
+            throw new IllegalArgumentException("La session " + id + " n'est pas en cours : " + etat);
+        }
+        if (jeu.getJoueurActuel() instanceof JoueurIA) {
+            throw new IllegalArgumentException("C'est à l'IA de jouer dans la session " + id + ".");
+        }
+        appliquer(coup, jeu.getTrait());
+    }
+
+    /**
+     * Planifie la décision de l'IA au trait, si c'est à une IA de jouer et qu'aucune décision n'est en cours.
+     * Doit être appelée sous le verrou de la session.
+     */
+    void planifier() {
+        if (etat == Etat.EN_COURS && !reflexionPlanifiee && jeu.getJoueurActuel() instanceof JoueurIA) {
+            reflexionPlanifiee = true;
+            planification = System.nanoTime();
+            hote.soumettre(this);
+        }
+    }
+
+    /**
+     * Décide et joue le coup de l'IA au trait. Appelée sur un thread de l'hôte :
+     * la décision est calculée hors verrou, sur une copie de la partie.
+     */
+    void reflechir() {
+        JoueurIA ia;
+        Jeu copie;
+        int attendue;
+        synchronized (this) {
+            if (etat != Etat.EN_COURS) {
+                reflexionPlanifiee = false;
+                return;
+            }
+            ia = (JoueurIA) jeu.getJoueurActuel();
+            copie = jeu.copier();
+            attendue = generation;
+        }
+
+        Coup coup;
+        try {
+            coup = ia.deciderCoup(copie);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                reflexionPlanifiee = false;
+                terminer(Etat.ERREUR, ResultatPartie.NULLE);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            reflexionPlanifiee = false;
+            // Résultat périmé : la session a été fermée pendant la réflexion
+            if (etat != Etat.EN_COURS || generation != attendue) return;
+
+            int trait = jeu.getTrait();
+            hote.enregistrerLatence(System.nanoTime() - planification);
+            if (ia.getPendule() != null && ia.getPendule().estTombee()) {
+                terminer(Etat.TEMPS_DEPASSE, 1 - trait);
+                return;
+            }
+            appliquer(coup, trait);
+        }
+    }
+
+    /**
+     * Joue un coup, met à jour l'état de la session puis planifie le coup suivant.
+     * Doit être appelée sous le verrou de la session.
+     *
+     * @param coup  Le coup à jouer.
+     * @param trait Le trait du joueur qui joue.
+     */
+    private void appliquer(Coup coup, int trait) {
+        jeu.jouerCoup(coup);
+        generation++;
+        derniereActivite = System.nanoTime();
+        if (jeu.estTerminee()) {
+            // Le trait ne change pas après un placement : le gagnant est le joueur qui a joué
+            terminer(Etat.TERMINEE, jeu.getJoueurGagnant() == null ? ResultatPartie.NULLE : trait);
+        } else {
+            planifier();
+        }
+    }
+
+    /**
+     * Ferme la session : une décision en cours est ignorée. Sans effet si elle est déjà fermée.
+     */
+    synchronized void fermer() {
+        etat = Etat.FERMEE;
+        generation++;
+    }
+
+    /**
+     * Termine la partie. Doit être appelée sous le verrou de la session.
+     *
+     * @param fin     L'état final.
+     * @param gagnant L'indice du gagnant, ou {@link ResultatPartie#NULLE}.
+     */
+    private void terminer(Etat fin, int gagnant) {
+        indiceGagnant = gagnant;
+        etat = fin;
+        derniereActivite = System.nanoTime();
+        hote.compterFin();
+    }
+
+    /**
+     * Indique si la session est inactive depuis au moins une durée donnée.
+     * Une session dont l'IA réfléchit n'est jamais inactive.
+     *
+     * @param maintenant L'instant présent, selon {@link System#nanoTime()}.
+     * @param duree      La durée d'inactivité, en nanosecondes.
+     * @return {@code true} si la session est inactive.
+     */
+    synchronized boolean estInactive(long maintenant, long duree) {
+        return !reflexionPlanifiee && maintenant - derniereActivite >= duree;
+    }
+
+    /**
+     * Retourne l'identifiant de la session.
+     *
+     * @return L'identifiant.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Retourne l'état de la session.
+     *
+     * @return L'état.
+     */
+    public Etat getEtat() {
+        return etat;
+    }
+
+    /**
+     * Retourne l'indice du gagnant, une fois la partie terminée ou perdue au temps.
+     *
+     * @return 0 ou 1, ou {@link ResultatPartie#NULLE} si la partie est nulle ou n'a pas de gagnant.
+     */
+    public int getIndiceGagnant() {
+        return indiceGagnant;
+    }
+
+    /**
+     * Retourne la dernière position publiée de la partie, lisible sans verrou depuis n'importe quel thread.
+     *
+     * @return L'état de la partie.
+     */
+    public EtatJeu getInstantane() {
+        return jeu.getInstantane();
+    }
+
+    /**
+     * Retourne le nombre de coups joués.
+     *
+     * @return Le nombre de coups.
+     */
+    public synchronized int getCoupsJoues() {
+        return jeu.getCoupsJoues();
+    }
+
+    @Override
+    public String toString() {
+        return "Session[" + id + ", " + etat + "]";
+    }
+}
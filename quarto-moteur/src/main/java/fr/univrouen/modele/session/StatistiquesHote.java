@@ -0,0 +1,165 @@
+package fr.univrouen.modele.session;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistiques d'un {@link HoteSessions} à un instant donné : nombre de sessions,
+ * profondeur de la file des décisions et centiles de la latence des coups des IA.
+ * <p>
+ * La latence d'un coup est mesurée de sa planification (l'IA est au trait) à la fin de la décision :
+ * elle comprend l'attente dans la file et la réflexion. Les centiles portent sur les derniers coups.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see HoteSessions#getStatistiques()
+ */
+public final class StatistiquesHote {
+    /** Nombre de sessions hébergées (en cours ou terminées, pas encore fermées). */
+    private final int sessions;
+
+    /** Nombre de sessions en cours. */
+    private final int sessionsEnCours;
+
+    /** Nombre de sessions créées depuis le démarrage. */
+    private final long sessionsCreees;
+
+    /** Nombre de parties terminées (gagnées, nulles, perdues au temps ou en erreur). */
+    private final long sessionsTerminees;
+
+    /** Nombre de sessions évincées pour inactivité. */
+    private final long sessionsEvincees;
+
+    /** Nombre de décisions en attente d'un thread. */
+    private final int fileAttente;
+
+    /** Nombre de décisions en cours. */
+    private final int decisionsEnCours;
+
+    /** Nombre de coups d'IA joués. */
+    private final long coups;
+
+    /** Latences triées des derniers coups, en nanosecondes. */
+    private final long[] latences;
+
+    /**
+     * Construit un relevé de statistiques.
+     *
+     * @param sessions          Le nombre de sessions hébergées.
+     * @param sessionsEnCours   Le nombre de sessions en cours.
+     * @param sessionsCreees    Le nombre de sessions créées.
+     * @param sessionsTerminees Le nombre de parties terminées.
+     * @param sessionsEvincees  Le nombre de sessions évincées.
+     * @param fileAttente       Le nombre de décisions en attente.
+     * @param decisionsEnCours  Le nombre de décisions en cours.
+     * @param coups             Le nombre de coups d'IA joués.
+     * @param latences          Les latences triées des derniers coups, en nanosecondes.
+     */
+    StatistiquesHote(int sessions, int sessionsEnCours, long sessionsCreees, long sessionsTerminees, long sessionsEvincees,
+                     int fileAttente, int decisionsEnCours, long coups, long[] latences) {
+        this.sessions = sessions;
+        this.sessionsEnCours = sessionsEnCours;
+        this.sessionsCreees = sessionsCreees;
+        this.sessionsTerminees = sessionsTerminees;
+        this.sessionsEvincees = sessionsEvincees;
+        this.fileAttente = fileAttente;
+        this.decisionsEnCours = decisionsEnCours;
+        this.coups = coups;
+        this.latences = latences;
+    }
+
+    /**
+     * Retourne le nombre de sessions hébergées, en cours ou terminées mais pas encore fermées.
+     *
+     * @return Le nombre de sessions.
+     */
+    public int getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Retourne le nombre de sessions en cours.
+     *
+     * @return Le nombre de sessions en cours.
+     */
+    public int getSessionsEnCours() {
+        return sessionsEnCours;
+    }
+
+    /**
+     * Retourne le nombre de sessions créées depuis le démarrage de l'hôte.
+     *
+     * @return Le nombre de sessions créées.
+     */
+    public long getSessionsCreees() {
+        return sessionsCreees;
+    }
+
+    /**
+     * Retourne le nombre de parties terminées : gagnées, nulles, perdues au temps ou en erreur.
+     *
+     * @return Le nombre de parties terminées.
+     */
+    public long getSessionsTerminees() {
+        return sessionsTerminees;
+    }
+
+    /**
+     * Retourne le nombre de sessions évincées pour inactivité.
+     *
+     * @return Le nombre de sessions évincées.
+     */
+    public long getSessionsEvincees() {
+        return sessionsEvincees;
+    }
+
+    /**
+     * Retourne le nombre de décisions en attente d'un thread.
+     *
+     * @return La profondeur de la file.
+     */
+    public int getFileAttente() {
+        return fileAttente;
+    }
+
+    /**
+     * Retourne le nombre de décisions en cours.
+     *
+     * @return Le nombre de threads occupés.
+     */
+    public int getDecisionsEnCours() {
+        return decisionsEnCours;
+    }
+
+    /**
+     * Retourne le nombre de coups d'IA joués depuis le démarrage.
+     *
+     * @return Le nombre de coups.
+     */
+    public long getCoups() {
+        return coups;
+    }
+
+    /**
+     * Retourne un centile de la latence des derniers coups.
+     *
+     * @param centile Le centile, entre 0 et 100.
+     * @return La latence, en millisecondes (0 si aucun coup n'a été joué).
+     * @throws IllegalArgumentException si le centile est hors de [0, 100].
+     */
+    public double getLatence(double centile) {
+        if (!(centile >= 0 && centile <= 100)) {
+            throw new IllegalArgumentException("Centile invalide : " + centile);
+        }
+        return Latences.centile(latences, centile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StatistiquesHote{sessions=%d, enCours=%d, creees=%d, terminees=%d, evincees=%d, file=%d, "
+                + "decisions=%d, coups=%d, p50=%.1f ms, p90=%.1f ms, p99=%.1f ms}",
+                sessions, sessionsEnCours, sessionsCreees, sessionsTerminees, sessionsEvincees, fileAttente,
+                decisionsEnCours, coups, getLatence(50), getLatence(90), getLatence(99));
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Hébergement de nombreuses parties simultanées dans un même processus.
+ * <p>
+ * Ce package fournit l'hôte de sessions, qui fait jouer les IA de milliers de parties
+ * sur un nombre borné de threads, à tour de rôle, en imposant à chaque session des quotas
+ * de temps et de mémoire et en évinçant les sessions inactives ; il expose aussi
+ * des statistiques (sessions, file d'attente, latence des coups).
+ * </p>
+ *
+ * @see fr.univrouen.modele.session.HoteSessions
+ * @see fr.univrouen.modele.session.Session
+ * @see fr.univrouen.modele.session.QuotasSession
+ * @see fr.univrouen.modele.session.StatistiquesHote
+ * @since JDK 17
+ */
+package fr.univrouen.modele.session;
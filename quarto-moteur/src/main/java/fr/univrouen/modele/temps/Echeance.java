@@ -0,0 +1,199 @@
+package fr.univrouen.modele.temps;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Échéance d'une réflexion : un budget souple, au-delà duquel on ne lance plus de nouvelle itération,
+ * et une limite dure, que les algorithmes de recherche ne dépassent jamais.
+ * <p>
+ * Une échéance peut aussi {@linkplain #limiterNoeuds(long) limiter le nombre de nœuds} de chaque arbre
+ * construit, ce qui borne la mémoire d'une recherche : un arbre qui dépasse ce quota est abandonné
+ * comme s'il avait atteint la limite dure. Elle peut enfin être {@linkplain #arretable(AtomicBoolean) arrêtée}
+ * de l'extérieur, par exemple sur ordre de l'utilisateur : la limite dure est alors considérée comme atteinte.
+ * </p>
+ * <p>
+ * Les durées sont mesurées par {@link System#nanoTime()} depuis la création de l'échéance.
+ * Une échéance est immuable et peut être partagée entre threads.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.2
+ * @since JDK 17
+ * @see GestionnaireTemps
+ */
+public final class Echeance {
+    /** Échéance jamais atteinte, pour une recherche à profondeur fixe. */
+    public static final Echeance AUCUNE = new Echeance(0L, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, null);
+
+    /** Instant de début, selon {@link System#nanoTime()}. */
+    private final long debut;
+
+    /** Budget souple, en nanosecondes depuis le début. */
+    private final long budget;
+
+    /** Limite dure, en nanosecondes depuis le début. */
+    private final long limite;
+
+    /** Nombre maximal de nœuds d'un arbre construit sous cette échéance. */
+    private final long noeudsMax;
+
+    /** Drapeau d'arrêt levé de l'extérieur, ou {@code null}. */
+    private final AtomicBoolean arret;
+
+    /**
+     * Construit une échéance.
+     *
+     * @param debut  Instant de début, selon {@link System#nanoTime()}.
+     * @param budget Budget souple, en nanosecondes.
+     * @param limite    Limite dure, en nanosecondes.
+     * @param noeudsMax Nombre maximal de nœuds d'un arbre.
+     * @param arret     Drapeau d'arrêt, ou {@code null}.
+     */
+    private Echeance(long debut, long budget, long limite, long noeudsMax, AtomicBoolean arret) {
+        this.debut = debut;
+        this.budget = budget;
+        this.limite = limite;
+        this.noeudsMax = noeudsMax;
+        this.arret = arret;
+    }
+
+    /**
+     * Crée une échéance commençant maintenant.
+     *
+     * @param budget Budget souple, en millisecondes.
+     * @param limite Limite dure, en millisecondes.
+     * @return L'échéance.
+     * @throws IllegalArgumentException si une durée est négative ou si le budget dépasse la limite.
+     */
+    public static Echeance depuisMaintenant(long budget, long limite) {
+        if (budget < 0 || limite < budget) {
+            throw new IllegalArgumentException("Échéance invalide : budget " + budget + " ms, limite " + limite + " ms");
+        }
+        return new Echeance(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(budget), TimeUnit.MILLISECONDS.toNanos(limite), Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Retourne une échéance de même début et de même limite dure, dont le budget souple est réduit
+     * à une fraction du budget qui reste. Sert à répartir le temps d'un coup entre ses décisions.
+     *
+     * @param fraction La fraction du budget restant, entre 0 et 1.
+     * @return L'échéance partielle.
+     * @throws IllegalArgumentException si la fraction est hors de [0, 1].
+     */
+    public Echeance partager(double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("Fraction invalide : " + fraction);
+        }
+        if (this == AUCUNE) return this;
+
+        long ecoule = getEcoule();
+        long reste = Math.max(0, budget - ecoule);
+        return new Echeance(debut, ecoule + (long) (reste * fraction), limite, noeudsMax, arret);
+    }
+
+    /**
+     * Retourne une échéance de même début, de même budget et de même limite dure,
+     * dont chaque arbre est limité à un nombre de nœuds.
+     *
+     * @param noeuds Le nombre maximal de nœuds d'un arbre.
+     * @return L'échéance limitée.
+     * @throws IllegalArgumentException si le nombre de nœuds n'est pas positif, ou si l'échéance est {@link #AUCUNE}.
+     */
+    public Echeance limiterNoeuds(long noeuds) {
+        if (noeuds <= 0) {
+            throw new IllegalArgumentException("Nombre de nœuds invalide : " + noeuds);
+        }
+        if (this == AUCUNE) {
+            throw new IllegalArgumentException("Une recherche sans échéance ne peut pas être limitée en nœuds.");
+        }
+        return new Echeance(debut, budget, limite, noeuds, arret);
+    }
+
+    /**
+     * Retourne une échéance de même début, de même budget, de même limite dure et de même quota de nœuds,
+     * qui est aussi atteinte dès que le drapeau d'arrêt est levé, depuis n'importe quel thread.
+     *
+     * @param drapeau Le drapeau d'arrêt.
+     * @return L'échéance arrêtable.
+     * @throws IllegalArgumentException si le drapeau est {@code null}, ou si l'échéance est {@link #AUCUNE}.
+     */
+    public Echeance arretable(AtomicBoolean drapeau) {
+        if (drapeau == null) {
+            throw new IllegalArgumentException("Le drapeau d'arrêt ne peut pas être nul.");
+        }
+        if (this == AUCUNE) {
+            throw new IllegalArgumentException("Une recherche sans échéance ne peut pas être arrêtée.");
+        }
+        return new Echeance(debut, budget, limite, noeudsMax, drapeau);
+    }
+
+    /**
+     * Retourne le temps écoulé depuis le début.
+     *
+     * @return Le temps écoulé, en nanosecondes.
+     */
+    public long getEcoule() {
+        return System.nanoTime() - debut;
+    }
+
+    /**
+     * Indique si la limite dure est atteinte, ou l'arrêt demandé : la recherche en cours doit s'arrêter.
+     *
+     * @return {@code true} si la limite dure est atteinte.
+     */
+    public boolean estDepassee() {
+        return this != AUCUNE && (arret != null && arret.get() || getEcoule() >= limite);
+    }
+
+    /**
+     * Indique si une nouvelle itération de la recherche peut être lancée : le budget souple,
+     * allongé selon l'instabilité des itérations précédentes, n'est pas épuisé, et l'itération
+     * devrait se terminer avant la limite dure.
+     *
+     * @param estimation  Durée estimée de l'itération, en nanosecondes.
+     * @param instabilite Facteur d'allongement du budget souple (1 si les itérations sont stables).
+     * @return {@code true} si l'itération peut être lancée.
+     */
+    public boolean peutApprofondir(long estimation, double instabilite) {
+        if (this == AUCUNE) return true;
+
+        if (arret != null && arret.get()) return false;
+
+        long ecoule = getEcoule();
+        return ecoule < budget * instabilite && ecoule + estimation < limite;
+    }
+
+    /**
+     * Retourne le nombre maximal de nœuds d'un arbre construit sous cette échéance.
+     *
+     * @return Le quota de nœuds, ou {@link Long#MAX_VALUE} sans quota.
+     */
+    public long getNoeudsMax() {
+        return noeudsMax;
+    }
+
+    /**
+     * Retourne la limite dure.
+     *
+     * @return La limite dure, en millisecondes depuis le début.
+     */
+    public long getLimite() {
+        return TimeUnit.NANOSECONDS.toMillis(limite);
+    }
+
+    /**
+     * Retourne le budget souple.
+     *
+     * @return Le budget souple, en millisecondes depuis le début.
+     */
+    public long getBudget() {
+        return TimeUnit.NANOSECONDS.toMillis(budget);
+    }
+
+    @Override
+    public String toString() {
+        return (this == AUCUNE) ? "Echeance[aucune]" : "Echeance[budget=" + getBudget() + " ms, limite=" + getLimite() + " ms"
+                + (noeudsMax == Long.MAX_VALUE ? "" : ", noeuds=" + noeudsMax) + "]";
+    }
+}
@@ -0,0 +1,202 @@
+package fr.univrouen.modele.temps;
+
+import java.util.concurrent.TimeUnit;
+
+import fr.univrouen.modele.evaluation.EvaluateurLot;
+import fr.univrouen.modele.jeu.partie.Jeu;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+import fr.univrouen.modele.jeu.piece.Piece;
+
+/**
+ * Gestionnaire du temps de réflexion d'une IA, à partir de sa {@link Pendule}.
+ * <p>
+ * Au début de chaque coup, {@link #demarrerCoup(Jeu)} répartit le temps restant sur les coups qui restent
+ * à jouer, puis ajuste ce budget selon la position :
+ * <ul>
+ *   <li>la phase de jeu : peu de temps en ouverture, où toutes les positions se valent,
+ *       davantage en milieu de partie, où les pièges se préparent ;</li>
+ *   <li>le nombre de pièces sûres (qui ne donnent pas une victoire immédiate à l'adversaire) :
+ *       quand il n'en reste que quelques-unes, la décision est critique ; quand il n'en reste aucune,
+ *       la partie est jouée et réfléchir ne sert plus à rien.</li>
+ * </ul>
+ * Pendant la recherche, {@link #facteurInstabilite(boolean, double, double)} allonge le budget lorsque
+ * le meilleur coup ou son score changent d'une itération à l'autre. La limite dure de l'{@link Echeance}
+ * n'est jamais dépassée : elle garde toujours une part du temps restant pour la suite de la partie.
+ * </p>
+ * <p>
+ * Un gestionnaire décompte le temps d'un seul joueur, un coup à la fois, par {@link #terminerCoup()}.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see Pendule
+ * @see Echeance
+ */
+public final class GestionnaireTemps {
+    /** Facteur de budget en ouverture (plus de 12 cases libres). */
+    static final double FACTEUR_OUVERTURE = 0.5;
+
+    /** Facteur de budget en milieu de partie (6 à 12 cases libres). */
+    static final double FACTEUR_MILIEU = 1.5;
+
+    /** Facteur de budget lorsque seules quelques pièces sont sûres. */
+    static final double FACTEUR_CRITIQUE = 1.5;
+
+    /** Facteur de budget lorsqu'aucune pièce n'est sûre : la partie est décidée. */
+    static final double FACTEUR_DECIDEE = 0.5;
+
+    /** Nombre de pièces sûres en dessous duquel (inclus) la position est critique. */
+    static final int PIECES_SURES_CRITIQUE = 3;
+
+    /** Part maximale du temps restant accordée à la limite dure d'un coup. */
+    private static final double PART_MAX_LIMITE = 0.5;
+
+    /** Rapport maximal entre la limite dure et le budget souple. */
+    private static final double RAPPORT_LIMITE = 3.0;
+
+    /** Marge de sécurité retirée de la limite dure, en millisecondes. */
+    private static final long MARGE = 5;
+
+    /** Pendule du joueur. */
+    private final Pendule pendule;
+
+    /** Début du coup en cours, selon {@link System#nanoTime()}, ou 0 s'il n'y en a pas. */
+    private long debutCoup;
+
+    /**
+     * Crée un gestionnaire de temps pour une pendule.
+     *
+     * @param pendule La pendule du joueur.
+     * @throws IllegalArgumentException si la pendule est {@code null}.
+     */
+    public GestionnaireTemps(Pendule pendule) {
+        if (pendule == null) {
+            throw new IllegalArgumentException("La pendule ne peut pas être nulle.");
+        }
+        this.pendule = pendule;
+    }
+
+    /**
+     * Démarre la pendule pour un coup et calcule son échéance.
+     *
+     * @param jeu La position à jouer.
+     * @return L'échéance du coup.
+     */
+    public Echeance demarrerCoup(Jeu jeu) {
+        debutCoup = System.nanoTime();
+        return allouer(jeu);
+    }
+
+    /**
+     * Arrête la pendule à la fin du coup : la durée de réflexion est décomptée, puis l'incrément ajouté.
+     */
+    public void terminerCoup() {
+        if (debutCoup == 0) return;
+
+        pendule.consommer(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debutCoup));
+        debutCoup = 0;
+    }
+
+    /**
+     * Calcule l'échéance d'un coup dans une position, sans démarrer la pendule.
+     *
+     * @param jeu La position à jouer.
+     * @return L'échéance du coup.
+     */
+    public Echeance allouer(Jeu jeu) {
+        long restant = pendule.getRestant();
+        if (restant <= 0) {
+            return Echeance.depuisMaintenant(0, 0); // Temps dépassé : recherche minimale
+        }
+
+        int libres = Integer.bitCount(jeu.getPlateau().getMasqueLibres());
+        int coupsRestants = Math.max(1, (libres + 1) / 2);
+        double budget = (double) restant / coupsRestants + pendule.getIncrement();
+        budget *= facteurPhase(libres) * facteurPiecesSures(compterPiecesSures(jeu));
+
+        long limite = Math.max(0, Math.min((long) (budget * RAPPORT_LIMITE), (long) (restant * PART_MAX_LIMITE)) - MARGE);
+        return Echeance.depuisMaintenant(Math.min((long) budget, limite), limite);
+    }
+
+    /**
+     * Retourne le facteur d'allongement du budget souple selon la stabilité de la recherche.
+     *
+     * @param coupChange          {@code true} si le meilleur coup a changé à la dernière itération.
+     * @param scorePrecedent      Le score de la racine à l'itération précédente.
+     * @param score               Le score de la racine à la dernière itération.
+     * @return Un facteur entre 1 (recherche stable) et 2.
+     */
+    public static double facteurInstabilite(boolean coupChange, double scorePrecedent, double score) {
+        double facteur = 1.0;
+        if (coupChange) {
+            facteur += 0.6;
+        }
+        double ecart = Math.abs(score - scorePrecedent);
+        if (Double.isNaN(ecart) || ecart > 0.25 * Math.max(1.0, Math.abs(scorePrecedent))) {
+            facteur += 0.4; // Écart infini compris : une victoire ou une défaite vient d'être découverte
+        }
+        return facteur;
+    }
+
+    /**
+     * Retourne le facteur de budget selon la phase de jeu.
+     *
+     * @param libres Le nombre de cases libres.
+     * @return Le facteur de phase.
+     */
+    static double facteurPhase(int libres) {
+        if (libres > 12) return FACTEUR_OUVERTURE;
+        if (libres >= 6) return FACTEUR_MILIEU;
+        return 1.0;
+    }
+
+    /**
+     * Retourne le facteur de budget selon le nombre de pièces sûres.
+     *
+     * @param piecesSures Le nombre de pièces sûres.
+     * @return Le facteur de criticité.
+     */
+    static double facteurPiecesSures(int piecesSures) {
+        if (piecesSures == 0) return FACTEUR_DECIDEE;
+        if (piecesSures <= PIECES_SURES_CRITIQUE) return FACTEUR_CRITIQUE;
+        return 1.0;
+    }
+
+    /**
+     * Compte les pièces qui peuvent être données sans permettre à l'adversaire de gagner immédiatement,
+     * sur le plateau actuel et hors pièce en main.
+     *
+     * @param jeu La position.
+     * @return Le nombre de pièces sûres.
+     */
+    public static int compterPiecesSures(Jeu jeu) {
+        Plateau plateau = jeu.getPlateau();
+        EvaluateurLot motifs = EvaluateurLot.pour(jeu.getStrategie().getMotifs());
+        long plans = plateau.getPlans();
+        int occupation = plateau.getMasqueOccupation();
+        Piece enMain = jeu.getPieceCourante();
+        int restantes = jeu.getMasquePiecesRestantes() & ~(enMain == null ? 0 : 1 << enMain.getId());
+
+        int sures = 0;
+        for (int pieces = restantes; pieces != 0; pieces &= pieces - 1) {
+            int piece = Integer.numberOfTrailingZeros(pieces);
+            boolean sure = true;
+            for (int libres = ~occupation & 0xFFFF; libres != 0 && sure; libres &= libres - 1) {
+                int index = Integer.numberOfTrailingZeros(libres);
+                sure = !motifs.estGagnant(Plateau.poserDansPlans(plans, index, piece), occupation | 1 << index);
+            }
+            if (sure) sures++;
+        }
+        return sures;
+    }
+
+    /**
+     * Retourne la pendule du joueur.
+     *
+     * @return La pendule.
+     */
+    public Pendule getPendule() {
+        return pendule;
+    }
+}
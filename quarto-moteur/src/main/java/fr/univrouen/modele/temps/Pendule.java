@@ -0,0 +1,104 @@
+package fr.univrouen.modele.temps;
+
+/**
+ * Pendule d'un joueur : un temps de base pour toute la partie, et un incrément ajouté après chaque coup
+ * (cadence Fischer).
+ * <p>
+ * Le temps restant peut être lu depuis n'importe quel thread (par exemple pour l'afficher) ;
+ * il n'est décompté que par le thread qui fait réfléchir le joueur, un coup à la fois.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see GestionnaireTemps
+ */
+public final class Pendule {
+    /** Temps de base de la partie, en millisecondes. */
+    private final long base;
+
+    /** Incrément ajouté après chaque coup joué à temps, en millisecondes. */
+    private final long increment;
+
+    /** Temps restant, en millisecondes (négatif si le joueur a dépassé son temps). */
+    private volatile long restant;
+
+    /**
+     * Crée une pendule.
+     *
+     * @param base      Temps de base de la partie, en millisecondes.
+     * @param increment Incrément par coup, en millisecondes.
+     * @throws IllegalArgumentException si le temps de base n'est pas positif ou si l'incrément est négatif.
+     */
+    public Pendule(long base, long increment) {
+        if (base <= 0 || increment < 0) {
+            throw new IllegalArgumentException("Cadence invalide : " + base + " + " + increment);
+        }
+        this.base = base;
+        this.increment = increment;
+        this.restant = base;
+    }
+
+    /**
+     * Décompte la durée d'un coup, puis ajoute l'incrément si le joueur n'a pas dépassé son temps.
+     *
+     * @param duree La durée de réflexion du coup, en millisecondes.
+     * @throws IllegalArgumentException si la durée est négative.
+     */
+    public void consommer(long duree) {
+        if (duree < 0) {
+            throw new IllegalArgumentException("Durée négative : " + duree);
+        }
+        long apres = restant - duree;
+        restant = (apres > 0) ? apres + increment : apres;
+    }
+
+    /**
+     * Remet la pendule à son temps de base, pour une nouvelle partie.
+     */
+    public void reinitialiser() {
+        restant = base;
+    }
+
+    /**
+     * Retourne le temps de base de la partie.
+     *
+     * @return Le temps de base, en millisecondes.
+     */
+    public long getBase() {
+        return base;
+    }
+
+    /**
+     * Retourne l'incrément par coup.
+     *
+     * @return L'incrément, en millisecondes.
+     */
+    public long getIncrement() {
+        return increment;
+    }
+
+    /**
+     * Retourne le temps restant.
+     *
+     * @return Le temps restant, en millisecondes (négatif ou nul si le temps est dépassé).
+     */
+    public long getRestant() {
+        return restant;
+    }
+
+    /**
+     * Indique si le joueur a dépassé son temps.
+     *
+     * @return {@code true} si le temps restant est épuisé.
+     */
+    public boolean estTombee() {
+        return restant <= 0;
+    }
+
+    @Override
+    public String toString() {
+        long secondes = Math.max(0, restant) / 1000;
+        return String.format("%d:%02d.%03d (+%d ms)", secondes / 60, secondes % 60, Math.max(0, restant) % 1000, increment);
+    }
+}
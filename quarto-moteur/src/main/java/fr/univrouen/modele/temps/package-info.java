@@ -0,0 +1,14 @@
+/**
+ * Gestion du temps de réflexion des IA.
+ * <p>
+ * Ce package fournit la pendule de chaque joueur (temps de base et incrément),
+ * les échéances d'une réflexion (budget souple et limite dure respectée par tous les algorithmes de recherche),
+ * et le gestionnaire qui répartit le temps restant entre les coups selon la position.
+ * </p>
+ *
+ * @see fr.univrouen.modele.temps.Pendule
+ * @see fr.univrouen.modele.temps.Echeance
+ * @see fr.univrouen.modele.temps.GestionnaireTemps
+ * @since JDK 17
+ */
+package fr.univrouen.modele.temps;
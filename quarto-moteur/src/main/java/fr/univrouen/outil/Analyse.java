@@ -0,0 +1,106 @@
+package fr.univrouen.outil;
+
+import fr.univrouen.modele.jeu.partie.Coup;
+
+/**
+ * Résultat de l'analyse d'une position par un {@link AnalyseurPosition} : le meilleur coup,
+ * son score et les statistiques de la recherche.
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see AnalyseurPosition
+ */
+public final class Analyse {
+    /** Le meilleur coup trouvé. */
+    private final Coup coup;
+
+    /** Le score de la position pour le joueur au trait (voir {@link RechercheCompacte#getScore()}). */
+    private final int score;
+
+    /** La profondeur entièrement explorée, en tours. */
+    private final int profondeur;
+
+    /** Le nombre de nœuds visités. */
+    private final long noeuds;
+
+    /** La durée de l'analyse, en millisecondes. */
+    private final long duree;
+
+    /**
+     * Construit le résultat d'une analyse.
+     *
+     * @param coup       Le meilleur coup.
+     * @param score      Le score pour le joueur au trait.
+     * @param profondeur La profondeur entièrement explorée.
+     * @param noeuds     Le nombre de nœuds visités.
+     * @param duree      La durée, en millisecondes.
+     */
+    Analyse(Coup coup, int score, int profondeur, long noeuds, long duree) {
+        this.coup = coup;
+        this.score = score;
+        this.profondeur = profondeur;
+        this.noeuds = noeuds;
+        this.duree = duree;
+    }
+
+    /**
+     * Retourne le meilleur coup trouvé.
+     *
+     * @return Le coup.
+     */
+    public Coup getCoup() {
+        return coup;
+    }
+
+    /**
+     * Retourne le score de la position pour le joueur au trait.
+     *
+     * @return Le score ({@link RechercheCompacte#GAIN} moins le nombre de tours pour une victoire forcée).
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Indique si le score est une victoire ou une défaite forcée.
+     *
+     * @return {@code true} si l'issue de la partie est prouvée.
+     */
+    public boolean estForce() {
+        return Math.abs(score) > RechercheCompacte.GAIN - 64;
+    }
+
+    /**
+     * Retourne la profondeur entièrement explorée.
+     *
+     * @return La profondeur, en tours.
+     */
+    public int getProfondeur() {
+        return profondeur;
+    }
+
+    /**
+     * Retourne le nombre de nœuds visités.
+     *
+     * @return Le nombre de nœuds.
+     */
+    public long getNoeuds() {
+        return noeuds;
+    }
+
+    /**
+     * Retourne la durée de l'analyse.
+     *
+     * @return La durée, en millisecondes.
+     */
+    public long getDuree() {
+        return duree;
+    }
+
+    @Override
+    public String toString() {
+        return "Analyse[" + coup + ", score=" + score + ", profondeur=" + profondeur + ", noeuds=" + noeuds
+            + ", duree=" + duree + " ms]";
+    }
+}
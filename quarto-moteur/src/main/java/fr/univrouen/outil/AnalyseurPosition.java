@@ -0,0 +1,109 @@
+package fr.univrouen.outil;
+
+import java.util.concurrent.TimeUnit;
+
+import fr.univrouen.modele.evaluation.EvaluateurLot;
+import fr.univrouen.modele.evaluation.EvaluateurMotifs;
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.EtatJeu;
+
+/**
+ * Analyseur de positions : cherche le meilleur coup d'un {@link EtatJeu} par une {@link RechercheCompacte}
+ * à l'heuristique des motifs, dans un temps et jusqu'à une profondeur donnés.
+ * <p>
+ * L'analyseur peut être appelé depuis plusieurs threads à la fois : chaque analyse a sa propre recherche,
+ * et toutes partagent la même {@link TableTransposition}, si bien qu'une position proche d'une autre
+ * déjà analysée profite de son travail.
+ * </p>
+ * <p>
+ * Lorsqu'aucune pièce n'est en main (début de partie), le coup se limite au don d'une pièce :
+ * chaque pièce disponible est cherchée du point de vue de l'adversaire qui la reçoit, le temps
+ * étant réparti entre elles, et la pièce qui lui laisse le plus faible score est retenue.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see Analyse
+ * @see ServeurAnalyse
+ */
+public final class AnalyseurPosition {
+    /** Table de transposition partagée par toutes les analyses. */
+    private final TableTransposition table;
+
+    /**
+     * Crée un analyseur.
+     *
+     * @param table La table de transposition partagée par les analyses.
+     * @throws IllegalArgumentException si la table est {@code null}.
+     */
+    public AnalyseurPosition(TableTransposition table) {
+        if (table == null) {
+            throw new IllegalArgumentException("La table de transposition ne peut pas être nulle.");
+        }
+        this.table = table;
+    }
+
+    /**
+     * Analyse une position.
+     *
+     * @param etat          La position à analyser.
+     * @param dureeMs       Le temps de réflexion, en millisecondes (la profondeur 1 est toujours terminée).
+     * @param profondeurMax La profondeur maximale, en tours.
+     * @return Le meilleur coup, son score et les statistiques de la recherche.
+     * @throws IllegalArgumentException si la partie est terminée ou si un paramètre n'est pas positif.
+     */
+    public Analyse analyser(EtatJeu etat, long dureeMs, int profondeurMax) {
+        if (etat.estTerminee()) {
+            throw new IllegalArgumentException("La partie est terminée : " + etat.versNotation());
+        }
+        if (dureeMs <= 0 || profondeurMax <= 0) {
+            throw new IllegalArgumentException("Le temps et la profondeur doivent être positifs.");
+        }
+
+        int[][] tableauMotifs = etat.getStrategie().getMotifs();
+        RechercheCompacte recherche = new RechercheCompacte(EvaluateurLot.pour(tableauMotifs),
+            new EvaluateurMotifs(tableauMotifs), table);
+        long debut = System.nanoTime();
+        long duree = TimeUnit.MILLISECONDS.toNanos(dureeMs);
+
+        if (etat.getPieceEnMain() != EtatJeu.AUCUNE_PIECE) {
+            int code = recherche.chercher(etat.getPlans(), etat.getOccupation(), etat.getRestantes(),
+                etat.getPieceEnMain(), duree, profondeurMax);
+            int piece = code % 32 - 1;
+            Coup coup = Coup.get(code / 32, piece < 0 ? Coup.AUCUN : piece);
+            return new Analyse(coup, recherche.getScore(), recherche.getProfondeurAtteinte(),
+                recherche.getNoeuds(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut));
+        }
+
+        // Aucune pièce en main : on cherche, pour chaque pièce donnée, la position de l'adversaire
+        int restantes = etat.getRestantes();
+        long dureeParPiece = duree / Integer.bitCount(restantes);
+        int meilleurePiece = -1;
+        int meilleur = Integer.MAX_VALUE;
+        int profondeur = Integer.MAX_VALUE;
+        long noeuds = 0;
+        for (int pieces = restantes; pieces != 0; pieces &= pieces - 1) {
+            int piece = Integer.numberOfTrailingZeros(pieces);
+            recherche.chercher(etat.getPlans(), etat.getOccupation(), restantes & ~(1 << piece), piece,
+                dureeParPiece, profondeurMax);
+            noeuds += recherche.getNoeuds();
+            profondeur = Math.min(profondeur, recherche.getProfondeurAtteinte());
+            if (recherche.getScore() < meilleur) {
+                meilleur = recherche.getScore();
+                meilleurePiece = piece;
+            }
+        }
+        return new Analyse(Coup.get(Coup.AUCUN, meilleurePiece), -meilleur, profondeur, noeuds,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut));
+    }
+
+    /**
+     * Retourne la table de transposition partagée.
+     *
+     * @return La table.
+     */
+    public TableTransposition getTable() {
+        return table;
+    }
+}
@@ -0,0 +1,237 @@
+package fr.univrouen.outil;
+
+import java.util.*;
+
+import fr.univrouen.modele.evaluation.EvaluateurLot;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+
+/**
+ * Partie d'auto-apprentissage jouée sur la représentation compacte du plateau.
+ * <p>
+ * Les deux joueurs suivent la même politique rapide, sans arbre de recherche :
+ * </p>
+ * <ul>
+ *   <li>placer la pièce sur une case gagnante s'il en existe une ;</li>
+ *   <li>sinon, placer la pièce sur une case après laquelle il reste une pièce « sûre » à donner ;</li>
+ *   <li>donner une pièce sûre, c'est-à-dire qui ne permet pas à l'adversaire de gagner immédiatement.</li>
+ * </ul>
+ * <p>
+ * Avec une probabilité {@code exploration}, un coup aléatoire est joué à la place afin de varier
+ * les positions. Chaque position rencontrée devient un {@link Echantillon} étiqueté par le résultat
+ * de la partie ou, si une profondeur de recherche est demandée, par le résultat prouvé
+ * (gain ou perte forcés) lorsque la recherche en trouve un.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ * @see ReglagePoids
+ */
+public final class AutoPartie {
+    /** Masque des 16 cases (ou des 16 pièces). */
+    private static final int TOUT = 0xFFFF;
+
+    /** Évaluateur utilisé pour détecter les victoires (motifs de la stratégie). */
+    private final EvaluateurLot evaluateur;
+
+    /** Probabilité de jouer un coup aléatoire. */
+    private final double exploration;
+
+    /** Profondeur (en tours) de la recherche d'étiquetage ; 0 pour le seul résultat de la partie. */
+    private final int profondeurEtiquette;
+
+    /**
+     * Crée un générateur de parties.
+     *
+     * @param evaluateur          L'évaluateur des motifs de la stratégie jouée.
+     * @param exploration         La probabilité de jouer un coup aléatoire (entre 0 et 1).
+     * @param profondeurEtiquette La profondeur de la recherche d'étiquetage (0 : résultat de la partie).
+     * @throws IllegalArgumentException si un paramètre est hors de son domaine.
+     */
+    public AutoPartie(EvaluateurLot evaluateur, double exploration, int profondeurEtiquette) {
+        if (exploration < 0 || exploration > 1) {
+            throw new IllegalArgumentException("L'exploration doit être comprise entre 0 et 1.");
+        }
+        if (profondeurEtiquette < 0) {
+            throw new IllegalArgumentException("La profondeur d'étiquetage doit être positive.");
+        }
+        this.evaluateur = evaluateur;
+        this.exploration = exploration;
+        this.profondeurEtiquette = profondeurEtiquette;
+    }
+
+    /**
+     * Joue une partie complète et retourne ses positions étiquetées.
+     *
+     * @param graine La graine du générateur aléatoire (une même graine rejoue la même partie).
+     * @return Les positions de la partie, dans l'ordre où elles ont été jouées.
+     */
+    public List<Echantillon> jouer(long graine) {
+        SplittableRandom aleatoire = new SplittableRandom(graine);
+        List<long[]> positions = new ArrayList<>(16);
+
+        long plans = 0;
+        int occupation = 0;
+        int main = aleatoire.nextInt(16);
+        int restantes = TOUT & ~(1 << main);
+        int trait = 0;
+        int gagnant = -1;
+
+        while (true) {
+            positions.add(new long[] { plans, occupation, restantes, main, trait });
+
+            int index = choisirCase(plans, occupation, restantes, main, aleatoire);
+            plans = Plateau.poserDansPlans(plans, index, main);
+            occupation |= 1 << index;
+
+            if (evaluateur.estGagnant(plans, occupation)) {
+                gagnant = trait;
+                break;
+            }
+            if (restantes == 0) {
+                break;
+            }
+
+            main = choisirPiece(plans, occupation, restantes, aleatoire);
+            restantes &= ~(1 << main);
+            trait ^= 1;
+        }
+
+        List<Echantillon> echantillons = new ArrayList<>(positions.size());
+        for (long[] p : positions) {
+            int joueur = (int) p[4];
+            double resultat = gagnant < 0 ? 0.5 : (gagnant == joueur ? 1.0 : 0.0);
+
+            if (profondeurEtiquette > 0) {
+                int preuve = resoudre(p[0], (int) p[1], (int) p[2], (int) p[3], profondeurEtiquette);
+                if (preuve != 0) {
+                    resultat = preuve > 0 ? 1.0 : 0.0;
+                }
+            }
+            echantillons.add(new Echantillon(p[0], (int) p[1], (int) p[2], (int) p[3], resultat));
+        }
+        return echantillons;
+    }
+
+    /**
+     * Choisit la case où placer la pièce en main.
+     *
+     * @param plans      Les plans de caractéristiques.
+     * @param occupation Le masque des cases occupées.
+     * @param restantes  Les pièces qu'il restera à donner.
+     * @param main       La pièce à placer.
+     * @param aleatoire  Le générateur aléatoire.
+     * @return L'indice de la case choisie.
+     */
+    private int choisirCase(long plans, int occupation, int restantes, int main, SplittableRandom aleatoire) {
+        int libres = ~occupation & TOUT;
+
+        int gagnante = caseGagnante(plans, occupation, main);
+        if (gagnante >= 0) {
+            return gagnante;
+        }
+        if (restantes == 0 || aleatoire.nextDouble() < exploration) {
+            return OutilsLigneCommande.tirer(libres, aleatoire);
+        }
+
+        // Cases après lesquelles il reste au moins une pièce sûre à donner
+        int prudentes = 0;
+        for (int cases = libres; cases != 0; cases &= cases - 1) {
+            int index = Integer.numberOfTrailingZeros(cases);
+            long p = Plateau.poserDansPlans(plans, index, main);
+            if (piecesSures(p, occupation | 1 << index, restantes) != 0) {
+                prudentes |= 1 << index;
+            }
+        }
+        return OutilsLigneCommande.tirer(prudentes != 0 ? prudentes : libres, aleatoire);
+    }
+
+    /**
+     * Choisit la pièce à donner à l'adversaire.
+     *
+     * @param plans      Les plans de caractéristiques.
+     * @param occupation Le masque des cases occupées.
+     * @param restantes  Les pièces disponibles.
+     * @param aleatoire  Le générateur aléatoire.
+     * @return L'identifiant de la pièce donnée.
+     */
+    private int choisirPiece(long plans, int occupation, int restantes, SplittableRandom aleatoire) {
+        if (aleatoire.nextDouble() < exploration) {
+            return OutilsLigneCommande.tirer(restantes, aleatoire);
+        }
+        int sures = piecesSures(plans, occupation, restantes);
+        return OutilsLigneCommande.tirer(sures != 0 ? sures : restantes, aleatoire);
+    }
+
+    /**
+     * Détermine les pièces qui ne permettent pas à l'adversaire de gagner immédiatement.
+     *
+     * @param plans      Les plans de caractéristiques.
+     * @param occupation Le masque des cases occupées.
+     * @param candidates Les pièces à examiner.
+     * @return Le masque des pièces sûres.
+     */
+    private int piecesSures(long plans, int occupation, int candidates) {
+        int sures = 0;
+        for (int pieces = candidates; pieces != 0; pieces &= pieces - 1) {
+            int piece = Integer.numberOfTrailingZeros(pieces);
+            if (caseGagnante(plans, occupation, piece) < 0) {
+                sures |= 1 << piece;
+            }
+        }
+        return sures;
+    }
+
+    /**
+     * Cherche une case où la pièce donnée complète un motif gagnant.
+     *
+     * @param plans      Les plans de caractéristiques.
+     * @param occupation Le masque des cases occupées.
+     * @param piece      La pièce à placer.
+     * @return L'indice de la case gagnante, ou -1 s'il n'y en a pas.
+     */
+    private int caseGagnante(long plans, int occupation, int piece) {
+        for (int cases = ~occupation & TOUT; cases != 0; cases &= cases - 1) {
+            int index = Integer.numberOfTrailingZeros(cases);
+            if (evaluateur.estGagnant(Plateau.poserDansPlans(plans, index, piece), occupation | 1 << index)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Recherche, à profondeur limitée, un gain ou une perte forcés pour le joueur qui doit placer {@code main}.
+     *
+     * @param plans      Les plans de caractéristiques.
+     * @param occupation Le masque des cases occupées.
+     * @param restantes  Les pièces qu'il restera à donner.
+     * @param main       La pièce à placer.
+     * @param profondeur Le nombre de tours examinés.
+     * @return 1 pour un gain forcé, -1 pour une perte forcée, 0 si rien n'est prouvé (ou nulle).
+     */
+    private int resoudre(long plans, int occupation, int restantes, int main, int profondeur) {
+        if (caseGagnante(plans, occupation, main) >= 0) {
+            return 1;
+        }
+        if (profondeur <= 1 || restantes == 0) {
+            return 0;
+        }
+
+        int meilleur = -1;
+        for (int cases = ~occupation & TOUT; cases != 0 && meilleur < 1; cases &= cases - 1) {
+            int index = Integer.numberOfTrailingZeros(cases);
+            long p = Plateau.poserDansPlans(plans, index, main);
+            int o = occupation | 1 << index;
+
+            // Le joueur choisit ensuite la pièce la plus favorable à donner
+            int valeurCase = -1;
+            for (int pieces = restantes; pieces != 0 && valeurCase < 1; pieces &= pieces - 1) {
+                int piece = Integer.numberOfTrailingZeros(pieces);
+                valeurCase = Math.max(valeurCase, -resoudre(p, o, restantes & ~(1 << piece), piece, profondeur - 1));
+            }
+            meilleur = Math.max(meilleur, valeurCase);
+        }
+        return meilleur;
+    }
+}
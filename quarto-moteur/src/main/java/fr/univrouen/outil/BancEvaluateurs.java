@@ -0,0 +1,203 @@
+package fr.univrouen.outil;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.*;
+
+import fr.univrouen.modele.evaluation.*;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+import fr.univrouen.modele.jeu.partie.strategie.Strategies;
+
+/**
+ * Banc d'essai comparant le {@link ReseauEvaluation} à l'heuristique des motifs, à temps de réflexion égal.
+ * <p>
+ * Pour chaque temps de réflexion par coup, les deux évaluateurs s'affrontent avec la même
+ * {@link RechercheCompacte} sur des ouvertures aléatoires, chaque ouverture étant jouée deux fois
+ * en inversant les rôles. Le banc affiche le score du réseau, la profondeur moyenne atteinte
+ * et le nombre de nœuds par milliseconde de chaque évaluateur : la force « par milliseconde »
+ * se lit dans l'évolution du score avec le temps accordé. Les parties sont jouées l'une après
+ * l'autre pour que les mesures de temps ne se gênent pas.
+ * </p>
+ *
+ * <p>Options :</p>
+ * <ul>
+ *   <li>{@code --reseau FICHIER} : réseau à évaluer (obligatoire) ;</li>
+ *   <li>{@code --niveau N} : niveau de stratégie, de 1 à 4 (défaut : 1) ;</li>
+ *   <li>{@code --ouvertures N} : nombre d'ouvertures, chacune jouée deux fois (défaut : 20) ;</li>
+ *   <li>{@code --temps LISTE} : temps de réflexion par coup en millisecondes (défaut : {@code 1,5,20}) ;</li>
+ *   <li>{@code --graine N} : graine des ouvertures (défaut : 1).</li>
+ * </ul>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.2
+ * @since JDK 17
+ * @see EntrainementReseau
+ */
+public class BancEvaluateurs {
+    /** Nombre de tours joués au hasard au début de chaque partie. */
+    private static final int TOURS_OUVERTURE = 2;
+
+    /** Somme de contrôle des évaluations mesurées : affichée, elle empêche la JVM d'éliminer leur calcul. */
+    private static long controle;
+
+    /** Cumuls de mesures pour un évaluateur. */
+    private static final class Mesures {
+        long noeuds, nanos, profondeurs, coups;
+    }
+
+    /**
+     * Point d'entrée de l'outil.
+     *
+     * @param args Les options de la ligne de commande.
+     * @throws IOException en cas d'erreur de lecture du réseau.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options;
+        Strategies strategie;
+        try {
+            options = OutilsLigneCommande.lireOptions(args, "reseau", "niveau", "ouvertures", "temps", "graine");
+            strategie = OutilsLigneCommande.strategie(Integer.parseInt(options.getOrDefault("niveau", "1")));
+            if (!options.containsKey("reseau")) {
+                throw new IllegalArgumentException("Option --reseau obligatoire.");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage : BancEvaluateurs --reseau FICHIER [--niveau N] [--ouvertures N]"
+                + " [--temps 1,5,20] [--graine N]");
+            System.exit(2);
+            return;
+        }
+
+        ReseauEvaluation reseau = ReseauEvaluation.charger(Paths.get(options.get("reseau")));
+        int ouvertures = Integer.parseInt(options.getOrDefault("ouvertures", "20"));
+        long graine = Long.parseLong(options.getOrDefault("graine", "1"));
+        EvaluateurLot motifs = OutilsLigneCommande.motifs(strategie);
+        int[][] tableauMotifs = OutilsLigneCommande.MAP_STRATEGIE.get(strategie).get().getMotifs();
+
+        System.out.printf("Évaluations incrémentales par ms : motifs %.0f, réseau %.0f (contrôle %x)%n",
+            debit(new EvaluateurMotifs(tableauMotifs), graine), debit(reseau.nouvelAccumulateur(), graine), controle);
+        System.out.println("temps/coup | score réseau | prof. motifs | prof. réseau | nœuds/ms motifs | nœuds/ms réseau");
+
+        for (String valeur : options.getOrDefault("temps", "1,5,20").split(",")) {
+            long dureeNanos = Long.parseLong(valeur.trim()) * 1_000_000L;
+            RechercheCompacte rechercheMotifs = new RechercheCompacte(motifs, new EvaluateurMotifs(tableauMotifs));
+            RechercheCompacte rechercheReseau = new RechercheCompacte(motifs, reseau.nouvelAccumulateur());
+            Mesures mesuresMotifs = new Mesures(), mesuresReseau = new Mesures();
+            double score = 0;
+
+            for (int i = 0; i < ouvertures; i++) {
+                for (int reseauCommence = 0; reseauCommence < 2; reseauCommence++) {
+                    RechercheCompacte[] joueurs = (reseauCommence == 1)
+                        ? new RechercheCompacte[] { rechercheReseau, rechercheMotifs }
+                        : new RechercheCompacte[] { rechercheMotifs, rechercheReseau };
+                    Mesures[] mesures = (reseauCommence == 1)
+                        ? new Mesures[] { mesuresReseau, mesuresMotifs }
+                        : new Mesures[] { mesuresMotifs, mesuresReseau };
+
+                    int gagnant = jouer(motifs, joueurs, mesures, dureeNanos, new SplittableRandom(graine + i));
+                    int indiceReseau = (reseauCommence == 1) ? 0 : 1;
+                    score += (gagnant < 0) ? 0.5 : (gagnant == indiceReseau ? 1 : 0);
+                }
+            }
+
+            System.out.printf("%7s ms | %11.1f%% | %12.2f | %12.2f | %15.0f | %15.0f%n",
+                valeur.trim(), 100 * score / (2 * ouvertures),
+                (double) mesuresMotifs.profondeurs / mesuresMotifs.coups,
+                (double) mesuresReseau.profondeurs / mesuresReseau.coups,
+                mesuresMotifs.noeuds / (mesuresMotifs.nanos / 1e6),
+                mesuresReseau.noeuds / (mesuresReseau.nanos / 1e6));
+        }
+    }
+
+    /**
+     * Joue une partie entre deux recherches, après une ouverture aléatoire.
+     *
+     * @param motifs     L'évaluateur des motifs, pour détecter les victoires.
+     * @param joueurs    Les deux recherches, dans l'ordre de jeu.
+     * @param mesures    Les cumuls de mesures associés.
+     * @param dureeNanos Le temps de réflexion par coup.
+     * @param aleatoire  Le générateur de l'ouverture.
+     * @return L'indice du joueur gagnant, ou -1 pour une partie nulle.
+     */
+    private static int jouer(EvaluateurLot motifs, RechercheCompacte[] joueurs, Mesures[] mesures,
+                             long dureeNanos, SplittableRandom aleatoire) {
+        long plans = 0;
+        int occupation = 0;
+        int main = aleatoire.nextInt(16);
+        int restantes = 0xFFFF & ~(1 << main);
+
+        for (int tour = 0; ; tour++) {
+            int trait = tour & 1;
+            int index, donnee;
+
+            if (tour < TOURS_OUVERTURE) {
+                index = OutilsLigneCommande.tirer(~occupation & 0xFFFF, aleatoire);
+                donnee = OutilsLigneCommande.tirer(restantes, aleatoire);
+            } else {
+                long debut = System.nanoTime();
+                int coup = joueurs[trait].chercher(plans, occupation, restantes, main, dureeNanos, 16);
+                mesures[trait].nanos += System.nanoTime() - debut;
+                mesures[trait].noeuds += joueurs[trait].getNoeuds();
+                mesures[trait].profondeurs += joueurs[trait].getProfondeurAtteinte();
+                mesures[trait].coups++;
+                index = coup / 32;
+                donnee = coup % 32 - 1;
+            }
+
+            plans = Plateau.poserDansPlans(plans, index, main);
+            occupation |= 1 << index;
+            if (motifs.estGagnant(plans, occupation)) {
+                return trait;
+            }
+            if (restantes == 0) {
+                return -1;
+            }
+            main = donnee;
+            restantes &= ~(1 << main);
+        }
+    }
+
+    /**
+     * Mesure le débit d'un évaluateur incrémental (placer, évaluer, annuler) sur des positions aléatoires.
+     * La somme des évaluations est ajoutée à la {@linkplain #controle somme de contrôle}, affichée avec les débits.
+     *
+     * @param evaluateur L'évaluateur à mesurer.
+     * @param graine     La graine des positions.
+     * @return Le nombre d'évaluations par milliseconde.
+     */
+    private static double debit(Evaluateur evaluateur, long graine) {
+        SplittableRandom aleatoire = new SplittableRandom(graine);
+        long evaluations = 0, somme = 0;
+        long debut = System.nanoTime();
+
+        while (System.nanoTime() - debut < 500_000_000L) {
+            int main = aleatoire.nextInt(16);
+            int restantes = 0xFFFF & ~(1 << main);
+            long plans = 0;
+            int occupation = 0;
+            for (int n = aleatoire.nextInt(8); n > 0; n--) {
+                int piece = OutilsLigneCommande.tirer(restantes, aleatoire);
+                int index = OutilsLigneCommande.tirer(~occupation & 0xFFFF, aleatoire);
+                plans = Plateau.poserDansPlans(plans, index, piece);
+                occupation |= 1 << index;
+                restantes &= ~(1 << piece);
+            }
+
+            evaluateur.reinitialiser(plans, occupation, main);
+            for (int cases = ~occupation & 0xFFFF; cases != 0; cases &= cases - 1) {
+                int index = Integer.numberOfTrailingZeros(cases);
+                evaluateur.placer(index, main);
+                for (int pieces = restantes; pieces != 0; pieces &= pieces - 1) {
+                    int piece = Integer.numberOfTrailingZeros(pieces);
+                    evaluateur.donner(piece);
+                    somme += evaluateur.evaluer();
+                    evaluations++;
+                    evaluateur.reprendre(piece);
+                }
+                evaluateur.retirer(index, main);
+            }
+        }
+        controle += somme;
+        return evaluations / ((System.nanoTime() - debut) / 1e6);
+    }
+}
@@ -0,0 +1,193 @@
+package fr.univrouen.outil;
+
+/**
+ * Bilan d'un participant d'un {@link Tournoi} : résultats, estimation Elo et mesures de ses coups.
+ * <p>
+ * L'Elo est la différence de force avec la moyenne de ses adversaires, déduite du score moyen {@code p}
+ * par {@code -400 log10(1 / p - 1)}. La marge d'erreur est la demi-largeur de l'intervalle de confiance à 95 %,
+ * calculée sur l'écart-type des résultats des parties. Un score nul ou parfait est ramené à une demi-partie
+ * du bord pour rester fini.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see Tournoi
+ */
+final class BilanParticipant {
+    /** Quantile de la loi normale pour un intervalle de confiance à 95 %. */
+    private static final double Z_95 = 1.96;
+
+    /** Le niveau de stratégie, ou {@code null} pour tous les niveaux. */
+    private final Integer niveau;
+
+    /** Le nom du participant. */
+    private final String participant;
+
+    /** Résultats des parties. */
+    private int victoires, nulles, defaites;
+
+    /** Temps de réflexion cumulé, en nanosecondes. */
+    private long nanos;
+
+    /** Nombre de coups décidés. */
+    private long coups;
+
+    /** Nombre de nœuds visités. */
+    private long noeuds;
+
+    /**
+     * Crée un bilan vide.
+     *
+     * @param niveau      Le niveau de stratégie, ou {@code null} pour tous les niveaux.
+     * @param participant Le nom du participant.
+     */
+    BilanParticipant(Integer niveau, String participant) {
+        this.niveau = niveau;
+        this.participant = participant;
+    }
+
+    /**
+     * Ajoute une partie au bilan.
+     *
+     * @param score  1 pour une victoire, 0.5 pour une nulle, 0 pour une défaite.
+     * @param nanos  Le temps de réflexion du participant, en nanosecondes.
+     * @param coups  Le nombre de coups qu'il a décidés.
+     * @param noeuds Le nombre de nœuds qu'il a visités.
+     */
+    void ajouter(double score, long nanos, long coups, long noeuds) {
+        if (score == 1) {
+            victoires++;
+        } else if (score == 0) {
+            defaites++;
+        } else {
+            nulles++;
+        }
+        this.nanos += nanos;
+        this.coups += coups;
+        this.noeuds += noeuds;
+    }
+
+    /**
+     * Retourne le score moyen par partie.
+     *
+     * @return Le score, entre 0 et 1.
+     */
+    double getScore() {
+        int parties = getParties();
+        return (parties == 0) ? 0.5 : (victoires + 0.5 * nulles) / parties;
+    }
+
+    /**
+     * Retourne l'Elo estimé par rapport à la moyenne des adversaires.
+     *
+     * @return L'Elo.
+     */
+    double getElo() {
+        return elo(getScore());
+    }
+
+    /**
+     * Retourne la marge d'erreur de l'Elo, pour un intervalle de confiance à 95 %.
+     *
+     * @return La demi-largeur de l'intervalle, ou l'infini positif sans partie.
+     */
+    double getErreurElo() {
+        int parties = getParties();
+        if (parties == 0) return Double.POSITIVE_INFINITY;
+
+        double p = getScore();
+        double variance = (victoires * (1 - p) * (1 - p) + nulles * (0.5 - p) * (0.5 - p) + defaites * p * p) / parties;
+        if (variance == 0) {
+            // Résultats tous identiques : variance d'un score ramené à une demi-partie du bord
+            double bord = 0.5 / parties;
+            variance = bord * (1 - bord);
+        }
+        double marge = Z_95 * Math.sqrt(variance / parties);
+        return (elo(p + marge) - elo(p - marge)) / 2;
+    }
+
+    /**
+     * Convertit un score moyen en écart Elo.
+     *
+     * @param score Le score moyen.
+     * @return L'écart Elo, fini.
+     */
+    private double elo(double score) {
+        double bord = 0.5 / Math.max(1, getParties());
+        double p = Math.max(bord, Math.min(1 - bord, score));
+        return 0.0 - 400 * Math.log10(1 / p - 1); // 0.0 - évite un « -0.0 » à score égal
+    }
+
+    /**
+     * Retourne le temps moyen de réflexion par coup.
+     *
+     * @return Le temps, en millisecondes.
+     */
+    double getTempsMoyen() {
+        return (coups == 0) ? 0 : nanos / 1e6 / coups;
+    }
+
+    /**
+     * Retourne le débit de la recherche.
+     *
+     * @return Le nombre de nœuds par seconde.
+     */
+    double getNoeudsParSeconde() {
+        return (nanos == 0) ? 0 : noeuds * 1e9 / nanos;
+    }
+
+    /**
+     * Retourne le nombre de parties jouées.
+     *
+     * @return Le nombre de parties.
+     */
+    int getParties() {
+        return victoires + nulles + defaites;
+    }
+
+    /**
+     * Retourne le nombre de victoires.
+     *
+     * @return Le nombre de victoires.
+     */
+    int getVictoires() {
+        return victoires;
+    }
+
+    /**
+     * Retourne le nombre de parties nulles.
+     *
+     * @return Le nombre de parties nulles.
+     */
+    int getNulles() {
+        return nulles;
+    }
+
+    /**
+     * Retourne le nombre de défaites, pertes au temps comprises.
+     *
+     * @return Le nombre de défaites.
+     */
+    int getDefaites() {
+        return defaites;
+    }
+
+    /**
+     * Retourne le niveau de stratégie du bilan.
+     *
+     * @return Le niveau, ou {@code null} pour tous les niveaux.
+     */
+    Integer getNiveau() {
+        return niveau;
+    }
+
+    /**
+     * Retourne le nom du participant.
+     *
+     * @return Le nom.
+     */
+    String getParticipant() {
+        return participant;
+    }
+}
@@ -0,0 +1,539 @@
+package fr.univrouen.outil;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coordinateur de l'auto-apprentissage distribué sur plusieurs processus, sans interface graphique.
+ * <p>
+ * Les parties à jouer sont découpées en lots de graines consécutives. Le coordinateur écoute sur une socket
+ * et prête les lots aux {@link TravailleurAutoPartie travailleurs} qui s'y connectent, qu'il lance lui-même
+ * sur la machine locale ou qui tournent sur d'autres machines. Chaque travailleur demande un lot, le joue
+ * et renvoie ses positions ({@link Echantillon#TAILLE} octets chacune), puis en demande un autre.
+ * </p>
+ * <p>
+ * Un lot est remis en file si son travailleur se déconnecte ou renvoie des données invalides, et il est
+ * prêté à nouveau si son bail expire sans résultat ; si deux travailleurs finissent le même lot, seul le
+ * premier résultat est gardé. Les positions sont fusionnées dans l'ordre des lots : le fichier écrit est
+ * identique à celui qu'aurait produit un seul processus avec la même graine, quel que soit le nombre
+ * de travailleurs et les pannes rencontrées.
+ * </p>
+ *
+ * <p>Options :</p>
+ * <ul>
+ *   <li>{@code --niveau N} : niveau de stratégie, de 1 à 4 (défaut : 1) ;</li>
+ *   <li>{@code --parties N} : nombre de parties d'auto-apprentissage (défaut : 10000) ;</li>
+ *   <li>{@code --lot N} : nombre de parties par lot (défaut : 100) ;</li>
+ *   <li>{@code --exploration P} : probabilité d'un coup aléatoire (défaut : 0.1) ;</li>
+ *   <li>{@code --recherche N} : profondeur d'étiquetage en tours (défaut : 0) ;</li>
+ *   <li>{@code --graine N} : graine de la première partie (défaut : 1) ;</li>
+ *   <li>{@code --adresse HOTE} : adresse d'écoute, {@code 0.0.0.0} pour accepter d'autres machines
+ *       (défaut : adresse de bouclage) ;</li>
+ *   <li>{@code --port N} : port d'écoute, 0 pour un port libre (défaut : 0) ;</li>
+ *   <li>{@code --travailleurs N} : processus travailleurs lancés sur la machine locale (défaut : nombre de cœurs) ;</li>
+ *   <li>{@code --delai MS} : durée du bail d'un lot avant qu'il soit prêté à nouveau (défaut : 300000) ;</li>
+ *   <li>{@code --sortie FICHIER} : fichier des positions fusionnées (défaut : {@code quarto-echantillons.bin}).</li>
+ * </ul>
+ *
+ * <p>Exemple : {@code mvn -pl quarto-moteur -Pdistribue exec:java -Dexec.args="--parties 50000 --travailleurs 4"}</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.2
+ * @since JDK 17
+ * @see TravailleurAutoPartie
+ * @see EntrainementReseau
+ */
+public final class CoordinateurAutoPartie {
+    /** Signature envoyée par un travailleur à sa connexion (« QAP1 »). */
+    static final int SIGNATURE = 0x51415031;
+
+    /** Message d'un travailleur : demande d'un lot. */
+    static final byte DEMANDE = 1;
+
+    /** Message d'un travailleur : positions d'un lot terminé. */
+    static final byte RESULTAT = 2;
+
+    /** Réponse du coordinateur : un lot à jouer. */
+    static final byte LOT = 1;
+
+    /** Réponse du coordinateur : aucun lot libre, redemander plus tard. */
+    static final byte ATTENTE = 2;
+
+    /** Réponse du coordinateur : toutes les parties sont jouées. */
+    static final byte FIN = 3;
+
+    /** Attente conseillée à un travailleur sans lot, en millisecondes. */
+    private static final int ATTENTE_MS = 200;
+
+    /** Nombre maximal de positions d'une partie (une par placement). */
+    private static final int POSITIONS_PAR_PARTIE = 16;
+
+    /** Attribution signalant qu'aucun lot n'est libre. */
+    private static final int AUCUN_LOT = -1;
+
+    /** Attribution signalant que tous les lots sont terminés. */
+    private static final int TOUS_TERMINES = -2;
+
+    /** Niveau de stratégie des parties. */
+    private final int niveau;
+
+    /** Probabilité d'un coup aléatoire. */
+    private final double exploration;
+
+    /** Profondeur d'étiquetage, en tours. */
+    private final int recherche;
+
+    /** Nombre total de parties. */
+    private final int parties;
+
+    /** Nombre de parties par lot. */
+    private final int taille;
+
+    /** Graine de la première partie. */
+    private final long graine;
+
+    /** Durée du bail d'un lot, en millisecondes. */
+    private final long delai;
+
+    /** Nombre de lots. */
+    private final int nombreLots;
+
+    /** Positions des lots terminés, {@code null} pour les autres. */
+    private final List<List<Echantillon>> resultats;
+
+    /** Connexion qui détient chaque lot prêté, {@code null} si aucune. */
+    private final Socket[] detenteurs;
+
+    /** Fin du bail de chaque lot prêté. */
+    private final long[] echeances;
+
+    /** Lots à prêter, par ordre de priorité. */
+    private final Deque<Integer> enAttente = new ArrayDeque<>();
+
+    /** Connexions des travailleurs. */
+    private final ExecutorService connexions = Executors.newCachedThreadPool(OutilsLigneCommande.fabrique("quarto-coordinateur-"));
+
+    /** Nombre de travailleurs qui se sont connectés. */
+    private final AtomicInteger travailleurs = new AtomicInteger();
+
+    /** Nombre de lots terminés. */
+    private int termines;
+
+    /** Nombre de lots remis en file ou prêtés à nouveau. */
+    private int relances;
+
+    /** Nombre de résultats reçus en double et ignorés. */
+    private int doublons;
+
+    /** Socket d'écoute, {@code null} avant le démarrage. */
+    private volatile ServerSocket serveur;
+
+    /**
+     * Crée un coordinateur, sans le démarrer.
+     *
+     * @param niveau      Le niveau de stratégie (1 à 4).
+     * @param exploration La probabilité d'un coup aléatoire (entre 0 et 1).
+     * @param recherche   La profondeur d'étiquetage, en tours.
+     * @param parties     Le nombre total de parties.
+     * @param taille      Le nombre de parties par lot.
+     * @param graine      La graine de la première partie (les suivantes utilisent les graines consécutives).
+     * @param delai       La durée du bail d'un lot, en millisecondes.
+     * @throws IllegalArgumentException si un paramètre est invalide.
+     */
+    CoordinateurAutoPartie(int niveau, double exploration, int recherche, int parties, int taille,
+                           long graine, long delai) {
+        OutilsLigneCommande.strategie(niveau);
+        if (exploration < 0 || exploration > 1 || recherche < 0) {
+            throw new IllegalArgumentException("Exploration ou profondeur d'étiquetage invalide.");
+        }
+        if (parties <= 0 || taille <= 0 || delai <= 0) {
+            throw new IllegalArgumentException("Le nombre de parties, la taille des lots et le délai doivent être positifs.");
+        }
+        this.niveau = niveau;
+        this.exploration = exploration;
+        this.recherche = recherche;
+        this.parties = parties;
+        this.taille = taille;
+        this.graine = graine;
+        this.delai = delai;
+        this.nombreLots = (parties + taille - 1) / taille;
+        this.resultats = new ArrayList<>(Collections.nCopies(nombreLots, (List<Echantillon>) null));
+        this.detenteurs = new Socket[nombreLots];
+        this.echeances = new long[nombreLots];
+        for (int lot = 0; lot < nombreLots; lot++) {
+            enAttente.add(lot);
+        }
+    }
+
+    /**
+     * Point d'entrée de l'outil.
+     *
+     * @param args Les options de la ligne de commande.
+     * @throws IOException en cas d'erreur de réseau ou d'écriture des positions.
+     * @throws InterruptedException si l'attente des travailleurs est interrompue.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options;
+        CoordinateurAutoPartie coordinateur;
+        InetAddress adresse;
+        int port;
+        int locaux;
+        try {
+            options = OutilsLigneCommande.lireOptions(args, "niveau", "parties", "lot", "exploration", "recherche",
+                "graine", "adresse", "port", "travailleurs", "delai", "sortie");
+            coordinateur = new CoordinateurAutoPartie(
+                Integer.parseInt(options.getOrDefault("niveau", "1")),
+                Double.parseDouble(options.getOrDefault("exploration", "0.1")),
+                Integer.parseInt(options.getOrDefault("recherche", "0")),
+                Integer.parseInt(options.getOrDefault("parties", "10000")),
+                Integer.parseInt(options.getOrDefault("lot", "100")),
+                Long.parseLong(options.getOrDefault("graine", "1")),
+                Long.parseLong(options.getOrDefault("delai", "300000")));
+            adresse = options.containsKey("adresse")
+                ? InetAddress.getByName(options.get("adresse")) : InetAddress.getLoopbackAddress();
+            port = Integer.parseInt(options.getOrDefault("port", "0"));
+            locaux = Integer.parseInt(options.getOrDefault("travailleurs",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+            if (port < 0 || port > 0xFFFF || locaux < 0) {
+                throw new IllegalArgumentException("Port ou nombre de travailleurs invalide.");
+            }
+        } catch (IllegalArgumentException | UnknownHostException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage : CoordinateurAutoPartie [--niveau N] [--parties N] [--lot N] [--exploration P]"
+                + " [--recherche N] [--graine N] [--adresse HOTE] [--port N] [--travailleurs N] [--delai MS]"
+                + " [--sortie FICHIER]");
+            System.exit(2);
+            return;
+        }
+        Path sortie = Paths.get(options.getOrDefault("sortie", "quarto-echantillons.bin"));
+
+        long debut = System.nanoTime();
+        coordinateur.demarrer(adresse, port);
+        String hote = adresse.isAnyLocalAddress()
+            ? InetAddress.getLoopbackAddress().getHostAddress() : adresse.getHostAddress();
+        System.out.printf("Coordinateur sur %s:%d : %d lots de %d parties, %d travailleurs locaux%n",
+            hote, coordinateur.getPort(), coordinateur.nombreLots, coordinateur.taille, locaux);
+
+        List<Process> processus = new ArrayList<>();
+        int redemarrages = 0;
+        try {
+            for (int i = 0; i < locaux; i++) {
+                processus.add(lancerTravailleur(hote, coordinateur.getPort()));
+            }
+            while (!coordinateur.attendre(5_000)) {
+                // Un travailleur local tombé en erreur est relancé ; son lot a déjà été remis en file
+                for (int i = 0; i < processus.size(); i++) {
+                    if (!processus.get(i).isAlive() && processus.get(i).exitValue() != 0) {
+                        processus.set(i, lancerTravailleur(hote, coordinateur.getPort()));
+                        redemarrages++;
+                    }
+                }
+                System.out.printf("  %d/%d lots, %d travailleurs connectés%n", coordinateur.getLotsTermines(),
+                    coordinateur.nombreLots, coordinateur.getTravailleurs());
+            }
+
+            List<Echantillon> echantillons = coordinateur.getEchantillons();
+            Echantillon.sauvegarder(sortie, echantillons);
+            System.out.printf("%d positions de %d parties en %.1f s (%d lots relancés, %d doublons, %d redémarrages)%n",
+                echantillons.size(), coordinateur.parties, (System.nanoTime() - debut) / 1e9,
+                coordinateur.getRelances(), coordinateur.getDoublons(), redemarrages);
+            System.out.println("Positions écrites dans " + sortie.toAbsolutePath());
+
+            // Les travailleurs reçoivent la fin à leur prochaine demande
+            for (Process p : processus) {
+                p.waitFor(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            for (Process p : processus) {
+                p.destroy();
+            }
+            coordinateur.arreter();
+        }
+    }
+
+    /**
+     * Lance un travailleur dans un nouveau processus Java, avec les classes de ce module.
+     *
+     * @param hote L'adresse du coordinateur.
+     * @param port Le port du coordinateur.
+     * @return Le processus lancé.
+     * @throws IOException si le processus ne peut pas être lancé.
+     */
+    private static Process lancerTravailleur(String hote, int port) throws IOException {
+        String classes;
+        try {
+            classes = Paths.get(CoordinateurAutoPartie.class.getProtectionDomain().getCodeSource()
+                .getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IOException("Emplacement des classes introuvable", e);
+        }
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        return new ProcessBuilder(java.toString(), "-cp", classes, TravailleurAutoPartie.class.getName(),
+            "--hote", hote, "--port", String.valueOf(port), "--threads", "1")
+            .inheritIO()
+            .start();
+    }
+
+    /**
+     * Ouvre la socket d'écoute et commence à accepter les travailleurs.
+     *
+     * @param adresse L'adresse d'écoute.
+     * @param port    Le port d'écoute, 0 pour un port libre.
+     * @throws IOException si le port ne peut pas être ouvert.
+     */
+    void demarrer(InetAddress adresse, int port) throws IOException {
+        serveur = new ServerSocket(port, 50, adresse);
+        connexions.execute(() -> {
+            while (!serveur.isClosed()) {
+                try {
+                    Socket socket = serveur.accept();
+                    connexions.execute(() -> servir(socket));
+                } catch (IOException | RejectedExecutionException e) {
+                    // Socket fermée par arreter()
+                }
+            }
+        });
+    }
+
+    /**
+     * Ferme la socket d'écoute et les connexions en cours.
+     *
+     * @throws IOException en cas d'erreur de fermeture.
+     */
+    void arreter() throws IOException {
+        if (serveur != null) {
+            serveur.close();
+        }
+        connexions.shutdownNow();
+        synchronized (this) {
+            for (Socket socket : detenteurs) {
+                if (socket != null) {
+                    socket.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Retourne le port d'écoute effectif.
+     *
+     * @return Le port.
+     */
+    int getPort() {
+        return serveur.getLocalPort();
+    }
+
+    /**
+     * Attend que tous les lots soient terminés.
+     *
+     * @param delaiMs La durée maximale d'attente en millisecondes, 0 pour attendre sans limite.
+     * @return {@code true} si tous les lots sont terminés.
+     * @throws InterruptedException si l'attente est interrompue.
+     */
+    synchronized boolean attendre(long delaiMs) throws InterruptedException {
+        long limite = System.currentTimeMillis() + delaiMs;
+        while (termines < nombreLots) {
+            long reste = delaiMs == 0 ? 0 : limite - System.currentTimeMillis();
+            if (delaiMs != 0 && reste <= 0) {
+                return false;
+            }
+            wait(reste);
+        }
+        return true;
+    }
+
+    /**
+     * Retourne les positions des lots terminés, fusionnées dans l'ordre des lots.
+     *
+     * @return Les positions, dans l'ordre des graines lorsque tous les lots sont terminés.
+     */
+    synchronized List<Echantillon> getEchantillons() {
+        List<Echantillon> echantillons = new ArrayList<>();
+        for (List<Echantillon> lot : resultats) {
+            if (lot != null) {
+                echantillons.addAll(lot);
+            }
+        }
+        return echantillons;
+    }
+
+    /**
+     * Retourne le nombre de lots terminés.
+     *
+     * @return Le nombre de lots.
+     */
+    synchronized int getLotsTermines() {
+        return termines;
+    }
+
+    /**
+     * Retourne le nombre de lots remis en file après une panne ou prêtés à nouveau après expiration du bail.
+     *
+     * @return Le nombre de relances.
+     */
+    synchronized int getRelances() {
+        return relances;
+    }
+
+    /**
+     * Retourne le nombre de résultats reçus pour un lot déjà terminé.
+     *
+     * @return Le nombre de doublons ignorés.
+     */
+    synchronized int getDoublons() {
+        return doublons;
+    }
+
+    /**
+     * Retourne le nombre de travailleurs qui se sont connectés.
+     *
+     * @return Le nombre de connexions acceptées.
+     */
+    int getTravailleurs() {
+        return travailleurs.get();
+    }
+
+    /**
+     * Dialogue avec un travailleur jusqu'à sa déconnexion ou la fin des lots.
+     * <p>Si la connexion est perdue ou si le travailleur viole le protocole, le lot qu'il détient est remis en file.</p>
+     *
+     * @param socket La connexion du travailleur.
+     */
+    private void servir(Socket socket) {
+        int lot = AUCUN_LOT;
+        try (Socket s = socket) {
+            s.setTcpNoDelay(true);
+            DataInputStream entree = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+            DataOutputStream sortie = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+            if (entree.readInt() != SIGNATURE) {
+                return;
+            }
+            travailleurs.incrementAndGet();
+            sortie.writeInt(niveau);
+            sortie.writeDouble(exploration);
+            sortie.writeInt(recherche);
+            sortie.flush();
+
+            while (true) {
+                byte message = entree.readByte();
+                if (message == RESULTAT) {
+                    int id = entree.readInt();
+                    int nombre = entree.readInt();
+                    if (id < 0 || id >= nombreLots || id != lot || nombre < 0 || nombre > POSITIONS_PAR_PARTIE * partiesDuLot(id)) {
+                        throw new IllegalArgumentException("Résultat invalide pour le lot " + id);
+                    }
+                    List<Echantillon> echantillons = new ArrayList<>(nombre);
+                    for (int i = 0; i < nombre; i++) {
+                        echantillons.add(Echantillon.lire(entree));
+                    }
+                    recevoir(id, echantillons);
+                    lot = AUCUN_LOT;
+                } else if (message == DEMANDE) {
+                    if (lot != AUCUN_LOT) {
+                        // Le travailleur abandonne son lot sans résultat : il est remis en file aussitôt
+                        rendre(lot, s);
+                        lot = AUCUN_LOT;
+                    }
+                    int attribue = attribuer(s);
+                    if (attribue == TOUS_TERMINES) {
+                        sortie.writeByte(FIN);
+                        sortie.flush();
+                        return;
+                    }
+                    if (attribue == AUCUN_LOT) {
+                        sortie.writeByte(ATTENTE);
+                        sortie.writeInt(ATTENTE_MS);
+                    } else {
+                        lot = attribue;
+                        sortie.writeByte(LOT);
+                        sortie.writeInt(lot);
+                        sortie.writeLong(graine + (long) lot * taille);
+                        sortie.writeInt(partiesDuLot(lot));
+                    }
+                    sortie.flush();
+                } else {
+                    throw new IllegalArgumentException("Message inconnu : " + message);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Travailleur perdu : son lot est remis en file ci-dessous
+        } finally {
+            if (lot != AUCUN_LOT) {
+                rendre(lot, socket);
+            }
+        }
+    }
+
+    /**
+     * Retourne le nombre de parties d'un lot (le dernier peut être incomplet).
+     *
+     * @param lot Le numéro du lot.
+     * @return Le nombre de parties.
+     */
+    private int partiesDuLot(int lot) {
+        return Math.min(taille, parties - lot * taille);
+    }
+
+    /**
+     * Prête un lot à un travailleur : le premier lot en file ou, à défaut, un lot dont le bail a expiré.
+     *
+     * @param connexion La connexion du travailleur.
+     * @return Le numéro du lot, {@link #AUCUN_LOT} si aucun n'est libre ou {@link #TOUS_TERMINES}.
+     */
+    private synchronized int attribuer(Socket connexion) {
+        if (termines == nombreLots) {
+            return TOUS_TERMINES;
+        }
+        long maintenant = System.currentTimeMillis();
+        Integer lot = enAttente.pollFirst();
+        for (int i = 0; lot == null && i < nombreLots; i++) {
+            if (resultats.get(i) == null && detenteurs[i] != null && echeances[i] < maintenant) {
+                // Le détenteur est présumé perdu ; s'il finit quand même, son résultat sera un doublon
+                lot = i;
+                relances++;
+            }
+        }
+        if (lot == null) {
+            return AUCUN_LOT;
+        }
+        detenteurs[lot] = connexion;
+        echeances[lot] = maintenant + delai;
+        return lot;
+    }
+
+    /**
+     * Remet en tête de file un lot non terminé, si la connexion en est toujours le détenteur.
+     *
+     * @param lot       Le numéro du lot.
+     * @param connexion La connexion perdue.
+     */
+    private synchronized void rendre(int lot, Socket connexion) {
+        if (resultats.get(lot) == null && detenteurs[lot] == connexion) {
+            detenteurs[lot] = null;
+            enAttente.addFirst(lot);
+            relances++;
+        }
+    }
+
+    /**
+     * Enregistre les positions d'un lot, sauf s'il est déjà terminé.
+     *
+     * @param lot          Le numéro du lot.
+     * @param echantillons Les positions du lot, dans l'ordre des graines.
+     */
+    private synchronized void recevoir(int lot, List<Echantillon> echantillons) {
+        if (resultats.get(lot) != null) {
+            doublons++;
+            return;
+        }
+        resultats.set(lot, echantillons);
+        detenteurs[lot] = null;
+        if (++termines == nombreLots) {
+            notifyAll();
+        }
+    }
+}
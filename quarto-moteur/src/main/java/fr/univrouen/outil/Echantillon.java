@@ -0,0 +1,181 @@
+package fr.univrouen.outil;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Position extraite d'une partie d'auto-apprentissage, accompagnée de son étiquette.
+ * <p>
+ * La position est décrite sous forme compacte (voir {@code Plateau#getPlans()}) avec la pièce
+ * que le joueur au trait doit placer. L'étiquette est le résultat attendu pour ce joueur :
+ * 1 pour une victoire, 0 pour une défaite et 0.5 pour une partie nulle.
+ * </p>
+ * <p>
+ * Un échantillon s'écrit en {@value #TAILLE} octets, ce qui permet aux travailleurs de l'auto-apprentissage
+ * distribué de renvoyer leurs positions et au coordinateur de les fusionner dans un fichier.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ * @see AutoPartie
+ */
+public final class Echantillon {
+    /** Taille d'un échantillon écrit, en octets. */
+    public static final int TAILLE = 8 + 2 + 2 + 1 + 1;
+
+    /** Signature des fichiers d'échantillons (« QEC1 »). */
+    private static final int SIGNATURE = 0x51454331;
+
+    /** Plans de caractéristiques du plateau. */
+    private final long plans;
+
+    /** Masque des cases occupées. */
+    private final int occupation;
+
+    /** Masque des pièces encore disponibles (hors pièce en main). */
+    private final int restantes;
+
+    /** Pièce à placer par le joueur au trait. */
+    private final int pieceEnMain;
+
+    /** Résultat pour le joueur au trait (entre 0 et 1). */
+    private final double resultat;
+
+    /**
+     * Crée un échantillon.
+     *
+     * @param plans       Les plans de caractéristiques du plateau.
+     * @param occupation  Le masque des cases occupées.
+     * @param restantes   Le masque des pièces encore disponibles.
+     * @param pieceEnMain La pièce à placer (0 à 15).
+     * @param resultat    Le résultat pour le joueur au trait (0, 0.5 ou 1).
+     */
+    public Echantillon(long plans, int occupation, int restantes, int pieceEnMain, double resultat) {
+        this.plans = plans;
+        this.occupation = occupation;
+        this.restantes = restantes;
+        this.pieceEnMain = pieceEnMain;
+        this.resultat = resultat;
+    }
+
+    /**
+     * Retourne les plans de caractéristiques du plateau.
+     *
+     * @return Les 4 plans de 16 bits.
+     */
+    public long getPlans() {
+        return plans;
+    }
+
+    /**
+     * Retourne le masque des cases occupées.
+     *
+     * @return Le masque 16 bits.
+     */
+    public int getOccupation() {
+        return occupation;
+    }
+
+    /**
+     * Retourne le masque des pièces encore disponibles.
+     *
+     * @return Le masque 16 bits (bit {@code i} : pièce d'identifiant {@code i}).
+     */
+    public int getRestantes() {
+        return restantes;
+    }
+
+    /**
+     * Retourne la pièce à placer par le joueur au trait.
+     *
+     * @return L'identifiant de la pièce (0 à 15).
+     */
+    public int getPieceEnMain() {
+        return pieceEnMain;
+    }
+
+    /**
+     * Retourne le résultat pour le joueur au trait.
+     *
+     * @return 1 (victoire), 0.5 (nulle) ou 0 (défaite).
+     */
+    public double getResultat() {
+        return resultat;
+    }
+
+    /**
+     * Écrit l'échantillon sur {@value #TAILLE} octets.
+     * <p>Le résultat est écrit en demi-points : seules les valeurs 0, 0.5 et 1 sont conservées exactement.</p>
+     *
+     * @param sortie Le flux d'écriture.
+     * @throws IOException en cas d'erreur d'écriture.
+     */
+    public void ecrire(DataOutput sortie) throws IOException {
+        sortie.writeLong(plans);
+        sortie.writeShort(occupation);
+        sortie.writeShort(restantes);
+        sortie.writeByte(pieceEnMain);
+        sortie.writeByte((int) Math.round(resultat * 2));
+    }
+
+    /**
+     * Lit un échantillon écrit par {@link #ecrire(DataOutput)}.
+     *
+     * @param entree Le flux de lecture.
+     * @return L'échantillon lu.
+     * @throws IOException              en cas d'erreur de lecture.
+     * @throws IllegalArgumentException si l'échantillon est invalide.
+     */
+    public static Echantillon lire(DataInput entree) throws IOException {
+        long plans = entree.readLong();
+        int occupation = entree.readUnsignedShort();
+        int restantes = entree.readUnsignedShort();
+        int pieceEnMain = entree.readUnsignedByte();
+        int demiPoints = entree.readUnsignedByte();
+        if (pieceEnMain > 15 || demiPoints > 2) {
+            throw new IllegalArgumentException("Échantillon invalide");
+        }
+        return new Echantillon(plans, occupation, restantes, pieceEnMain, demiPoints / 2.0);
+    }
+
+    /**
+     * Écrit des échantillons dans un fichier binaire, lisible par {@link #charger(Path)}.
+     *
+     * @param fichier      Le fichier à écrire.
+     * @param echantillons Les échantillons, dans l'ordre.
+     * @throws IOException en cas d'erreur d'écriture.
+     */
+    public static void sauvegarder(Path fichier, List<Echantillon> echantillons) throws IOException {
+        try (DataOutputStream sortie = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(fichier)))) {
+            sortie.writeInt(SIGNATURE);
+            sortie.writeInt(echantillons.size());
+            for (Echantillon e : echantillons) {
+                e.ecrire(sortie);
+            }
+        }
+    }
+
+    /**
+     * Lit des échantillons depuis un fichier binaire.
+     *
+     * @param fichier Le fichier à lire.
+     * @return Les échantillons, dans l'ordre d'écriture.
+     * @throws IOException              en cas d'erreur de lecture.
+     * @throws IllegalArgumentException si le fichier n'est pas un fichier d'échantillons.
+     */
+    public static List<Echantillon> charger(Path fichier) throws IOException {
+        try (DataInputStream entree = new DataInputStream(new BufferedInputStream(Files.newInputStream(fichier)))) {
+            int nombre = entree.readInt() == SIGNATURE ? entree.readInt() : -1;
+            if (nombre < 0) {
+                throw new IllegalArgumentException("Fichier d'échantillons incompatible : " + fichier);
+            }
+            List<Echantillon> echantillons = new ArrayList<>(nombre);
+            for (int i = 0; i < nombre; i++) {
+                echantillons.add(lire(entree));
+            }
+            return echantillons;
+        }
+    }
+}
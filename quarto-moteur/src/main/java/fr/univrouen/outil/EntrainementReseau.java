@@ -0,0 +1,260 @@
+package fr.univrouen.outil;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+import fr.univrouen.modele.evaluation.*;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+import fr.univrouen.modele.jeu.partie.strategie.Strategies;
+
+/**
+ * Outil d'entraînement du {@link ReseauEvaluation}, sans interface graphique.
+ * <p>
+ * Les positions proviennent de parties d'auto-apprentissage ({@link AutoPartie}) jouées en parallèle
+ * pour un niveau de stratégie ; chaque position est étiquetée par le résultat pour le joueur au trait.
+ * Le réseau est entraîné en nombres réels par descente de gradient stochastique (entropie croisée),
+ * puis quantifié (16 bits pour la couche cachée, 8 bits pour la sortie) et écrit dans un fichier
+ * chargé au démarrage avec {@code -Dquarto.reseau=FICHIER}. Les positions peuvent aussi être lues dans
+ * un fichier produit par le {@link CoordinateurAutoPartie coordinateur} de l'auto-apprentissage distribué.
+ * </p>
+ *
+ * <p>Options :</p>
+ * <ul>
+ *   <li>{@code --niveau N} : niveau de stratégie, de 1 à 4 (défaut : 1) ;</li>
+ *   <li>{@code --parties N} : nombre de parties d'auto-apprentissage (défaut : 4000) ;</li>
+ *   <li>{@code --exploration P} : probabilité d'un coup aléatoire (défaut : 0.1) ;</li>
+ *   <li>{@code --recherche N} : profondeur d'étiquetage en tours (défaut : 0) ;</li>
+ *   <li>{@code --cachees N} : largeur de la couche cachée (défaut : 32) ;</li>
+ *   <li>{@code --epoques N} : nombre de passes sur les données (défaut : 10) ;</li>
+ *   <li>{@code --pas P} : pas d'apprentissage (défaut : 0.002) ;</li>
+ *   <li>{@code --graine N} : graine des parties et de l'initialisation (défaut : 1) ;</li>
+ *   <li>{@code --echantillons FICHIER} : positions déjà générées, à la place des parties ;</li>
+ *   <li>{@code --sortie FICHIER} : fichier du réseau écrit (défaut : {@code quarto-reseau.bin}).</li>
+ * </ul>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ * @see ReseauEvaluation
+ * @see BancEvaluateurs
+ */
+public class EntrainementReseau {
+    /** Proportion des positions réservées à la validation. */
+    private static final double PART_VALIDATION = 0.1;
+
+    /** Poids de la première couche ({@code [ENTREES][cachees]}). */
+    private final double[][] poidsEntree;
+
+    /** Biais de la couche cachée. */
+    private final double[] biaisCaches;
+
+    /** Poids de sortie. */
+    private final double[] poidsSortie;
+
+    /** Biais de sortie. */
+    private double biaisSortie;
+
+    /**
+     * Crée un réseau réel initialisé aléatoirement.
+     *
+     * @param cachees   La largeur de la couche cachée.
+     * @param aleatoire Le générateur utilisé pour l'initialisation.
+     */
+    EntrainementReseau(int cachees, Random aleatoire) {
+        this.poidsEntree = new double[ReseauEvaluation.ENTREES][cachees];
+        this.biaisCaches = new double[cachees];
+        this.poidsSortie = new double[cachees];
+
+        for (double[] ligne : poidsEntree) {
+            for (int j = 0; j < cachees; j++) {
+                ligne[j] = (aleatoire.nextDouble() - 0.5) * 0.2;
+            }
+        }
+        for (int j = 0; j < cachees; j++) {
+            biaisCaches[j] = 0.5; // Activations initiales au milieu de la zone linéaire
+            poidsSortie[j] = (aleatoire.nextDouble() - 0.5) * 0.2;
+        }
+    }
+
+    /**
+     * Point d'entrée de l'outil.
+     *
+     * @param args Les options de la ligne de commande.
+     * @throws IOException en cas d'erreur d'écriture du réseau.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options;
+        Strategies strategie;
+        try {
+            options = OutilsLigneCommande.lireOptions(args, "niveau", "parties", "exploration", "recherche",
+                "cachees", "epoques", "pas", "graine", "echantillons", "sortie");
+            strategie = OutilsLigneCommande.strategie(Integer.parseInt(options.getOrDefault("niveau", "1")));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage : EntrainementReseau [--niveau N] [--parties N] [--exploration P] [--recherche N]"
+                + " [--cachees N] [--epoques N] [--pas P] [--graine N] [--echantillons FICHIER] [--sortie FICHIER]");
+            System.exit(2);
+            return;
+        }
+
+        int parties = Integer.parseInt(options.getOrDefault("parties", "4000"));
+        double exploration = Double.parseDouble(options.getOrDefault("exploration", "0.1"));
+        int recherche = Integer.parseInt(options.getOrDefault("recherche", "0"));
+        int cachees = Integer.parseInt(options.getOrDefault("cachees", "32"));
+        int epoques = Integer.parseInt(options.getOrDefault("epoques", "10"));
+        double pas = Double.parseDouble(options.getOrDefault("pas", "0.002"));
+        long graine = Long.parseLong(options.getOrDefault("graine", "1"));
+        Path sortie = Paths.get(options.getOrDefault("sortie", "quarto-reseau.bin"));
+
+        long debut = System.nanoTime();
+        List<Echantillon> echantillons;
+        if (options.containsKey("echantillons")) {
+            echantillons = new ArrayList<>(Echantillon.charger(Paths.get(options.get("echantillons"))));
+        } else {
+            AutoPartie autoPartie = new AutoPartie(OutilsLigneCommande.motifs(strategie), exploration, recherche);
+            echantillons = new ArrayList<>(OutilsLigneCommande.generer(autoPartie, parties, graine));
+        }
+        Random aleatoire = new Random(graine);
+        Collections.shuffle(echantillons, aleatoire);
+        System.out.printf("%s : %d positions obtenues en %.1f s%n",
+            strategie, echantillons.size(), (System.nanoTime() - debut) / 1e9);
+
+        int nbValidation = (int) (echantillons.size() * PART_VALIDATION);
+        List<Echantillon> validation = echantillons.subList(0, nbValidation);
+        List<Echantillon> apprentissage = echantillons.subList(nbValidation, echantillons.size());
+
+        EntrainementReseau reseau = new EntrainementReseau(cachees, aleatoire);
+        for (int epoque = 1; epoque <= epoques; epoque++) {
+            Collections.shuffle(apprentissage, aleatoire);
+            double perte = 0;
+            for (Echantillon e : apprentissage) {
+                perte += reseau.apprendre(entreesActives(e), e.getResultat(), pas);
+            }
+            System.out.printf("  époque %2d : perte %.5f, validation %.5f%n",
+                epoque, perte / apprentissage.size(), reseau.perte(validation));
+        }
+
+        ReseauEvaluation quantifie = ReseauEvaluation.quantifier(
+            reseau.poidsEntree, reseau.biaisCaches, reseau.poidsSortie, reseau.biaisSortie);
+        System.out.printf("Réseau quantifié : validation %.5f%n", perteQuantifiee(quantifie, validation));
+
+        quantifie.sauvegarder(sortie);
+        System.out.println("Réseau écrit dans " + sortie.toAbsolutePath()
+            + " (à charger avec -D" + ReseauEvaluation.PROPRIETE + "=...)");
+    }
+
+    /**
+     * Liste les entrées actives d'une position, dans la numérotation de {@link ReseauEvaluation}.
+     *
+     * @param e La position.
+     * @return Les indices des entrées valant 1.
+     */
+    static int[] entreesActives(Echantillon e) {
+        int[] entrees = new int[ReseauEvaluation.PIECES + 1];
+        int n = 0;
+        int restantes = e.getRestantes();
+
+        for (int cases = e.getOccupation(); cases != 0; cases &= cases - 1) {
+            int index = Integer.numberOfTrailingZeros(cases);
+            entrees[n++] = ReseauEvaluation.entreePosee(index, Plateau.pieceDansPlans(e.getPlans(), index));
+        }
+        entrees[n++] = ReseauEvaluation.ENTREE_EN_MAIN + e.getPieceEnMain();
+        for (int pieces = restantes; pieces != 0; pieces &= pieces - 1) {
+            entrees[n++] = ReseauEvaluation.ENTREE_RESTANTE + Integer.numberOfTrailingZeros(pieces);
+        }
+        return Arrays.copyOf(entrees, n);
+    }
+
+    /**
+     * Calcule les activations de la couche cachée (avant écrêtage).
+     *
+     * @param entrees Les entrées actives.
+     * @return Les valeurs des neurones cachés.
+     */
+    private double[] cachees(int[] entrees) {
+        double[] h = biaisCaches.clone();
+        for (int f : entrees) {
+            double[] w = poidsEntree[f];
+            for (int j = 0; j < h.length; j++) {
+                h[j] += w[j];
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Calcule le logit de sortie à partir de la couche cachée.
+     *
+     * @param h Les valeurs des neurones cachés (avant écrêtage).
+     * @return Le logit de sortie.
+     */
+    private double sortie(double[] h) {
+        double s = biaisSortie;
+        for (int j = 0; j < h.length; j++) {
+            s += poidsSortie[j] * Math.max(0, Math.min(1, h[j]));
+        }
+        return s;
+    }
+
+    /**
+     * Effectue un pas de descente de gradient sur une position.
+     *
+     * @param entrees  Les entrées actives.
+     * @param resultat Le résultat observé (entre 0 et 1).
+     * @param pas      Le pas d'apprentissage.
+     * @return La perte avant mise à jour.
+     */
+    private double apprendre(int[] entrees, double resultat, double pas) {
+        double[] h = cachees(entrees);
+        double p = RegressionLogistique.sigmoide(sortie(h));
+        double erreur = p - resultat;
+
+        biaisSortie -= pas * erreur;
+        for (int j = 0; j < h.length; j++) {
+            double activation = Math.max(0, Math.min(1, h[j]));
+            double gradientCache = (h[j] > 0 && h[j] < 1) ? erreur * poidsSortie[j] : 0;
+
+            poidsSortie[j] -= pas * erreur * activation;
+            if (gradientCache != 0) {
+                biaisCaches[j] -= pas * gradientCache;
+                for (int f : entrees) {
+                    poidsEntree[f][j] -= pas * gradientCache;
+                }
+            }
+        }
+        return RegressionLogistique.entropieCroisee(p, resultat);
+    }
+
+    /**
+     * Calcule l'entropie croisée moyenne du réseau réel sur des positions.
+     *
+     * @param echantillons Les positions.
+     * @return La perte moyenne.
+     */
+    private double perte(List<Echantillon> echantillons) {
+        double perte = 0;
+        for (Echantillon e : echantillons) {
+            double p = RegressionLogistique.sigmoide(sortie(cachees(entreesActives(e))));
+            perte += RegressionLogistique.entropieCroisee(p, e.getResultat());
+        }
+        return perte / Math.max(1, echantillons.size());
+    }
+
+    /**
+     * Calcule l'entropie croisée moyenne du réseau quantifié sur des positions.
+     *
+     * @param reseau       Le réseau quantifié.
+     * @param echantillons Les positions.
+     * @return La perte moyenne.
+     */
+    static double perteQuantifiee(ReseauEvaluation reseau, List<Echantillon> echantillons) {
+        double perte = 0;
+        for (Echantillon e : echantillons) {
+            int score = reseau.evaluer(e.getPlans(), e.getOccupation(), e.getPieceEnMain());
+            double p = RegressionLogistique.sigmoide((double) score / ReseauEvaluation.ECHELLE_SCORE);
+            perte += RegressionLogistique.entropieCroisee(p, e.getResultat());
+        }
+        return perte / Math.max(1, echantillons.size());
+    }
+}
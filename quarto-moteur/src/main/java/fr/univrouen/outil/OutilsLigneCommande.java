@@ -0,0 +1,135 @@
+package fr.univrouen.outil;
+
+import java.util.*;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.*;
+
+import fr.univrouen.modele.evaluation.EvaluateurLot;
+import fr.univrouen.modele.jeu.partie.strategie.*;
+import fr.univrouen.modele.joueur.ia.*;
+
+/**
+ * Fonctions communes aux outils en ligne de commande : lecture des options,
+ * choix de l'IA et de la stratégie, génération parallèle des parties d'auto-apprentissage,
+ * tirage aléatoire dans un masque de cases ou de pièces et fabrique de threads démons nommés.
+ *
+ * @author Matisse SENECHAL
+ * @version 1.3
+ * @since JDK 17
+ */
+final class OutilsLigneCommande {
+    /** IA disponibles. */
+    static final Map<IA, Supplier<JoueurIA>> MAP_IA = new EnumMap<>(IA.class);
+
+    /** Stratégies disponibles, par niveau. */
+    static final Map<Strategies, Supplier<StrategieGagnante>> MAP_STRATEGIE = new EnumMap<>(Strategies.class);
+
+    static {
+        MAP_IA.put(IA.MINIMAX, JoueurMinimax::new);
+        MAP_IA.put(IA.NEGAMAX, JoueurNegamax::new);
+        MAP_IA.put(IA.ALPHA_BETA, JoueurAlphaBeta::new);
+        MAP_IA.put(IA.NEGA_BETA, JoueurNegaBeta::new);
+
+        MAP_STRATEGIE.put(Strategies.STRATEGIE_NIVEAU_1, StrategieNiveau1::new);
+        MAP_STRATEGIE.put(Strategies.STRATEGIE_NIVEAU_2, StrategieNiveau2::new);
+        MAP_STRATEGIE.put(Strategies.STRATEGIE_NIVEAU_3, StrategieNiveau3::new);
+        MAP_STRATEGIE.put(Strategies.STRATEGIE_NIVEAU_4, StrategieNiveau4::new);
+    }
+
+    /**
+     * Classe utilitaire : pas d'instanciation.
+     */
+    private OutilsLigneCommande() {}
+
+    /**
+     * Lit les options de la forme {@code --nom valeur}.
+     *
+     * @param args    Les arguments de la ligne de commande.
+     * @param connues Les noms d'options acceptés (sans les tirets).
+     * @return Les valeurs indexées par nom d'option.
+     * @throws IllegalArgumentException si une option est inconnue ou sans valeur.
+     */
+    static Map<String, String> lireOptions(String[] args, String... connues) {
+        Set<String> noms = new HashSet<>(Arrays.asList(connues));
+        Map<String, String> options = new HashMap<>();
+
+        for (int i = 0; i < args.length; i += 2) {
+            String nom = args[i].startsWith("--") ? args[i].substring(2) : "";
+            if (!noms.contains(nom) || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Option invalide : " + args[i]);
+            }
+            options.put(nom, args[i + 1]);
+        }
+        return options;
+    }
+
+    /**
+     * Retourne la stratégie d'un niveau donné.
+     *
+     * @param niveau Le niveau (1 à 4).
+     * @return La stratégie correspondante.
+     * @throws IllegalArgumentException si le niveau n'existe pas.
+     */
+    static Strategies strategie(int niveau) {
+        if (niveau < 1 || niveau > Strategies.values().length) {
+            throw new IllegalArgumentException("Niveau de stratégie invalide : " + niveau);
+        }
+        return Strategies.values()[niveau - 1];
+    }
+
+    /**
+     * Retourne l'évaluateur des motifs d'une stratégie.
+     *
+     * @param strategie La stratégie.
+     * @return L'évaluateur partagé de ses motifs.
+     */
+    static EvaluateurLot motifs(Strategies strategie) {
+        return EvaluateurLot.pour(MAP_STRATEGIE.get(strategie).get().getMotifs());
+    }
+
+    /**
+     * Joue des parties d'auto-apprentissage en parallèle sur tous les cœurs.
+     *
+     * @param autoPartie Le générateur de parties.
+     * @param parties    Le nombre de parties.
+     * @param graine     La graine de la première partie (les suivantes utilisent les graines consécutives).
+     * @return Les positions de toutes les parties.
+     */
+    static List<Echantillon> generer(AutoPartie autoPartie, int parties, long graine) {
+        return IntStream.range(0, parties).parallel()
+            .mapToObj(i -> autoPartie.jouer(graine + i))
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Tire uniformément un bit à 1 d'un masque non vide.
+     *
+     * @param masque    Le masque.
+     * @param aleatoire Le générateur aléatoire.
+     * @return La position du bit tiré.
+     */
+    static int tirer(int masque, SplittableRandom aleatoire) {
+        for (int rang = aleatoire.nextInt(Integer.bitCount(masque)); rang > 0; rang--) {
+            masque &= masque - 1;
+        }
+        return Integer.numberOfTrailingZeros(masque);
+    }
+
+    /**
+     * Crée une fabrique de threads démons nommés.
+     *
+     * @param prefixe Le préfixe du nom des threads.
+     * @return La fabrique.
+     */
+    static ThreadFactory fabrique(String prefixe) {
+        AtomicInteger numero = new AtomicInteger();
+        return tache -> {
+            Thread thread = new Thread(tache, prefixe + numero.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,373 @@
+package fr.univrouen.outil;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import fr.univrouen.modele.arbre.*;
+import fr.univrouen.modele.jeu.partie.*;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieGagnante;
+import fr.univrouen.modele.joueur.humain.JoueurHumain;
+import fr.univrouen.modele.moteur.IterationRecherche;
+import fr.univrouen.modele.moteur.RechercheIterative;
+
+/**
+ * Protocole texte d'un moteur, sur l'entrée et la sortie standard, inspiré de l'UCI des échecs.
+ * <p>
+ * Un programme de matchs peut ainsi piloter des dizaines de processus moteurs, chacun isolé des autres
+ * (un plantage ne touche que son processus), et mesurer leur débit. Une commande par ligne :
+ * </p>
+ * <ul>
+ *   <li>{@code quarto} : présentation du moteur ({@code id}, {@code option}), terminée par {@code quartook} ;</li>
+ *   <li>{@code isready} : répond {@code readyok}, même pendant une recherche ;</li>
+ *   <li>{@code setoption name niveau value N} : niveau de la stratégie de victoire (1 à 4, défaut : 1) ;</li>
+ *   <li>{@code newgame} : revient à la position initiale ;</li>
+ *   <li>{@code position startpos [moves C...]} ou {@code position notation CASES MAIN TRAIT [moves C...]} :
+ *       position de départ ou en {@linkplain EtatJeu#versNotation() notation compacte}, suivie de
+ *       {@linkplain Coup#versNotation() coups} (par exemple {@code -5 3a}) ;</li>
+ *   <li>{@code go [depth N] [movetime MS] [nodes N] [infinite]} : lance la recherche sur un autre thread ;
+ *       sans limite, elle dure jusqu'à {@code stop} ou jusqu'à la fin de la partie. Chaque itération
+ *       terminée est annoncée par {@code info depth D score S nodes N nps N time MS pv C...}
+ *       ({@code score gain} ou {@code score perte} si l'issue est prouvée), puis le coup par {@code bestmove C} ;</li>
+ *   <li>{@code stop} : arrête la recherche, qui annonce son meilleur coup ;</li>
+ *   <li>{@code quit} : arrête la recherche et le moteur.</li>
+ * </ul>
+ * <p>
+ * Les erreurs et les commandes inconnues sont signalées par {@code info string}, sans arrêter le moteur.
+ * La profondeur compte des demi-coups (placement ou choix de pièce), pour chacun des deux arbres d'un coup.
+ * </p>
+ *
+ * <p>Options :</p>
+ * <ul>
+ *   <li>{@code --algorithme NOM} : {@code minimax}, {@code negamax}, {@code alphabeta} ou {@code negabeta} (défaut).</li>
+ * </ul>
+ *
+ * <p>Exemple : {@code mvn -q -pl quarto-moteur -Pprotocole exec:java -Dexec.args="--algorithme alphabeta"}</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see RechercheIterative
+ */
+public final class ProtocoleMoteur {
+    /** Constructeurs d'arbre disponibles, par nom. */
+    private static final Map<String, Supplier<Arborescence>> ALGORITHMES = new LinkedHashMap<>();
+
+    static {
+        ALGORITHMES.put("minimax", ArborescenceMinimax::new);
+        ALGORITHMES.put("negamax", ArborescenceNegamax::new);
+        ALGORITHMES.put("alphabeta", ArborescenceAlphaBeta::new);
+        ALGORITHMES.put("negabeta", ArborescenceNegaBeta::new);
+    }
+
+    /** Nom de l'algorithme. */
+    private final String algorithme;
+
+    /** Recherche du moteur. */
+    private final RechercheIterative recherche;
+
+    /** Sortie des réponses. */
+    private final PrintStream sortie;
+
+    /** Thread des recherches. */
+    private final ExecutorService executeur = Executors.newSingleThreadExecutor(tache -> {
+        Thread thread = new Thread(tache, "quarto-protocole");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Joueurs fictifs des parties analysées : seule la position compte. */
+    private final JoueurHumain joueur1 = new JoueurHumain();
+    private final JoueurHumain joueur2 = new JoueurHumain();
+
+    /** Position courante. */
+    private EtatJeu position = EtatJeu.initial(OutilsLigneCommande.MAP_STRATEGIE.get(OutilsLigneCommande.strategie(1)).get());
+
+    /** Recherche en cours, ou {@code null}. */
+    private Future<?> enCours;
+
+    /** Indique qu'un arrêt a été demandé pour la recherche en cours. */
+    private volatile boolean arretDemande;
+
+    /**
+     * Crée un moteur.
+     *
+     * @param algorithme Le nom de l'algorithme.
+     * @param sortie     La sortie des réponses.
+     * @throws IllegalArgumentException si l'algorithme est inconnu.
+     */
+    public ProtocoleMoteur(String algorithme, PrintStream sortie) {
+        Supplier<Arborescence> fabrique = ALGORITHMES.get(algorithme);
+        if (fabrique == null) {
+            throw new IllegalArgumentException("Algorithme inconnu : " + algorithme + " (" + ALGORITHMES.keySet() + ")");
+        }
+        this.algorithme = algorithme;
+        this.recherche = new RechercheIterative(fabrique.get());
+        this.sortie = sortie;
+    }
+
+    /**
+     * Point d'entrée du moteur.
+     *
+     * @param args Les options de la ligne de commande.
+     * @throws IOException en cas d'erreur de lecture de l'entrée standard.
+     */
+    public static void main(String[] args) throws IOException {
+        ProtocoleMoteur moteur;
+        try {
+            Map<String, String> options = OutilsLigneCommande.lireOptions(args, "algorithme");
+            moteur = new ProtocoleMoteur(options.getOrDefault("algorithme", "negabeta"), System.out);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage : ProtocoleMoteur [--algorithme minimax|negamax|alphabeta|negabeta]");
+            System.exit(2);
+            return;
+        }
+        moteur.executer(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Exécute les commandes jusqu'à {@code quit} ou la fin de l'entrée, puis attend la recherche en cours.
+     *
+     * @param entree Les commandes, une par ligne.
+     * @throws IOException en cas d'erreur de lecture.
+     */
+    public void executer(BufferedReader entree) throws IOException {
+        try {
+            for (String ligne = entree.readLine(); ligne != null; ligne = entree.readLine()) {
+                if (!traiter(ligne.trim())) break;
+            }
+            attendre();
+        } finally {
+            executeur.shutdownNow();
+        }
+    }
+
+    /**
+     * Traite une commande.
+     *
+     * @param ligne La commande.
+     * @return {@code false} si le moteur doit s'arrêter.
+     */
+    boolean traiter(String ligne) {
+        String[] mots = ligne.split("\\s+");
+        try {
+            switch (mots[0]) {
+                case "":
+                    break;
+                case "quarto":
+                    ecrire("id name Quarto " + algorithme);
+                    ecrire("id author Matisse SENECHAL");
+                    ecrire("option name niveau type spin default 1 min 1 max 4");
+                    ecrire("quartook");
+                    break;
+                case "isready":
+                    ecrire("readyok");
+                    break;
+                case "setoption":
+                    attendre();
+                    regler(mots);
+                    break;
+                case "newgame":
+                    attendre();
+                    position = EtatJeu.initial(position.getStrategie());
+                    break;
+                case "position":
+                    attendre();
+                    position = lirePosition(mots);
+                    break;
+                case "go":
+                    attendre();
+                    lancer(mots);
+                    break;
+                case "stop":
+                    arreter();
+                    break;
+                case "quit":
+                    arreter();
+                    return false;
+                default:
+                    ecrire("info string commande inconnue : " + ligne);
+            }
+        } catch (IllegalArgumentException e) {
+            ecrire("info string erreur : " + e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Règle une option : {@code setoption name niveau value N}.
+     *
+     * @param mots Les mots de la commande.
+     * @throws IllegalArgumentException si l'option ou sa valeur est invalide.
+     */
+    private void regler(String[] mots) {
+        if (mots.length != 5 || !"name".equals(mots[1]) || !"niveau".equalsIgnoreCase(mots[2]) || !"value".equals(mots[3])) {
+            throw new IllegalArgumentException("Option invalide : " + String.join(" ", mots));
+        }
+        int niveau = lireEntier(mots[4]);
+        StrategieGagnante strategie = OutilsLigneCommande.MAP_STRATEGIE.get(OutilsLigneCommande.strategie(niveau)).get();
+        position = EtatJeu.depuisNotation(position.versNotation(), strategie);
+    }
+
+    /**
+     * Lit la commande {@code position}.
+     *
+     * @param mots Les mots de la commande.
+     * @return La position décrite.
+     * @throws IllegalArgumentException si la position ou un coup est invalide.
+     */
+    private EtatJeu lirePosition(String[] mots) {
+        StrategieGagnante strategie = position.getStrategie();
+        EtatJeu etat;
+        int suite;
+        if (mots.length >= 2 && "startpos".equals(mots[1])) {
+            etat = EtatJeu.initial(strategie);
+            suite = 2;
+        } else if (mots.length >= 5 && "notation".equals(mots[1])) {
+            etat = EtatJeu.depuisNotation(mots[2] + " " + mots[3] + " " + mots[4], strategie);
+            suite = 5;
+        } else {
+            throw new IllegalArgumentException("Position invalide : " + String.join(" ", mots));
+        }
+
+        if (suite < mots.length) {
+            if (!"moves".equals(mots[suite])) {
+                throw new IllegalArgumentException("« moves » attendu : " + mots[suite]);
+            }
+            for (int i = suite + 1; i < mots.length; i++) {
+                if (etat.estTerminee()) {
+                    throw new IllegalArgumentException("La partie est terminée avant le coup " + mots[i]);
+                }
+                etat = etat.appliquer(Coup.depuisNotation(mots[i]));
+            }
+        }
+        return etat;
+    }
+
+    /**
+     * Lance une recherche sur la position courante : {@code go [depth N] [movetime MS] [nodes N] [infinite]}.
+     *
+     * @param mots Les mots de la commande.
+     * @throws IllegalArgumentException si un paramètre est invalide.
+     */
+    private void lancer(String[] mots) {
+        int profondeur = 0;
+        long temps = 0;
+        long noeuds = 0;
+        for (int i = 1; i < mots.length; i++) {
+            switch (mots[i]) {
+                case "infinite":
+                    break;
+                case "depth":
+                    profondeur = lireEntier(i + 1 < mots.length ? mots[++i] : "");
+                    break;
+                case "movetime":
+                    temps = lireEntier(i + 1 < mots.length ? mots[++i] : "");
+                    break;
+                case "nodes":
+                    noeuds = lireEntier(i + 1 < mots.length ? mots[++i] : "");
+                    break;
+                default:
+                    throw new IllegalArgumentException("Paramètre de recherche inconnu : " + mots[i]);
+            }
+        }
+
+        if (position.estTerminee()) {
+            ecrire("info string la partie est terminée");
+            ecrire("bestmove (aucun)");
+            return;
+        }
+
+        Jeu jeu = JeuQuarto.depuisEtat(position, joueur1, joueur2);
+        int profondeurMax = profondeur;
+        long tempsMax = temps;
+        long noeudsMax = noeuds;
+        arretDemande = false;
+        enCours = executeur.submit(() -> {
+            try {
+                Coup coup = recherche.chercher(jeu, profondeurMax, tempsMax, noeudsMax, this::annoncer);
+                ecrire("bestmove " + coup.versNotation());
+            } catch (RuntimeException e) {
+                ecrire("info string erreur : " + e.getMessage());
+                ecrire("bestmove (aucun)");
+            }
+        });
+    }
+
+    /**
+     * Annonce une itération terminée par une ligne {@code info}.
+     * <p>Un arrêt demandé avant le début effectif de la recherche est transmis ici.</p>
+     *
+     * @param iteration Le compte rendu de l'itération.
+     */
+    private void annoncer(IterationRecherche iteration) {
+        if (arretDemande) {
+            recherche.arreter();
+        }
+        double score = iteration.getScore();
+        String valeur = (score == Double.POSITIVE_INFINITY) ? "gain"
+            : (score == Double.NEGATIVE_INFINITY) ? "perte" : String.valueOf(Math.round(score));
+        ecrire("info depth " + iteration.getProfondeur() + " score " + valeur
+            + " nodes " + iteration.getNoeuds() + " nps " + iteration.getNoeudsParSeconde()
+            + " time " + iteration.getDuree() + " pv "
+            + iteration.getVariante().stream().map(Coup::versNotation).collect(Collectors.joining(" ")));
+    }
+
+    /**
+     * Demande l'arrêt de la recherche en cours, s'il y en a une.
+     */
+    private void arreter() {
+        arretDemande = true;
+        recherche.arreter();
+    }
+
+    /**
+     * Attend la fin de la recherche en cours, s'il y en a une.
+     */
+    private void attendre() {
+        if (enCours == null) return;
+        try {
+            enCours.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            ecrire("info string erreur : " + e.getCause());
+        }
+        enCours = null;
+    }
+
+    /**
+     * Lit un entier strictement positif.
+     *
+     * @param mot Le texte.
+     * @return La valeur lue.
+     * @throws IllegalArgumentException si le texte n'est pas un entier strictement positif.
+     */
+    private static int lireEntier(String mot) {
+        try {
+            int valeur = Integer.parseInt(mot);
+            if (valeur > 0) {
+                return valeur;
+            }
+        } catch (NumberFormatException e) {
+            // Signalé ci-dessous
+        }
+        throw new IllegalArgumentException("Entier positif attendu : " + mot);
+    }
+
+    /**
+     * Écrit une réponse, depuis le thread des commandes ou celui de la recherche.
+     *
+     * @param ligne La réponse.
+     */
+    private void ecrire(String ligne) {
+        synchronized (sortie) {
+            sortie.println(ligne);
+            sortie.flush();
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package fr.univrouen.outil;
+
+import fr.univrouen.modele.evaluation.*;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+
+/**
+ * Recherche Nega-Bêta à approfondissement itératif sur la représentation compacte du plateau.
+ * <p>
+ * Un tour complet (placer la pièce en main, puis donner une pièce) compte pour une profondeur.
+ * Les coups sont joués et déjoués sur place : l'{@link Evaluateur} est tenu à jour de manière
+ * incrémentale, ce qui permet de comparer équitablement plusieurs évaluateurs à temps de réflexion égal.
+ * </p>
+ * <p>
+ * Une {@link TableTransposition} peut être partagée entre plusieurs recherches, éventuellement
+ * sur plusieurs threads : les positions déjà cherchées (par une itération précédente ou par une autre
+ * analyse) y sont retrouvées. Les valeurs de victoire y sont stockées relativement à la position,
+ * pour rester valables quelle que soit la racine de la recherche qui les relit.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.1
+ * @since JDK 17
+ * @see BancEvaluateurs
+ */
+public final class RechercheCompacte {
+    /** Score d'une victoire (diminué du nombre de tours pour préférer les victoires rapides). */
+    public static final int GAIN = 1_000_000;
+
+    /** Valeur au-delà de laquelle un score est une victoire (ou, en négatif, une défaite) forcée. */
+    private static final int SEUIL_GAIN = GAIN - 64;
+
+    /** Masque des 16 cases (ou des 16 pièces). */
+    private static final int TOUT = 0xFFFF;
+
+    /** Détection des victoires (motifs de la stratégie). */
+    private final EvaluateurLot motifs;
+
+    /** Évaluation des feuilles. */
+    private final Evaluateur evaluateur;
+
+    /** Table de transposition partagée, ou {@code null}. */
+    private final TableTransposition table;
+
+    /** Sel des empreintes, propre aux motifs : deux stratégies ne partagent pas leurs entrées. */
+    private final long sel;
+
+    /** État courant de la recherche. */
+    private long plans;
+    private int occupation, restantes, main;
+
+    /** Instant (en nanosecondes) au-delà duquel la recherche s'interrompt. */
+    private long echeance;
+
+    /** Indique que l'échéance est dépassée pendant l'itération en cours. */
+    private boolean interrompue;
+
+    /** Statistiques de la dernière recherche. */
+    private long noeuds;
+    private int profondeurAtteinte;
+    private int score;
+
+    /** Valeur de la racine à l'itération en cours. */
+    private int scoreIteration;
+
+    /**
+     * Crée une recherche.
+     *
+     * @param motifs     L'évaluateur des motifs de la stratégie, pour détecter les victoires.
+     * @param evaluateur L'évaluateur des feuilles (propre à cette recherche).
+     */
+    public RechercheCompacte(EvaluateurLot motifs, Evaluateur evaluateur) {
+        this(motifs, evaluateur, null);
+    }
+
+    /**
+     * Crée une recherche utilisant une table de transposition.
+     *
+     * @param motifs     L'évaluateur des motifs de la stratégie, pour détecter les victoires.
+     * @param evaluateur L'évaluateur des feuilles (propre à cette recherche).
+     * @param table      La table de transposition, éventuellement partagée, ou {@code null}.
+     */
+    public RechercheCompacte(EvaluateurLot motifs, Evaluateur evaluateur, TableTransposition table) {
+        this.motifs = motifs;
+        this.evaluateur = evaluateur;
+        this.table = table;
+        this.sel = System.identityHashCode(motifs) * 0xD6E8FEB86659FD93L;
+    }
+
+    /**
+     * Cherche le meilleur coup dans le temps imparti.
+     * <p>La profondeur 1 est toujours terminée, même si le temps est dépassé.</p>
+     *
+     * @param plans         Les plans de caractéristiques.
+     * @param occupation    Le masque des cases occupées.
+     * @param restantes     Les pièces disponibles (hors pièce en main).
+     * @param main          La pièce à placer.
+     * @param dureeNanos    Le temps de réflexion, en nanosecondes.
+     * @param profondeurMax La profondeur maximale.
+     * @return Le coup, codé {@code case * 32 + piece + 1} ({@code piece = -1} si aucune pièce n'est donnée).
+     */
+    public int chercher(long plans, int occupation, int restantes, int main, long dureeNanos, int profondeurMax) {
+        this.plans = plans;
+        this.occupation = occupation;
+        this.restantes = restantes;
+        this.main = main;
+        this.echeance = System.nanoTime() + dureeNanos;
+        this.noeuds = 0;
+        this.profondeurAtteinte = 0;
+        this.score = 0;
+        evaluateur.reinitialiser(plans, occupation, main);
+
+        int meilleurCoup = -1;
+        for (int profondeur = 1; profondeur <= profondeurMax; profondeur++) {
+            interrompue = false;
+            int coup = racine(profondeur);
+            if (interrompue) {
+                break;
+            }
+            meilleurCoup = coup;
+            score = scoreIteration;
+            profondeurAtteinte = profondeur;
+            if (restantes == 0 || profondeur >= Integer.bitCount(~occupation & TOUT)) {
+                break; // Arbre exploré jusqu'à la fin de la partie
+            }
+        }
+        return meilleurCoup;
+    }
+
+    /**
+     * Explore la racine à une profondeur donnée.
+     *
+     * @param profondeur La profondeur de l'itération.
+     * @return Le meilleur coup trouvé.
+     */
+    private int racine(int profondeur) {
+        int gagnante = caseGagnante();
+        if (gagnante >= 0) {
+            scoreIteration = GAIN;
+            return gagnante * 32;
+        }
+
+        int meilleurCoup = -1;
+        int meilleur = -Integer.MAX_VALUE;
+        for (int cases = ~occupation & TOUT; cases != 0; cases &= cases - 1) {
+            int index = Integer.numberOfTrailingZeros(cases);
+            if (restantes == 0) {
+                scoreIteration = 0;
+                return index * 32; // Dernière pièce : aucune pièce à donner
+            }
+
+            int placee = main;
+            jouerPlacement(index);
+            for (int pieces = restantes; pieces != 0; pieces &= pieces - 1) {
+                int piece = Integer.numberOfTrailingZeros(pieces);
+                jouerDon(piece);
+                int valeur = -negaBeta(profondeur - 1, 1, -Integer.MAX_VALUE, -meilleur);
+                annulerDon(piece);
+
+                if (interrompue) {
+                    annulerPlacement(index, placee);
+                    return meilleurCoup;
+                }
+                if (valeur > meilleur) {
+                    meilleur = valeur;
+                    meilleurCoup = index * 32 + piece + 1;
+                }
+            }
+            annulerPlacement(index, placee);
+        }
+        scoreIteration = meilleur;
+        return meilleurCoup;
+    }
+
+    /**
+     * Explore un nœud où le joueur au trait doit placer la pièce en main.
+     *
+     * @param profondeur La profondeur restante.
+     * @param tour       Le nombre de tours joués depuis la racine.
+     * @param alpha      La borne inférieure.
+     * @param beta       La borne supérieure.
+     * @return La valeur du nœud pour le joueur au trait.
+     */
+    private int negaBeta(int profondeur, int tour, int alpha, int beta) {
+        if ((++noeuds & 1023) == 0 && profondeurAtteinte > 0 && System.nanoTime() > echeance) {
+            interrompue = true;
+        }
+        if (interrompue) {
+            return 0;
+        }
+
+        if (caseGagnante() >= 0) {
+            return GAIN - tour;
+        }
+        if (restantes == 0) {
+            return 0; // Dernière pièce posée sans victoire : partie nulle
+        }
+        if (profondeur == 0) {
+            return evaluateur.evaluer();
+        }
+
+        long cle = 0L;
+        if (table != null) {
+            cle = empreinte();
+            long entree = table.lire(cle);
+            if (entree != TableTransposition.ABSENTE && TableTransposition.profondeur(entree) >= profondeur) {
+                int valeur = depuisTable(TableTransposition.valeur(entree), tour);
+                int borne = TableTransposition.borne(entree);
+                if (borne == TableTransposition.EXACTE
+                        || borne == TableTransposition.INFERIEURE && valeur >= beta
+                        || borne == TableTransposition.SUPERIEURE && valeur <= alpha) {
+                    return valeur;
+                }
+            }
+        }
+
+        int meilleur = -Integer.MAX_VALUE;
+        int meilleurCoup = -1;
+        for (int cases = ~occupation & TOUT; cases != 0; cases &= cases - 1) {
+            int index = Integer.numberOfTrailingZeros(cases);
+            int placee = main;
+            jouerPlacement(index);
+
+            for (int pieces = restantes; pieces != 0; pieces &= pieces - 1) {
+                int piece = Integer.numberOfTrailingZeros(pieces);
+                jouerDon(piece);
+                int valeur = -negaBeta(profondeur - 1, tour + 1, -beta, -Math.max(alpha, meilleur));
+                annulerDon(piece);
+
+                if (valeur > meilleur) {
+                    meilleur = valeur;
+                    meilleurCoup = index * 32 + piece + 1;
+                    if (meilleur >= beta) {
+                        annulerPlacement(index, placee);
+                        memoriser(cle, meilleur, profondeur, tour, TableTransposition.INFERIEURE, meilleurCoup);
+                        return meilleur;
+                    }
+                }
+            }
+            annulerPlacement(index, placee);
+        }
+        memoriser(cle, meilleur, profondeur, tour,
+            meilleur <= alpha ? TableTransposition.SUPERIEURE : TableTransposition.EXACTE, meilleurCoup);
+        return meilleur;
+    }
+
+    /**
+     * Mémorise le résultat d'un nœud dans la table de transposition, sauf si la recherche a été interrompue.
+     *
+     * @param cle        L'empreinte de la position.
+     * @param valeur     La valeur du nœud.
+     * @param profondeur La profondeur restante.
+     * @param tour       Le nombre de tours joués depuis la racine.
+     * @param borne      Le type de borne.
+     * @param coup       Le meilleur coup.
+     */
+    private void memoriser(long cle, int valeur, int profondeur, int tour, int borne, int coup) {
+        if (table == null || interrompue) return;
+
+        // Une victoire est stockée en tours depuis cette position, et non depuis la racine
+        int stockee = valeur >= SEUIL_GAIN ? valeur + tour : valeur <= -SEUIL_GAIN ? valeur - tour : valeur;
+        table.ecrire(cle, stockee, profondeur, borne, coup);
+    }
+
+    /**
+     * Convertit une valeur lue dans la table en valeur relative à la racine.
+     *
+     * @param stockee La valeur stockée.
+     * @param tour    Le nombre de tours joués depuis la racine.
+     * @return La valeur du nœud.
+     */
+    private static int depuisTable(int stockee, int tour) {
+        return stockee >= SEUIL_GAIN ? stockee - tour : stockee <= -SEUIL_GAIN ? stockee + tour : stockee;
+    }
+
+    /**
+     * Calcule l'empreinte de la position courante : plateau, pièces restantes et pièce en main.
+     *
+     * @return L'empreinte 64 bits.
+     */
+    private long empreinte() {
+        long etat = (long) occupation << 21 | (long) restantes << 5 | (main + 1);
+        long h = plans * 0x9E3779B97F4A7C15L ^ etat * 0xC2B2AE3D27D4EB4FL ^ sel;
+        return h ^ (h >>> 29);
+    }
+
+    /**
+     * Cherche une case où la pièce en main complète un motif gagnant.
+     *
+     * @return L'indice de la case, ou -1.
+     */
+    private int caseGagnante() {
+        for (int cases = ~occupation & TOUT; cases != 0; cases &= cases - 1) {
+            int index = Integer.numberOfTrailingZeros(cases);
+            if (motifs.estGagnant(Plateau.poserDansPlans(plans, index, main), occupation | 1 << index)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Place la pièce en main sur une case.
+     *
+     * @param index L'indice de la case.
+     */
+    private void jouerPlacement(int index) {
+        evaluateur.placer(index, main);
+        plans = Plateau.poserDansPlans(plans, index, main);
+        occupation |= 1 << index;
+        main = Evaluateur.AUCUNE_PIECE;
+    }
+
+    /**
+     * Annule un placement.
+     *
+     * @param index L'indice de la case.
+     * @param piece La pièce qui y avait été placée.
+     */
+    private void annulerPlacement(int index, int piece) {
+        evaluateur.retirer(index, piece);
+        plans &= ~(0x0001_0001_0001_0001L << index);
+        occupation &= ~(1 << index);
+        main = piece;
+    }
+
+    /**
+     * Donne une pièce : elle quitte les pièces restantes pour la main de l'adversaire.
+     *
+     * @param piece La pièce donnée.
+     */
+    private void jouerDon(int piece) {
+        evaluateur.donner(piece);
+        restantes &= ~(1 << piece);
+        main = piece;
+    }
+
+    /**
+     * Annule un don : la pièce retourne parmi les pièces restantes et plus aucune pièce n'est en main.
+     *
+     * @param piece La pièce donnée.
+     */
+    private void annulerDon(int piece) {
+        evaluateur.reprendre(piece);
+        restantes |= 1 << piece;
+        main = Evaluateur.AUCUNE_PIECE;
+    }
+
+    /**
+     * Retourne le nombre de nœuds visités par la dernière recherche.
+     *
+     * @return Le nombre de nœuds.
+     */
+    public long getNoeuds() {
+        return noeuds;
+    }
+
+    /**
+     * Retourne la valeur de la position à la dernière profondeur entièrement explorée,
+     * pour le joueur qui place la pièce en main.
+     *
+     * @return Le score : {@link #GAIN} moins le nombre de tours pour une victoire forcée,
+     *         son opposé pour une défaite forcée, l'évaluation des feuilles sinon.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Retourne la dernière profondeur entièrement explorée.
+     *
+     * @return La profondeur atteinte.
+     */
+    public int getProfondeurAtteinte() {
+        return profondeurAtteinte;
+    }
+}
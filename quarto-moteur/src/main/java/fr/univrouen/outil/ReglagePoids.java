@@ -0,0 +1,148 @@
+package fr.univrouen.outil;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+import fr.univrouen.modele.evaluation.EvaluateurLot;
+import fr.univrouen.modele.jeu.partie.strategie.Strategies;
+import fr.univrouen.modele.jeu.piece.PoidsHeuristique;
+
+/**
+ * Outil de réglage des poids de l'heuristique, sans interface graphique.
+ * <p>
+ * Étapes :
+ * </p>
+ * <ol>
+ *   <li>génération de parties d'auto-apprentissage en parallèle, pour chaque niveau de {@link Strategies} ;</li>
+ *   <li>étiquetage des positions par le résultat de la partie ou, avec {@code --recherche N},
+ *       par le gain ou la perte forcés trouvés en {@code N} tours ;</li>
+ *   <li>ajustement d'une {@link RegressionLogistique} (méthode « Texel ») des résultats
+ *       sur les compteurs de motifs par nombre de caractéristiques communes ;</li>
+ *   <li>écriture d'un fichier de poids, chargé au démarrage par {@link PoidsHeuristique}.</li>
+ * </ol>
+ *
+ * <p>Options :</p>
+ * <ul>
+ *   <li>{@code --parties N} : parties par niveau de stratégie (défaut : 500) ;</li>
+ *   <li>{@code --exploration P} : probabilité d'un coup aléatoire (défaut : 0.1) ;</li>
+ *   <li>{@code --recherche N} : profondeur d'étiquetage en tours, 0 pour le seul résultat (défaut : 0) ;</li>
+ *   <li>{@code --iterations N} : itérations maximales de l'ajustement (défaut : 2000) ;</li>
+ *   <li>{@code --graine N} : graine des parties (défaut : 1) ;</li>
+ *   <li>{@code --sortie FICHIER} : fichier de poids écrit (défaut : {@code quarto-poids.properties}).</li>
+ * </ul>
+ *
+ * <p>Exemple : {@code mvn -Preglage exec:java -Dexec.args="--parties 2000 --recherche 2"}</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see AutoPartie
+ * @see PoidsHeuristique
+ */
+public class ReglagePoids {
+    /** Valeur donnée au plus grand poids lors de la conversion en entiers. */
+    private static final int ECHELLE = 1000;
+
+    /**
+     * Point d'entrée de l'outil.
+     *
+     * @param args Les options de la ligne de commande.
+     * @throws IOException en cas d'erreur d'écriture du fichier de poids.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options;
+        try {
+            options = OutilsLigneCommande.lireOptions(args,
+                "parties", "exploration", "recherche", "iterations", "graine", "sortie");
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage : ReglagePoids [--parties N] [--exploration P] [--recherche N]"
+                + " [--iterations N] [--graine N] [--sortie FICHIER]");
+            System.exit(2);
+            return;
+        }
+
+        int parties = Integer.parseInt(options.getOrDefault("parties", "500"));
+        double exploration = Double.parseDouble(options.getOrDefault("exploration", "0.1"));
+        int recherche = Integer.parseInt(options.getOrDefault("recherche", "0"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "2000"));
+        long graine = Long.parseLong(options.getOrDefault("graine", "1"));
+        Path sortie = Paths.get(options.getOrDefault("sortie", "quarto-poids.properties"));
+
+        System.out.printf("Génération : %d parties par niveau sur %d cœurs%n",
+            parties, Runtime.getRuntime().availableProcessors());
+
+        // Compteurs de motifs et résultats de toutes les positions, tous niveaux confondus
+        List<int[]> compteurs = new ArrayList<>();
+        List<Double> resultats = new ArrayList<>();
+
+        for (Strategies strategie : Strategies.values()) {
+            EvaluateurLot evaluateur = OutilsLigneCommande.motifs(strategie);
+            AutoPartie autoPartie = new AutoPartie(evaluateur, exploration, recherche);
+
+            long debut = System.nanoTime();
+            List<Echantillon> echantillons = OutilsLigneCommande.generer(autoPartie, parties,
+                graine * 1_000_003L + strategie.ordinal() * (long) parties);
+
+            for (Echantillon e : echantillons) {
+                int[] c = new int[PoidsHeuristique.NOMBRE];
+                evaluateur.compterMotifs(e.getPlans(), e.getOccupation(), c);
+                compteurs.add(c);
+                resultats.add(e.getResultat());
+            }
+            System.out.printf("  %s : %d positions en %.1f s%n",
+                strategie, echantillons.size(), (System.nanoTime() - debut) / 1e9);
+        }
+
+        int n = resultats.size();
+        double[] y = new double[n];
+        double[] x = new double[n * PoidsHeuristique.NOMBRE];
+        double[] xReference = new double[n];
+        PoidsHeuristique reference = PoidsHeuristique.parDefaut();
+
+        for (int i = 0; i < n; i++) {
+            y[i] = resultats.get(i);
+            int[] c = compteurs.get(i);
+            for (int j = 0; j < PoidsHeuristique.NOMBRE; j++) {
+                x[i * PoidsHeuristique.NOMBRE + j] = c[j];
+                xReference[i] += (double) c[j] * reference.get(j);
+            }
+        }
+
+        // Référence : les poids actuels, avec la meilleure mise à l'échelle possible
+        RegressionLogistique modeleReference = RegressionLogistique.ajuster(xReference, 1, y, iterations);
+        RegressionLogistique modele = RegressionLogistique.ajuster(x, PoidsHeuristique.NOMBRE, y, iterations);
+        PoidsHeuristique poids = versEntiers(modele.getCoefficients());
+
+        System.out.printf("Ajustement sur %d positions%n", n);
+        System.out.printf("  %s : perte %.5f%n", reference, modeleReference.getPerte());
+        System.out.printf("  %s : perte %.5f%n", poids, modele.getPerte());
+
+        poids.sauvegarder(sortie, String.format(
+            "Poids réglés par ReglagePoids sur %d positions (%d parties par niveau, recherche %d)%n"
+            + "Entropie croisée : %.5f (poids par défaut : %.5f)",
+            n, parties, recherche, modele.getPerte(), modeleReference.getPerte()));
+        System.out.println("Poids écrits dans " + sortie.toAbsolutePath()
+            + " (à charger avec -D" + PoidsHeuristique.PROPRIETE + "=...)");
+    }
+
+    /**
+     * Convertit des coefficients réels en poids entiers, le plus grand valant {@value #ECHELLE} en valeur absolue.
+     *
+     * @param coefficients Les coefficients de la régression (un par nombre de caractéristiques communes).
+     * @return Les poids entiers correspondants.
+     */
+    static PoidsHeuristique versEntiers(double[] coefficients) {
+        double max = 0;
+        for (double c : coefficients) {
+            max = Math.max(max, Math.abs(c));
+        }
+
+        int[] poids = new int[coefficients.length];
+        for (int j = 0; j < coefficients.length; j++) {
+            poids[j] = max == 0 ? 0 : (int) Math.round(coefficients[j] * ECHELLE / max);
+        }
+        return new PoidsHeuristique(poids);
+    }
+}
@@ -0,0 +1,224 @@
+package fr.univrouen.outil;
+
+import java.util.stream.IntStream;
+
+/**
+ * Régression logistique ajustée par descente de gradient, parallélisée sur tous les cœurs.
+ * <p>
+ * Le modèle prédit {@code p = σ(biais + Σ coefficients[j] * x[j])} et minimise l'entropie croisée
+ * avec les résultats observés (entre 0 et 1). C'est la méthode « Texel » de réglage d'une évaluation :
+ * les variables sont les compteurs de motifs de la position, les résultats ceux des parties.
+ * </p>
+ * <p>
+ * Les variables sont centrées et réduites pendant l'ajustement, puis les coefficients
+ * sont ramenés à l'échelle d'origine. Le gradient de chaque itération est calculé par blocs
+ * dans le {@link java.util.concurrent.ForkJoinPool#commonPool() pool commun}.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see ReglagePoids
+ */
+public final class RegressionLogistique {
+    /** Nombre d'observations traitées par bloc parallèle. */
+    private static final int TAILLE_BLOC = 4096;
+
+    /** Pas de la descente de gradient (sur les variables réduites). */
+    private static final double PAS = 1.0;
+
+    /** Coefficients à l'échelle des variables d'origine. */
+    private final double[] coefficients;
+
+    /** Terme constant. */
+    private final double biais;
+
+    /** Entropie croisée moyenne du modèle ajusté. */
+    private final double perte;
+
+    /**
+     * Crée un modèle déjà ajusté.
+     *
+     * @param coefficients Les coefficients des variables.
+     * @param biais        Le terme constant.
+     * @param perte        L'entropie croisée moyenne obtenue.
+     */
+    private RegressionLogistique(double[] coefficients, double biais, double perte) {
+        this.coefficients = coefficients;
+        this.biais = biais;
+        this.perte = perte;
+    }
+
+    /**
+     * Ajuste le modèle sur des observations.
+     *
+     * @param variables   Les variables, rangées observation par observation ({@code nbVariables} valeurs chacune).
+     * @param nbVariables Le nombre de variables par observation.
+     * @param resultats   Les résultats observés, entre 0 et 1.
+     * @param iterations  Le nombre maximal d'itérations de descente.
+     * @return Le modèle ajusté.
+     * @throws IllegalArgumentException si les tailles sont incohérentes ou s'il n'y a aucune observation.
+     */
+    public static RegressionLogistique ajuster(double[] variables, int nbVariables, double[] resultats, int iterations) {
+        int n = resultats.length;
+        if (n == 0 || nbVariables <= 0 || variables.length != n * nbVariables) {
+            throw new IllegalArgumentException("Observations incohérentes : " + n + " résultats, "
+                + variables.length + " valeurs pour " + nbVariables + " variables.");
+        }
+
+        // Centrage et réduction
+        double[] moyennes = new double[nbVariables];
+        double[] ecarts = new double[nbVariables];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < nbVariables; j++) {
+                moyennes[j] += variables[i * nbVariables + j];
+            }
+        }
+        for (int j = 0; j < nbVariables; j++) {
+            moyennes[j] /= n;
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < nbVariables; j++) {
+                double d = variables[i * nbVariables + j] - moyennes[j];
+                ecarts[j] += d * d;
+            }
+        }
+        for (int j = 0; j < nbVariables; j++) {
+            ecarts[j] = Math.sqrt(ecarts[j] / n);
+        }
+
+        // theta[0] : biais, theta[1..] : coefficients des variables réduites
+        double[] theta = new double[nbVariables + 1];
+        double perte = Double.POSITIVE_INFINITY;
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            double[] somme = gradient(variables, nbVariables, resultats, moyennes, ecarts, theta);
+            double nouvellePerte = somme[nbVariables + 1] / n;
+
+            for (int j = 0; j <= nbVariables; j++) {
+                theta[j] -= PAS * somme[j] / n;
+            }
+            if (perte - nouvellePerte < 1e-10) {
+                perte = nouvellePerte;
+                break;
+            }
+            perte = nouvellePerte;
+        }
+
+        // Retour à l'échelle d'origine
+        double[] coefficients = new double[nbVariables];
+        double biais = theta[0];
+        for (int j = 0; j < nbVariables; j++) {
+            if (ecarts[j] > 0) {
+                coefficients[j] = theta[j + 1] / ecarts[j];
+                biais -= coefficients[j] * moyennes[j];
+            }
+        }
+        return new RegressionLogistique(coefficients, biais, perte);
+    }
+
+    /**
+     * Calcule en parallèle le gradient de l'entropie croisée (non divisé par le nombre d'observations).
+     *
+     * @param variables   Les variables d'origine.
+     * @param nbVariables Le nombre de variables par observation.
+     * @param resultats   Les résultats observés.
+     * @param moyennes    Les moyennes des variables.
+     * @param ecarts      Les écarts-types des variables.
+     * @param theta       Les paramètres courants (biais puis coefficients réduits).
+     * @return Le gradient ({@code nbVariables + 1} composantes) suivi de la perte totale.
+     */
+    private static double[] gradient(double[] variables, int nbVariables, double[] resultats,
+                                     double[] moyennes, double[] ecarts, double[] theta) {
+        int n = resultats.length;
+        int blocs = (n + TAILLE_BLOC - 1) / TAILLE_BLOC;
+
+        return IntStream.range(0, blocs).parallel().mapToObj(bloc -> {
+            double[] partiel = new double[nbVariables + 2];
+            int fin = Math.min(n, (bloc + 1) * TAILLE_BLOC);
+
+            for (int i = bloc * TAILLE_BLOC; i < fin; i++) {
+                double s = theta[0];
+                for (int j = 0; j < nbVariables; j++) {
+                    s += theta[j + 1] * reduite(variables[i * nbVariables + j], moyennes[j], ecarts[j]);
+                }
+                double p = sigmoide(s);
+                double erreur = p - resultats[i];
+
+                partiel[0] += erreur;
+                for (int j = 0; j < nbVariables; j++) {
+                    partiel[j + 1] += erreur * reduite(variables[i * nbVariables + j], moyennes[j], ecarts[j]);
+                }
+                partiel[nbVariables + 1] += entropieCroisee(p, resultats[i]);
+            }
+            return partiel;
+        }).reduce(new double[nbVariables + 2], (a, b) -> {
+            double[] somme = new double[a.length];
+            for (int j = 0; j < a.length; j++) {
+                somme[j] = a[j] + b[j];
+            }
+            return somme;
+        });
+    }
+
+    /**
+     * Centre et réduit une valeur (0 pour une variable constante).
+     *
+     * @param valeur  La valeur d'origine.
+     * @param moyenne La moyenne de la variable.
+     * @param ecart   L'écart-type de la variable.
+     * @return La valeur centrée réduite.
+     */
+    private static double reduite(double valeur, double moyenne, double ecart) {
+        return ecart > 0 ? (valeur - moyenne) / ecart : 0;
+    }
+
+    /**
+     * Calcule la fonction sigmoïde.
+     *
+     * @param s Le score.
+     * @return {@code 1 / (1 + e^-s)}.
+     */
+    public static double sigmoide(double s) {
+        return 1.0 / (1.0 + Math.exp(-s));
+    }
+
+    /**
+     * Calcule l'entropie croisée entre une prédiction et un résultat.
+     *
+     * @param p        La probabilité prédite.
+     * @param resultat Le résultat observé (entre 0 et 1).
+     * @return La perte associée.
+     */
+    public static double entropieCroisee(double p, double resultat) {
+        double q = Math.min(Math.max(p, 1e-12), 1 - 1e-12);
+        return -(resultat * Math.log(q) + (1 - resultat) * Math.log(1 - q));
+    }
+
+    /**
+     * Retourne les coefficients à l'échelle des variables d'origine.
+     *
+     * @return Une copie des coefficients.
+     */
+    public double[] getCoefficients() {
+        return coefficients.clone();
+    }
+
+    /**
+     * Retourne le terme constant.
+     *
+     * @return Le biais.
+     */
+    public double getBiais() {
+        return biais;
+    }
+
+    /**
+     * Retourne l'entropie croisée moyenne du modèle sur les observations d'ajustement.
+     *
+     * @return La perte finale.
+     */
+    public double getPerte() {
+        return perte;
+    }
+}
@@ -0,0 +1,443 @@
+package fr.univrouen.outil;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import fr.univrouen.modele.jeu.partie.EtatJeu;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieGagnante;
+
+/**
+ * Serveur HTTP d'analyse de positions, sans interface graphique, accessible depuis la machine locale uniquement.
+ * <p>
+ * Le serveur, construit sur le serveur HTTP du JDK, n'écoute que sur l'adresse de bouclage et refuse
+ * toute requête d'une autre origine. Il expose deux ressources :
+ * </p>
+ * <ul>
+ *   <li>{@code POST /analyse?temps=MS&profondeur=N&niveau=N} : le corps contient une position par ligne,
+ *       dans la {@link EtatJeu#versNotation() notation compacte} ; la réponse est un tableau JSON donnant,
+ *       pour chaque position, le meilleur coup ({@code case} et {@code piece}, {@code -1} si absents),
+ *       son score, la profondeur atteinte, les nœuds visités et la durée ;</li>
+ *   <li>{@code GET /statistiques} : les compteurs du serveur et de la table de transposition.</li>
+ * </ul>
+ * <p>
+ * Les analyses de toutes les requêtes sont regroupées sur un même pool de threads borné, et partagent
+ * une seule {@link TableTransposition}. Les positions d'une requête sont analysées en parallèle, et une
+ * position déjà en cours d'analyse avec les mêmes paramètres n'est pas recalculée : les requêtes
+ * simultanées attendent le même résultat.
+ * </p>
+ *
+ * <p>Options :</p>
+ * <ul>
+ *   <li>{@code --port N} : port d'écoute, 0 pour un port libre (défaut : 8080) ;</li>
+ *   <li>{@code --threads N} : threads d'analyse (défaut : nombre de cœurs) ;</li>
+ *   <li>{@code --table N} : capacité de la table de transposition, en entrées (défaut : 4194304).</li>
+ * </ul>
+ *
+ * <p>Exemple : {@code mvn -pl quarto-moteur -Pserveur exec:java -Dexec.args="--port 8080"}</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.2
+ * @since JDK 17
+ * @see AnalyseurPosition
+ */
+public final class ServeurAnalyse {
+    /** Temps d'analyse par défaut d'une position, en millisecondes. */
+    private static final long TEMPS_DEFAUT = 1_000;
+
+    /** Temps d'analyse maximal d'une position, en millisecondes. */
+    private static final long TEMPS_MAX = 60_000;
+
+    /** Profondeur d'analyse par défaut, en tours (toute la partie). */
+    private static final int PROFONDEUR_DEFAUT = 32;
+
+    /** Nombre maximal de positions par requête. */
+    private static final int POSITIONS_MAX = 256;
+
+    /** Nombre de threads qui traitent les requêtes HTTP. */
+    private static final int THREADS_HTTP = 4;
+
+    /** Serveur HTTP du JDK. */
+    private final HttpServer serveur;
+
+    /** Pool des threads qui traitent les requêtes HTTP. */
+    private final ExecutorService requetes;
+
+    /** Pool borné, partagé, des analyses. */
+    private final ExecutorService travailleurs;
+
+    /** Analyseur partagé par toutes les requêtes. */
+    private final AnalyseurPosition analyseur;
+
+    /** Analyses en cours, par position et paramètres. */
+    private final Map<String, CompletableFuture<Analyse>> enCours = new ConcurrentHashMap<>();
+
+    /** Nombre de requêtes d'analyse reçues. */
+    private final LongAdder requetesRecues = new LongAdder();
+
+    /** Nombre d'analyses effectuées. */
+    private final LongAdder analyses = new LongAdder();
+
+    /** Nombre de positions servies par une analyse déjà en cours. */
+    private final LongAdder mutualisees = new LongAdder();
+
+    /**
+     * Crée un serveur d'analyse, sans le démarrer.
+     *
+     * @param port          Le port d'écoute sur l'adresse de bouclage, 0 pour un port libre.
+     * @param travailleurs  Le nombre de threads d'analyse.
+     * @param capaciteTable La capacité de la table de transposition, en entrées.
+     * @throws IOException              si le port ne peut pas être ouvert.
+     * @throws IllegalArgumentException si un paramètre est invalide.
+     */
+    public ServeurAnalyse(int port, int travailleurs, int capaciteTable) throws IOException {
+        if (port < 0 || port > 0xFFFF || travailleurs <= 0) {
+            throw new IllegalArgumentException("Port ou nombre de threads invalide : " + port + ", " + travailleurs);
+        }
+        this.analyseur = new AnalyseurPosition(new TableTransposition(capaciteTable));
+        this.serveur = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.requetes = Executors.newFixedThreadPool(THREADS_HTTP, OutilsLigneCommande.fabrique("quarto-serveur-"));
+        this.travailleurs = Executors.newFixedThreadPool(travailleurs, OutilsLigneCommande.fabrique("quarto-analyse-"));
+        serveur.setExecutor(requetes);
+        serveur.createContext("/analyse", this::traiterAnalyse);
+        serveur.createContext("/statistiques", this::traiterStatistiques);
+    }
+
+    /**
+     * Point d'entrée du serveur.
+     *
+     * @param args Les options de la ligne de commande.
+     * @throws IOException si le port ne peut pas être ouvert.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options;
+        try {
+            options = OutilsLigneCommande.lireOptions(args, "port", "threads", "table");
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage : ServeurAnalyse [--port N] [--threads N] [--table N]");
+            System.exit(2);
+            return;
+        }
+
+        int port = Integer.parseInt(options.getOrDefault("port", "8080"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+            String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int table = Integer.parseInt(options.getOrDefault("table", "4194304"));
+
+        ServeurAnalyse serveur = new ServeurAnalyse(port, threads, table);
+        serveur.demarrer();
+        System.out.printf("Serveur d'analyse sur http://%s:%d/analyse (%d threads)%n",
+            InetAddress.getLoopbackAddress().getHostAddress(), serveur.getPort(), threads);
+    }
+
+    /**
+     * Démarre le serveur.
+     */
+    public void demarrer() {
+        serveur.start();
+    }
+
+    /**
+     * Arrête le serveur : les requêtes en cours ont une seconde pour se terminer.
+     */
+    public void arreter() {
+        serveur.stop(1);
+        travailleurs.shutdownNow();
+        requetes.shutdownNow();
+    }
+
+    /**
+     * Retourne le port d'écoute effectif.
+     *
+     * @return Le port.
+     */
+    public int getPort() {
+        return serveur.getAddress().getPort();
+    }
+
+    /**
+     * Retourne l'analyseur partagé par les requêtes.
+     *
+     * @return L'analyseur.
+     */
+    public AnalyseurPosition getAnalyseur() {
+        return analyseur;
+    }
+
+    /**
+     * Traite une requête {@code /analyse} : lit les positions, les analyse sur le pool partagé
+     * et répond par le tableau JSON des résultats. Toutes les positions sont validées avant la première
+     * soumission, si bien qu'une ligne invalide ne laisse aucune analyse en cours. Une erreur de la requête
+     * est signalée par le statut 400, un échec du serveur par le statut 500.
+     *
+     * @param echange L'échange HTTP.
+     * @throws IOException en cas d'erreur de communication.
+     */
+    private void traiterAnalyse(HttpExchange echange) throws IOException {
+        try {
+            if (!verifier(echange, "POST")) {
+                return;
+            }
+            requetesRecues.increment();
+
+            Map<String, String> parametres = lireParametres(echange.getRequestURI().getRawQuery());
+            long temps = lireEntier(parametres, "temps", TEMPS_DEFAUT, TEMPS_MAX);
+            int profondeur = (int) lireEntier(parametres, "profondeur", PROFONDEUR_DEFAUT, PROFONDEUR_DEFAUT);
+            int niveau = (int) lireEntier(parametres, "niveau", 4, 4);
+            StrategieGagnante strategie = OutilsLigneCommande.MAP_STRATEGIE.get(OutilsLigneCommande.strategie(niveau)).get();
+
+            List<String> notations = lireNotations(echange.getRequestBody());
+            List<EtatJeu> etats = new ArrayList<>(notations.size());
+            for (String notation : notations) {
+                EtatJeu etat = EtatJeu.depuisNotation(notation, strategie);
+                if (etat.estTerminee()) {
+                    throw new IllegalArgumentException("La partie est terminée : " + notation);
+                }
+                etats.add(etat);
+            }
+            List<CompletableFuture<Analyse>> resultats = new ArrayList<>(etats.size());
+            for (EtatJeu etat : etats) {
+                resultats.add(soumettre(etat, niveau, temps, profondeur));
+            }
+
+            StringBuilder json = new StringBuilder("[");
+            for (int i = 0; i < notations.size(); i++) {
+                Analyse analyse = attendre(resultats.get(i));
+                json.append(i == 0 ? "" : ",")
+                    .append("{\"position\":\"").append(echapper(notations.get(i)))
+                    .append("\",\"case\":").append(analyse.getCoup().getCase())
+                    .append(",\"piece\":").append(analyse.getCoup().getPiece())
+                    .append(",\"score\":").append(analyse.getScore())
+                    .append(",\"profondeur\":").append(analyse.getProfondeur())
+                    .append(",\"noeuds\":").append(analyse.getNoeuds())
+                    .append(",\"duree\":").append(analyse.getDuree()).append('}');
+            }
+            repondre(echange, 200, json.append(']').toString());
+        } catch (IllegalArgumentException e) {
+            repondre(echange, 400, "{\"erreur\":\"" + echapper(e.getMessage()) + "\"}");
+        } catch (RuntimeException e) {
+            repondre(echange, 500, "{\"erreur\":\"" + echapper("Échec de l'analyse : " + e) + "\"}");
+        } finally {
+            echange.close();
+        }
+    }
+
+    /**
+     * Traite une requête {@code /statistiques}.
+     *
+     * @param echange L'échange HTTP.
+     * @throws IOException en cas d'erreur de communication.
+     */
+    private void traiterStatistiques(HttpExchange echange) throws IOException {
+        try {
+            if (!verifier(echange, "GET")) {
+                return;
+            }
+            TableTransposition table = analyseur.getTable();
+            repondre(echange, 200, "{\"requetes\":" + requetesRecues.sum()
+                + ",\"analyses\":" + analyses.sum()
+                + ",\"mutualisees\":" + mutualisees.sum()
+                + ",\"enCours\":" + enCours.size()
+                + ",\"table\":{\"capacite\":" + table.getCapacite()
+                + ",\"succes\":" + table.getSucces()
+                + ",\"echecs\":" + table.getEchecs()
+                + ",\"ecritures\":" + table.getEcritures() + "}}");
+        } finally {
+            echange.close();
+        }
+    }
+
+    /**
+     * Soumet l'analyse d'une position au pool partagé, ou retourne l'analyse identique déjà en cours.
+     *
+     * @param etat       La position.
+     * @param niveau     Le niveau de la stratégie.
+     * @param temps      Le temps d'analyse, en millisecondes.
+     * @param profondeur La profondeur maximale.
+     * @return Le résultat à venir de l'analyse.
+     */
+    private CompletableFuture<Analyse> soumettre(EtatJeu etat, int niveau, long temps, int profondeur) {
+        String cle = etat.versNotation() + '|' + niveau + '|' + temps + '|' + profondeur;
+        CompletableFuture<Analyse> resultat = new CompletableFuture<>();
+        CompletableFuture<Analyse> existant = enCours.putIfAbsent(cle, resultat);
+        if (existant != null) {
+            mutualisees.increment();
+            return existant;
+        }
+
+        analyses.increment();
+        try {
+            travailleurs.execute(() -> {
+                try {
+                    resultat.complete(analyseur.analyser(etat, temps, profondeur));
+                } catch (RuntimeException e) {
+                    resultat.completeExceptionally(e);
+                } finally {
+                    enCours.remove(cle, resultat);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            enCours.remove(cle, resultat);
+            resultat.completeExceptionally(new IllegalStateException("Le serveur est arrêté."));
+        }
+        return resultat;
+    }
+
+    /**
+     * Attend le résultat d'une analyse.
+     *
+     * @param resultat Le résultat à venir.
+     * @return L'analyse.
+     * @throws IllegalArgumentException si la position ou les paramètres de l'analyse sont invalides.
+     * @throws IllegalStateException    si l'analyse a échoué pour une autre raison ou a été interrompue.
+     */
+    private static Analyse attendre(CompletableFuture<Analyse> resultat) {
+        try {
+            return resultat.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Analyse interrompue.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Vérifie l'origine et la méthode d'une requête, et répond en cas de refus.
+     *
+     * @param echange L'échange HTTP.
+     * @param methode La méthode attendue.
+     * @return {@code true} si la requête peut être traitée.
+     * @throws IOException en cas d'erreur de communication.
+     */
+    private static boolean verifier(HttpExchange echange, String methode) throws IOException {
+        if (!echange.getRemoteAddress().getAddress().isLoopbackAddress()) {
+            repondre(echange, 403, "{\"erreur\":\"Accès réservé à la machine locale.\"}");
+            return false;
+        }
+        if (!methode.equals(echange.getRequestMethod())) {
+            echange.getResponseHeaders().set("Allow", methode);
+            repondre(echange, 405, "{\"erreur\":\"Méthode attendue : " + methode + "\"}");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Lit les positions du corps d'une requête : une par ligne, les lignes vides étant ignorées.
+     *
+     * @param corps Le corps de la requête.
+     * @return Les notations lues.
+     * @throws IOException              en cas d'erreur de lecture.
+     * @throws IllegalArgumentException s'il n'y a aucune position ou trop de positions.
+     */
+    private static List<String> lireNotations(InputStream corps) throws IOException {
+        List<String> notations = new ArrayList<>();
+        BufferedReader lecteur = new BufferedReader(new InputStreamReader(corps, StandardCharsets.UTF_8));
+        for (String ligne = lecteur.readLine(); ligne != null; ligne = lecteur.readLine()) {
+            if (!ligne.trim().isEmpty()) {
+                notations.add(ligne.trim());
+            }
+            if (notations.size() > POSITIONS_MAX) {
+                throw new IllegalArgumentException("Au plus " + POSITIONS_MAX + " positions par requête.");
+            }
+        }
+        if (notations.isEmpty()) {
+            throw new IllegalArgumentException("Aucune position à analyser.");
+        }
+        return notations;
+    }
+
+    /**
+     * Lit les paramètres d'une requête de la forme {@code nom=valeur&...}.
+     *
+     * @param requete La chaîne de requête, éventuellement {@code null}.
+     * @return Les valeurs indexées par nom.
+     */
+    private static Map<String, String> lireParametres(String requete) {
+        Map<String, String> parametres = new HashMap<>();
+        if (requete != null) {
+            for (String parametre : requete.split("&")) {
+                int egal = parametre.indexOf('=');
+                if (egal > 0) {
+                    parametres.put(parametre.substring(0, egal), parametre.substring(egal + 1));
+                }
+            }
+        }
+        return parametres;
+    }
+
+    /**
+     * Lit un paramètre entier strictement positif.
+     *
+     * @param parametres Les paramètres de la requête.
+     * @param nom        Le nom du paramètre.
+     * @param defaut     La valeur par défaut.
+     * @param max        La valeur maximale.
+     * @return La valeur lue.
+     * @throws IllegalArgumentException si la valeur n'est pas un entier compris entre 1 et {@code max}.
+     */
+    private static long lireEntier(Map<String, String> parametres, String nom, long defaut, long max) {
+        String valeur = parametres.get(nom);
+        if (valeur == null) {
+            return defaut;
+        }
+        try {
+            long entier = Long.parseLong(valeur);
+            if (entier >= 1 && entier <= max) {
+                return entier;
+            }
+        } catch (NumberFormatException e) {
+            // Signalé ci-dessous
+        }
+        throw new IllegalArgumentException("Paramètre " + nom + " invalide (1 à " + max + ") : " + valeur);
+    }
+
+    /**
+     * Envoie une réponse JSON.
+     *
+     * @param echange L'échange HTTP.
+     * @param statut  Le code de statut.
+     * @param json    Le corps de la réponse.
+     * @throws IOException en cas d'erreur de communication.
+     */
+    private static void repondre(HttpExchange echange, int statut, String json) throws IOException {
+        byte[] octets = json.getBytes(StandardCharsets.UTF_8);
+        echange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        echange.sendResponseHeaders(statut, octets.length);
+        try (OutputStream sortie = echange.getResponseBody()) {
+            sortie.write(octets);
+        }
+    }
+
+    /**
+     * Échappe une chaîne pour l'insérer dans une chaîne JSON.
+     *
+     * @param texte Le texte.
+     * @return Le texte échappé.
+     */
+    private static String echapper(String texte) {
+        StringBuilder echappe = new StringBuilder();
+        for (char c : String.valueOf(texte).toCharArray()) {
+            if (c == '"' || c == '\\') {
+                echappe.append('\\').append(c);
+            } else if (c < 0x20) {
+                echappe.append(String.format("\\u%04x", (int) c));
+            } else {
+                echappe.append(c);
+            }
+        }
+        return echappe.toString();
+    }
+}
@@ -0,0 +1,229 @@
+package fr.univrouen.outil;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Table de transposition de taille fixe de la {@link RechercheCompacte}, partageable entre recherches et threads.
+ * <p>
+ * Chaque entrée mémorise, pour l'empreinte 64 bits d'une position, la valeur trouvée, la profondeur
+ * de la recherche, le type de borne (exacte, inférieure après une coupure, supérieure si aucun coup
+ * n'a amélioré alpha) et le meilleur coup. Comme dans {@link fr.univrouen.modele.evaluation.CacheEvaluation},
+ * la table est sans verrou : chaque entrée stocke {@code cle ^ donnee}, si bien qu'une écriture
+ * concurrente incomplète est simplement vue comme une absence.
+ * </p>
+ * <p>
+ * Les entrées sont indexées directement ; une nouvelle position remplace l'ancienne, mais une même
+ * position n'est remplacée que par une recherche au moins aussi profonde. Une table ne doit être
+ * partagée que par des recherches utilisant le même évaluateur des feuilles.
+ * </p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see RechercheCompacte
+ */
+public final class TableTransposition {
+    /** Borne exacte : la valeur est celle de la position. */
+    public static final int EXACTE = 0;
+
+    /** Borne inférieure : la recherche a été coupée (valeur au moins égale). */
+    public static final int INFERIEURE = 1;
+
+    /** Borne supérieure : aucun coup n'a dépassé alpha (valeur au plus égale). */
+    public static final int SUPERIEURE = 2;
+
+    /** Valeur de {@link #lire(long)} pour une position absente. */
+    public static final long ABSENTE = 0L;
+
+    /** Bit marquant une entrée occupée dans la donnée stockée. */
+    private static final long OCCUPEE = 1L << 63;
+
+    /** Clés stockées sous la forme {@code cle ^ donnee}. */
+    private final AtomicLongArray cles;
+
+    /** Données : valeur (32 bits), profondeur (6 bits), borne (2 bits), coup + 1 (11 bits) et bit {@link #OCCUPEE}. */
+    private final AtomicLongArray donnees;
+
+    /** Masque de l'indice d'une clé. */
+    private final int masque;
+
+    /** Compteurs statistiques. */
+    private final LongAdder succes = new LongAdder(), echecs = new LongAdder(), ecritures = new LongAdder();
+
+    /**
+     * Crée une table pouvant contenir {@code capacite} positions.
+     *
+     * @param capacite Nombre d'entrées, arrondi à la puissance de deux supérieure.
+     * @throws IllegalArgumentException si la capacité n'est pas strictement positive.
+     */
+    public TableTransposition(int capacite) {
+        if (capacite <= 0) {
+            throw new IllegalArgumentException("La capacité de la table doit être strictement positive.");
+        }
+
+        int taille = Math.max(1, Integer.highestOneBit(capacite - 1) << 1);
+        this.cles = new AtomicLongArray(taille);
+        this.donnees = new AtomicLongArray(taille);
+        this.masque = taille - 1;
+    }
+
+    /**
+     * Cherche une position dans la table.
+     *
+     * @param cle L'empreinte de la position.
+     * @return La donnée de l'entrée (à lire par {@link #valeur(long)}, {@link #profondeur(long)},
+     *         {@link #borne(long)} et {@link #coup(long)}), ou {@link #ABSENTE}.
+     */
+    public long lire(long cle) {
+        int i = indice(cle);
+        long donnee = donnees.get(i);
+        if (donnee != ABSENTE && (cles.get(i) ^ donnee) == cle) {
+            succes.increment();
+            return donnee;
+        }
+        echecs.increment();
+        return ABSENTE;
+    }
+
+    /**
+     * Mémorise le résultat de la recherche d'une position.
+     *
+     * @param cle        L'empreinte de la position.
+     * @param valeur     La valeur trouvée.
+     * @param profondeur La profondeur de la recherche (0 à 63).
+     * @param borne      Le type de borne ({@link #EXACTE}, {@link #INFERIEURE} ou {@link #SUPERIEURE}).
+     * @param coup       Le meilleur coup, ou -1.
+     */
+    public void ecrire(long cle, int valeur, int profondeur, int borne, int coup) {
+        int i = indice(cle);
+        long ancienne = donnees.get(i);
+        if (ancienne != ABSENTE && (cles.get(i) ^ ancienne) == cle && profondeur(ancienne) > profondeur) {
+            return; // Même position, déjà cherchée plus profondément
+        }
+
+        long donnee = OCCUPEE | (long) ((coup + 1) & 0x7FF) << 40 | (long) (borne & 3) << 38
+            | (long) (profondeur & 0x3F) << 32 | (valeur & 0xFFFFFFFFL);
+        donnees.set(i, donnee);
+        cles.set(i, cle ^ donnee);
+        ecritures.increment();
+    }
+
+    /**
+     * Retourne la valeur d'une entrée.
+     *
+     * @param donnee La donnée lue.
+     * @return La valeur.
+     */
+    public static int valeur(long donnee) {
+        return (int) donnee;
+    }
+
+    /**
+     * Retourne la profondeur de recherche d'une entrée.
+     *
+     * @param donnee La donnée lue.
+     * @return La profondeur.
+     */
+    public static int profondeur(long donnee) {
+        return (int) (donnee >>> 32) & 0x3F;
+    }
+
+    /**
+     * Retourne le type de borne d'une entrée.
+     *
+     * @param donnee La donnée lue.
+     * @return {@link #EXACTE}, {@link #INFERIEURE} ou {@link #SUPERIEURE}.
+     */
+    public static int borne(long donnee) {
+        return (int) (donnee >>> 38) & 3;
+    }
+
+    /**
+     * Retourne le meilleur coup d'une entrée.
+     *
+     * @param donnee La donnée lue.
+     * @return Le coup, ou -1.
+     */
+    public static int coup(long donnee) {
+        return (int) (donnee >>> 40 & 0x7FF) - 1;
+    }
+
+    /**
+     * Calcule l'indice d'une clé en mélangeant ses bits.
+     *
+     * @param cle L'empreinte de la position.
+     * @return L'indice de l'entrée.
+     */
+    private int indice(long cle) {
+        long melange = cle * 0x9E3779B97F4A7C15L;
+        return (int) (melange >>> 32) & masque;
+    }
+
+    /**
+     * Vide la table et remet les compteurs à zéro.
+     * <p>Ne doit pas être appelé pendant une recherche.</p>
+     */
+    public void vider() {
+        for (int i = 0; i < donnees.length(); i++) {
+            donnees.set(i, ABSENTE);
+            cles.set(i, 0);
+        }
+        succes.reset();
+        echecs.reset();
+        ecritures.reset();
+    }
+
+    /**
+     * Retourne le nombre d'entrées de la table.
+     *
+     * @return La capacité effective.
+     */
+    public int getCapacite() {
+        return donnees.length();
+    }
+
+    /**
+     * Retourne le nombre de positions trouvées dans la table.
+     *
+     * @return Le nombre de succès.
+     */
+    public long getSucces() {
+        return succes.sum();
+    }
+
+    /**
+     * Retourne le nombre de positions absentes de la table.
+     *
+     * @return Le nombre d'échecs.
+     */
+    public long getEchecs() {
+        return echecs.sum();
+    }
+
+    /**
+     * Retourne le nombre d'entrées écrites.
+     *
+     * @return Le nombre d'écritures.
+     */
+    public long getEcritures() {
+        return ecritures.sum();
+    }
+
+    /**
+     * Retourne la proportion de consultations servies par la table.
+     *
+     * @return Le taux de succès entre 0.0 et 1.0 (0.0 si la table n'a jamais été consultée).
+     */
+    public double getTauxSucces() {
+        long s = getSucces();
+        long total = s + getEchecs();
+        return total == 0 ? 0.0 : (double) s / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TableTransposition{capacite=%d, succes=%d, echecs=%d, ecritures=%d, taux=%.1f%%}",
+            getCapacite(), getSucces(), getEchecs(), getEcritures(), 100 * getTauxSucces());
+    }
+}
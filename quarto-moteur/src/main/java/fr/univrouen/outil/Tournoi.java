@@ -0,0 +1,406 @@
+package fr.univrouen.outil;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.EtatJeu;
+import fr.univrouen.modele.jeu.partie.strategie.Strategies;
+import fr.univrouen.modele.joueur.ia.IA;
+import fr.univrouen.modele.joueur.ia.JoueurIA;
+import fr.univrouen.modele.moteur.MoteurPartie;
+import fr.univrouen.modele.moteur.ResultatPartie;
+import fr.univrouen.modele.temps.Pendule;
+
+/**
+ * Tournoi sans interface graphique entre IA, pour chaque niveau de {@link Strategies}.
+ * <p>
+ * Les participants sont les combinaisons d'une {@link IA} et d'un temps de réflexion : profondeur fixe,
+ * celle de l'algorithme ou une profondeur imposée, ou pendule de {@code N} millisecondes par partie
+ * (perdre au temps compte comme une défaite).
+ * Chaque paire de participants s'affronte en toutes rondes, à chaque niveau, sur des ouvertures aléatoires
+ * de {@value #TOURS_OUVERTURE} tours : chaque ouverture est jouée deux fois, en alternant le premier joueur.
+ * Les parties sont réparties sur un pool à vol de tâches ; avec des pendules, le temps de chaque IA dépend
+ * donc de la charge des autres threads.
+ * </p>
+ * <p>
+ * Le bilan donne, pour chaque niveau puis tous niveaux confondus, les victoires, nulles et défaites
+ * de chaque participant, son {@linkplain BilanParticipant Elo} avec sa marge d'erreur, son temps moyen
+ * par coup et son nombre de nœuds par seconde, en CSV ou en JSON.
+ * </p>
+ *
+ * <p>Options :</p>
+ * <ul>
+ *   <li>{@code --ia LISTE} : IA participantes (défaut : toutes, par exemple {@code MINIMAX,NEGA_BETA}) ;</li>
+ *   <li>{@code --temps LISTE} : temps par partie en millisecondes, {@code 0} pour la profondeur fixe (défaut : {@code 0}) ;</li>
+ *   <li>{@code --profondeur LISTE} : profondeurs fixes en demi-coups, {@code 0} pour celle de l'algorithme (défaut : {@code 0}) ;</li>
+ *   <li>{@code --niveaux LISTE} : niveaux de stratégie (défaut : {@code 1,2,3,4}) ;</li>
+ *   <li>{@code --parties N} : parties par paire et par niveau, arrondi au nombre pair supérieur (défaut : 10) ;</li>
+ *   <li>{@code --threads N} : threads du pool (défaut : nombre de cœurs) ;</li>
+ *   <li>{@code --graine N} : graine des ouvertures (défaut : 1) ;</li>
+ *   <li>{@code --format csv|json} : format du bilan (défaut : {@code csv}) ;</li>
+ *   <li>{@code --sortie FICHIER} : fichier du bilan (défaut : sortie standard).</li>
+ * </ul>
+ *
+ * <p>Exemple : {@code mvn -pl quarto-moteur -Ptournoi exec:java -Dexec.args="--temps 0,2000 --parties 20 --format json"}</p>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.2
+ * @since JDK 17
+ * @see BilanParticipant
+ * @see MoteurPartie
+ */
+public final class Tournoi {
+    /** Nombre de tours joués au hasard au début de chaque partie. */
+    private static final int TOURS_OUVERTURE = 2;
+
+    /** Un participant : une IA, à profondeur fixe ou avec une pendule. */
+    static final class Participant {
+        /** L'algorithme. */
+        final IA ia;
+
+        /** Le temps par partie, en millisecondes, ou 0 pour la profondeur fixe. */
+        final long temps;
+
+        /** La profondeur fixe, en demi-coups, ou 0 pour celle de l'algorithme. */
+        final int profondeur;
+
+        /**
+         * Crée un participant, à la profondeur de son algorithme s'il n'a pas de pendule.
+         *
+         * @param ia    L'algorithme.
+         * @param temps Le temps par partie, en millisecondes, ou 0 pour la profondeur fixe.
+         * @throws IllegalArgumentException si l'IA est {@code null} ou si le temps est négatif.
+         */
+        Participant(IA ia, long temps) {
+            this(ia, temps, 0);
+        }
+
+        /**
+         * Crée un participant.
+         *
+         * @param ia         L'algorithme.
+         * @param temps      Le temps par partie, en millisecondes, ou 0 pour la profondeur fixe.
+         * @param profondeur La profondeur fixe, en demi-coups, ou 0 pour celle de l'algorithme ; 0 avec une pendule.
+         * @throws IllegalArgumentException si l'IA est {@code null}, si le temps ou la profondeur est négatif,
+         *                                  ou si une profondeur est donnée avec une pendule.
+         */
+        Participant(IA ia, long temps, int profondeur) {
+            if (ia == null || temps < 0 || profondeur < 0 || temps > 0 && profondeur > 0) {
+                throw new IllegalArgumentException("Participant invalide : " + ia + ", " + temps + " ms, profondeur " + profondeur);
+            }
+            this.ia = ia;
+            this.temps = temps;
+            this.profondeur = profondeur;
+        }
+
+        /**
+         * Crée l'IA du participant pour une partie.
+         *
+         * @return Une nouvelle IA, avec sa pendule s'il y a lieu.
+         */
+        JoueurIA creer() {
+            JoueurIA joueur = OutilsLigneCommande.MAP_IA.get(ia).get();
+            if (temps > 0) {
+                joueur.setPendule(new Pendule(temps, 0));
+            }
+            joueur.setProfondeur(profondeur);
+            return joueur;
+        }
+
+        @Override
+        public String toString() {
+            if (temps > 0) return ia.name() + "@" + temps + "ms";
+            return (profondeur == 0) ? ia.name() : ia.name() + "@p" + profondeur;
+        }
+    }
+
+    /** Mesures d'une partie jouée. */
+    private static final class PartieJouee {
+        /** Indice du niveau de stratégie dans le tournoi. */
+        int niveau;
+
+        /** Indices des participants, dans l'ordre de jeu. */
+        final int[] participants = new int[2];
+
+        /** Score du premier joueur. */
+        double scorePremier;
+
+        /** Temps de réflexion, coups décidés et nœuds visités de chaque joueur. */
+        final long[] nanos = new long[2], coups = new long[2], noeuds = new long[2];
+    }
+
+    /** Les participants. */
+    private final List<Participant> participants;
+
+    /** Les niveaux de stratégie. */
+    private final List<Strategies> niveaux;
+
+    /** Nombre de parties par paire et par niveau (pair). */
+    private final int parties;
+
+    /** Graine des ouvertures. */
+    private final long graine;
+
+    /**
+     * Crée un tournoi.
+     *
+     * @param participants Les participants, au moins deux.
+     * @param niveaux      Les niveaux de stratégie, au moins un.
+     * @param parties      Le nombre de parties par paire et par niveau, arrondi au nombre pair supérieur.
+     * @param graine       La graine des ouvertures.
+     * @throws IllegalArgumentException si un paramètre est invalide.
+     */
+    Tournoi(List<Participant> participants, List<Strategies> niveaux, int parties, long graine) {
+        if (participants.size() < 2 || niveaux.isEmpty() || parties <= 0) {
+            throw new IllegalArgumentException("Il faut au moins deux participants, un niveau et une partie.");
+        }
+        this.participants = new ArrayList<>(participants);
+        this.niveaux = new ArrayList<>(niveaux);
+        this.parties = parties + (parties & 1);
+        this.graine = graine;
+    }
+
+    /**
+     * Point d'entrée de l'outil.
+     *
+     * @param args Les options de la ligne de commande.
+     * @throws IOException en cas d'erreur d'écriture du bilan.
+     * @throws InterruptedException si l'attente des parties est interrompue.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options;
+        Tournoi tournoi;
+        int threads;
+        String format;
+        try {
+            options = OutilsLigneCommande.lireOptions(args,
+                "ia", "temps", "profondeur", "niveaux", "parties", "threads", "graine", "format", "sortie");
+
+            List<Participant> participants = new ArrayList<>();
+            for (String nom : options.getOrDefault("ia", "MINIMAX,ALPHA_BETA,NEGAMAX,NEGA_BETA").split(",")) {
+                IA ia = IA.valueOf(nom.trim().toUpperCase(Locale.ROOT));
+                for (String texte : options.getOrDefault("temps", "0").split(",")) {
+                    long temps = Long.parseLong(texte.trim());
+                    if (temps > 0) {
+                        participants.add(new Participant(ia, temps));
+                        continue;
+                    }
+                    // La profondeur ne s'applique qu'aux participants sans pendule
+                    for (String profondeur : options.getOrDefault("profondeur", "0").split(",")) {
+                        participants.add(new Participant(ia, 0, Integer.parseInt(profondeur.trim())));
+                    }
+                }
+            }
+            List<Strategies> niveaux = new ArrayList<>();
+            for (String niveau : options.getOrDefault("niveaux", "1,2,3,4").split(",")) {
+                niveaux.add(OutilsLigneCommande.strategie(Integer.parseInt(niveau.trim())));
+            }
+
+            tournoi = new Tournoi(participants, niveaux, Integer.parseInt(options.getOrDefault("parties", "10")),
+                Long.parseLong(options.getOrDefault("graine", "1")));
+            threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+            format = options.getOrDefault("format", "csv");
+            if (threads <= 0 || !format.equals("csv") && !format.equals("json")) {
+                throw new IllegalArgumentException("Nombre de threads ou format invalide.");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage : Tournoi [--ia LISTE] [--temps LISTE] [--profondeur LISTE] [--niveaux LISTE] [--parties N]"
+                + " [--threads N] [--graine N] [--format csv|json] [--sortie FICHIER]");
+            System.exit(2);
+            return;
+        }
+
+        ExecutorService pool = Executors.newWorkStealingPool(threads);
+        long debut = System.nanoTime();
+        List<BilanParticipant> bilans;
+        try {
+            bilans = tournoi.jouer(pool);
+        } finally {
+            pool.shutdownNow();
+        }
+        System.err.printf("%d parties en %.1f s sur %d threads%n", tournoi.getNombreParties(),
+            (System.nanoTime() - debut) / 1e9, threads);
+
+        String bilan = format.equals("json") ? versJson(bilans) : versCsv(bilans);
+        if (options.containsKey("sortie")) {
+            Files.write(Paths.get(options.get("sortie")), bilan.getBytes(StandardCharsets.UTF_8));
+        } else {
+            System.out.print(bilan);
+        }
+    }
+
+    /**
+     * Retourne le nombre total de parties du tournoi.
+     *
+     * @return Le nombre de parties.
+     */
+    int getNombreParties() {
+        int n = participants.size();
+        return niveaux.size() * n * (n - 1) / 2 * parties;
+    }
+
+    /**
+     * Joue toutes les parties du tournoi sur un pool de threads.
+     *
+     * @param pool Le pool, de préférence à vol de tâches.
+     * @return Les bilans de chaque participant pour chaque niveau, puis tous niveaux confondus.
+     * @throws InterruptedException si l'attente des parties est interrompue.
+     * @throws IllegalArgumentException si une partie a échoué.
+     */
+    List<BilanParticipant> jouer(ExecutorService pool) throws InterruptedException {
+        List<Future<PartieJouee>> resultats = new ArrayList<>(getNombreParties());
+        for (int niveau = 0; niveau < niveaux.size(); niveau++) {
+            for (int a = 0; a < participants.size(); a++) {
+                for (int b = a + 1; b < participants.size(); b++) {
+                    for (int partie = 0; partie < parties; partie++) {
+                        // Chaque ouverture est jouée deux fois, en alternant le premier joueur
+                        int premier = (partie % 2 == 0) ? a : b;
+                        int second = a + b - premier;
+                        int n = niveau;
+                        long graineOuverture = graine + partie / 2;
+                        resultats.add(pool.submit(() -> jouerPartie(n, premier, second, graineOuverture)));
+                    }
+                }
+            }
+        }
+
+        BilanParticipant[][] bilans = new BilanParticipant[niveaux.size() + 1][participants.size()];
+        for (int niveau = 0; niveau <= niveaux.size(); niveau++) {
+            for (int i = 0; i < participants.size(); i++) {
+                Integer numero = (niveau < niveaux.size()) ? niveaux.get(niveau).ordinal() + 1 : null;
+                bilans[niveau][i] = new BilanParticipant(numero, participants.get(i).toString());
+            }
+        }
+
+        for (Future<PartieJouee> resultat : resultats) {
+            PartieJouee partie;
+            try {
+                partie = resultat.get();
+            } catch (ExecutionException e) {
+                throw new IllegalArgumentException("Partie en échec : " + e.getCause(), e.getCause());
+            }
+            for (int rang = 0; rang < 2; rang++) {
+                double score = (rang == 0) ? partie.scorePremier : 1 - partie.scorePremier;
+                for (BilanParticipant[] bilansNiveau : new BilanParticipant[][] { bilans[partie.niveau], bilans[niveaux.size()] }) {
+                    bilansNiveau[partie.participants[rang]].ajouter(score, partie.nanos[rang], partie.coups[rang], partie.noeuds[rang]);
+                }
+            }
+        }
+
+        List<BilanParticipant> liste = new ArrayList<>();
+        for (BilanParticipant[] bilansNiveau : bilans) {
+            liste.addAll(Arrays.asList(bilansNiveau));
+        }
+        return liste;
+    }
+
+    /**
+     * Joue une partie entre deux participants, après une ouverture aléatoire.
+     *
+     * @param niveau          L'indice du niveau de stratégie.
+     * @param premier         L'indice du participant qui commence.
+     * @param second          L'indice de son adversaire.
+     * @param graineOuverture La graine de l'ouverture.
+     * @return Les mesures de la partie.
+     */
+    private PartieJouee jouerPartie(int niveau, int premier, int second, long graineOuverture) {
+        JoueurIA[] joueurs = { participants.get(premier).creer(), participants.get(second).creer() };
+        MoteurPartie moteur = new MoteurPartie(joueurs[0], joueurs[1],
+            OutilsLigneCommande.MAP_STRATEGIE.get(niveaux.get(niveau)).get());
+        PartieJouee partie = new PartieJouee();
+        partie.niveau = niveau;
+        partie.participants[0] = premier;
+        partie.participants[1] = second;
+
+        SplittableRandom aleatoire = new SplittableRandom(graineOuverture);
+        for (int tour = 0; tour < TOURS_OUVERTURE; tour++) {
+            moteur.jouer(coupAleatoire(moteur.getJeu().versEtat(), aleatoire));
+        }
+
+        int perdantAuTemps = -1;
+        while (!moteur.estTerminee()) {
+            // Le trait ne change qu'au don : c'est celui du joueur qui décide
+            int trait = moteur.getJeu().getTrait();
+            long debut = System.nanoTime();
+            moteur.avancer();
+            partie.nanos[trait] += System.nanoTime() - debut;
+            partie.coups[trait]++;
+
+            Pendule pendule = joueurs[trait].getPendule();
+            if (pendule != null && pendule.estTombee()) {
+                perdantAuTemps = trait;
+                break;
+            }
+        }
+
+        ResultatPartie resultat = moteur.getResultat();
+        if (perdantAuTemps >= 0) {
+            partie.scorePremier = (perdantAuTemps == 0) ? 0 : 1;
+        } else {
+            partie.scorePremier = resultat.estNulle() ? 0.5 : (resultat.getIndiceGagnant() == 0 ? 1 : 0);
+        }
+        for (int rang = 0; rang < 2; rang++) {
+            partie.noeuds[rang] = joueurs[rang].getNoeudsVisites();
+        }
+        return partie;
+    }
+
+    /**
+     * Tire un coup au hasard : un don au premier tour, sinon un placement suivi d'un don.
+     *
+     * @param etat      L'état de la partie.
+     * @param aleatoire Le générateur aléatoire.
+     * @return Le coup tiré.
+     */
+    private static Coup coupAleatoire(EtatJeu etat, SplittableRandom aleatoire) {
+        if (etat.getPieceEnMain() == EtatJeu.AUCUNE_PIECE) {
+            return Coup.get(Coup.AUCUN, OutilsLigneCommande.tirer(etat.getRestantes(), aleatoire));
+        }
+        int index = OutilsLigneCommande.tirer(~etat.getOccupation() & 0xFFFF, aleatoire);
+        EtatJeu apres = etat.placer(index);
+        return Coup.get(index, apres.estTerminee() ? Coup.AUCUN : OutilsLigneCommande.tirer(apres.getRestantes(), aleatoire));
+    }
+
+    /**
+     * Écrit les bilans en CSV, une ligne par participant et par niveau ({@code tous} pour l'ensemble).
+     *
+     * @param bilans Les bilans.
+     * @return Le CSV, avec sa ligne d'en-tête.
+     */
+    static String versCsv(List<BilanParticipant> bilans) {
+        StringBuilder csv = new StringBuilder(
+            "niveau,participant,parties,victoires,nulles,defaites,score,elo,erreur_elo,temps_moyen_ms,noeuds_par_seconde\n");
+        for (BilanParticipant bilan : bilans) {
+            csv.append(String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%.4f,%.1f,%.1f,%.3f,%.0f%n",
+                bilan.getNiveau() == null ? "tous" : bilan.getNiveau(), bilan.getParticipant(), bilan.getParties(),
+                bilan.getVictoires(), bilan.getNulles(), bilan.getDefaites(), bilan.getScore(), bilan.getElo(),
+                bilan.getErreurElo(), bilan.getTempsMoyen(), bilan.getNoeudsParSeconde()));
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Écrit les bilans en JSON : un tableau d'objets ({@code "niveau": null} pour l'ensemble).
+     *
+     * @param bilans Les bilans.
+     * @return Le JSON.
+     */
+    static String versJson(List<BilanParticipant> bilans) {
+        StringJoiner json = new StringJoiner(",\n  ", "[\n  ", "\n]\n");
+        for (BilanParticipant bilan : bilans) {
+            json.add(String.format(Locale.ROOT, "{\"niveau\":%s,\"participant\":\"%s\",\"parties\":%d,\"victoires\":%d,"
+                + "\"nulles\":%d,\"defaites\":%d,\"score\":%.4f,\"elo\":%.1f,\"erreurElo\":%.1f,"
+                + "\"tempsMoyenMs\":%.3f,\"noeudsParSeconde\":%.0f}",
+                bilan.getNiveau(), bilan.getParticipant(), bilan.getParties(), bilan.getVictoires(), bilan.getNulles(),
+                bilan.getDefaites(), bilan.getScore(), bilan.getElo(), bilan.getErreurElo(), bilan.getTempsMoyen(),
+                bilan.getNoeudsParSeconde()));
+        }
+        return json.toString();
+    }
+}
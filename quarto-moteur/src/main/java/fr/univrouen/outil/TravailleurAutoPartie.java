@@ -0,0 +1,132 @@
+package fr.univrouen.outil;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Travailleur de l'auto-apprentissage distribué, sans interface graphique.
+ * <p>
+ * Le travailleur se connecte à un {@link CoordinateurAutoPartie coordinateur}, qui lui indique les paramètres
+ * des parties, puis lui demande des lots jusqu'à ce qu'il n'en reste plus. Chaque lot est joué en parallèle
+ * sur le nombre de threads demandé et ses positions sont renvoyées dans l'ordre des graines.
+ * Le coordinateur lance lui-même ses travailleurs locaux ; cet outil sert à en ajouter depuis d'autres machines.
+ * </p>
+ *
+ * <p>Options :</p>
+ * <ul>
+ *   <li>{@code --hote HOTE} : adresse du coordinateur (défaut : adresse de bouclage) ;</li>
+ *   <li>{@code --port N} : port du coordinateur (obligatoire) ;</li>
+ *   <li>{@code --threads N} : threads de jeu (défaut : nombre de cœurs).</li>
+ * </ul>
+ *
+ * @author Matisse SENECHAL
+ * @version 1.0
+ * @since JDK 17
+ * @see CoordinateurAutoPartie
+ */
+public final class TravailleurAutoPartie {
+    /**
+     * Classe utilitaire : pas d'instanciation.
+     */
+    private TravailleurAutoPartie() {}
+
+    /**
+     * Point d'entrée de l'outil.
+     *
+     * @param args Les options de la ligne de commande.
+     * @throws IOException si la connexion au coordinateur échoue ou est perdue.
+     * @throws InterruptedException si le travailleur est interrompu.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options;
+        int port;
+        int threads;
+        try {
+            options = OutilsLigneCommande.lireOptions(args, "hote", "port", "threads");
+            if (!options.containsKey("port")) {
+                throw new IllegalArgumentException("Le port du coordinateur est obligatoire.");
+            }
+            port = Integer.parseInt(options.get("port"));
+            threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+            if (port <= 0 || port > 0xFFFF || threads <= 0) {
+                throw new IllegalArgumentException("Port ou nombre de threads invalide.");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage : TravailleurAutoPartie --port N [--hote HOTE] [--threads N]");
+            System.exit(2);
+            return;
+        }
+
+        travailler(options.getOrDefault("hote", InetAddress.getLoopbackAddress().getHostAddress()), port, threads);
+    }
+
+    /**
+     * Joue les lots prêtés par un coordinateur jusqu'à ce qu'il n'en reste plus.
+     *
+     * @param hote    L'adresse du coordinateur.
+     * @param port    Le port du coordinateur.
+     * @param threads Le nombre de threads de jeu.
+     * @return Le nombre de lots joués.
+     * @throws IOException si la connexion échoue ou est perdue.
+     * @throws InterruptedException si le travailleur est interrompu.
+     */
+    static int travailler(String hote, int port, int threads) throws IOException, InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try (Socket socket = new Socket(hote, port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream entree = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream sortie = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            sortie.writeInt(CoordinateurAutoPartie.SIGNATURE);
+            sortie.flush();
+
+            int niveau = entree.readInt();
+            double exploration = entree.readDouble();
+            int recherche = entree.readInt();
+            AutoPartie autoPartie = new AutoPartie(
+                OutilsLigneCommande.motifs(OutilsLigneCommande.strategie(niveau)), exploration, recherche);
+
+            int lots = 0;
+            while (true) {
+                sortie.writeByte(CoordinateurAutoPartie.DEMANDE);
+                sortie.flush();
+                byte reponse = entree.readByte();
+                if (reponse == CoordinateurAutoPartie.FIN) {
+                    return lots;
+                }
+                if (reponse == CoordinateurAutoPartie.ATTENTE) {
+                    Thread.sleep(entree.readInt());
+                    continue;
+                }
+                if (reponse != CoordinateurAutoPartie.LOT) {
+                    throw new IOException("Réponse inconnue du coordinateur : " + reponse);
+                }
+
+                int lot = entree.readInt();
+                long graine = entree.readLong();
+                int parties = entree.readInt();
+                // Un flux parallèle lancé depuis le pool s'exécute sur ses threads
+                List<Echantillon> echantillons;
+                try {
+                    echantillons = pool.submit(() -> OutilsLigneCommande.generer(autoPartie, parties, graine)).get();
+                } catch (ExecutionException e) {
+                    throw new IOException("Échec du lot " + lot, e.getCause());
+                }
+
+                sortie.writeByte(CoordinateurAutoPartie.RESULTAT);
+                sortie.writeInt(lot);
+                sortie.writeInt(echantillons.size());
+                for (Echantillon e : echantillons) {
+                    e.ecrire(sortie);
+                }
+                lots++;
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
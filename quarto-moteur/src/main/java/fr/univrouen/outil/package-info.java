@@ -0,0 +1,30 @@
+/**
+ * Outils en ligne de commande, sans interface graphique, destinés au réglage des IA.
+ * <p>
+ * Ces outils génèrent des parties d'auto-apprentissage (l'IA contre elle-même)
+ * et en tirent les paramètres de l'évaluation, par exemple les poids de l'heuristique
+ * ou le réseau d'évaluation, qu'ils permettent aussi de comparer. Le {@link fr.univrouen.outil.Tournoi tournoi}
+ * oppose les IA entre elles à chaque niveau de stratégie et estime leur Elo.
+ * </p>
+ * <p>
+ * Le {@link fr.univrouen.outil.ServeurAnalyse serveur d'analyse} expose en outre la recherche compacte
+ * par HTTP, sur la machine locale uniquement, et le {@link fr.univrouen.outil.ProtocoleMoteur protocole texte}
+ * permet à un programme de matchs de piloter des moteurs par leur entrée et leur sortie standard.
+ * </p>
+ * <p>
+ * Le {@link fr.univrouen.outil.CoordinateurAutoPartie coordinateur} répartit enfin la génération des parties
+ * d'auto-apprentissage entre plusieurs processus {@link fr.univrouen.outil.TravailleurAutoPartie travailleurs},
+ * locaux ou distants, et fusionne leurs positions dans un fichier.
+ * </p>
+ *
+ * @see fr.univrouen.outil.ReglagePoids
+ * @see fr.univrouen.outil.EntrainementReseau
+ * @see fr.univrouen.outil.BancEvaluateurs
+ * @see fr.univrouen.outil.AutoPartie
+ * @see fr.univrouen.outil.Tournoi
+ * @see fr.univrouen.outil.ServeurAnalyse
+ * @see fr.univrouen.outil.ProtocoleMoteur
+ * @see fr.univrouen.outil.CoordinateurAutoPartie
+ * @since JDK 17
+ */
+package fr.univrouen.outil;
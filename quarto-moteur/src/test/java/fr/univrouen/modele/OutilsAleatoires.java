@@ -0,0 +1,27 @@
+package fr.univrouen.modele;
+
+import java.util.Random;
+
+/**
+ * Tirages aléatoires communs aux tests du modèle.
+ */
+public final class OutilsAleatoires {
+    /**
+     * Classe utilitaire : pas d'instanciation.
+     */
+    private OutilsAleatoires() {}
+
+    /**
+     * Tire uniformément un bit à 1 d'un masque non vide.
+     *
+     * @param masque    Le masque.
+     * @param aleatoire Le générateur aléatoire.
+     * @return La position du bit tiré.
+     */
+    public static int tirer(int masque, Random aleatoire) {
+        for (int rang = aleatoire.nextInt(Integer.bitCount(masque)); rang > 0; rang--) {
+            masque &= masque - 1;
+        }
+        return Integer.numberOfTrailingZeros(masque);
+    }
+}
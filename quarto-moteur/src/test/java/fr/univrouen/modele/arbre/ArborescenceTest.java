@@ -0,0 +1,90 @@
+package fr.univrouen.modele.arbre;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.jeu.partie.*;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+import fr.univrouen.modele.joueur.ia.*;
+
+/**
+ * Classe de test pour les constructeurs d'arbre.
+ */
+public class ArborescenceTest {
+
+    /**
+     * Une victoire immédiate doit être évaluée comme un gain pour le joueur de la racine,
+     * y compris pour le second joueur d'une partie entre deux IA du même type.
+     */
+    @Test
+    void testVictoireDuJoueurRacine() {
+        Jeu jeu = partie(3);
+
+        for (Arborescence arborescence : arborescences()) {
+            NoeudArbre racine = arborescence.construireArbre(jeu, Joueur.MAX);
+            NoeudArbre fils = racine.getFilsaine();
+
+            assertEquals(3, fils.getPositionJouee().getIndex(), arborescence.getClass().getSimpleName());
+            assertEquals(Double.POSITIVE_INFINITY, fils.getHeuristique(), arborescence.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Donner une pièce gagnante doit être évalué comme une défaite pour le joueur de la racine,
+     * et aucune IA ne doit la donner.
+     */
+    @Test
+    void testPieceGagnantePourAdversaire() {
+        Jeu jeu = partie(EtatJeu.AUCUNE_PIECE);
+
+        for (Arborescence arborescence : new Arborescence[] {
+                new ArborescenceAlphaBeta(), new ArborescenceNegamax(), new ArborescenceNegaBeta() }) {
+            NoeudArbre racine = arborescence.construireArbre(jeu, Joueur.MIN);
+            NoeudArbre fils = racine.getFilsaine();
+
+            assertEquals(3, fils.getPieceDonnee().getId(), arborescence.getClass().getSimpleName());
+            assertEquals(Double.NEGATIVE_INFINITY, fils.getHeuristique(), arborescence.getClass().getSimpleName());
+        }
+
+        // Minimax évalue du point de vue de MAX, ici l'adversaire qui reçoit la pièce
+        NoeudArbre racine = new ArborescenceMinimax().construireArbre(jeu, Joueur.MIN);
+        assertEquals(Double.POSITIVE_INFINITY, racine.getFilsaine().getHeuristique());
+
+        for (JoueurIA ia : new JoueurIA[] {
+                new JoueurMinimax(), new JoueurAlphaBeta(), new JoueurNegamax(), new JoueurNegaBeta() }) {
+            Coup coup = ia.deciderCoup(JeuQuarto.depuisEtat(((JeuQuarto) jeu).versEtat(), ia, ia));
+            assertTrue(coup.getPiece() >= 12, ia.getNom() + " ne doit pas donner une pièce gagnante");
+        }
+    }
+
+    /**
+     * Construit une partie où la première ligne contient les pièces 0, 1 et 2 et où le second joueur est au trait :
+     * les pièces 0 à 11 complètent la ligne en case 3, seules les pièces 12 à 15 sont sûres.
+     *
+     * @param pieceEnMain La pièce 3 en main, ou {@link EtatJeu#AUCUNE_PIECE} s'il faut en donner une.
+     * @return La partie, entre deux IA Néga-Bêta.
+     */
+    private static Jeu partie(int pieceEnMain) {
+        long plans = 0L;
+        for (int index = 0; index < 3; index++) {
+            plans = Plateau.poserDansPlans(plans, index, index);
+        }
+        int restantes = 0xFFF0 | (pieceEnMain == 3 ? 0 : 1 << 3);
+        EtatJeu etat = EtatJeu.creer(new StrategieNiveau1(), plans, 0b111, restantes, pieceEnMain, 1);
+        JoueurIA ia = new JoueurNegaBeta();
+        return JeuQuarto.depuisEtat(etat, ia, ia);
+    }
+
+    /**
+     * Retourne une instance de chaque constructeur d'arbre.
+     *
+     * @return Les constructeurs d'arbre.
+     */
+    private static Arborescence[] arborescences() {
+        return new Arborescence[] {
+            new ArborescenceMinimax(), new ArborescenceAlphaBeta(), new ArborescenceNegamax(), new ArborescenceNegaBeta()
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package fr.univrouen.modele.evaluation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import fr.univrouen.modele.OutilsAleatoires;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+
+/**
+ * Classe de test pour la classe AccumulateurReseau.
+ */
+public class AccumulateurReseauTest {
+
+    /**
+     * Au fil d'une partie aléatoire, l'accumulateur mis à jour coup par coup
+     * (puis annulé) doit donner le même score qu'une évaluation depuis zéro.
+     */
+    @Test
+    void testMiseAJourIncrementale() {
+        Random aleatoire = new Random(30);
+        ReseauEvaluation reseau = reseauAleatoire(aleatoire, 16);
+
+        for (int partie = 0; partie < 50; partie++) {
+            AccumulateurReseau accumulateur = reseau.nouvelAccumulateur();
+            long plans = 0;
+            int occupation = 0;
+            int main = aleatoire.nextInt(16);
+            int restantes = 0xFFFF & ~(1 << main);
+            accumulateur.reinitialiser(plans, occupation, main);
+
+            while (occupation != 0xFFFF) {
+                int index = OutilsAleatoires.tirer(~occupation & 0xFFFF, aleatoire);
+
+                // Aller-retour : l'annulation rend exactement le score précédent
+                int avant = accumulateur.evaluer();
+                accumulateur.placer(index, main);
+                accumulateur.retirer(index, main);
+                assertEquals(avant, accumulateur.evaluer());
+
+                accumulateur.placer(index, main);
+                plans = Plateau.poserDansPlans(plans, index, main);
+                occupation |= 1 << index;
+                main = Evaluateur.AUCUNE_PIECE;
+                assertEquals(reseau.evaluer(plans, occupation, main), accumulateur.evaluer());
+
+                if (restantes != 0) {
+                    main = OutilsAleatoires.tirer(restantes, aleatoire);
+                    restantes &= ~(1 << main);
+                    accumulateur.donner(main);
+                    assertEquals(reseau.evaluer(plans, occupation, main), accumulateur.evaluer());
+                }
+            }
+        }
+    }
+
+    /**
+     * Un réseau sauvegardé puis relu doit être identique à l'original.
+     *
+     * @param dossier Le dossier temporaire du test.
+     * @throws IOException en cas d'erreur d'écriture ou de lecture.
+     */
+    @Test
+    void testSauvegardeEtChargement(@TempDir Path dossier) throws IOException {
+        ReseauEvaluation reseau = reseauAleatoire(new Random(31), 8);
+        Path fichier = dossier.resolve("reseau.bin");
+
+        reseau.sauvegarder(fichier);
+        ReseauEvaluation relu = ReseauEvaluation.charger(fichier);
+
+        assertEquals(reseau.getCachees(), relu.getCachees());
+        assertEquals(reseau.getEmpreinte(), relu.getEmpreinte());
+        assertEquals(reseau.evaluer(0L, 0, 5), relu.evaluer(0L, 0, 5));
+    }
+
+    /**
+     * Des dimensions incohérentes doivent être refusées.
+     */
+    @Test
+    void testDimensionsInvalides() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new ReseauEvaluation(new short[10], new short[4], new byte[4], 0, 64));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ReseauEvaluation(new short[ReseauEvaluation.ENTREES * 4], new short[4], new byte[3], 0, 64));
+    }
+
+    /**
+     * Crée un réseau quantifié à partir de poids réels aléatoires.
+     *
+     * @param aleatoire Le générateur aléatoire.
+     * @param cachees   La largeur de la couche cachée.
+     * @return Le réseau quantifié.
+     */
+    private static ReseauEvaluation reseauAleatoire(Random aleatoire, int cachees) {
+        double[][] poidsEntree = new double[ReseauEvaluation.ENTREES][cachees];
+        double[] biaisCaches = new double[cachees];
+        double[] poidsSortie = new double[cachees];
+
+        for (double[] ligne : poidsEntree) {
+            for (int j = 0; j < cachees; j++) {
+                ligne[j] = aleatoire.nextGaussian() * 0.2;
+            }
+        }
+        for (int j = 0; j < cachees; j++) {
+            biaisCaches[j] = aleatoire.nextDouble();
+            poidsSortie[j] = aleatoire.nextGaussian();
+        }
+        return ReseauEvaluation.quantifier(poidsEntree, biaisCaches, poidsSortie, 0.1);
+    }
+}
@@ -0,0 +1,90 @@
+package fr.univrouen.modele.evaluation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de test pour la classe CacheEvaluation.
+ */
+public class CacheEvaluationTest {
+
+    /**
+     * Une valeur déjà calculée doit être resservie sans rappeler le calcul.
+     */
+    @Test
+    void testSuccesApresPremierCalcul() {
+        CacheEvaluation cache = new CacheEvaluation(64);
+        AtomicInteger appels = new AtomicInteger();
+
+        assertEquals(42, cache.evaluer(123L, () -> { appels.incrementAndGet(); return 42; }));
+        assertEquals(42, cache.evaluer(123L, () -> { appels.incrementAndGet(); return -1; }));
+
+        assertEquals(1, appels.get());
+        assertEquals(1, cache.getSucces());
+        assertEquals(1, cache.getEchecs());
+        assertEquals(0.5, cache.getTauxSucces());
+    }
+
+    /**
+     * Les valeurs négatives et la clé nulle (plateau vide) doivent être mémorisées correctement.
+     */
+    @Test
+    void testValeursNegativesEtCleNulle() {
+        CacheEvaluation cache = new CacheEvaluation(64);
+
+        assertEquals(-7, cache.evaluer(0L, () -> -7));
+        assertEquals(-7, cache.evaluer(0L, () -> 0));
+    }
+
+    /**
+     * La capacité reste fixe : au-delà, des entrées sont évincées au lieu d'agrandir la table.
+     */
+    @Test
+    void testCapaciteFixeEtEviction() {
+        CacheEvaluation cache = new CacheEvaluation(16);
+
+        for (long cle = 1; cle <= 1000; cle++) {
+            final int valeur = (int) cle;
+            assertEquals(valeur, cache.evaluer(cle, () -> valeur));
+        }
+
+        assertEquals(16, cache.getCapacite());
+        assertTrue(cache.getEvictions() > 0, "Des entrées auraient dû être évincées");
+    }
+
+    /**
+     * Une entrée relue récemment bénéficie d'une seconde chance face aux entrées jamais relues.
+     */
+    @Test
+    void testSecondeChance() {
+        CacheEvaluation cache = new CacheEvaluation(CacheEvaluation.VOIES);
+
+        for (long cle = 1; cle <= CacheEvaluation.VOIES; cle++) {
+            final int valeur = (int) cle;
+            cache.evaluer(cle, () -> valeur);
+        }
+        cache.evaluer(1L, () -> -1); // Référence la première entrée
+
+        cache.evaluer(100L, () -> 100); // Provoque une éviction
+        assertEquals(1, cache.evaluer(1L, () -> -1), "L'entrée référencée aurait dû être conservée");
+    }
+
+    /**
+     * Désactivé, le cache recalcule systématiquement la valeur.
+     */
+    @Test
+    void testDesactivation() {
+        CacheEvaluation cache = new CacheEvaluation(64);
+        cache.setActif(false);
+        AtomicInteger appels = new AtomicInteger();
+
+        cache.evaluer(5L, () -> appels.incrementAndGet());
+        cache.evaluer(5L, () -> appels.incrementAndGet());
+
+        assertEquals(2, appels.get());
+        assertEquals(0, cache.getSucces() + cache.getEchecs());
+    }
+}
@@ -0,0 +1,83 @@
+package fr.univrouen.modele.evaluation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.jeu.partie.plateau.*;
+import fr.univrouen.modele.jeu.partie.strategie.*;
+import fr.univrouen.modele.jeu.piece.*;
+
+/**
+ * Classe de test pour la classe EvaluateurLot.
+ */
+public class EvaluateurLotTest {
+
+    /**
+     * Sur des plateaux aléatoires, l'évaluation compacte doit donner exactement
+     * les mêmes scores (et victoires) que l'évaluation sur la grille.
+     */
+    @Test
+    void testEquivalenceAvecHeuristique() {
+        int nombre = 500;
+        Random aleatoire = new Random(28);
+        Plateau[] plateaux = new Plateau[nombre];
+        for (int i = 0; i < nombre; i++) {
+            plateaux[i] = plateauAleatoire(aleatoire);
+        }
+
+        for (StrategieGagnante strategie : Arrays.asList(new StrategieNiveau1(), new StrategieNiveau4())) {
+            int[][] motifs = strategie.getMotifs();
+            EvaluateurLot evaluateur = EvaluateurLot.pour(motifs);
+
+            for (int i = 0; i < nombre; i++) {
+                long plans = plateaux[i].getPlans();
+                int occupation = plateaux[i].getMasqueOccupation();
+                int attendu = Heuristique.evaluerMotifs(plateaux[i].getGrille(), motifs);
+                assertEquals(attendu, evaluateur.evaluer(plans, occupation), "Plateau " + i);
+                assertEquals(attendu == Heuristique.VICTOIRE, evaluateur.estGagnant(plans, occupation), "Plateau " + i);
+            }
+        }
+    }
+
+    /**
+     * L'empreinte doit dépendre du contenu des motifs, et non de leur seul nombre ni de l'identité du tableau.
+     */
+    @Test
+    void testEmpreinteDesMotifs() {
+        int[][] copie = new int[Geometrie.ALIGNEMENTS.length][];
+        for (int i = 0; i < copie.length; i++) {
+            copie[i] = Geometrie.ALIGNEMENTS[i].clone();
+        }
+        assertEquals(new EvaluateurLot(Geometrie.ALIGNEMENTS).getEmpreinte(), new EvaluateurLot(copie).getEmpreinte());
+
+        copie[0] = new int[] { 0, 1, 4, 5 };
+        assertNotEquals(new EvaluateurLot(Geometrie.ALIGNEMENTS).getEmpreinte(), new EvaluateurLot(copie).getEmpreinte());
+    }
+
+    /**
+     * Remplit un plateau avec un nombre aléatoire de pièces distinctes à des cases aléatoires.
+     *
+     * @param aleatoire Le générateur utilisé.
+     * @return Le plateau construit.
+     */
+    private static Plateau plateauAleatoire(Random aleatoire) {
+        List<Piece> pieces = new ArrayList<>(Piece.valeurs());
+        List<Integer> cases = new ArrayList<>();
+        for (int i = 0; i < Plateau.TAILLE * Plateau.TAILLE; i++) {
+            cases.add(i);
+        }
+        Collections.shuffle(pieces, aleatoire);
+        Collections.shuffle(cases, aleatoire);
+
+        Plateau plateau = new Plateau();
+        int nbPieces = aleatoire.nextInt(pieces.size() + 1);
+        for (int i = 0; i < nbPieces; i++) {
+            int index = cases.get(i);
+            plateau.placerPiece(pieces.get(i), Position.get(index));
+        }
+        return plateau;
+    }
+}
@@ -0,0 +1,107 @@
+package fr.univrouen.modele.jeu.partie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.jeu.partie.plateau.Position;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+import fr.univrouen.modele.joueur.Joueur;
+import fr.univrouen.modele.joueur.ia.*;
+
+/**
+ * Classe de test pour la classe Coup.
+ */
+public class CoupTest {
+
+    /**
+     * Chaque coup doit être canonique et se retrouver à partir de son code.
+     */
+    @Test
+    void testCodeEtInstancesCanoniques() {
+        int nombre = 0;
+        for (int index = Coup.AUCUN; index < 16; index++) {
+            for (int piece = Coup.AUCUN; piece < 16; piece++) {
+                if (index == Coup.AUCUN && piece == Coup.AUCUN) continue;
+
+                Coup coup = Coup.get(index, piece);
+                assertSame(coup, Coup.get(index, piece));
+                assertSame(coup, Coup.depuisCode(coup.getCode()));
+                assertEquals(index, coup.getCase());
+                assertEquals(piece, coup.getPiece());
+                assertEquals(index != Coup.AUCUN, coup.aPlacement());
+                assertEquals(piece != Coup.AUCUN, coup.aDon());
+                assertSame(coup, Coup.get(coup.getPosition(), coup.getPieceDonnee()));
+                nombre++;
+            }
+        }
+        assertEquals(288, nombre);
+        assertSame(Position.get(1, 2), Coup.get(6, Coup.AUCUN).getPosition());
+    }
+
+    /**
+     * Les coups hors limites ou vides doivent être refusés.
+     */
+    @Test
+    void testCoupsInvalides() {
+        assertThrows(IllegalArgumentException.class, () -> Coup.get(Coup.AUCUN, Coup.AUCUN));
+        assertThrows(IllegalArgumentException.class, () -> Coup.get(16, 0));
+        assertThrows(IllegalArgumentException.class, () -> Coup.get(0, -2));
+        assertThrows(IllegalArgumentException.class, () -> Coup.get((Position) null, null));
+        assertThrows(IllegalArgumentException.class, () -> Coup.depuisCode((short) 0));
+        assertThrows(IllegalArgumentException.class, () -> Coup.depuisCode((short) 1024));
+
+        JeuQuarto jeu = new JeuQuarto(new JoueurNegaBeta(), new JoueurNegaBeta(), new StrategieNiveau1());
+        assertThrows(IllegalArgumentException.class, () -> jeu.jouerCoup(Coup.get(0, 1)));
+        jeu.jouerCoup(Coup.get(Coup.AUCUN, 1));
+        assertThrows(IllegalArgumentException.class, () -> jeu.jouerCoup(Coup.get(Coup.AUCUN, 2)));
+        assertThrows(IllegalArgumentException.class, () -> jeu.jouerCoup(Coup.get(0, 1)));
+    }
+
+    /**
+     * La notation texte de chaque coup doit être relue à l'identique, et les notations mal formées refusées.
+     */
+    @Test
+    void testNotation() {
+        assertEquals("3a", Coup.get(3, 10).versNotation());
+        assertEquals("-5", Coup.get(Coup.AUCUN, 5).versNotation());
+        assertEquals("f-", Coup.get(15, Coup.AUCUN).versNotation());
+        for (int index = Coup.AUCUN; index < 16; index++) {
+            for (int piece = Coup.AUCUN; piece < 16; piece++) {
+                if (index != Coup.AUCUN || piece != Coup.AUCUN) {
+                    Coup coup = Coup.get(index, piece);
+                    assertSame(coup, Coup.depuisNotation(coup.versNotation()));
+                }
+            }
+        }
+        assertSame(Coup.get(3, 10), Coup.depuisNotation("3A"));
+
+        assertThrows(IllegalArgumentException.class, () -> Coup.depuisNotation(null));
+        assertThrows(IllegalArgumentException.class, () -> Coup.depuisNotation("--"));
+        assertThrows(IllegalArgumentException.class, () -> Coup.depuisNotation("3"));
+        assertThrows(IllegalArgumentException.class, () -> Coup.depuisNotation("3ab"));
+        assertThrows(IllegalArgumentException.class, () -> Coup.depuisNotation("g1"));
+    }
+
+    /**
+     * Une partie entre IA doit se dérouler par coups décidés sans modifier la partie,
+     * et donner les mêmes états par {@link Jeu#jouerCoup(Coup)} et par {@link EtatJeu#appliquer(Coup)}.
+     */
+    @Test
+    void testPartieParCoups() {
+        Joueur joueur1 = new JoueurNegaBeta();
+        Joueur joueur2 = new JoueurAlphaBeta();
+        JeuQuarto jeu = new JeuQuarto(joueur1, joueur2, new StrategieNiveau1());
+        EtatJeu etat = jeu.versEtat();
+
+        while (!jeu.estTerminee()) {
+            Coup coup = jeu.getJoueurActuel().deciderCoup(jeu);
+            assertEquals(etat, jeu.versEtat(), "La décision ne doit pas modifier la partie");
+
+            jeu.jouerCoup(coup);
+            etat = etat.appliquer(coup);
+            assertEquals(etat, jeu.versEtat());
+        }
+        assertEquals(jeu.aGagne(), etat.estGagne());
+    }
+}
@@ -0,0 +1,115 @@
+package fr.univrouen.modele.jeu.partie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.OutilsAleatoires;
+import fr.univrouen.modele.jeu.partie.plateau.Position;
+import fr.univrouen.modele.jeu.partie.strategie.*;
+import fr.univrouen.modele.jeu.piece.Piece;
+import fr.univrouen.modele.joueur.Joueur;
+import fr.univrouen.modele.joueur.humain.JoueurHumain;
+
+/**
+ * Classe de test pour la classe EtatJeu.
+ */
+public class EtatJeuTest {
+
+    /**
+     * Des parties aléatoires jouées en parallèle sur une {@link JeuQuarto} et sur des {@link EtatJeu}
+     * doivent rester identiques à chaque demi-coup, conversions comprises.
+     */
+    @Test
+    void testEquivalenceAvecJeuQuarto() {
+        Random aleatoire = new Random(35);
+        Joueur joueur1 = new JoueurHumain();
+        Joueur joueur2 = new JoueurHumain();
+
+        for (StrategieGagnante strategie : new StrategieGagnante[] { new StrategieNiveau1(), new StrategieNiveau4() }) {
+            for (int partie = 0; partie < 50; partie++) {
+                JeuQuarto jeu = new JeuQuarto(joueur1, joueur2, strategie);
+                EtatJeu etat = EtatJeu.initial(strategie);
+                assertEquals(etat, jeu.versEtat());
+
+                while (!etat.estTerminee()) {
+                    int piece = OutilsAleatoires.tirer(etat.getRestantes(), aleatoire);
+                    jeu.getJoueurActuel().choisirPiece(jeu, Piece.get(piece));
+                    EtatJeu suivant = etat.donner(piece);
+                    assertEquals(suivant, jeu.versEtat());
+                    assertEquals(EtatJeu.AUCUNE_PIECE, etat.getPieceEnMain(), "L'état précédent ne doit pas changer");
+
+                    int index = OutilsAleatoires.tirer(~etat.getOccupation() & 0xFFFF, aleatoire);
+                    jeu.getJoueurActuel().placerPiece(jeu, Piece.get(piece), Position.get(index));
+                    etat = suivant.placer(index);
+                    assertEquals(etat, jeu.versEtat());
+                    assertEquals(jeu.aGagne(), etat.estGagne());
+                    assertEquals(jeu.estTerminee(), etat.estTerminee());
+
+                    // Aller-retour par la partie modifiable
+                    JeuQuarto reconstruit = JeuQuarto.depuisEtat(etat, joueur1, joueur2);
+                    assertEquals(etat, reconstruit.versEtat());
+                    assertEquals(jeu.getPiecesRestantes(), reconstruit.getPiecesRestantes());
+                }
+
+                if (etat.estGagne()) {
+                    assertSame(jeu.getJoueurGagnant(), etat.getGagnant() == 0 ? joueur1 : joueur2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Les coups illégaux doivent être refusés.
+     */
+    @Test
+    void testCoupsInvalides() {
+        EtatJeu etat = EtatJeu.initial(new StrategieNiveau1());
+
+        assertThrows(IllegalArgumentException.class, () -> etat.placer(0));
+        assertThrows(IllegalArgumentException.class, () -> etat.donner(16));
+
+        EtatJeu avecPiece = etat.donner(3);
+        assertThrows(IllegalArgumentException.class, () -> avecPiece.donner(4));
+        assertThrows(IllegalArgumentException.class, () -> avecPiece.placer(16));
+
+        EtatJeu pose = avecPiece.placer(5);
+        assertThrows(IllegalArgumentException.class, () -> pose.donner(3));
+        assertThrows(IllegalArgumentException.class, () -> pose.donner(4).placer(5));
+        assertThrows(IllegalArgumentException.class, () -> EtatJeu.initial(null));
+    }
+
+    /**
+     * La notation compacte doit décrire l'état à chaque demi-coup, et être relue à l'identique.
+     */
+    @Test
+    void testNotation() {
+        StrategieGagnante strategie = new StrategieNiveau1();
+        EtatJeu etat = EtatJeu.initial(strategie);
+        assertEquals("................ - 0", etat.versNotation());
+
+        EtatJeu exemple = etat.donner(0).placer(0).donner(10).placer(3).donner(5);
+        assertEquals("0..a............ 5 1", exemple.versNotation());
+        assertEquals(exemple, EtatJeu.depuisNotation("  0..A............\t5  1 ", strategie));
+
+        Random aleatoire = new Random(46);
+        while (!etat.estTerminee()) {
+            etat = etat.donner(OutilsAleatoires.tirer(etat.getRestantes(), aleatoire));
+            assertEquals(etat, EtatJeu.depuisNotation(etat.versNotation(), strategie));
+            etat = etat.placer(OutilsAleatoires.tirer(~etat.getOccupation() & 0xFFFF, aleatoire));
+            EtatJeu relu = EtatJeu.depuisNotation(etat.versNotation(), strategie);
+            assertEquals(etat, relu);
+            assertEquals(etat.estGagne(), relu.estGagne());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> EtatJeu.depuisNotation(null, strategie));
+        assertThrows(IllegalArgumentException.class, () -> EtatJeu.depuisNotation("0..a........... 5 1", strategie));
+        assertThrows(IllegalArgumentException.class, () -> EtatJeu.depuisNotation("0..a............ 5 2", strategie));
+        assertThrows(IllegalArgumentException.class, () -> EtatJeu.depuisNotation("0..0............ 5 1", strategie));
+        assertThrows(IllegalArgumentException.class, () -> EtatJeu.depuisNotation("0..a............ a 1", strategie));
+        assertThrows(IllegalArgumentException.class, () -> EtatJeu.depuisNotation("0..g............ 5 1", strategie));
+        assertThrows(IllegalArgumentException.class, () -> EtatJeu.depuisNotation("0..a............ 5", strategie));
+    }
+}
@@ -0,0 +1,248 @@
+package fr.univrouen.modele.jeu.partie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.OutilsAleatoires;
+import fr.univrouen.modele.jeu.piece.Piece;
+import fr.univrouen.modele.jeu.partie.observer.EvenementJeu;
+import fr.univrouen.modele.jeu.partie.observer.Observer;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau2;
+import fr.univrouen.modele.joueur.Joueur;
+import fr.univrouen.modele.joueur.humain.JoueurHumain;
+
+/**
+ * Classe de test pour l'historique et les notifications de la classe JeuQuarto.
+ */
+public class JeuQuartoTest {
+
+    /**
+     * Annuler puis rétablir tous les coups d'une partie doit repasser par les mêmes états,
+     * avec une seule notification par coup, et chaque point de l'historique doit être accessible.
+     */
+    @Test
+    void testAnnulerRetablir() {
+        Random aleatoire = new Random(38);
+        Joueur joueur = new JoueurHumain();
+
+        for (int partie = 0; partie < 30; partie++) {
+            JeuQuarto jeu = new JeuQuarto(joueur, joueur, new StrategieNiveau2());
+            List<EtatJeu> etats = new ArrayList<>();
+            etats.add(jeu.versEtat());
+
+            while (!jeu.estTerminee()) {
+                int main = (jeu.getPieceCourante() == null) ? -1 : jeu.getPieceCourante().getId();
+                int libres = jeu.getPlateau().getMasqueLibres();
+                int disponibles = jeu.getMasquePiecesRestantes() & ~(main < 0 ? 0 : 1 << main);
+
+                // Alterne coups complets et demi-coups, comme l'IA et l'interface
+                int index = (main < 0) ? Coup.AUCUN : OutilsAleatoires.tirer(libres, aleatoire);
+                int piece = (disponibles == 0 || (main >= 0 && aleatoire.nextBoolean())) ? Coup.AUCUN : OutilsAleatoires.tirer(disponibles, aleatoire);
+                if (index == Coup.AUCUN && piece == Coup.AUCUN) continue;
+
+                jeu.jouerCoup(Coup.get(index, piece));
+                etats.add(jeu.versEtat());
+            }
+
+            int[] notifications = new int[1];
+            jeu.addObserver(() -> notifications[0]++);
+            int taille = etats.size() - 1;
+            assertEquals(taille, jeu.getTailleHistorique());
+
+            for (int rang = 0; rang <= taille; rang++) {
+                assertEquals(etats.get(rang), jeu.versEtat(rang));
+            }
+
+            for (int rang = taille - 1; rang >= 0; rang--) {
+                assertTrue(jeu.annulerCoup());
+                assertEquals(etats.get(rang), jeu.versEtat());
+                assertEquals(etats.get(taille), jeu.versEtat(taille), "Les coups annulés restent accessibles");
+            }
+            assertFalse(jeu.annulerCoup());
+            assertEquals(taille, notifications[0]);
+            assertTrue(jeu.debutPartie());
+
+            for (int rang = 1; rang <= taille; rang++) {
+                assertTrue(jeu.retablirCoup());
+                assertEquals(etats.get(rang), jeu.versEtat());
+            }
+            assertFalse(jeu.retablirCoup());
+            assertEquals(2 * taille, notifications[0]);
+        }
+    }
+
+    /**
+     * Un nouveau coup après une annulation doit effacer les coups qui pouvaient être rétablis.
+     */
+    @Test
+    void testNouveauCoupApresAnnulation() {
+        Joueur joueur = new JoueurHumain();
+        JeuQuarto jeu = new JeuQuarto(joueur, joueur, new StrategieNiveau2());
+
+        jeu.jouerCoup(Coup.get(Coup.AUCUN, 5));
+        jeu.jouerCoup(Coup.get(0, 6));
+        assertTrue(jeu.annulerCoup());
+        assertEquals(5, jeu.getPieceCourante().getId());
+        assertTrue(jeu.getPlateau().estLibre(0));
+
+        jeu.jouerCoup(Coup.get(1, 7));
+        assertFalse(jeu.retablirCoup());
+        assertEquals(2, jeu.getTailleHistorique());
+        assertEquals(7, jeu.versEtat(2).getPieceEnMain());
+        assertThrows(IllegalArgumentException.class, () -> jeu.versEtat(3));
+
+        // Une modification directe de la partie efface l'historique
+        jeu.tourSuivant();
+        assertFalse(jeu.annulerCoup());
+    }
+
+    /**
+     * Les modifications regroupées dans un lot, même imbriqué, ne doivent notifier qu'une fois,
+     * à la fin du lot le plus externe, et un lot sans modification ne doit pas notifier.
+     */
+    @Test
+    void testModificationsEnLot() {
+        Joueur joueur = new JoueurHumain();
+        JeuQuarto jeu = new JeuQuarto(joueur, joueur, new StrategieNiveau2());
+        int[] notifications = new int[1];
+        jeu.addObserver(() -> {
+            notifications[0]++;
+            assertEquals(1, jeu.getTrait(), "Les observateurs ne doivent voir que l'état final");
+        });
+
+        jeu.modifierEnLot(() -> {
+            jeu.setPieceCourante(Piece.get(4));
+            jeu.modifierEnLot(jeu::tourSuivant);
+            assertEquals(0, notifications[0]);
+        });
+        assertEquals(1, notifications[0]);
+        assertEquals(4, jeu.getPieceCourante().getId());
+
+        jeu.modifierEnLot(() -> { });
+        assertEquals(1, notifications[0]);
+
+        // Une exception ferme le lot sans bloquer les notifications suivantes
+        assertThrows(IllegalStateException.class, () -> jeu.modifierEnLot(() -> {
+            throw new IllegalStateException();
+        }));
+        jeu.notifyObservers();
+        assertEquals(2, notifications[0]);
+    }
+
+    /**
+     * Chaque notification doit être précédée des événements typés décrivant le coup, l'annulation
+     * ou la fin de partie, dans l'ordre où les modifications ont eu lieu ; aucun coup n'est accepté après la fin.
+     */
+    @Test
+    void testEvenements() {
+        Joueur joueur1 = new JoueurHumain();
+        Joueur joueur2 = new JoueurHumain();
+        JeuQuarto jeu = new JeuQuarto(joueur1, joueur2, new StrategieNiveau2());
+        List<String> recus = new ArrayList<>();
+        jeu.addObserver(new Observer() {
+            @Override
+            public void update() {
+                recus.add("update");
+            }
+
+            @Override
+            public void recevoir(EvenementJeu evenement) {
+                recus.add(evenement.getType() + " " + evenement.getCase() + " "
+                    + (evenement.getPiece() == null ? "-" : evenement.getPiece().getId()) + " "
+                    + (evenement.getJoueur() == joueur1 ? 1 : evenement.getJoueur() == joueur2 ? 2 : 0));
+            }
+        });
+
+        jeu.jouerCoup(Coup.get(Coup.AUCUN, 0));
+        jeu.jouerCoup(Coup.get(5, 1));
+        assertEquals(Arrays.asList(
+            "PIECE_DONNEE -1 0 0", "TOUR_CHANGE -1 - 2", "update",
+            "PIECE_PLACEE 5 0 0", "PIECE_DONNEE -1 1 0", "TOUR_CHANGE -1 - 1", "update"), recus);
+
+        recus.clear();
+        jeu.annulerCoup();
+        assertEquals(Arrays.asList(
+            "PIECE_DONNEE -1 - 0", "TOUR_CHANGE -1 - 2", "PIECE_RETIREE 5 0 0", "PIECE_DONNEE -1 0 0", "update"), recus);
+
+        // Pièces 0, 9, 10 et 11 alignées, de même forme : le premier joueur gagne en posant la dernière
+        jeu.jouerCoup(Coup.get(0, 9));
+        jeu.jouerCoup(Coup.get(1, 10));
+        jeu.jouerCoup(Coup.get(2, 11));
+        recus.clear();
+        jeu.jouerCoup(Coup.get(3, 12));
+        assertEquals(Arrays.asList("PIECE_PLACEE 3 11 0", "PARTIE_TERMINEE -1 - 1", "update"), recus);
+        assertSame(joueur1, jeu.estGagnant());
+        assertThrows(IllegalStateException.class, () -> jeu.jouerCoup(Coup.get(4, 13)));
+    }
+
+    /**
+     * Un lecteur concurrent ne doit voir que des états publiés par l'écrivain, jamais un état intermédiaire,
+     * et un observateur doit pouvoir se désabonner pendant une notification.
+     *
+     * @throws InterruptedException si l'attente du lecteur est interrompue.
+     */
+    @Test
+    void testLecturesConcurrentes() throws InterruptedException {
+        Random aleatoire = new Random(42);
+        Joueur joueur = new JoueurHumain();
+        JeuQuarto jeu = new JeuQuarto(joueur, joueur, new StrategieNiveau2());
+        Set<EtatJeu> publies = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        publies.add(jeu.getInstantane());
+
+        int[] notifications = new int[2];
+        jeu.addObserver(new Observer() {
+            @Override
+            public void update() {
+                notifications[0]++;
+                jeu.removeObserver(this);
+            }
+        });
+        jeu.addObserver(() -> notifications[1]++);
+
+        List<EtatJeu> lus = new ArrayList<>();
+        AtomicBoolean fini = new AtomicBoolean();
+        CountDownLatch demarre = new CountDownLatch(1);
+        Thread lecteur = new Thread(() -> {
+            while (!fini.get()) {
+                lus.add(jeu.getInstantane());
+                demarre.countDown();
+            }
+        });
+        lecteur.start();
+        demarre.await();
+
+        for (int partie = 0; partie < 50; partie++) {
+            while (!jeu.estTerminee()) {
+                int main = (jeu.getPieceCourante() == null) ? -1 : jeu.getPieceCourante().getId();
+                int disponibles = jeu.getMasquePiecesRestantes() & ~(main < 0 ? 0 : 1 << main);
+                int index = (main < 0) ? Coup.AUCUN : OutilsAleatoires.tirer(jeu.getPlateau().getMasqueLibres(), aleatoire);
+                int piece = (disponibles == 0) ? Coup.AUCUN : OutilsAleatoires.tirer(disponibles, aleatoire);
+
+                // L'état est enregistré avant d'être publié : le lecteur ne peut pas le voir avant
+                EtatJeu suivant = jeu.versEtat().appliquer(Coup.get(index, piece));
+                publies.add(suivant);
+                jeu.jouerCoup(Coup.get(index, piece));
+                assertEquals(suivant, jeu.getInstantane());
+            }
+            while (jeu.getCoupsJoues() > 0) {
+                publies.add(jeu.versEtat(jeu.getCoupsJoues() - 1));
+                jeu.annulerCoup();
+            }
+        }
+        fini.set(true);
+        lecteur.join();
+
+        assertFalse(lus.isEmpty());
+        for (EtatJeu etat : lus) {
+            assertTrue(publies.contains(etat), "État non publié : " + etat);
+        }
+        assertEquals(1, notifications[0]);
+        assertTrue(notifications[1] > 1);
+    }
+}
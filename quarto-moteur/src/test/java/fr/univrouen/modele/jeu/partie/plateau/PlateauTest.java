@@ -0,0 +1,33 @@
+package fr.univrouen.modele.jeu.partie.plateau;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.jeu.piece.Piece;
+
+/**
+ * Classe de test pour la classe Plateau.
+ */
+public class PlateauTest {
+
+    /**
+     * La grille retournée doit refléter le plateau, sans qu'une modification de celle-ci ne l'altère.
+     */
+    @Test
+    void testGrilleEnLecture() {
+        Plateau plateau = new Plateau();
+        plateau.placerPiece(Piece.get(7), 5);
+        long empreinte = plateau.getEmpreinte();
+
+        Piece[][] grille = plateau.getGrille();
+        assertSame(Piece.get(7), grille[1][1]);
+
+        grille[1][1] = null;
+        grille[0][0] = Piece.get(3);
+        assertSame(Piece.get(7), plateau.getPiece(5));
+        assertNull(plateau.getPiece(0));
+        assertEquals(empreinte, plateau.getEmpreinte());
+        assertNotSame(grille, plateau.getGrille());
+    }
+}
@@ -0,0 +1,62 @@
+package fr.univrouen.modele.jeu.partie.plateau;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PositionTest {
+    // Test pour vérifier la création d'une position valide
+    @Test
+    void testPositionValide() {
+        Position position = Position.get(1, 2);
+        assertEquals(1, position.getX(), "La coordonnée X devrait être 1");
+        assertEquals(2, position.getY(), "La coordonnée Y devrait être 2");
+    }
+
+    // Test pour vérifier la gestion des coordonnées hors limites
+    @Test
+    void testCoordonneesHorsLimites() {
+        // Test coordonnée X < 0
+        assertThrows(IllegalArgumentException.class, () -> Position.get(-1, 0), "Une exception devrait être lancée pour x < 0");
+        // Test coordonnée X >= 4
+        assertThrows(IllegalArgumentException.class, () -> Position.get(4, 0), "Une exception devrait être lancée pour x >= 4");
+        // Test coordonnée Y < 0
+        assertThrows(IllegalArgumentException.class, () -> Position.get(0, -1), "Une exception devrait être lancée pour y < 0");
+        // Test coordonnée Y >= 4
+        assertThrows(IllegalArgumentException.class, () -> Position.get(0, 4), "Une exception devrait être lancée pour y >= 4");
+    }
+
+    // Test pour vérifier la méthode equals()
+    @Test
+    void testEquals() {
+        Position position1 = Position.get(2, 3);
+        Position position2 = Position.get(2, 3);
+        Position position3 = Position.get(1, 3);
+        
+        // Test d'égalité
+        assertTrue(position1.equals(position2), "Les positions devraient être égales");
+        // Test de non-égalité
+        assertFalse(position1.equals(position3), "Les positions ne devraient pas être égales");
+    }
+
+    // Test pour vérifier la méthode toString()
+    @Test
+    void testToString() {
+        Position position = Position.get(1, 2);
+        assertEquals("(1, 2)", position.toString(), "La méthode toString() devrait retourner '(1, 2)'");
+    }
+
+    // Test pour vérifier que les positions sont canoniques et cohérentes avec leur indice
+    @Test
+    void testPositionsCanoniques() {
+        for (int index = 0; index < Plateau.TAILLE * Plateau.TAILLE; index++) {
+            Position position = Position.get(index);
+            assertEquals(index, position.getIndex(), "L'indice devrait être conservé");
+            assertEquals(index, position.hashCode(), "Le hashCode devrait être l'indice");
+            assertSame(position, Position.get(position.getX(), position.getY()), "La même instance devrait être renvoyée");
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> Position.get(-1), "Une exception devrait être lancée pour un indice < 0");
+        assertThrows(IllegalArgumentException.class, () -> Position.get(16), "Une exception devrait être lancée pour un indice >= 16");
+    }
+}
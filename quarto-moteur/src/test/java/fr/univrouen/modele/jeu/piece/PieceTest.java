@@ -17,7 +17,7 @@ public class PieceTest {
     @Test
     void testPieceConstructorAndGetters() {
         // Création d'une pièce avec des valeurs spécifiques
-        Piece piece = new Piece(Hauteur.HAUTE, Forme.RONDE, Remplissage.PLEIN, Couleur.CLAIRE);
+        Piece piece = Piece.get(Hauteur.HAUTE, Forme.RONDE, Remplissage.PLEIN, Couleur.CLAIRE);
 
         // Vérification des valeurs des attributs
         assertEquals(Hauteur.HAUTE, piece.getHauteur());
@@ -33,17 +33,19 @@ public class PieceTest {
     void testConstructorWithNullValues() {
         // Vérification qu'une exception est levée si un attribut est nul
         assertThrows(IllegalArgumentException.class, () -> {
-            new Piece(null, Forme.RONDE, Remplissage.PLEIN, Couleur.CLAIRE);
+            Piece.get(null, Forme.RONDE, Remplissage.PLEIN, Couleur.CLAIRE);
         });
         assertThrows(IllegalArgumentException.class, () -> {
-            new Piece(Hauteur.HAUTE, null, Remplissage.PLEIN, Couleur.CLAIRE);
+            Piece.get(Hauteur.HAUTE, null, Remplissage.PLEIN, Couleur.CLAIRE);
         });
         assertThrows(IllegalArgumentException.class, () -> {
-            new Piece(Hauteur.HAUTE, Forme.RONDE, null, Couleur.CLAIRE);
+            Piece.get(Hauteur.HAUTE, Forme.RONDE, null, Couleur.CLAIRE);
         });
         assertThrows(IllegalArgumentException.class, () -> {
-            new Piece(Hauteur.HAUTE, Forme.RONDE, Remplissage.PLEIN, null);
+            Piece.get(Hauteur.HAUTE, Forme.RONDE, Remplissage.PLEIN, null);
         });
+        assertThrows(IllegalArgumentException.class, () -> Piece.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> Piece.get(Piece.NOMBRE));
     }
 
     /**
@@ -51,7 +53,7 @@ public class PieceTest {
      */
     @Test
     void testToString() {
-        Piece piece = new Piece(Hauteur.HAUTE, Forme.CARREE, Remplissage.CREUX, Couleur.FONCEE);
+        Piece piece = Piece.get(Hauteur.HAUTE, Forme.CARREE, Remplissage.CREUX, Couleur.FONCEE);
         String expected = "Piece(HAUTE, CARREE, CREUX, FONCEE)";
         assertEquals(expected, piece.toString());
     }
@@ -61,9 +63,9 @@ public class PieceTest {
      */
     @Test
     void testEquals() {
-        Piece piece1 = new Piece(Hauteur.HAUTE, Forme.RONDE, Remplissage.PLEIN, Couleur.CLAIRE);
-        Piece piece2 = new Piece(Hauteur.HAUTE, Forme.RONDE, Remplissage.PLEIN, Couleur.CLAIRE);
-        Piece piece3 = new Piece(Hauteur.BASSE, Forme.CARREE, Remplissage.CREUX, Couleur.FONCEE);
+        Piece piece1 = Piece.get(Hauteur.HAUTE, Forme.RONDE, Remplissage.PLEIN, Couleur.CLAIRE);
+        Piece piece2 = Piece.get(Hauteur.HAUTE, Forme.RONDE, Remplissage.PLEIN, Couleur.CLAIRE);
+        Piece piece3 = Piece.get(Hauteur.BASSE, Forme.CARREE, Remplissage.CREUX, Couleur.FONCEE);
 
         // Vérification de l'égalité entre pièces identiques
         assertTrue(piece1.equals(piece2));
@@ -80,4 +82,28 @@ public class PieceTest {
         // Vérification avec un objet d'une classe différente
         assertFalse(piece1.equals("test"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Test de l'unicité des pièces : même instance, identifiant et hashCode cohérents.
+     */
+    @Test
+    void testPiecesCanoniques() {
+        assertEquals(Piece.NOMBRE, Piece.valeurs().size());
+
+        for (int id = 0; id < Piece.NOMBRE; id++) {
+            Piece piece = Piece.get(id);
+            assertEquals(id, piece.getId());
+            assertEquals(id, piece.hashCode());
+            assertSame(piece, Piece.valeurs().get(id));
+            assertSame(piece, Piece.get(piece.getHauteur(), piece.getForme(), piece.getRemplissage(), piece.getCouleur()));
+
+            // Les bits de l'identifiant sont les ordinaux des caractéristiques
+            assertEquals(piece.getHauteur().ordinal(), piece.getBit(Piece.BIT_HAUTEUR));
+            assertEquals(piece.getForme().ordinal(), piece.getBit(Piece.BIT_FORME));
+            assertEquals(piece.getRemplissage().ordinal(), piece.getBit(Piece.BIT_REMPLISSAGE));
+            assertEquals(piece.getCouleur().ordinal(), piece.getBit(Piece.BIT_COULEUR));
+        }
+
+        assertThrows(UnsupportedOperationException.class, () -> Piece.valeurs().set(0, null));
+    }
+}
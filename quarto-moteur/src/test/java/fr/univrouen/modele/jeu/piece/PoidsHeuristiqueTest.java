@@ -0,0 +1,53 @@
+package fr.univrouen.modele.jeu.piece;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Classe de test pour la classe PoidsHeuristique.
+ */
+public class PoidsHeuristiqueTest {
+
+    /**
+     * Des poids sauvegardés puis relus doivent être identiques.
+     */
+    @Test
+    void testSauvegardeEtChargement(@TempDir Path dossier) throws Exception {
+        PoidsHeuristique poids = new PoidsHeuristique(3, 1, 40, -7, 1000);
+        Path fichier = dossier.resolve("poids.properties");
+
+        poids.sauvegarder(fichier, "Test\nsur deux lignes");
+
+        assertEquals(poids, PoidsHeuristique.charger(fichier));
+        assertEquals(poids.getEmpreinte(), PoidsHeuristique.charger(fichier).getEmpreinte());
+    }
+
+    /**
+     * Un fichier incomplet ou un mauvais nombre de poids doivent être refusés.
+     */
+    @Test
+    void testPoidsInvalides() {
+        byte[] incomplet = "communs.0=0\ncommuns.1=1\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> PoidsHeuristique.charger(new ByteArrayInputStream(incomplet)));
+        assertThrows(IllegalArgumentException.class, () -> new PoidsHeuristique(1, 2, 3));
+    }
+
+    /**
+     * Les poids par défaut reproduisent le barème historique de l'heuristique.
+     */
+    @Test
+    void testPoidsParDefaut() {
+        PoidsHeuristique defaut = PoidsHeuristique.parDefaut();
+
+        assertArrayEquals(new int[] {0, 1, 10, 100, 1000}, defaut.toArray());
+        assertNotEquals(defaut.getEmpreinte(), new PoidsHeuristique(0, 1, 10, 100, 999).getEmpreinte());
+    }
+}
@@ -0,0 +1,100 @@
+package fr.univrouen.modele.moteur;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+import fr.univrouen.modele.joueur.humain.JoueurHumain;
+import fr.univrouen.modele.joueur.ia.*;
+
+/**
+ * Classe de test pour le moteur de partie sans interface graphique.
+ */
+public class MoteurPartieTest {
+
+    /**
+     * Une partie entre deux IA doit se jouer jusqu'à son terme, sans AWT ni Swing,
+     * et son résultat doit correspondre à la position finale.
+     */
+    @Test
+    void testPartieJusquAuBout() {
+        MoteurPartie moteur = new MoteurPartie(new JoueurNegaBeta(), new JoueurAlphaBeta(), new StrategieNiveau1());
+        assertNull(moteur.getResultat());
+
+        ResultatPartie resultat = moteur.jouerJusquAuBout();
+        assertTrue(moteur.estTerminee());
+        assertSame(resultat, moteur.getResultat());
+        assertEquals(moteur.getJeu().getCoupsJoues(), resultat.getNombreCoups());
+        assertEquals(moteur.getJeu().getJoueurGagnant(), resultat.getGagnant());
+        assertEquals(resultat.getGagnant() == null, resultat.estNulle());
+        assertTrue(resultat.estNulle() || resultat.getIndiceGagnant() == moteur.getJeu().getTrait());
+        assertNotNull(resultat.getEtatFinal());
+        assertThrows(UnsupportedOperationException.class, () -> resultat.getCoups().clear());
+        assertThrows(IllegalStateException.class, moteur::avancer);
+        assertThrows(IllegalStateException.class, () -> moteur.jouer(Coup.get(0, Coup.AUCUN)));
+    }
+
+    /**
+     * Le moteur doit avancer coup par coup, en commençant par le don de la première pièce,
+     * et refuser un joueur qui attend ses coups de l'interface.
+     */
+    @Test
+    void testAvancerCoupParCoup() {
+        JoueurNegaBeta ia = new JoueurNegaBeta();
+        MoteurPartie moteur = new MoteurPartie(ia, ia, new StrategieNiveau1());
+        Coup premier = moteur.avancer();
+        assertFalse(premier.aPlacement());
+        assertTrue(premier.aDon());
+        assertEquals(1, moteur.getJeu().getCoupsJoues());
+
+        ResultatPartie resultat = moteur.jouerJusquAuBout();
+        assertSame(premier, resultat.getCoups().get(0));
+
+        MoteurPartie avecHumain = new MoteurPartie(new JoueurHumain(), ia, new StrategieNiveau1());
+        assertThrows(IllegalArgumentException.class, avecHumain::avancer);
+        assertThrows(IllegalArgumentException.class, () -> new MoteurPartie(ia, null, new StrategieNiveau1()));
+        assertThrows(IllegalArgumentException.class, () -> new MoteurPartie(ia, ia, null));
+    }
+
+    /**
+     * Aucune classe du moteur ne doit faire référence à AWT ni à Swing.
+     *
+     * @throws Exception si les classes compilées ne peuvent pas être lues.
+     */
+    @Test
+    void testAucuneDependanceGraphique() throws Exception {
+        Path classes = Paths.get(MoteurPartie.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<Path> fautives;
+        try (Stream<Path> fichiers = Files.walk(classes)) {
+            fautives = fichiers
+                    .filter(fichier -> fichier.toString().endsWith(".class"))
+                    .filter(MoteurPartieTest::referenceInterfaceGraphique)
+                    .collect(Collectors.toList());
+        }
+        assertTrue(fautives.isEmpty(), "Classes dépendant d'AWT ou de Swing : " + fautives);
+    }
+
+    /**
+     * Indique si une classe compilée fait référence à un type d'AWT ou de Swing.
+     *
+     * @param fichier Le fichier {@code .class}.
+     * @return {@code true} si la classe référence {@code java/awt} ou {@code javax/swing}.
+     */
+    private static boolean referenceInterfaceGraphique(Path fichier) {
+        try {
+            String contenu = new String(Files.readAllBytes(fichier), StandardCharsets.ISO_8859_1);
+            return contenu.contains("java/awt/") || contenu.contains("javax/swing/");
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Lecture impossible : " + fichier, e);
+        }
+    }
+}
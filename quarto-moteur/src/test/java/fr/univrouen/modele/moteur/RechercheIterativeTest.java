@@ -0,0 +1,57 @@
+package fr.univrouen.modele.moteur;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.arbre.*;
+import fr.univrouen.modele.jeu.partie.*;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+import fr.univrouen.modele.joueur.ia.JoueurIA;
+import fr.univrouen.modele.joueur.ia.JoueurNegaBeta;
+
+/**
+ * Classe de test pour la recherche par approfondissement itératif.
+ */
+public class RechercheIterativeTest {
+
+    /**
+     * La pièce donnée ne doit pas permettre à l'adversaire de gagner au coup suivant, quel que soit l'algorithme,
+     * et le score annoncé doit être celui du joueur au trait.
+     */
+    @Test
+    void testPieceDonneeNePerdPas() {
+        for (Arborescence arborescence : new Arborescence[] { new ArborescenceMinimax(),
+                new ArborescenceNegamax(), new ArborescenceAlphaBeta(), new ArborescenceNegaBeta() }) {
+            List<IterationRecherche> iterations = new ArrayList<>();
+            Coup coup = new RechercheIterative(arborescence).chercher(partie(), 2, 0, 0, iterations::add);
+
+            String nom = arborescence.getClass().getSimpleName();
+            assertTrue(coup.getPiece() >= 12, nom + " ne doit pas donner une pièce gagnante");
+            assertFalse(iterations.isEmpty(), nom);
+            for (IterationRecherche iteration : iterations) {
+                assertNotEquals(Double.NEGATIVE_INFINITY, iteration.getScore(), nom);
+            }
+        }
+    }
+
+    /**
+     * Construit une partie où la première ligne contient les pièces 0, 1 et 2 et où le second joueur doit donner
+     * une pièce : les pièces 0 à 11 complètent la ligne en case 3, seules les pièces 12 à 15 sont sûres.
+     *
+     * @return La partie, entre deux IA Néga-Bêta.
+     */
+    private static Jeu partie() {
+        long plans = 0L;
+        for (int index = 0; index < 3; index++) {
+            plans = Plateau.poserDansPlans(plans, index, index);
+        }
+        EtatJeu etat = EtatJeu.creer(new StrategieNiveau1(), plans, 0b111, 0xFFF8, EtatJeu.AUCUNE_PIECE, 1);
+        JoueurIA ia = new JoueurNegaBeta();
+        return JeuQuarto.depuisEtat(etat, ia, ia);
+    }
+}
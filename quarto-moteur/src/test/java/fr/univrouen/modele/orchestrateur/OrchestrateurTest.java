@@ -0,0 +1,134 @@
+package fr.univrouen.modele.orchestrateur;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.*;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.jeu.partie.*;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+import fr.univrouen.modele.joueur.ia.*;
+
+/**
+ * Classe de test pour la classe Orchestrateur.
+ */
+public class OrchestrateurTest {
+
+    /** Nom du thread d'application simulé. */
+    private static final String APPLICATION = "quarto-application";
+
+    /**
+     * Deux IA doivent jouer une partie complète, chaque coup étant décidé hors du thread d'application
+     * puis joué sur celui-ci.
+     *
+     * @throws Exception si l'attente sur le thread d'application échoue.
+     */
+    @Test
+    void testPartieEntreIA() throws Exception {
+        ExecutorService application = creerApplication();
+        try {
+            JeuQuarto jeu = new JeuQuarto(new JoueurNegaBeta(), new JoueurAlphaBeta(), new StrategieNiveau1());
+            Orchestrateur orchestrateur = new Orchestrateur(jeu, 0, application);
+            jeu.addObserver(orchestrateur);
+            jeu.addObserver(() -> assertEquals(APPLICATION, Thread.currentThread().getName(),
+                    "Les coups doivent être joués sur le thread d'application"));
+
+            application.submit(orchestrateur::update).get();
+
+            long limite = System.currentTimeMillis() + 30_000;
+            boolean terminee = false;
+            while (!terminee && System.currentTimeMillis() < limite) {
+                Thread.sleep(20);
+                terminee = application.submit(jeu::estTerminee).get();
+            }
+
+            assertTrue(terminee);
+            assertTrue(jeu.getCoupsJoues() > 0);
+        } finally {
+            application.shutdownNow();
+        }
+    }
+
+    /**
+     * Une décision arrivant après l'arrêt de l'orchestrateur doit être ignorée.
+     *
+     * @throws Exception si l'attente sur le thread d'application échoue.
+     */
+    @Test
+    void testResultatPerimeIgnore() throws Exception {
+        ExecutorService application = creerApplication();
+        try {
+            JeuQuarto jeu = new JeuQuarto(new JoueurNegaBeta(), new JoueurNegaBeta(), new StrategieNiveau1());
+            Orchestrateur orchestrateur = new Orchestrateur(jeu, 200, application);
+            jeu.addObserver(orchestrateur);
+
+            application.submit(() -> {
+                orchestrateur.update();
+                orchestrateur.arreter();
+            }).get();
+
+            Thread.sleep(500);
+            assertTrue(application.submit(jeu::debutPartie).get(), "Aucun coup ne doit être joué");
+            assertThrows(IllegalArgumentException.class, () -> new Orchestrateur(jeu, 0, null));
+        } finally {
+            application.shutdownNow();
+        }
+    }
+
+    /**
+     * Une décision qui échoue doit être journalisée, sans qu'aucun coup soit joué.
+     *
+     * @throws Exception si l'attente sur le thread d'application échoue.
+     */
+    @Test
+    void testDecisionEnEchecJournalisee() throws Exception {
+        ExecutorService application = creerApplication();
+        Logger journal = Logger.getLogger(Orchestrateur.class.getName());
+        CountDownLatch journalise = new CountDownLatch(1);
+        Handler capture = new Handler() {
+            @Override
+            public void publish(LogRecord enregistrement) {
+                if (enregistrement.getThrown() instanceof IllegalStateException) journalise.countDown();
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        };
+        journal.addHandler(capture);
+        try {
+            JoueurIA defaillant = new JoueurNegaBeta() {
+                @Override
+                public Coup deciderCoup(Jeu jeu) {
+                    throw new IllegalStateException("Panne simulée");
+                }
+            };
+            JeuQuarto jeu = new JeuQuarto(defaillant, defaillant, new StrategieNiveau1());
+            Orchestrateur orchestrateur = new Orchestrateur(jeu, 0, application);
+            jeu.addObserver(orchestrateur);
+
+            application.submit(orchestrateur::update).get();
+
+            assertTrue(journalise.await(5, TimeUnit.SECONDS), "L'échec doit être journalisé");
+            assertTrue(application.submit(jeu::debutPartie).get(), "Aucun coup ne doit être joué");
+        } finally {
+            journal.removeHandler(capture);
+            application.shutdownNow();
+        }
+    }
+
+    /**
+     * Crée un thread d'application unique, jouant le rôle de l'EDT de l'interface.
+     *
+     * @return L'exécuteur du thread d'application.
+     */
+    private static ExecutorService creerApplication() {
+        return Executors.newSingleThreadExecutor(tache -> new Thread(tache, APPLICATION));
+    }
+}
@@ -0,0 +1,110 @@
+package fr.univrouen.modele.session;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.EtatJeu;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+import fr.univrouen.modele.joueur.humain.JoueurHumain;
+import fr.univrouen.modele.joueur.ia.*;
+
+/**
+ * Classe de test pour l'hôte de sessions.
+ */
+public class HoteSessionsTest {
+
+    /**
+     * De nombreuses parties entre IA doivent se jouer jusqu'au bout sur un pool de deux threads,
+     * et les statistiques doivent en rendre compte.
+     *
+     * @throws InterruptedException si l'attente est interrompue.
+     */
+    @Test
+    void testSessionsSimultanees() throws InterruptedException {
+        HoteSessions hote = new HoteSessions(2, 100, new QuotasSession(50, 0, 20_000, 60_000));
+        try {
+            List<Session> sessions = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                sessions.add(hote.creerSession(new JoueurNegaBeta(), new JoueurAlphaBeta(), new StrategieNiveau1()));
+            }
+
+            long limite = System.currentTimeMillis() + 60_000;
+            while (hote.getStatistiques().getSessionsEnCours() > 0 && System.currentTimeMillis() < limite) {
+                Thread.sleep(20);
+            }
+
+            StatistiquesHote statistiques = hote.getStatistiques();
+            assertEquals(0, statistiques.getSessionsEnCours(), statistiques.toString());
+            assertEquals(40, statistiques.getSessions());
+            assertEquals(40, statistiques.getSessionsCreees());
+            assertEquals(40, statistiques.getSessionsTerminees());
+            assertEquals(0, statistiques.getFileAttente());
+            // Au moins le don initial et les quatre placements d'un alignement par partie
+            assertTrue(statistiques.getCoups() >= 40 * 5, statistiques.toString());
+            assertTrue(statistiques.getLatence(50) <= statistiques.getLatence(99));
+            assertThrows(IllegalArgumentException.class, () -> statistiques.getLatence(101));
+
+            for (Session session : sessions) {
+                assertNotEquals(Session.Etat.EN_COURS, session.getEtat());
+                assertNotEquals(Session.Etat.ERREUR, session.getEtat());
+                assertSame(session, hote.getSession(session.getId()));
+            }
+        } finally {
+            hote.arreter();
+        }
+    }
+
+    /**
+     * Les quotas doivent être donnés aux IA, le nombre de sessions borné,
+     * et une session qui attend un coup humain doit être évincée après la durée d'inactivité.
+     *
+     * @throws InterruptedException si l'attente est interrompue.
+     */
+    @Test
+    void testQuotasEtEviction() throws InterruptedException {
+        QuotasSession quotas = new QuotasSession(1_000, 10, 5_000, 150);
+        HoteSessions hote = new HoteSessions(1, 1, quotas);
+        try {
+            JoueurNegaBeta ia = new JoueurNegaBeta();
+            assertThrows(IllegalArgumentException.class, () -> hote.creerSession(ia, ia, new StrategieNiveau1()));
+
+            Session session = hote.creerSession(new JoueurHumain(), ia, new StrategieNiveau1());
+            assertEquals(1_000, ia.getPendule().getBase());
+            assertEquals(5_000, ia.getQuotaNoeuds());
+            assertThrows(IllegalArgumentException.class,
+                    () -> hote.creerSession(new JoueurHumain(), new JoueurNegaBeta(), new StrategieNiveau1()));
+
+            // Le coup humain déclenche la réponse de l'IA, qui rend la main
+            session.jouer(Coup.get(Coup.AUCUN, 0));
+            long limite = System.currentTimeMillis() + 10_000;
+            while (session.getCoupsJoues() < 2 && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, session.getCoupsJoues());
+            assertEquals(Session.Etat.EN_COURS, session.getEtat());
+            assertNotEquals(EtatJeu.AUCUNE_PIECE, session.getInstantane().getPieceEnMain());
+
+            // Sans nouveau coup humain, la session est évincée
+            limite = System.currentTimeMillis() + 10_000;
+            while (hote.getSession(session.getId()) != null && System.currentTimeMillis() < limite) {
+                Thread.sleep(20);
+            }
+            assertNull(hote.getSession(session.getId()));
+            assertEquals(Session.Etat.FERMEE, session.getEtat());
+            assertEquals(1, hote.getStatistiques().getSessionsEvincees());
+            assertThrows(IllegalArgumentException.class, () -> session.jouer(Coup.get(0, 1)));
+
+            // La place libérée peut être reprise
+            Session suivante = hote.creerSession(new JoueurHumain(), new JoueurNegaBeta(), new StrategieNiveau1());
+            assertTrue(hote.fermerSession(suivante.getId()));
+            assertFalse(hote.fermerSession(suivante.getId()));
+        } finally {
+            hote.arreter();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package fr.univrouen.modele.temps;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.OutilsAleatoires;
+import fr.univrouen.modele.arbre.*;
+import fr.univrouen.modele.jeu.partie.*;
+import fr.univrouen.modele.jeu.partie.plateau.Plateau;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+import fr.univrouen.modele.joueur.ia.*;
+
+/**
+ * Classe de test pour la gestion du temps des IA.
+ */
+public class GestionnaireTempsTest {
+
+    /**
+     * La pendule doit décompter chaque coup et n'ajouter l'incrément que si le temps n'est pas dépassé.
+     */
+    @Test
+    void testPendule() {
+        Pendule pendule = new Pendule(1000, 100);
+        pendule.consommer(300);
+        assertEquals(800, pendule.getRestant());
+        assertFalse(pendule.estTombee());
+
+        pendule.consommer(900);
+        assertEquals(-100, pendule.getRestant());
+        assertTrue(pendule.estTombee());
+
+        pendule.reinitialiser();
+        assertEquals(1000, pendule.getRestant());
+        assertThrows(IllegalArgumentException.class, () -> new Pendule(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> pendule.consommer(-1));
+    }
+
+    /**
+     * Le budget doit être plus faible en ouverture qu'en milieu de partie, tenir compte des pièces sûres,
+     * et la limite dure ne doit jamais dépasser la moitié du temps restant.
+     */
+    @Test
+    void testBudgetSelonPosition() {
+        GestionnaireTemps gestionnaire = new GestionnaireTemps(new Pendule(60_000, 0));
+        Jeu ouverture = new JeuQuarto(new JoueurNegaBeta(), new JoueurNegaBeta(), new StrategieNiveau1());
+        Jeu milieu = milieuDePartie();
+
+        Echeance echeanceOuverture = gestionnaire.allouer(ouverture);
+        Echeance echeanceMilieu = gestionnaire.allouer(milieu);
+        assertTrue(echeanceOuverture.getBudget() < echeanceMilieu.getBudget());
+        assertTrue(echeanceMilieu.getBudget() <= echeanceMilieu.getLimite());
+        assertTrue(echeanceMilieu.getLimite() <= 30_000);
+
+        assertEquals(16, GestionnaireTemps.compterPiecesSures(ouverture));
+        assertTrue(GestionnaireTemps.facteurPiecesSures(2) > GestionnaireTemps.facteurPiecesSures(10));
+        assertTrue(GestionnaireTemps.facteurPiecesSures(10) > GestionnaireTemps.facteurPiecesSures(0));
+
+        // Pièces 0, 1 et 2 sur la première ligne : seules les pièces 12 à 15 ne la complètent pas
+        long plans = 0L;
+        for (int index = 0; index < 3; index++) {
+            plans = Plateau.poserDansPlans(plans, index, index);
+        }
+        EtatJeu etat = EtatJeu.creer(new StrategieNiveau1(), plans, 0b111, 0xFFF8, EtatJeu.AUCUNE_PIECE, 0);
+        assertEquals(4, GestionnaireTemps.compterPiecesSures(JeuQuarto.depuisEtat(etat, null, null)));
+
+        assertTrue(GestionnaireTemps.facteurInstabilite(true, 1.0, 1.0) > GestionnaireTemps.facteurInstabilite(false, 1.0, 1.0));
+        assertEquals(1.0, GestionnaireTemps.facteurInstabilite(false, 1.0, 1.1));
+        assertTrue(GestionnaireTemps.facteurInstabilite(false, 1.0, Double.POSITIVE_INFINITY) > 1.0);
+    }
+
+    /**
+     * Chaque algorithme doit respecter la limite dure de son échéance, et son temps doit être décompté.
+     */
+    @Test
+    void testLimiteDureRespectee() {
+        for (JoueurIA ia : new JoueurIA[] {
+                new JoueurMinimax(), new JoueurAlphaBeta(), new JoueurNegamax(), new JoueurNegaBeta() }) {
+            JeuQuarto jeu = new JeuQuarto(ia, ia, new StrategieNiveau1());
+            jeu.jouerCoup(Coup.get(Coup.AUCUN, 0));
+            Pendule pendule = new Pendule(400, 0);
+            ia.setPendule(pendule);
+
+            long debut = System.nanoTime();
+            Coup coup = ia.deciderCoup(jeu);
+            long duree = (System.nanoTime() - debut) / 1_000_000;
+
+            // Limite dure : au plus la moitié des 400 ms, plus une marge pour la machine de test
+            assertTrue(duree < 300, ia.getNom() + " a réfléchi " + duree + " ms");
+            assertTrue(pendule.getRestant() < 400);
+            jeu.jouerCoup(coup);
+
+            ia.setPendule(null);
+            assertNull(ia.getPendule());
+        }
+    }
+
+    /**
+     * Une construction d'arbre doit être abandonnée à la limite dure, et menée à son terme sans échéance.
+     */
+    @Test
+    void testInterruptionDesArbres() {
+        JeuQuarto jeu = new JeuQuarto(new JoueurNegaBeta(), new JoueurNegaBeta(), new StrategieNiveau1());
+        jeu.jouerCoup(Coup.get(Coup.AUCUN, 0));
+        Echeance depassee = Echeance.depuisMaintenant(0, 0);
+        assertTrue(depassee.estDepassee());
+        assertFalse(Echeance.AUCUNE.estDepassee());
+
+        for (Arborescence arborescence : new Arborescence[] {
+                new ArborescenceMinimax(), new ArborescenceAlphaBeta(), new ArborescenceNegamax(), new ArborescenceNegaBeta() }) {
+            assertNull(arborescence.construireArbre(jeu, Joueur.MAX, 6, depassee), arborescence.getClass().getSimpleName());
+            assertNotNull(arborescence.construireArbre(jeu, Joueur.MAX, 1, depassee), arborescence.getClass().getSimpleName());
+            assertNotNull(arborescence.construireArbre(jeu, Joueur.MAX, 2, Echeance.AUCUNE));
+        }
+
+        Echeance echeance = Echeance.depuisMaintenant(1000, 2000);
+        Echeance moitie = echeance.partager(0.5);
+        assertTrue(moitie.getBudget() <= 510 && moitie.getBudget() >= 490);
+        assertEquals(2000, moitie.getLimite());
+        assertThrows(IllegalArgumentException.class, () -> Echeance.depuisMaintenant(10, 5));
+    }
+
+    /**
+     * Un arbre qui dépasse le quota de nœuds de son échéance doit être abandonné.
+     */
+    @Test
+    void testQuotaNoeuds() {
+        JeuQuarto jeu = new JeuQuarto(new JoueurNegaBeta(), new JoueurNegaBeta(), new StrategieNiveau1());
+        jeu.jouerCoup(Coup.get(Coup.AUCUN, 0));
+        Echeance echeance = Echeance.depuisMaintenant(60_000, 60_000);
+
+        for (Arborescence arborescence : new Arborescence[] {
+                new ArborescenceMinimax(), new ArborescenceAlphaBeta(), new ArborescenceNegamax(), new ArborescenceNegaBeta() }) {
+            assertNull(arborescence.construireArbre(jeu, Joueur.MAX, 2, echeance.limiterNoeuds(10)), arborescence.getClass().getSimpleName());
+            assertNotNull(arborescence.construireArbre(jeu, Joueur.MAX, 2, echeance.limiterNoeuds(1_000_000)));
+        }
+
+        assertEquals(10, echeance.limiterNoeuds(10).partager(0.5).getNoeudsMax());
+        assertEquals(Long.MAX_VALUE, echeance.getNoeudsMax());
+        assertThrows(IllegalArgumentException.class, () -> echeance.limiterNoeuds(0));
+        assertThrows(IllegalArgumentException.class, () -> Echeance.AUCUNE.limiterNoeuds(10));
+
+        JoueurNegaBeta ia = new JoueurNegaBeta();
+        ia.setPendule(new Pendule(2_000, 0));
+        ia.setQuotaNoeuds(50);
+        assertNotNull(ia.deciderCoup(jeu), "Le premier demi-coup garantit une décision malgré le quota");
+        assertThrows(IllegalArgumentException.class, () -> ia.setQuotaNoeuds(-1));
+    }
+
+    /**
+     * Une échéance arrêtable doit être atteinte dès que son drapeau est levé, en gardant ses autres limites.
+     */
+    @Test
+    void testArretExterieur() {
+        AtomicBoolean arret = new AtomicBoolean();
+        Echeance echeance = Echeance.depuisMaintenant(60_000, 60_000).limiterNoeuds(100).arretable(arret);
+        assertFalse(echeance.estDepassee());
+        assertTrue(echeance.peutApprofondir(0, 1.0));
+        assertEquals(100, echeance.partager(0.5).getNoeudsMax());
+
+        arret.set(true);
+        assertTrue(echeance.estDepassee());
+        assertTrue(echeance.partager(0.5).estDepassee());
+        assertFalse(echeance.peutApprofondir(0, 1.0));
+
+        JeuQuarto jeu = new JeuQuarto(new JoueurNegaBeta(), new JoueurNegaBeta(), new StrategieNiveau1());
+        jeu.jouerCoup(Coup.get(Coup.AUCUN, 0));
+        assertNull(new ArborescenceNegaBeta().construireArbre(jeu, Joueur.MAX, 6, echeance));
+        assertThrows(IllegalArgumentException.class, () -> Echeance.AUCUNE.arretable(arret));
+        assertThrows(IllegalArgumentException.class, () -> echeance.arretable(null));
+    }
+
+    /**
+     * Joue une partie aléatoire jusqu'à ce qu'il reste 8 cases libres, en recommençant si elle se termine avant.
+     *
+     * @return Une partie en milieu de jeu.
+     */
+    private static Jeu milieuDePartie() {
+        Random aleatoire = new Random(43);
+        while (true) {
+            JeuQuarto jeu = new JeuQuarto(new JoueurNegaBeta(), new JoueurNegaBeta(), new StrategieNiveau1());
+            jeu.jouerCoup(Coup.get(Coup.AUCUN, aleatoire.nextInt(16)));
+            while (!jeu.estTerminee() && Integer.bitCount(jeu.getPlateau().getMasqueLibres()) > 8) {
+                int disponibles = jeu.getMasquePiecesRestantes() & ~(1 << jeu.getPieceCourante().getId());
+                jeu.jouerCoup(Coup.get(OutilsAleatoires.tirer(jeu.getPlateau().getMasqueLibres(), aleatoire), OutilsAleatoires.tirer(disponibles, aleatoire)));
+            }
+            if (!jeu.estTerminee()) return jeu;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package fr.univrouen.outil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import fr.univrouen.modele.jeu.partie.strategie.Strategies;
+
+/**
+ * Classe de test pour le coordinateur de l'auto-apprentissage distribué.
+ */
+public class CoordinateurAutoPartieTest {
+
+    /**
+     * Malgré un travailleur qui se déconnecte avec son lot et un autre qui le garde sans répondre,
+     * tous les lots doivent être joués et fusionnés à l'identique d'une génération en un seul processus.
+     *
+     * @throws Exception en cas d'erreur de réseau ou d'attente.
+     */
+    @Test
+    void testLotsPerdusRelances() throws Exception {
+        CoordinateurAutoPartie coordinateur = new CoordinateurAutoPartie(1, 0.1, 0, 23, 5, 11, 300);
+        String hote = InetAddress.getLoopbackAddress().getHostAddress();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            coordinateur.demarrer(InetAddress.getLoopbackAddress(), 0);
+            int port = coordinateur.getPort();
+
+            // Le premier lot est perdu à la déconnexion, le second reste bloqué jusqu'à l'expiration du bail
+            try (Socket perdu = new Socket(hote, port)) {
+                demanderLot(perdu);
+            }
+            try (Socket bloque = new Socket(hote, port)) {
+                demanderLot(bloque);
+
+                List<Future<Integer>> travailleurs = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    travailleurs.add(pool.submit(() -> TravailleurAutoPartie.travailler(hote, port, 1)));
+                }
+                assertTrue(coordinateur.attendre(60_000));
+                int lots = 0;
+                for (Future<Integer> travailleur : travailleurs) {
+                    lots += travailleur.get(10, TimeUnit.SECONDS);
+                }
+                assertTrue(lots >= 5, "Chaque lot doit être joué au moins une fois");
+            }
+
+            assertTrue(coordinateur.getRelances() >= 2, "Les deux lots perdus doivent être relancés");
+            assertEquals(5, coordinateur.getLotsTermines());
+            assertEquals(4, coordinateur.getTravailleurs());
+
+            List<Echantillon> attendus = OutilsLigneCommande.generer(
+                new AutoPartie(OutilsLigneCommande.motifs(Strategies.STRATEGIE_NIVEAU_1), 0.1, 0), 23, 11);
+            List<Echantillon> obtenus = coordinateur.getEchantillons();
+            assertEquals(attendus.size(), obtenus.size());
+            for (int i = 0; i < attendus.size(); i++) {
+                assertMemeEchantillon(attendus.get(i), obtenus.get(i));
+            }
+        } finally {
+            coordinateur.arreter();
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Un résultat pour un lot invalide doit couper la connexion sans perturber le coordinateur,
+     * et un lot abandonné par une nouvelle demande doit être remis en file aussitôt.
+     *
+     * @throws Exception en cas d'erreur de réseau.
+     */
+    @Test
+    void testMessagesInvalides() throws Exception {
+        CoordinateurAutoPartie coordinateur = new CoordinateurAutoPartie(1, 0.1, 0, 23, 4, 2, 60_000);
+        String hote = InetAddress.getLoopbackAddress().getHostAddress();
+        try {
+            coordinateur.demarrer(InetAddress.getLoopbackAddress(), 0);
+            int port = coordinateur.getPort();
+
+            try (Socket intrus = new Socket(hote, port)) {
+                presenter(intrus);
+                DataOutputStream sortie = new DataOutputStream(intrus.getOutputStream());
+                sortie.writeByte(CoordinateurAutoPartie.RESULTAT);
+                sortie.writeInt(-1);
+                sortie.writeInt(0);
+                assertEquals(-1, intrus.getInputStream().read(), "La connexion doit être coupée");
+            }
+
+            try (Socket travailleur = new Socket(hote, port)) {
+                int premier = demanderLot(travailleur);
+                assertEquals(premier, demander(travailleur), "Le lot abandonné doit être prêté de nouveau");
+                assertEquals(1, coordinateur.getRelances());
+                assertEquals(0, coordinateur.getLotsTermines());
+            }
+        } finally {
+            coordinateur.arreter();
+        }
+    }
+
+    /**
+     * Les échantillons écrits dans un fichier doivent être relus à l'identique,
+     * et un fichier d'un autre format doit être refusé.
+     *
+     * @param dossier Un dossier temporaire.
+     * @throws IOException en cas d'erreur d'écriture ou de lecture.
+     */
+    @Test
+    void testFichierEchantillons(@TempDir Path dossier) throws IOException {
+        List<Echantillon> echantillons = new AutoPartie(
+            OutilsLigneCommande.motifs(Strategies.STRATEGIE_NIVEAU_2), 0.2, 0).jouer(5);
+        Path fichier = dossier.resolve("echantillons.bin");
+        Echantillon.sauvegarder(fichier, echantillons);
+        assertEquals(8 + echantillons.size() * Echantillon.TAILLE, fichier.toFile().length());
+
+        List<Echantillon> relus = Echantillon.charger(fichier);
+        assertEquals(echantillons.size(), relus.size());
+        for (int i = 0; i < echantillons.size(); i++) {
+            assertMemeEchantillon(echantillons.get(i), relus.get(i));
+        }
+
+        Path autre = dossier.resolve("autre.bin");
+        Files.write(autre, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+        assertThrows(IllegalArgumentException.class, () -> Echantillon.charger(autre));
+    }
+
+    /**
+     * Se présente au coordinateur et lui demande un lot, sans jamais le rendre.
+     *
+     * @param socket La connexion au coordinateur.
+     * @return Le numéro du lot prêté.
+     * @throws IOException en cas d'erreur de réseau.
+     */
+    private static int demanderLot(Socket socket) throws IOException {
+        presenter(socket);
+        return demander(socket);
+    }
+
+    /**
+     * Se présente au coordinateur et lit la configuration des parties.
+     *
+     * @param socket La connexion au coordinateur.
+     * @throws IOException en cas d'erreur de réseau.
+     */
+    private static void presenter(Socket socket) throws IOException {
+        DataInputStream entree = new DataInputStream(socket.getInputStream());
+        new DataOutputStream(socket.getOutputStream()).writeInt(CoordinateurAutoPartie.SIGNATURE);
+        assertEquals(1, entree.readInt());
+        entree.readDouble();
+        entree.readInt();
+    }
+
+    /**
+     * Demande un lot au coordinateur.
+     *
+     * @param socket La connexion au coordinateur, déjà présentée.
+     * @return Le numéro du lot prêté.
+     * @throws IOException en cas d'erreur de réseau.
+     */
+    private static int demander(Socket socket) throws IOException {
+        DataInputStream entree = new DataInputStream(socket.getInputStream());
+        new DataOutputStream(socket.getOutputStream()).writeByte(CoordinateurAutoPartie.DEMANDE);
+        assertEquals(CoordinateurAutoPartie.LOT, entree.readByte());
+        int lot = entree.readInt();
+        entree.readLong();
+        entree.readInt();
+        return lot;
+    }
+
+    /**
+     * Vérifie que deux échantillons décrivent la même position avec la même étiquette.
+     *
+     * @param attendu L'échantillon attendu.
+     * @param obtenu  L'échantillon obtenu.
+     */
+    private static void assertMemeEchantillon(Echantillon attendu, Echantillon obtenu) {
+        assertEquals(attendu.getPlans(), obtenu.getPlans());
+        assertEquals(attendu.getOccupation(), obtenu.getOccupation());
+        assertEquals(attendu.getRestantes(), obtenu.getRestantes());
+        assertEquals(attendu.getPieceEnMain(), obtenu.getPieceEnMain());
+        assertEquals(attendu.getResultat(), obtenu.getResultat());
+    }
+}
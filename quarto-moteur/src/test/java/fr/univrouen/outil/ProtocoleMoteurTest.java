@@ -0,0 +1,92 @@
+package fr.univrouen.outil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.jeu.partie.Coup;
+import fr.univrouen.modele.jeu.partie.EtatJeu;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+
+/**
+ * Classe de test pour la classe ProtocoleMoteur.
+ */
+public class ProtocoleMoteurTest {
+
+    /**
+     * Chaque algorithme doit se présenter, annoncer ses itérations et jouer un coup légal dans la position donnée.
+     *
+     * @throws IOException en cas d'erreur de lecture.
+     */
+    @Test
+    void testRechercheParProtocole() throws IOException {
+        for (String algorithme : new String[] { "minimax", "negamax", "alphabeta", "negabeta" }) {
+            List<String> reponses = executer(algorithme,
+                "quarto", "isready", "position startpos moves -5 3a", "go depth 3", "quit");
+
+            assertEquals("quartook", reponses.get(3), algorithme);
+            assertEquals("readyok", reponses.get(4), algorithme);
+            assertTrue(reponses.get(5).matches("info depth 1 score -?\\w+ nodes \\d+ nps \\d+ time \\d+ pv .+"),
+                reponses.get(5));
+
+            String dernier = reponses.get(reponses.size() - 1);
+            assertTrue(dernier.startsWith("bestmove "), algorithme + " : " + reponses);
+            EtatJeu etat = EtatJeu.initial(new StrategieNiveau1()).donner(5).placer(3).donner(10);
+            EtatJeu apres = etat.appliquer(Coup.depuisNotation(dernier.substring(9)));
+            assertNotEquals(etat.getOccupation(), apres.getOccupation());
+        }
+    }
+
+    /**
+     * Une recherche sans limite doit s'arrêter sur {@code stop}, et une recherche limitée en nœuds d'elle-même.
+     *
+     * @throws IOException en cas d'erreur de lecture.
+     */
+    @Test
+    void testArretEtLimites() throws IOException {
+        long debut = System.currentTimeMillis();
+        List<String> reponses = executer("negabeta",
+            "position startpos", "go infinite", "stop", "position startpos moves -0", "go nodes 2000", "quit");
+        assertTrue(System.currentTimeMillis() - debut < 30_000);
+        assertEquals(2, reponses.stream().filter(ligne -> ligne.startsWith("bestmove ")).count(), reponses.toString());
+        assertTrue(reponses.get(reponses.size() - 1).matches("bestmove [0-9a-f][0-9a-f]"), reponses.toString());
+    }
+
+    /**
+     * Les commandes invalides doivent être signalées sans arrêter le moteur.
+     *
+     * @throws IOException en cas d'erreur de lecture.
+     */
+    @Test
+    void testErreurs() throws IOException {
+        List<String> reponses = executer("negabeta", "bonjour", "position startpos moves 3a",
+            "position notation 0..a............ 5", "setoption name niveau value 9", "go depth -1",
+            "position notation 0123............ - 1", "go", "isready");
+        assertEquals("info string commande inconnue : bonjour", reponses.get(0));
+        for (int i = 1; i < 5; i++) {
+            assertTrue(reponses.get(i).startsWith("info string erreur"), reponses.get(i));
+        }
+        assertEquals("bestmove (aucun)", reponses.get(6), reponses.toString());
+        assertEquals("readyok", reponses.get(7));
+        assertThrows(IllegalArgumentException.class, () -> new ProtocoleMoteur("inconnu", System.out));
+    }
+
+    /**
+     * Exécute des commandes et retourne les réponses du moteur.
+     *
+     * @param algorithme Le nom de l'algorithme.
+     * @param commandes  Les commandes.
+     * @return Les lignes de réponse.
+     * @throws IOException en cas d'erreur de lecture.
+     */
+    private static List<String> executer(String algorithme, String... commandes) throws IOException {
+        ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        PrintStream sortie = new PrintStream(octets, true, "UTF-8");
+        new ProtocoleMoteur(algorithme, sortie).executer(new BufferedReader(new StringReader(String.join("\n", commandes))));
+        return Arrays.asList(new String(octets.toByteArray(), StandardCharsets.UTF_8).split("\\R"));
+    }
+}
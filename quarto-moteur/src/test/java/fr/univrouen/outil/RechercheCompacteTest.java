@@ -0,0 +1,59 @@
+package fr.univrouen.outil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.evaluation.EvaluateurLot;
+import fr.univrouen.modele.evaluation.EvaluateurMotifs;
+import fr.univrouen.modele.jeu.partie.EtatJeu;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieGagnante;
+import fr.univrouen.modele.jeu.partie.strategie.StrategieNiveau1;
+
+/**
+ * Classe de test pour la classe RechercheCompacte.
+ */
+public class RechercheCompacteTest {
+
+    /**
+     * Une fin de partie cherchée jusqu'au bout doit avoir le même score avec et sans table de transposition,
+     * et une seconde recherche avec la même table doit visiter moins de nœuds.
+     */
+    @Test
+    void testTableTransposition() {
+        StrategieGagnante strategie = new StrategieNiveau1();
+        EtatJeu etat = EtatJeu.depuisNotation("0.5.a.3.f.6.9... c 0", strategie);
+        long duree = TimeUnit.SECONDS.toNanos(30);
+
+        RechercheCompacte sansTable = creer(strategie, null);
+        sansTable.chercher(etat.getPlans(), etat.getOccupation(), etat.getRestantes(), etat.getPieceEnMain(), duree, 32);
+
+        TableTransposition table = new TableTransposition(1 << 16);
+        RechercheCompacte avecTable = creer(strategie, table);
+        avecTable.chercher(etat.getPlans(), etat.getOccupation(), etat.getRestantes(), etat.getPieceEnMain(), duree, 32);
+        assertEquals(sansTable.getScore(), avecTable.getScore());
+        assertEquals(sansTable.getProfondeurAtteinte(), avecTable.getProfondeurAtteinte());
+        assertTrue(table.getEcritures() > 0);
+
+        RechercheCompacte seconde = creer(strategie, table);
+        seconde.chercher(etat.getPlans(), etat.getOccupation(), etat.getRestantes(), etat.getPieceEnMain(), duree, 32);
+        assertEquals(sansTable.getScore(), seconde.getScore());
+        assertTrue(seconde.getNoeuds() < avecTable.getNoeuds(),
+            seconde.getNoeuds() + " nœuds après " + avecTable.getNoeuds());
+        assertTrue(table.getSucces() > 0);
+    }
+
+    /**
+     * Crée une recherche à l'heuristique des motifs d'une stratégie.
+     *
+     * @param strategie La stratégie.
+     * @param table     La table de transposition, ou {@code null}.
+     * @return La recherche.
+     */
+    private static RechercheCompacte creer(StrategieGagnante strategie, TableTransposition table) {
+        return new RechercheCompacte(EvaluateurLot.pour(strategie.getMotifs()),
+            new EvaluateurMotifs(strategie.getMotifs()), table);
+    }
+}
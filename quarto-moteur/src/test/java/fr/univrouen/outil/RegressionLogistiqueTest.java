@@ -0,0 +1,43 @@
+package fr.univrouen.outil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de test pour la classe RegressionLogistique.
+ */
+public class RegressionLogistiqueTest {
+
+    /**
+     * Sur des résultats générés par un modèle logistique connu,
+     * l'ajustement doit retrouver ses coefficients et son biais.
+     */
+    @Test
+    void testRetrouveModeleConnu() {
+        int n = 10_000;
+        double[] x = new double[2 * n];
+        double[] y = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            x[2 * i] = i % 7;
+            x[2 * i + 1] = (i * 13) % 5;
+            y[i] = RegressionLogistique.sigmoide(0.5 * x[2 * i] - 0.8 * x[2 * i + 1] + 0.3);
+        }
+
+        RegressionLogistique modele = RegressionLogistique.ajuster(x, 2, y, 5000);
+
+        assertEquals(0.5, modele.getCoefficients()[0], 1e-2);
+        assertEquals(-0.8, modele.getCoefficients()[1], 1e-2);
+        assertEquals(0.3, modele.getBiais(), 1e-2);
+    }
+
+    /**
+     * Des tailles incohérentes doivent être refusées.
+     */
+    @Test
+    void testObservationsIncoherentes() {
+        assertThrows(IllegalArgumentException.class,
+            () -> RegressionLogistique.ajuster(new double[3], 2, new double[2], 10));
+    }
+}
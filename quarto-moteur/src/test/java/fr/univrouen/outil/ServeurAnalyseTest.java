@@ -0,0 +1,150 @@
+package fr.univrouen.outil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de test pour la classe ServeurAnalyse.
+ */
+public class ServeurAnalyseTest {
+
+    /**
+     * Une requête sur l'adresse locale doit renvoyer, pour chaque position, un coup légal et les statistiques
+     * de la recherche ; une position invalide ou une mauvaise méthode doivent être refusées.
+     *
+     * @throws IOException en cas d'erreur de communication.
+     */
+    @Test
+    void testAnalyse() throws IOException {
+        ServeurAnalyse serveur = new ServeurAnalyse(0, 2, 1 << 16);
+        serveur.demarrer();
+        try {
+            String reponse = envoyer(serveur, "POST", "/analyse?temps=200&niveau=1",
+                "0..a............ 5 1\n\n................ - 0\n", 200);
+            assertTrue(reponse.startsWith("[{\"position\":\"0..a............ 5 1\",\"case\":"), reponse);
+            assertTrue(reponse.contains("{\"position\":\"................ - 0\",\"case\":-1,\"piece\":"), reponse);
+            assertTrue(reponse.contains("\"noeuds\":"), reponse);
+            assertFalse(reponse.contains("\"case\":0,") || reponse.contains("\"case\":3,"), reponse);
+
+            assertTrue(envoyer(serveur, "POST", "/analyse", "0..0............ 5 1", 400).contains("erreur"));
+            envoyer(serveur, "POST", "/analyse?temps=0", "0..a............ 5 1", 400);
+            envoyer(serveur, "POST", "/analyse", "", 400);
+            envoyer(serveur, "GET", "/analyse", null, 405);
+            assertTrue(envoyer(serveur, "GET", "/statistiques", null, 200).startsWith("{\"requetes\":"));
+        } finally {
+            serveur.arreter();
+        }
+    }
+
+    /**
+     * Une ligne invalide après des positions valides doit refuser la requête sans soumettre aucune analyse.
+     *
+     * @throws IOException en cas d'erreur de communication.
+     */
+    @Test
+    void testLigneInvalideSansAnalyse() throws IOException {
+        ServeurAnalyse serveur = new ServeurAnalyse(0, 2, 1 << 16);
+        serveur.demarrer();
+        try {
+            envoyer(serveur, "POST", "/analyse?temps=200&niveau=1",
+                "0..a............ 5 1\n................ - 0\n0..0............ 5 1\n", 400);
+            String statistiques = envoyer(serveur, "GET", "/statistiques", null, 200);
+            assertEquals(0, lireCompteur(statistiques, "analyses"), statistiques);
+            assertEquals(0, lireCompteur(statistiques, "enCours"), statistiques);
+        } finally {
+            serveur.arreter();
+        }
+    }
+
+    /**
+     * Des requêtes simultanées sur la même position doivent être servies, en partie par une même analyse,
+     * et partager la table de transposition.
+     *
+     * @throws Exception en cas d'erreur de communication.
+     */
+    @Test
+    void testRequetesSimultanees() throws Exception {
+        ServeurAnalyse serveur = new ServeurAnalyse(0, 2, 1 << 16);
+        serveur.demarrer();
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> reponses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                reponses.add(clients.submit(() -> envoyer(serveur, "POST", "/analyse?temps=300&niveau=2",
+                    "0.5.a...........  c 1", 200)));
+            }
+            for (Future<String> reponse : reponses) {
+                assertTrue(reponse.get(30, TimeUnit.SECONDS).startsWith("[{\"position\":"));
+            }
+            assertTrue(serveur.getAnalyseur().getTable().getEcritures() > 0);
+
+            String statistiques = envoyer(serveur, "GET", "/statistiques", null, 200);
+            assertTrue(statistiques.contains("\"requetes\":8,"), statistiques);
+            long analyses = lireCompteur(statistiques, "analyses");
+            long mutualisees = lireCompteur(statistiques, "mutualisees");
+            assertEquals(8, analyses + mutualisees, statistiques);
+            assertTrue(mutualisees > 0, statistiques);
+        } finally {
+            clients.shutdownNow();
+            serveur.arreter();
+        }
+    }
+
+    /**
+     * Lit un compteur entier d'une réponse JSON.
+     *
+     * @param json Le JSON.
+     * @param nom  Le nom du compteur.
+     * @return Sa valeur.
+     */
+    private static long lireCompteur(String json, String nom) {
+        int debut = json.indexOf("\"" + nom + "\":") + nom.length() + 3;
+        int fin = debut;
+        while (Character.isDigit(json.charAt(fin))) {
+            fin++;
+        }
+        return Long.parseLong(json.substring(debut, fin));
+    }
+
+    /**
+     * Envoie une requête au serveur et vérifie son code de statut.
+     *
+     * @param serveur Le serveur.
+     * @param methode La méthode HTTP.
+     * @param chemin  Le chemin et les paramètres.
+     * @param corps   Le corps de la requête, ou {@code null}.
+     * @param statut  Le code de statut attendu.
+     * @return Le corps de la réponse.
+     * @throws IOException en cas d'erreur de communication.
+     */
+    private static String envoyer(ServeurAnalyse serveur, String methode, String chemin, String corps, int statut)
+            throws IOException {
+        HttpURLConnection connexion = (HttpURLConnection) new URL("http://127.0.0.1:" + serveur.getPort() + chemin)
+            .openConnection();
+        connexion.setRequestMethod(methode);
+        if (corps != null) {
+            connexion.setDoOutput(true);
+            try (OutputStream sortie = connexion.getOutputStream()) {
+                sortie.write(corps.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(statut, connexion.getResponseCode());
+
+        InputStream entree = statut < 400 ? connexion.getInputStream() : connexion.getErrorStream();
+        ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        byte[] tampon = new byte[4096];
+        for (int lus = entree.read(tampon); lus >= 0; lus = entree.read(tampon)) {
+            octets.write(tampon, 0, lus);
+        }
+        entree.close();
+        return new String(octets.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
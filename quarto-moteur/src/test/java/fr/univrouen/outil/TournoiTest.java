@@ -0,0 +1,109 @@
+package fr.univrouen.outil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.Test;
+
+import fr.univrouen.modele.jeu.partie.strategie.Strategies;
+import fr.univrouen.modele.joueur.ia.IA;
+
+/**
+ * Classe de test pour la classe Tournoi.
+ */
+public class TournoiTest {
+
+    /**
+     * Un petit tournoi joué en parallèle doit produire des bilans cohérents pour chaque niveau et pour l'ensemble.
+     *
+     * @throws InterruptedException si l'attente des parties est interrompue.
+     */
+    @Test
+    void testToutesRondes() throws InterruptedException {
+        List<Tournoi.Participant> participants = Arrays.asList(new Tournoi.Participant(IA.NEGA_BETA, 0),
+            new Tournoi.Participant(IA.ALPHA_BETA, 0), new Tournoi.Participant(IA.NEGAMAX, 0));
+        Tournoi tournoi = new Tournoi(participants,
+            Arrays.asList(Strategies.STRATEGIE_NIVEAU_1, Strategies.STRATEGIE_NIVEAU_2), 3, 7);
+        assertEquals(2 * 3 * 4, tournoi.getNombreParties(), "Les parties par paire sont arrondies au nombre pair");
+
+        ExecutorService pool = Executors.newWorkStealingPool(2);
+        List<BilanParticipant> bilans;
+        try {
+            bilans = tournoi.jouer(pool);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(3 * 3, bilans.size());
+        int victoires = 0, defaites = 0;
+        for (BilanParticipant bilan : bilans) {
+            assertEquals(bilan.getNiveau() == null ? 16 : 8, bilan.getParties(), bilan.getParticipant());
+            assertTrue(bilan.getTempsMoyen() > 0 && bilan.getNoeudsParSeconde() > 0);
+            assertTrue(bilan.getErreurElo() > 0 && !Double.isInfinite(bilan.getErreurElo()));
+            if (bilan.getNiveau() == null) {
+                victoires += bilan.getVictoires();
+                defaites += bilan.getDefaites();
+            }
+        }
+        assertEquals(victoires, defaites);
+        assertEquals("NEGA_BETA", bilans.get(0).getParticipant());
+
+        String csv = Tournoi.versCsv(bilans);
+        assertEquals(10, csv.split("\n").length);
+        assertTrue(csv.startsWith("niveau,participant,parties,victoires,nulles,defaites,score,elo,erreur_elo,"));
+        assertTrue(csv.contains("\ntous,NEGAMAX,16,"));
+        String json = Tournoi.versJson(bilans);
+        assertTrue(json.contains("{\"niveau\":2,\"participant\":\"ALPHA_BETA\",\"parties\":8,"), json);
+        assertTrue(json.contains("{\"niveau\":null,"));
+    }
+
+    /**
+     * Une profondeur imposée doit être transmise à l'IA du participant et le distinguer dans le bilan,
+     * et une profondeur avec une pendule doit être refusée.
+     */
+    @Test
+    void testProfondeurImposee() {
+        Tournoi.Participant participant = new Tournoi.Participant(IA.NEGA_BETA, 0, 2);
+        assertEquals(2, participant.creer().getProfondeur());
+        assertEquals("NEGA_BETA@p2", participant.toString());
+        assertEquals(0, new Tournoi.Participant(IA.MINIMAX, 500).creer().getProfondeur());
+        assertThrows(IllegalArgumentException.class, () -> new Tournoi.Participant(IA.NEGA_BETA, 500, 2));
+        assertThrows(IllegalArgumentException.class, () -> new Tournoi.Participant(IA.NEGA_BETA, 0, -1));
+    }
+
+    /**
+     * L'Elo doit être nul à score égal, symétrique, et rester fini, avec une marge d'erreur, pour un score parfait.
+     */
+    @Test
+    void testElo() {
+        BilanParticipant egal = new BilanParticipant(1, "A");
+        egal.ajouter(1, 0, 0, 0);
+        egal.ajouter(0, 0, 0, 0);
+        assertEquals(0.0, egal.getElo(), 1e-9);
+
+        BilanParticipant fort = new BilanParticipant(1, "B");
+        BilanParticipant faible = new BilanParticipant(1, "C");
+        for (int i = 0; i < 40; i++) {
+            fort.ajouter(i % 4 == 0 ? 0.5 : 1, 1_000_000, 1, 100);
+            faible.ajouter(i % 4 == 0 ? 0.5 : 0, 1_000_000, 1, 100);
+        }
+        assertEquals(0.875, fort.getScore(), 1e-9);
+        assertEquals(-400 * Math.log10(1 / 0.875 - 1), fort.getElo(), 1e-9);
+        assertEquals(-fort.getElo(), faible.getElo(), 1e-9);
+        assertEquals(1.0, fort.getTempsMoyen(), 1e-9);
+        assertEquals(100_000, fort.getNoeudsParSeconde(), 1e-6);
+
+        BilanParticipant parfait = new BilanParticipant(null, "D");
+        parfait.ajouter(1, 0, 0, 0);
+        assertTrue(Double.isFinite(parfait.getElo()));
+        for (int i = 0; i < 39; i++) {
+            parfait.ajouter(1, 0, 0, 0);
+        }
+        assertTrue(Double.isFinite(parfait.getElo()) && parfait.getElo() > fort.getElo());
+        assertTrue(parfait.getErreurElo() > 0 && Double.isFinite(parfait.getErreurElo()));
+        assertTrue(new BilanParticipant(null, "E").getErreurElo() == Double.POSITIVE_INFINITY);
+        assertThrows(IllegalArgumentException.class, () -> new Tournoi.Participant(IA.MINIMAX, -1));
+    }
+}
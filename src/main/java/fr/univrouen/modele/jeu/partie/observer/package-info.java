@@ -1,12 +0,0 @@
-/**
- * Fournit une implémentation simple du patron Observer.
- * <p>
- * Permet de notifier des composants (ex: l’orchestrateur ou la vue)
- * des changements dans l’état d’une partie.
- * </p>
- *
- * @see fr.univrouen.modele.jeu.partie.observer.Observer
- * @see fr.univrouen.modele.jeu.partie.observer.Observable
- * @since JDK 17
- */
-package fr.univrouen.modele.jeu.partie.observer;
\ No newline at end of file